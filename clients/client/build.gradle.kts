@@ -57,6 +57,8 @@ dependencies {
   compileOnly(platform(libs.awssdk.bom))
   compileOnly(libs.awssdk.auth)
 
+  compileOnly(libs.jackson.dataformat.smile)
+
   testImplementation(platform(libs.opentelemetry.bom))
   testImplementation(libs.opentelemetry.api)
   testImplementation(libs.opentelemetry.sdk)
@@ -64,6 +66,7 @@ dependencies {
   testImplementation(libs.opentelemetry.exporter.otlp)
   testImplementation(platform(libs.awssdk.bom))
   testImplementation(libs.awssdk.auth)
+  testImplementation(libs.jackson.dataformat.smile)
   testImplementation(libs.undertow.core)
   testImplementation(libs.undertow.servlet)
   testRuntimeOnly(libs.logback.classic)
@@ -124,6 +127,10 @@ jacksonTestVersions.forEach { (jacksonVersion, reason) ->
     runtimeConfigName,
     "com.fasterxml.jackson.core:jackson-databind:$jacksonVersion!!"
   )
+  dependencies.add(
+    runtimeConfigName,
+    "com.fasterxml.jackson.dataformat:jackson-dataformat-smile:$jacksonVersion!!"
+  )
 
   val taskName = "testJackson_$safeName"
   val testTask =
@@ -151,6 +151,48 @@ public final class NessieConfigConstants {
   public static final String CONF_FORCE_URL_CONNECTION_CLIENT =
       "nessie.force-url-connection-client";
 
+  /**
+   * Optional, when enabled, the {@code stream()} functions of the Nessie API v2 client fetch all
+   * references, entries and commit log entries with a single request, which the server responds
+   * to with newline delimited JSON, instead of fetching the results page by page. Defaults to
+   * {@code false}.
+   *
+   * <p>The Nessie server must support streaming responses.
+   */
+  public static final String CONF_NESSIE_STREAMING_RESPONSES = "nessie.streaming-responses";
+
+  /**
+   * Optional, when enabled, the client requests responses using the compact binary Smile encoding
+   * instead of JSON, servers that do not support Smile respond with JSON. Requires the {@code
+   * com.fasterxml.jackson.dataformat:jackson-dataformat-smile} dependency. Defaults to {@code
+   * false}.
+   */
+  public static final String CONF_NESSIE_BINARY_ENCODING = "nessie.binary-encoding";
+
+  /**
+   * Optional, the maximum number of content objects cached by the client, keyed by commit hash and
+   * content key. Content objects at a commit hash are immutable. Defaults to {@code 0}, which
+   * disables the client side cache.
+   */
+  public static final String CONF_NESSIE_CACHE_CONTENT_MAX_ENTRIES =
+      "nessie.client-cache.content.max-entries";
+
+  /**
+   * Optional, the time to live of content objects cached by the client in milliseconds. Defaults to
+   * 5 minutes.
+   */
+  public static final String CONF_NESSIE_CACHE_CONTENT_TTL_MILLIS =
+      "nessie.client-cache.content.ttl-millis";
+
+  /**
+   * Optional, the time to live in milliseconds of reference name to commit hash mappings cached by
+   * the client, used for content lookups that do not specify a commit hash. Changes to a reference
+   * made by other clients may not be visible for up to this duration. Defaults to {@code 0}, which
+   * disables the reference cache. Only effective if the content cache is enabled.
+   */
+  public static final String CONF_NESSIE_CACHE_REFERENCE_TTL_MILLIS =
+      "nessie.client-cache.reference.ttl-millis";
+
   private NessieConfigConstants() {
     // empty
   }
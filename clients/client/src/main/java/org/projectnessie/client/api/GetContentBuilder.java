@@ -17,6 +17,7 @@ package org.projectnessie.client.api;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import javax.validation.Valid;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.Content;
@@ -33,4 +34,13 @@ public interface GetContentBuilder extends OnReferenceBuilder<GetContentBuilder>
   GetContentBuilder keys(List<ContentKey> keys);
 
   Map<ContentKey, Content> get() throws NessieNotFoundException;
+
+  /**
+   * Asynchronous variant of {@link #get()}, the returned {@link CompletionStage} completes
+   * exceptionally with the exceptions thrown by {@link #get()}.
+   *
+   * <p>Only the Nessie API v2 HTTP client running on Java 11 or newer performs non-blocking
+   * requests, other implementations execute the request in the calling thread.
+   */
+  CompletionStage<Map<ContentKey, Content>> getAsync();
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.api;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import org.projectnessie.model.RepositoryEventsResponse;
+
+/**
+ * Request builder for "get repository events".
+ *
+ * <p>Repository events let clients, for example caches, react to changes in the repository
+ * instead of repeatedly polling references or commit logs.
+ *
+ * @since {@link NessieApiV2}
+ */
+public interface GetEventsBuilder {
+
+  /** Stream ID returned by a previous response. */
+  GetEventsBuilder streamId(String streamId);
+
+  /**
+   * Position to read from, usually the next position returned by a previous response. If not set,
+   * only events that happen after the request are returned.
+   */
+  GetEventsBuilder position(Long position);
+
+  /** Maximum number of events to return, capped by the server. */
+  GetEventsBuilder maxEvents(int maxEvents);
+
+  /**
+   * Maximum time the server waits for new events, if there are none, capped by the server. Must
+   * be lower than the client's read-timeout.
+   */
+  GetEventsBuilder waitMillis(int waitMillis);
+
+  RepositoryEventsResponse get();
+
+  /**
+   * Asynchronous variant of {@link #get()}.
+   *
+   * <p>Only the Nessie API v2 HTTP client running on Java 11 or newer performs non-blocking
+   * requests, other implementations execute the request in the calling thread.
+   */
+  CompletionStage<RepositoryEventsResponse> getAsync();
+
+  /**
+   * Continuously retrieves repository events in a background thread, starting at the configured
+   * stream ID and position, and passes every response that contains events or has the {@link
+   * RepositoryEventsResponse#isEventsLost() events-lost flag} set to the given listener.
+   *
+   * <p>Requests that failed due to server errors, timeouts or I/O errors are retried after a short
+   * delay. Client errors, for example authentication or authorization failures, stop the
+   * subscription, see {@link RepositoryEventSubscription#getFailure()}. The listener is called from
+   * the subscription's thread, one response at a time. An exception thrown by the listener is
+   * logged, the subscription continues with the next events.
+   *
+   * @param listener receives the responses
+   * @return handle to stop the subscription
+   */
+  RepositoryEventSubscription subscribe(Consumer<RepositoryEventsResponse> listener);
+}
@@ -15,6 +15,7 @@
  */
 package org.projectnessie.client.api;
 
+import java.util.concurrent.CompletionStage;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
 import org.projectnessie.error.NessieNotFoundException;
@@ -49,4 +50,13 @@ public interface GetReferenceBuilder {
   }
 
   Reference get() throws NessieNotFoundException;
+
+  /**
+   * Asynchronous variant of {@link #get()}, the returned {@link CompletionStage} completes
+   * exceptionally with the exceptions thrown by {@link #get()}.
+   *
+   * <p>Only the Nessie API v2 HTTP client running on Java 11 or newer performs non-blocking
+   * requests, other implementations execute the request in the calling thread.
+   */
+  CompletionStage<Reference> getAsync();
 }
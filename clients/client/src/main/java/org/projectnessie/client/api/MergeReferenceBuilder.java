@@ -41,6 +41,15 @@ public interface MergeReferenceBuilder extends MergeTransplantBuilder<MergeRefer
 
   MergeReferenceBuilder fromHash(@NotBlank String fromHash);
 
+  /**
+   * Sets the token returned by a previous, conflict-free dry-run merge with the same parameters,
+   * see {@link MergeResponse#getMergePlanToken()}. If the target branch has not changed since the
+   * dry-run, the server can skip the re-analysis of the merge.
+   *
+   * @since {@link NessieApiV2}
+   */
+  MergeReferenceBuilder mergePlanToken(String mergePlanToken);
+
   /**
    * Convenience for {@link #fromRefName(String) fromRefName(fromRef.getName())}{@code .}{@link
    * #fromHash(String) fromHash(fromRef.getHash())}.
@@ -23,4 +23,12 @@ package org.projectnessie.client.api;
  *
  * <p>Most changes between v1 and v2 exist at the REST level (HTTP).
  */
-public interface NessieApiV2 extends NessieApiV1 {}
+public interface NessieApiV2 extends NessieApiV1 {
+
+  /**
+   * Retrieves repository events, for example to invalidate caches, see {@link GetEventsBuilder}.
+   *
+   * @return builder for a "get repository events" request
+   */
+  GetEventsBuilder getEvents();
+}
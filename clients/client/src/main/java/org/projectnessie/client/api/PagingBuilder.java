@@ -15,6 +15,7 @@
  */
 package org.projectnessie.client.api;
 
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import org.projectnessie.error.NessieNotFoundException;
 
@@ -46,6 +47,15 @@ public interface PagingBuilder<R extends PagingBuilder<R, RESP, ENTRY>, RESP, EN
    */
   RESP get() throws NessieNotFoundException;
 
+  /**
+   * Asynchronous variant of {@link #get()}, the returned {@link CompletionStage} completes
+   * exceptionally with the exceptions thrown by {@link #get()}.
+   *
+   * <p>Only the Nessie API v2 HTTP client running on Java 11 or newer performs non-blocking
+   * requests, other implementations execute the request in the calling thread.
+   */
+  CompletionStage<RESP> getAsync();
+
   /** Retrieve entries/results as a Java {@link Stream}, uses automatic paging. */
   Stream<ENTRY> stream() throws NessieNotFoundException;
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.api;
+
+/**
+ * Handle for a subscription created via {@link
+ * GetEventsBuilder#subscribe(java.util.function.Consumer)}.
+ *
+ * @since {@link NessieApiV2}
+ */
+public interface RepositoryEventSubscription extends AutoCloseable {
+
+  /** Stream ID of the most recent response, {@code null} before the first response. */
+  String getStreamId();
+
+  /** Position from which the next request reads events. */
+  Long getPosition();
+
+  /**
+   * The non-retryable failure, for example an authentication or authorization failure, that
+   * stopped this subscription, {@code null} if the subscription has not failed.
+   */
+  RuntimeException getFailure();
+
+  /** Stops the subscription, the listener will not be called after this method returned. */
+  @Override
+  void close();
+}
@@ -15,6 +15,7 @@
  */
 package org.projectnessie.client.builder;
 
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 import org.projectnessie.client.StreamingUtil;
@@ -71,6 +72,19 @@ public abstract class BaseGetAllReferencesBuilder<PARAMS> implements GetAllRefer
     return get(p);
   }
 
+  @Override
+  public CompletionStage<ReferencesResponse> getAsync() {
+    return getAsync(paramsForPage.apply(params(), pageToken));
+  }
+
+  /**
+   * Asynchronously fetches the given page, the default implementation calls {@link #get(Object)}
+   * in the calling thread.
+   */
+  protected CompletionStage<ReferencesResponse> getAsync(PARAMS p) {
+    return Completions.blocking(() -> get(p));
+  }
+
   @Override
   public Stream<Reference> stream() throws NessieNotFoundException {
     PARAMS p = params();
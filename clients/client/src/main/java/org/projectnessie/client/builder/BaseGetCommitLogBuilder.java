@@ -15,6 +15,7 @@
  */
 package org.projectnessie.client.builder;
 
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 import org.projectnessie.client.StreamingUtil;
@@ -76,6 +77,19 @@ public abstract class BaseGetCommitLogBuilder<PARAMS>
     return get(paramsForPage.apply(params(), pageToken));
   }
 
+  @Override
+  public CompletionStage<LogResponse> getAsync() {
+    return getAsync(paramsForPage.apply(params(), pageToken));
+  }
+
+  /**
+   * Asynchronously fetches the given page, the default implementation calls {@link #get(Object)}
+   * in the calling thread.
+   */
+  protected CompletionStage<LogResponse> getAsync(PARAMS p) {
+    return Completions.blocking(() -> get(p));
+  }
+
   protected abstract LogResponse get(PARAMS p) throws NessieNotFoundException;
 
   @Override
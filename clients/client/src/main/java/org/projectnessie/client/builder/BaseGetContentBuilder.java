@@ -16,8 +16,14 @@
 package org.projectnessie.client.builder;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.projectnessie.client.api.GetContentBuilder;
+import org.projectnessie.client.cache.NessieClientCache;
+import org.projectnessie.error.NessieNotFoundException;
+import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.GetMultipleContentsRequest;
 import org.projectnessie.model.ImmutableGetMultipleContentsRequest;
 
 public abstract class BaseGetContentBuilder extends BaseOnReferenceBuilder<GetContentBuilder>
@@ -26,6 +32,16 @@ public abstract class BaseGetContentBuilder extends BaseOnReferenceBuilder<GetCo
   protected final ImmutableGetMultipleContentsRequest.Builder request =
       ImmutableGetMultipleContentsRequest.builder();
 
+  protected final NessieClientCache cache;
+
+  protected BaseGetContentBuilder() {
+    this(null);
+  }
+
+  protected BaseGetContentBuilder(NessieClientCache cache) {
+    this.cache = cache;
+  }
+
   @Override
   public GetContentBuilder key(ContentKey key) {
     request.addRequestedKeys(key);
@@ -37,4 +53,31 @@ public abstract class BaseGetContentBuilder extends BaseOnReferenceBuilder<GetCo
     request.addAllRequestedKeys(keys);
     return this;
   }
+
+  @Override
+  public Map<ContentKey, Content> get() throws NessieNotFoundException {
+    GetMultipleContentsRequest req = request.build();
+    if (cache == null) {
+      return get(refName, hashOnRef, req);
+    }
+    return cache.getContents(
+        refName,
+        hashOnRef,
+        req.getRequestedKeys(),
+        this::resolveHash,
+        (hash, keys) -> get(refName, hash, GetMultipleContentsRequest.of(keys)));
+  }
+
+  @Override
+  public CompletionStage<Map<ContentKey, Content>> getAsync() {
+    return Completions.blocking(this::get);
+  }
+
+  /** Fetches the requested content objects from the server. */
+  protected abstract Map<ContentKey, Content> get(
+      String refName, String hashOnRef, GetMultipleContentsRequest request)
+      throws NessieNotFoundException;
+
+  /** Fetches the current commit hash of the given reference, used by the client cache. */
+  protected abstract String resolveHash(String refName) throws NessieNotFoundException;
 }
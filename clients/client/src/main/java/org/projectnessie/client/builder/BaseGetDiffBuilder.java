@@ -15,6 +15,7 @@
  */
 package org.projectnessie.client.builder;
 
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 import org.projectnessie.client.StreamingUtil;
@@ -78,6 +79,19 @@ public abstract class BaseGetDiffBuilder<PARAMS> implements GetDiffBuilder {
     return get(paramsForPage.apply(params(), pageToken));
   }
 
+  @Override
+  public CompletionStage<DiffResponse> getAsync() {
+    return getAsync(paramsForPage.apply(params(), pageToken));
+  }
+
+  /**
+   * Asynchronously fetches the given page, the default implementation calls {@link #get(Object)}
+   * in the calling thread.
+   */
+  protected CompletionStage<DiffResponse> getAsync(PARAMS p) {
+    return Completions.blocking(() -> get(p));
+  }
+
   protected abstract PARAMS params();
 
   protected abstract DiffResponse get(PARAMS p) throws NessieNotFoundException;
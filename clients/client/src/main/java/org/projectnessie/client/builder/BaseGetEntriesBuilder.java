@@ -15,6 +15,7 @@
  */
 package org.projectnessie.client.builder;
 
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 import org.projectnessie.client.StreamingUtil;
@@ -70,6 +71,19 @@ public abstract class BaseGetEntriesBuilder<PARAMS>
     return get(paramsForPage.apply(params(), pageToken));
   }
 
+  @Override
+  public CompletionStage<EntriesResponse> getAsync() {
+    return getAsync(paramsForPage.apply(params(), pageToken));
+  }
+
+  /**
+   * Asynchronously fetches the given page, the default implementation calls {@link #get(Object)}
+   * in the calling thread.
+   */
+  protected CompletionStage<EntriesResponse> getAsync(PARAMS p) {
+    return Completions.blocking(() -> get(p));
+  }
+
   @Override
   public Stream<Entry> stream() throws NessieNotFoundException {
     PARAMS p = params();
@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.builder;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import org.projectnessie.client.api.GetEventsBuilder;
+import org.projectnessie.client.api.RepositoryEventSubscription;
+import org.projectnessie.client.rest.NessieServiceException;
+import org.projectnessie.error.BaseNessieClientServerException;
+import org.projectnessie.error.NessieRuntimeException;
+import org.projectnessie.model.RepositoryEventsResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public abstract class BaseGetEventsBuilder implements GetEventsBuilder {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BaseGetEventsBuilder.class);
+
+  /** Delay before a subscription retries a failed request. */
+  static final long RETRY_DELAY_MILLIS = 1000L;
+
+  protected String streamId;
+  protected Long position;
+  protected Integer maxEvents;
+  protected Integer waitMillis;
+
+  @Override
+  public GetEventsBuilder streamId(String streamId) {
+    this.streamId = streamId;
+    return this;
+  }
+
+  @Override
+  public GetEventsBuilder position(Long position) {
+    this.position = position;
+    return this;
+  }
+
+  @Override
+  public GetEventsBuilder maxEvents(int maxEvents) {
+    this.maxEvents = maxEvents;
+    return this;
+  }
+
+  @Override
+  public GetEventsBuilder waitMillis(int waitMillis) {
+    this.waitMillis = waitMillis;
+    return this;
+  }
+
+  /** Retrieves events from the given stream and position using the other builder parameters. */
+  protected abstract RepositoryEventsResponse get(String streamId, Long position);
+
+  @Override
+  public RepositoryEventsResponse get() {
+    return get(streamId, position);
+  }
+
+  @Override
+  public CompletionStage<RepositoryEventsResponse> getAsync() {
+    return Completions.blocking(this::get);
+  }
+
+  @Override
+  public RepositoryEventSubscription subscribe(Consumer<RepositoryEventsResponse> listener) {
+    Subscription subscription = new Subscription(listener, streamId, position);
+    subscription.thread.start();
+    return subscription;
+  }
+
+  /**
+   * Client errors, like authentication, authorization or "not found" failures, are not retried by a
+   * subscription, because retrying would not succeed. Server errors, timeouts, throttling and I/O
+   * errors are retried.
+   */
+  static boolean isRetryable(Throwable failure) {
+    for (Throwable t = failure; t != null; t = t.getCause()) {
+      int status;
+      if (t instanceof NessieServiceException) {
+        status = ((NessieServiceException) t).getError().getStatus();
+      } else if (t instanceof NessieRuntimeException) {
+        status = ((NessieRuntimeException) t).getError().getStatus();
+      } else if (t instanceof BaseNessieClientServerException) {
+        status = ((BaseNessieClientServerException) t).getStatus();
+      } else {
+        continue;
+      }
+      return status < 400 || status >= 500 || status == 408 || status == 429;
+    }
+    return true;
+  }
+
+  private final class Subscription implements RepositoryEventSubscription, Runnable {
+    private final Consumer<RepositoryEventsResponse> listener;
+    /** Held while the listener is invoked, so {@link #close()} can wait for the invocation. */
+    private final Object listenerLock = new Object();
+    private final Thread thread;
+    private volatile boolean closed;
+    private volatile String currentStreamId;
+    private volatile Long currentPosition;
+    private volatile RuntimeException failure;
+
+    Subscription(Consumer<RepositoryEventsResponse> listener, String streamId, Long position) {
+      this.listener = listener;
+      this.currentStreamId = streamId;
+      this.currentPosition = position;
+      this.thread = new Thread(this, "nessie-events-subscription");
+      this.thread.setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+      while (!closed) {
+        RepositoryEventsResponse response;
+        try {
+          response = get(currentStreamId, currentPosition);
+        } catch (RuntimeException e) {
+          if (closed) {
+            return;
+          }
+          if (!isRetryable(e)) {
+            failure = e;
+            LOGGER.warn("Stopping repository events subscription due to non-retryable failure", e);
+            return;
+          }
+          LOGGER.debug("Failed to retrieve repository events, retrying", e);
+          if (!delayRetry()) {
+            return;
+          }
+          continue;
+        }
+
+        if (closed) {
+          return;
+        }
+        currentStreamId = response.getStreamId();
+        currentPosition = response.getNextPosition();
+        if (!response.getEvents().isEmpty() || response.isEventsLost()) {
+          synchronized (listenerLock) {
+            if (closed) {
+              return;
+            }
+            try {
+              listener.accept(response);
+            } catch (RuntimeException e) {
+              LOGGER.warn(
+                  "Repository events listener failed, skipping events before position {}",
+                  response.getNextPosition(),
+                  e);
+            }
+          }
+        }
+      }
+    }
+
+    private boolean delayRetry() {
+      try {
+        Thread.sleep(RETRY_DELAY_MILLIS);
+        return true;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+
+    @Override
+    public String getStreamId() {
+      return currentStreamId;
+    }
+
+    @Override
+    public Long getPosition() {
+      return currentPosition;
+    }
+
+    @Override
+    public RuntimeException getFailure() {
+      return failure;
+    }
+
+    @Override
+    public void close() {
+      // Waits for a running listener invocation to finish, but not for an in-flight long-poll
+      // request, which cannot be aborted. Its response is discarded, because the subscription
+      // thread checks the closed flag while holding the lock.
+      synchronized (listenerLock) {
+        closed = true;
+      }
+      thread.interrupt();
+    }
+  }
+}
@@ -15,8 +15,10 @@
  */
 package org.projectnessie.client.builder;
 
+import java.util.concurrent.CompletionStage;
 import org.projectnessie.client.api.GetReferenceBuilder;
 import org.projectnessie.model.FetchOption;
+import org.projectnessie.model.Reference;
 
 public abstract class BaseGetReferenceBuilder implements GetReferenceBuilder {
 
@@ -34,4 +36,9 @@ public abstract class BaseGetReferenceBuilder implements GetReferenceBuilder {
     this.fetchOption = fetchOption;
     return this;
   }
+
+  @Override
+  public CompletionStage<Reference> getAsync() {
+    return Completions.blocking(this::get);
+  }
 }
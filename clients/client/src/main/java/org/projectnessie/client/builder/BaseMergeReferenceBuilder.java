@@ -21,10 +21,17 @@ public abstract class BaseMergeReferenceBuilder
     extends BaseMergeTransplantBuilder<MergeReferenceBuilder> implements MergeReferenceBuilder {
 
   protected String fromHash;
+  protected String mergePlanToken;
 
   @Override
   public MergeReferenceBuilder fromHash(String fromHash) {
     this.fromHash = fromHash;
     return this;
   }
+
+  @Override
+  public MergeReferenceBuilder mergePlanToken(String mergePlanToken) {
+    this.mergePlanToken = mergePlanToken;
+    return this;
+  }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.builder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.projectnessie.error.NessieNotFoundException;
+
+/** Helper for request builders that do not support non-blocking requests. */
+final class Completions {
+  private Completions() {}
+
+  @FunctionalInterface
+  interface Call<R> {
+    R call() throws NessieNotFoundException;
+  }
+
+  /**
+   * Executes the given call synchronously in the calling thread and returns an already completed
+   * {@link CompletionStage}.
+   */
+  static <R> CompletionStage<R> blocking(Call<R> call) {
+    CompletableFuture<R> future = new CompletableFuture<>();
+    try {
+      future.complete(call.call());
+    } catch (NessieNotFoundException | RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+}
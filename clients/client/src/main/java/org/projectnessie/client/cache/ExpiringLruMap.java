@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Simple size and time bounded map, evicts the least recently accessed entry when the maximum
+ * number of entries is exceeded and ignores entries that are older than the configured time to
+ * live. All methods are synchronized, which is fine for the small number of cached objects in a
+ * client.
+ */
+final class ExpiringLruMap<K, V> {
+
+  private final int maxEntries;
+  private final long ttlNanos;
+  private final LongSupplier clockNanos;
+  private final LinkedHashMap<K, Entry<V>> map;
+
+  ExpiringLruMap(int maxEntries, long ttlNanos, LongSupplier clockNanos) {
+    this.maxEntries = maxEntries;
+    this.ttlNanos = ttlNanos;
+    this.clockNanos = clockNanos;
+    this.map =
+        new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            return size() > ExpiringLruMap.this.maxEntries;
+          }
+        };
+  }
+
+  synchronized V get(K key) {
+    Entry<V> entry = map.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (clockNanos.getAsLong() - entry.createdNanos >= ttlNanos) {
+      map.remove(key);
+      return null;
+    }
+    return entry.value;
+  }
+
+  synchronized void put(K key, V value) {
+    map.put(key, new Entry<>(value, clockNanos.getAsLong()));
+  }
+
+  synchronized void remove(K key) {
+    map.remove(key);
+  }
+
+  synchronized void clear() {
+    map.clear();
+  }
+
+  synchronized int size() {
+    return map.size();
+  }
+
+  private static final class Entry<V> {
+    final V value;
+    final long createdNanos;
+
+    Entry(V value, long createdNanos) {
+      this.value = value;
+      this.createdNanos = createdNanos;
+    }
+  }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.projectnessie.error.NessieNotFoundException;
+import org.projectnessie.model.Content;
+import org.projectnessie.model.ContentKey;
+
+/**
+ * Opt-in client side cache for content lookups.
+ *
+ * <p>Content retrieved for a specific commit hash never changes, so the content cache maps {@code
+ * (commit hash, content key)} to the {@link Content} object, bounded by a maximum number of entries
+ * and a time to live. Content lookups that only specify a reference name are only cached if the
+ * reference cache is enabled, which maps reference names to their current commit hash for a short
+ * time to live. Changes to a reference that are not performed via the same client instance become
+ * visible after that time to live at the latest.
+ *
+ * <p>Content keys that do not exist at a commit are not cached. Content cached for a commit hash is
+ * returned regardless of the requested reference name.
+ *
+ * <p>A single instance can be shared by multiple clients talking to the same Nessie repository.
+ */
+public final class NessieClientCache {
+
+  /** Resolves the current commit hash of a named reference. */
+  @FunctionalInterface
+  public interface ReferenceResolver {
+    String resolve(String refName) throws NessieNotFoundException;
+  }
+
+  /** Fetches content objects for the given keys from the server. */
+  @FunctionalInterface
+  public interface ContentLoader {
+    Map<ContentKey, Content> load(String hashOnRef, List<ContentKey> keys)
+        throws NessieNotFoundException;
+  }
+
+  /** Asynchronously resolves the current commit hash of a named reference. */
+  @FunctionalInterface
+  public interface AsyncReferenceResolver {
+    CompletionStage<String> resolve(String refName);
+  }
+
+  /** Asynchronously fetches content objects for the given keys from the server. */
+  @FunctionalInterface
+  public interface AsyncContentLoader {
+    CompletionStage<Map<ContentKey, Content>> load(String hashOnRef, List<ContentKey> keys);
+  }
+
+  public static final Duration DEFAULT_CONTENT_TTL = Duration.ofMinutes(5);
+
+  /** Maximum number of cached reference names. */
+  static final int MAX_REFERENCE_ENTRIES = 1000;
+
+  private final ExpiringLruMap<ContentCacheKey, Content> contents;
+  private final ExpiringLruMap<String, String> references;
+
+  private final LongAdder contentHits = new LongAdder();
+  private final LongAdder contentMisses = new LongAdder();
+  private final LongAdder referenceHits = new LongAdder();
+  private final LongAdder referenceMisses = new LongAdder();
+
+  /**
+   * Creates a new cache.
+   *
+   * @param maxContentEntries maximum number of cached content objects, {@code 0} disables the
+   *     content cache
+   * @param contentTtl time to live of cached content objects
+   * @param referenceTtl time to live of cached reference name to commit hash mappings, {@link
+   *     Duration#ZERO} disables the reference cache
+   */
+  public static NessieClientCache create(
+      int maxContentEntries, Duration contentTtl, Duration referenceTtl) {
+    return new NessieClientCache(maxContentEntries, contentTtl, referenceTtl, System::nanoTime);
+  }
+
+  NessieClientCache(
+      int maxContentEntries, Duration contentTtl, Duration referenceTtl, LongSupplier clockNanos) {
+    Objects.requireNonNull(contentTtl, "contentTtl must not be null");
+    Objects.requireNonNull(referenceTtl, "referenceTtl must not be null");
+    if (maxContentEntries < 0 || contentTtl.isNegative() || referenceTtl.isNegative()) {
+      throw new IllegalArgumentException(
+          "Maximum number of cached contents and time to live values must not be negative");
+    }
+    this.contents =
+        maxContentEntries > 0 && !contentTtl.isZero()
+            ? new ExpiringLruMap<>(maxContentEntries, contentTtl.toNanos(), clockNanos)
+            : null;
+    this.references =
+        !referenceTtl.isZero()
+            ? new ExpiringLruMap<>(MAX_REFERENCE_ENTRIES, referenceTtl.toNanos(), clockNanos)
+            : null;
+  }
+
+  /**
+   * Returns the content objects for the given keys, served from the cache where possible, missing
+   * content objects are fetched via the given loader and added to the cache.
+   *
+   * @param refName requested reference name, may be {@code null}
+   * @param hashOnRef requested commit hash, may be {@code null}
+   * @param keys requested content keys
+   * @param resolver resolves the current hash of {@code refName}, if no {@code hashOnRef} is given
+   * @param loader fetches content objects from the server
+   */
+  public Map<ContentKey, Content> getContents(
+      String refName,
+      String hashOnRef,
+      List<ContentKey> keys,
+      ReferenceResolver resolver,
+      ContentLoader loader)
+      throws NessieNotFoundException {
+    if (contents == null) {
+      return loader.load(hashOnRef, keys);
+    }
+
+    String hash = hashOnRef;
+    if (hash == null) {
+      if (references == null || refName == null) {
+        return loader.load(null, keys);
+      }
+      hash = resolveHash(refName, resolver);
+    }
+
+    Map<ContentKey, Content> result = new HashMap<>();
+    List<ContentKey> missing = lookup(hash, keys, result);
+    if (!missing.isEmpty()) {
+      result.putAll(store(hash, loader.load(hash, missing)));
+    }
+    return result;
+  }
+
+  /**
+   * Asynchronous variant of {@link #getContents(String, String, List, ReferenceResolver,
+   * ContentLoader)}, the returned stage completes when all missing content objects have been
+   * fetched.
+   */
+  public CompletionStage<Map<ContentKey, Content>> getContentsAsync(
+      String refName,
+      String hashOnRef,
+      List<ContentKey> keys,
+      AsyncReferenceResolver resolver,
+      AsyncContentLoader loader) {
+    if (contents == null) {
+      return loader.load(hashOnRef, keys);
+    }
+
+    CompletionStage<String> hash;
+    if (hashOnRef != null) {
+      hash = CompletableFuture.completedFuture(hashOnRef);
+    } else if (references == null || refName == null) {
+      return loader.load(null, keys);
+    } else {
+      hash = resolveHashAsync(refName, resolver);
+    }
+
+    return hash.thenCompose(
+        h -> {
+          Map<ContentKey, Content> result = new HashMap<>();
+          List<ContentKey> missing = lookup(h, keys, result);
+          if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+          }
+          return loader
+              .load(h, missing)
+              .thenApply(
+                  loaded -> {
+                    result.putAll(store(h, loaded));
+                    return result;
+                  });
+        });
+  }
+
+  /**
+   * Adds the cached content objects for the given keys to {@code result} and returns the keys that
+   * are not cached.
+   */
+  private List<ContentKey> lookup(
+      String hash, List<ContentKey> keys, Map<ContentKey, Content> result) {
+    List<ContentKey> missing = new ArrayList<>();
+    int hits = 0;
+    for (ContentKey key : keys) {
+      Content content = contents.get(new ContentCacheKey(hash, key));
+      if (content != null) {
+        result.put(key, content);
+        hits++;
+      } else {
+        missing.add(key);
+      }
+    }
+    contentHits.add(hits);
+    contentMisses.add(missing.size());
+    return missing;
+  }
+
+  private Map<ContentKey, Content> store(String hash, Map<ContentKey, Content> loaded) {
+    for (Map.Entry<ContentKey, Content> e : loaded.entrySet()) {
+      contents.put(new ContentCacheKey(hash, e.getKey()), e.getValue());
+    }
+    return loaded;
+  }
+
+  private String resolveHash(String refName, ReferenceResolver resolver)
+      throws NessieNotFoundException {
+    String hash = references.get(refName);
+    if (hash != null) {
+      referenceHits.increment();
+      return hash;
+    }
+    referenceMisses.increment();
+    hash = resolver.resolve(refName);
+    references.put(refName, hash);
+    return hash;
+  }
+
+  private CompletionStage<String> resolveHashAsync(
+      String refName, AsyncReferenceResolver resolver) {
+    String hash = references.get(refName);
+    if (hash != null) {
+      referenceHits.increment();
+      return CompletableFuture.completedFuture(hash);
+    }
+    referenceMisses.increment();
+    return resolver
+        .resolve(refName)
+        .thenApply(
+            h -> {
+              references.put(refName, h);
+              return h;
+            });
+  }
+
+  /**
+   * Removes all cached reference name to commit hash mappings, called when a reference has been
+   * changed via this client.
+   */
+  public void invalidateReferences() {
+    if (references != null) {
+      references.clear();
+    }
+  }
+
+  /** Removes all cached objects, does not reset the counters. */
+  public void clear() {
+    if (contents != null) {
+      contents.clear();
+    }
+    invalidateReferences();
+  }
+
+  public boolean isReferenceCacheEnabled() {
+    return references != null;
+  }
+
+  /** Number of content objects that were served from the cache. */
+  public long contentHits() {
+    return contentHits.sum();
+  }
+
+  /** Number of content objects that had to be fetched from the server. */
+  public long contentMisses() {
+    return contentMisses.sum();
+  }
+
+  /** Number of reference names that were resolved from the cache. */
+  public long referenceHits() {
+    return referenceHits.sum();
+  }
+
+  /** Number of reference names that had to be resolved via the server. */
+  public long referenceMisses() {
+    return referenceMisses.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "NessieClientCache{contentHits="
+        + contentHits()
+        + ", contentMisses="
+        + contentMisses()
+        + ", referenceHits="
+        + referenceHits()
+        + ", referenceMisses="
+        + referenceMisses()
+        + '}';
+  }
+
+  private static final class ContentCacheKey {
+    private final String hash;
+    private final ContentKey key;
+
+    ContentCacheKey(String hash, ContentKey key) {
+      this.hash = hash;
+      this.key = key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ContentCacheKey)) {
+        return false;
+      }
+      ContentCacheKey that = (ContentCacheKey) o;
+      return hash.equals(that.hash) && key.equals(that.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * hash.hashCode() + key.hashCode();
+    }
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.http;
+
+import org.projectnessie.client.cache.NessieClientCache;
+import org.projectnessie.client.http.HttpClient.Method;
+
+/**
+ * Invalidates the reference name to commit hash mappings of a {@link NessieClientCache} after a
+ * request that may have changed a reference, which are all requests except {@code GET} requests
+ * and the {@code POST} requests to fetch multiple content objects.
+ */
+final class ClientCacheInvalidation implements RequestFilter {
+
+  private final NessieClientCache cache;
+
+  ClientCacheInvalidation(NessieClientCache cache) {
+    this.cache = cache;
+  }
+
+  @Override
+  public void filter(RequestContext context) {
+    Method method = context.getMethod();
+    if (method == Method.GET
+        || (method == Method.POST && context.getUri().getPath().endsWith("/contents"))) {
+      return;
+    }
+    context.addResponseCallback((response, failure) -> cache.invalidateReferences());
+  }
+}
@@ -15,6 +15,8 @@
  */
 package org.projectnessie.client.http;
 
+import java.util.concurrent.CompletionStage;
+
 /**
  * This interface defines execution methods for HTTP client requests.
  *
@@ -29,4 +31,19 @@ public interface ExecutableHttpRequest<E1 extends Throwable, E2 extends Throwabl
   HttpResponse post(Object obj) throws E1, E2;
 
   HttpResponse put(Object obj) throws E1, E2;
+
+  /**
+   * Asynchronous variant of {@link #get()}. The returned {@link CompletionStage} completes
+   * exceptionally with the same exceptions that are thrown by the synchronous variant.
+   */
+  CompletionStage<HttpResponse> getAsync();
+
+  /** Asynchronous variant of {@link #delete()}, see {@link #getAsync()}. */
+  CompletionStage<HttpResponse> deleteAsync();
+
+  /** Asynchronous variant of {@link #post(Object)}, see {@link #getAsync()}. */
+  CompletionStage<HttpResponse> postAsync(Object obj);
+
+  /** Asynchronous variant of {@link #put(Object)}, see {@link #getAsync()}. */
+  CompletionStage<HttpResponse> putAsync(Object obj);
 }
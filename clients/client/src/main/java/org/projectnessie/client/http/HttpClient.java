@@ -54,6 +54,7 @@ public interface HttpClient {
   class Builder {
     private URI baseUri;
     private ObjectMapper mapper;
+    private ObjectMapper smileMapper;
     private Class<?> jsonView;
     private SSLContext sslContext;
     private SSLParameters sslParameters;
@@ -70,6 +71,26 @@ public interface HttpClient {
 
     private Builder() {}
 
+    /** Creates an independent copy of this builder, including the registered filters. */
+    Builder copy() {
+      Builder copy = new Builder();
+      copy.baseUri = baseUri;
+      copy.mapper = mapper;
+      copy.smileMapper = smileMapper;
+      copy.jsonView = jsonView;
+      copy.sslContext = sslContext;
+      copy.sslParameters = sslParameters;
+      copy.readTimeoutMillis = readTimeoutMillis;
+      copy.connectionTimeoutMillis = connectionTimeoutMillis;
+      copy.disableCompression = disableCompression;
+      copy.requestFilters.addAll(requestFilters);
+      copy.responseFilters.addAll(responseFilters);
+      copy.http2Upgrade = http2Upgrade;
+      copy.followRedirects = followRedirects;
+      copy.forceUrlConnectionClient = forceUrlConnectionClient;
+      return copy;
+    }
+
     public URI getBaseUri() {
       return baseUri;
     }
@@ -89,6 +110,15 @@ public interface HttpClient {
       return this;
     }
 
+    /**
+     * Set the mapper for responses using the binary Smile encoding, {@code null} disables the
+     * Smile encoding.
+     */
+    public Builder setSmileMapper(ObjectMapper smileMapper) {
+      this.smileMapper = smileMapper;
+      return this;
+    }
+
     public Builder setJsonView(Class<?> jsonView) {
       this.jsonView = jsonView;
       return this;
@@ -166,6 +196,7 @@ public interface HttpClient {
           HttpRuntimeConfig.builder()
               .baseUri(baseUri)
               .mapper(mapper)
+              .smileMapper(smileMapper)
               .jsonView(jsonView)
               .readTimeoutMillis(readTimeoutMillis)
               .connectionTimeoutMillis(connectionTimeoutMillis)
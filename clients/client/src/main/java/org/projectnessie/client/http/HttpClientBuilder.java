@@ -17,6 +17,10 @@ package org.projectnessie.client.http;
 
 import static org.projectnessie.client.NessieConfigConstants.CONF_CONNECT_TIMEOUT;
 import static org.projectnessie.client.NessieConfigConstants.CONF_FORCE_URL_CONNECTION_CLIENT;
+import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_BINARY_ENCODING;
+import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_CACHE_CONTENT_MAX_ENTRIES;
+import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_CACHE_CONTENT_TTL_MILLIS;
+import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_CACHE_REFERENCE_TTL_MILLIS;
 import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_DISABLE_COMPRESSION;
 import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_HTTP_2;
 import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_HTTP_REDIRECT;
@@ -24,11 +28,13 @@ import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_SNI_HOS
 import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_SNI_MATCHER;
 import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_SSL_CIPHER_SUITES;
 import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_SSL_PROTOCOLS;
+import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_STREAMING_RESPONSES;
 import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_TRACING;
 import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_URI;
 import static org.projectnessie.client.NessieConfigConstants.CONF_READ_TIMEOUT;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Objects;
@@ -42,6 +48,7 @@ import org.projectnessie.client.NessieConfigConstants;
 import org.projectnessie.client.api.NessieApi;
 import org.projectnessie.client.auth.NessieAuthentication;
 import org.projectnessie.client.auth.NessieAuthenticationProvider;
+import org.projectnessie.client.cache.NessieClientCache;
 import org.projectnessie.client.http.v1api.HttpApiV1;
 import org.projectnessie.client.http.v2api.HttpApiV2;
 import org.projectnessie.model.ser.Views;
@@ -54,6 +61,12 @@ public class HttpClientBuilder implements NessieClientBuilder<HttpClientBuilder>
   private final HttpClient.Builder builder = HttpClient.builder();
   private HttpAuthentication authentication;
   private boolean tracing;
+  private boolean streamingResponses;
+  private boolean binaryEncoding;
+  private int cacheMaxContentEntries;
+  private Duration cacheContentTtl = NessieClientCache.DEFAULT_CONTENT_TTL;
+  private Duration cacheReferenceTtl = Duration.ZERO;
+  private NessieClientCache clientCache;
 
   protected HttpClientBuilder() {}
 
@@ -162,6 +175,29 @@ public class HttpClientBuilder implements NessieClientBuilder<HttpClientBuilder>
       withForceUrlConnectionClient(Boolean.parseBoolean(s.trim()));
     }
 
+    s = configuration.apply(CONF_NESSIE_STREAMING_RESPONSES);
+    if (s != null) {
+      withStreamingResponses(Boolean.parseBoolean(s.trim()));
+    }
+
+    s = configuration.apply(CONF_NESSIE_BINARY_ENCODING);
+    if (s != null) {
+      withBinaryEncoding(Boolean.parseBoolean(s.trim()));
+    }
+
+    s = configuration.apply(CONF_NESSIE_CACHE_CONTENT_MAX_ENTRIES);
+    if (s != null) {
+      String ttl = configuration.apply(CONF_NESSIE_CACHE_CONTENT_TTL_MILLIS);
+      withContentCache(
+          Integer.parseInt(s.trim()),
+          ttl != null ? Duration.ofMillis(Long.parseLong(ttl.trim())) : cacheContentTtl);
+    }
+
+    s = configuration.apply(CONF_NESSIE_CACHE_REFERENCE_TTL_MILLIS);
+    if (s != null) {
+      withReferenceCache(Duration.ofMillis(Long.parseLong(s.trim())));
+    }
+
     return this;
   }
 
@@ -280,21 +316,108 @@ public class HttpClientBuilder implements NessieClientBuilder<HttpClientBuilder>
     return this;
   }
 
+  /**
+   * Whether the {@code stream()} functions of the Nessie API v2 client shall request all results
+   * as a single newline delimited JSON response instead of fetching the results page by page.
+   * Ignored for Nessie API v1.
+   *
+   * @param streamingResponses {@code true} to request streaming responses
+   * @return {@code this}
+   */
+  public HttpClientBuilder withStreamingResponses(boolean streamingResponses) {
+    this.streamingResponses = streamingResponses;
+    return this;
+  }
+
+  /**
+   * Whether to request responses using the compact binary Smile encoding instead of JSON. Servers
+   * that do not support Smile respond with JSON. Requires {@code
+   * com.fasterxml.jackson.dataformat:jackson-dataformat-smile} on the class path, otherwise JSON
+   * is used.
+   *
+   * @param binaryEncoding {@code true} to request Smile encoded responses
+   * @return {@code this}
+   */
+  public HttpClientBuilder withBinaryEncoding(boolean binaryEncoding) {
+    this.binaryEncoding = binaryEncoding;
+    return this;
+  }
+
+  /**
+   * Enables caching of content objects by commit hash and content key in the client. Content
+   * lookups that only specify a reference name are only cached, if {@link
+   * #withReferenceCache(Duration) the reference cache} is enabled as well.
+   *
+   * @param maxEntries maximum number of cached content objects, {@code 0} disables the cache
+   * @param ttl time to live of cached content objects
+   * @return {@code this}
+   */
+  public HttpClientBuilder withContentCache(int maxEntries, Duration ttl) {
+    this.cacheMaxContentEntries = maxEntries;
+    this.cacheContentTtl = ttl;
+    return this;
+  }
+
+  /**
+   * Enables caching of reference name to commit hash mappings for content lookups that do not
+   * specify a commit hash. Changes to references made by other clients may not be visible for up
+   * to the given time to live, changes made via this client invalidate the cached mappings.
+   *
+   * @param ttl time to live of cached mappings, {@link Duration#ZERO} disables the cache
+   * @return {@code this}
+   */
+  public HttpClientBuilder withReferenceCache(Duration ttl) {
+    this.cacheReferenceTtl = ttl;
+    return this;
+  }
+
+  /**
+   * Uses the given cache instance, which can be shared by multiple clients and exposes hit and miss
+   * counters, instead of creating a cache from the {@link #withContentCache(int, Duration)} and
+   * {@link #withReferenceCache(Duration)} settings.
+   *
+   * @param clientCache cache instance to use, {@code null} to not use a shared instance
+   * @return {@code this}
+   */
+  public HttpClientBuilder withClientCache(NessieClientCache clientCache) {
+    this.clientCache = clientCache;
+    return this;
+  }
+
+  private NessieClientCache buildClientCache(HttpClient.Builder clientBuilder) {
+    NessieClientCache cache = clientCache;
+    if (cache == null && cacheMaxContentEntries > 0) {
+      cache = NessieClientCache.create(cacheMaxContentEntries, cacheContentTtl, cacheReferenceTtl);
+    }
+    if (cache != null && cache.isReferenceCacheEnabled()) {
+      clientBuilder.addRequestFilter(new ClientCacheInvalidation(cache));
+    }
+    return cache;
+  }
+
   @SuppressWarnings({"unchecked"})
   @Override
   public <API extends NessieApi> API build(Class<API> apiVersion) {
     Objects.requireNonNull(apiVersion, "API version class must be non-null");
 
+    // Filters added while building a client must not leak into clients built later from this
+    // builder, so every client is built from its own copy of the HTTP client builder.
+    HttpClient.Builder clientBuilder = builder.copy();
+
     if (apiVersion.isAssignableFrom(HttpApiV1.class)) {
-      builder.setJsonView(Views.V1.class);
-      NessieHttpClient client = new NessieHttpClient(authentication, tracing, builder);
-      return (API) new HttpApiV1(client);
+      clientBuilder.setJsonView(Views.V1.class);
+      NessieClientCache cache = buildClientCache(clientBuilder);
+      NessieHttpClient client =
+          new NessieHttpClient(authentication, tracing, binaryEncoding, clientBuilder);
+      return (API) new HttpApiV1(client, cache);
     }
 
     if (apiVersion.isAssignableFrom(HttpApiV2.class)) {
-      builder.setJsonView(Views.V2.class);
-      HttpClient httpClient = NessieHttpClient.buildClient(authentication, tracing, builder);
-      return (API) new HttpApiV2(httpClient);
+      clientBuilder.setJsonView(Views.V2.class);
+      NessieClientCache cache = buildClientCache(clientBuilder);
+      HttpClient httpClient =
+          NessieHttpClient.buildClient(authentication, tracing, binaryEncoding, clientBuilder);
+      return (API) new HttpApiV2(httpClient, streamingResponses, cache);
     }
 
     throw new IllegalArgumentException(
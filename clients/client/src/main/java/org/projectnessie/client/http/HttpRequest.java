@@ -15,6 +15,10 @@
  */
 package org.projectnessie.client.http;
 
+import static org.projectnessie.api.v2.http.NessieMediaTypes.APPLICATION_SMILE;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.projectnessie.client.http.HttpClient.Method;
 import org.projectnessie.client.http.impl.HttpHeaders;
 import org.projectnessie.client.http.impl.HttpRuntimeConfig;
@@ -33,6 +37,10 @@ public abstract class HttpRequest
   protected HttpRequest(HttpRuntimeConfig config) {
     this.uriBuilder = new UriBuilder(config.getBaseUri());
     this.config = config;
+    if (config.getSmileMapper() != null) {
+      // Servers that do not support Smile respond with JSON
+      this.accept = APPLICATION_SMILE + ", application/json;q=0.5";
+    }
   }
 
   public HttpRequest contentsType(String contentType) {
@@ -70,6 +78,24 @@ public abstract class HttpRequest
   public abstract HttpResponse executeRequest(Method method, Object body)
       throws HttpClientException;
 
+  /**
+   * Executes the request asynchronously, the returned {@link CompletionStage} completes with the
+   * response, after the whole response body has been received, or exceptionally with the
+   * exception that {@link #executeRequest(Method, Object)} would throw.
+   *
+   * <p>The default implementation executes the request synchronously in the calling thread, HTTP
+   * client implementations that support non-blocking requests override this method.
+   */
+  public CompletionStage<HttpResponse> executeRequestAsync(Method method, Object body) {
+    CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+    try {
+      future.complete(executeRequest(method, body));
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
   @Override
   public HttpResponse get() throws HttpClientException {
     return executeRequest(Method.GET, null);
@@ -90,6 +116,26 @@ public abstract class HttpRequest
     return executeRequest(Method.PUT, obj);
   }
 
+  @Override
+  public CompletionStage<HttpResponse> getAsync() {
+    return executeRequestAsync(Method.GET, null);
+  }
+
+  @Override
+  public CompletionStage<HttpResponse> deleteAsync() {
+    return executeRequestAsync(Method.DELETE, null);
+  }
+
+  @Override
+  public CompletionStage<HttpResponse> postAsync(Object obj) {
+    return executeRequestAsync(Method.POST, obj);
+  }
+
+  @Override
+  public CompletionStage<HttpResponse> putAsync(Object obj) {
+    return executeRequestAsync(Method.PUT, obj);
+  }
+
   public HttpRequest resolveTemplate(String name, String value) {
     uriBuilder.resolveTemplate(name, value);
     return this;
@@ -15,6 +15,9 @@
  */
 package org.projectnessie.client.http;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 /**
@@ -67,6 +70,52 @@ class HttpRequestWrapper<E1 extends Throwable, E2 extends Throwable>
     return unwrap(() -> delegate.put(obj));
   }
 
+  @Override
+  public CompletionStage<HttpResponse> getAsync() {
+    return unwrapAsync(delegate.getAsync());
+  }
+
+  @Override
+  public CompletionStage<HttpResponse> deleteAsync() {
+    return unwrapAsync(delegate.deleteAsync());
+  }
+
+  @Override
+  public CompletionStage<HttpResponse> postAsync(Object obj) {
+    return unwrapAsync(delegate.postAsync(obj));
+  }
+
+  @Override
+  public CompletionStage<HttpResponse> putAsync(Object obj) {
+    return unwrapAsync(delegate.putAsync(obj));
+  }
+
+  private CompletionStage<HttpResponse> unwrapAsync(CompletionStage<HttpResponse> stage) {
+    CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+    stage.whenComplete(
+        (response, failure) -> {
+          if (failure == null) {
+            result.complete(response);
+          } else {
+            result.completeExceptionally(unwrapFailure(failure));
+          }
+        });
+    return result;
+  }
+
+  private Throwable unwrapFailure(Throwable failure) {
+    if (failure instanceof CompletionException && failure.getCause() != null) {
+      failure = failure.getCause();
+    }
+    if (failure instanceof HttpClientException) {
+      Throwable cause = failure.getCause();
+      if (ex1.isInstance(cause) || ex2.isInstance(cause)) {
+        return cause;
+      }
+    }
+    return failure;
+  }
+
   private HttpResponse unwrap(Supplier<HttpResponse> action) throws E1, E2 {
     try {
       return action.get();
@@ -15,10 +15,19 @@
  */
 package org.projectnessie.client.http;
 
+import static org.projectnessie.api.v2.http.NessieMediaTypes.APPLICATION_NDJSON;
+import static org.projectnessie.api.v2.http.NessieMediaTypes.APPLICATION_SMILE;
+
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.projectnessie.client.rest.NessieBadResponseException;
 import org.projectnessie.error.ImmutableNessieError;
 
@@ -27,14 +36,19 @@ public final class HttpResponse {
 
   private final ResponseContext responseContext;
   private final ObjectMapper mapper;
+  private final ObjectMapper smileMapper;
 
   public HttpResponse(ResponseContext context, ObjectMapper mapper) {
+    this(context, mapper, null);
+  }
+
+  public HttpResponse(ResponseContext context, ObjectMapper mapper, ObjectMapper smileMapper) {
     this.responseContext = context;
     this.mapper = mapper;
+    this.smileMapper = smileMapper;
   }
 
-  @SuppressWarnings("TypeParameterUnusedInFormals")
-  private <V> V readEntity(ObjectReader reader) {
+  public <V> V readEntity(Class<V> clazz) {
     try {
       if (responseContext.getResponseCode().getCode() == Status.NO_CONTENT.getCode()) {
         // In case the Nessie server returns no content (because it's on an older version)
@@ -46,8 +60,13 @@ public final class HttpResponse {
         return null;
       }
       try (InputStream is = responseContext.getInputStream()) {
-        if (!responseContext.isJsonCompatibleResponse()) {
-          nonJsonResponse();
+        ObjectReader reader;
+        if (isSmileResponse()) {
+          reader = smileMapper.readerFor(clazz);
+        } else if (!responseContext.isJsonCompatibleResponse()) {
+          throw nonJsonResponse();
+        } else {
+          reader = mapper.readerFor(clazz);
         }
 
         return reader.readValue(is);
@@ -57,9 +76,9 @@ public final class HttpResponse {
     }
   }
 
-  private void nonJsonResponse() throws IOException {
+  private NessieBadResponseException nonJsonResponse() throws IOException {
     Status status = responseContext.getResponseCode();
-    throw new NessieBadResponseException(
+    return new NessieBadResponseException(
         ImmutableNessieError.builder()
             .status(status.getCode())
             .message(status.getReason())
@@ -74,7 +93,52 @@ public final class HttpResponse {
             .build());
   }
 
-  public <V> V readEntity(Class<V> clazz) {
-    return readEntity(mapper.readerFor(clazz));
+  /**
+   * Lazily reads a sequence of whitespace separated JSON objects, for example newline delimited
+   * JSON, from the response body. The returned stream must be closed to release the underlying
+   * connection.
+   */
+  public <V> Stream<V> readEntityStream(Class<V> clazz) {
+    try {
+      if (responseContext.getResponseCode().getCode() == Status.NO_CONTENT.getCode()) {
+        return Stream.empty();
+      }
+      InputStream is = responseContext.getInputStream();
+      try {
+        if (!responseContext.isJsonCompatibleResponse() && !isNdJsonResponse()) {
+          throw nonJsonResponse();
+        }
+
+        MappingIterator<V> values = mapper.readerFor(clazz).readValues(is);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                    values, Spliterator.ORDERED | Spliterator.NONNULL),
+                false)
+            .onClose(
+                () -> {
+                  try {
+                    values.close();
+                    is.close();
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+      } catch (IOException | RuntimeException e) {
+        is.close();
+        throw e;
+      }
+    } catch (IOException e) {
+      throw new HttpClientException("Cannot parse request.", e);
+    }
+  }
+
+  private boolean isSmileResponse() {
+    String contentType = responseContext.getContentType();
+    return smileMapper != null && contentType != null && contentType.startsWith(APPLICATION_SMILE);
+  }
+
+  private boolean isNdJsonResponse() {
+    String contentType = responseContext.getContentType();
+    return contentType != null && contentType.startsWith(APPLICATION_NDJSON);
   }
 }
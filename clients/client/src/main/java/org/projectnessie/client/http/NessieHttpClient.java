@@ -47,19 +47,29 @@ final class NessieHttpClient extends NessieApiClient {
    *
    * @param authentication authenticator to use
    * @param enableTracing whether to enable tracing
+   * @param binaryEncoding whether to request responses using the binary Smile encoding
    * @param clientBuilder the client-builder to use
    */
   NessieHttpClient(
-      HttpAuthentication authentication, boolean enableTracing, HttpClient.Builder clientBuilder) {
-    this(buildClient(authentication, enableTracing, clientBuilder));
+      HttpAuthentication authentication,
+      boolean enableTracing,
+      boolean binaryEncoding,
+      HttpClient.Builder clientBuilder) {
+    this(buildClient(authentication, enableTracing, binaryEncoding, clientBuilder));
   }
 
   static HttpClient buildClient(
-      HttpAuthentication authentication, boolean enableTracing, HttpClient.Builder clientBuilder) {
+      HttpAuthentication authentication,
+      boolean enableTracing,
+      boolean binaryEncoding,
+      HttpClient.Builder clientBuilder) {
     clientBuilder.setObjectMapper(MAPPER);
     if (enableTracing) {
       addTracing(clientBuilder);
     }
+    if (binaryEncoding) {
+      addSmileEncoding(clientBuilder);
+    }
     if (authentication != null) {
       authentication.applyToHttpClient(clientBuilder);
     }
@@ -86,6 +96,17 @@ final class NessieHttpClient extends NessieApiClient {
     }
   }
 
+  private static void addSmileEncoding(HttpClient.Builder httpClient) {
+    try {
+      SmileEncoding.addSmileEncoding(httpClient);
+    } catch (NoClassDefFoundError e) {
+      LOGGER.warn(
+          "Failed to initialize the binary encoding, the jackson-dataformat-smile library is "
+              + "probably missing, using JSON.",
+          e);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   private static <T> T wrap(Class<T> iface, T delegate) {
     return (T)
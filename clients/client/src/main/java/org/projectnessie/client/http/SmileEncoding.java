@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+final class SmileEncoding {
+  private SmileEncoding() {}
+
+  static void addSmileEncoding(HttpClient.Builder httpClient) {
+    // It's safe to reference `SmileFactory` here even without the required dependency available
+    // at runtime, as long as the binary encoding is not enabled. I.e. as long as it is not
+    // enabled, this method will not be called and the JVM won't try to load `SmileFactory`.
+    httpClient.setSmileMapper(
+        new ObjectMapper(new SmileFactory()).disable(SerializationFeature.FAIL_ON_EMPTY_BEANS));
+  }
+}
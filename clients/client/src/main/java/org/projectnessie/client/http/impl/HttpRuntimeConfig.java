@@ -47,6 +47,13 @@ public interface HttpRuntimeConfig {
 
   ObjectMapper getMapper();
 
+  /**
+   * Optional mapper for the binary Smile encoding. If present, responses are requested as {@code
+   * application/x-jackson-smile} with a fallback to JSON, request bodies are always sent as JSON.
+   */
+  @Nullable
+  ObjectMapper getSmileMapper();
+
   @Nullable
   Class<?> getJsonView();
 
@@ -17,6 +17,7 @@ package org.projectnessie.client.http.impl.jdk11;
 
 import static java.lang.Thread.currentThread;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -28,12 +29,17 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.BodySubscribers;
 import java.net.http.HttpTimeoutException;
 import java.nio.channels.Channels;
 import java.nio.channels.Pipe;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
 import java.util.concurrent.ForkJoinPool;
@@ -55,6 +61,14 @@ final class JavaRequest extends BaseHttpRequest {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JavaRequest.class);
 
+  /**
+   * Receives the whole response body before the response is passed to the caller, used for
+   * asynchronous requests.
+   */
+  private static final BodyHandler<InputStream> BUFFERED_BODY =
+      responseInfo ->
+          BodySubscribers.mapping(BodySubscribers.ofByteArray(), ByteArrayInputStream::new);
+
   private final HttpClient client;
 
   JavaRequest(JavaHttpClient client) {
@@ -67,11 +81,68 @@ final class JavaRequest extends BaseHttpRequest {
       throws HttpClientException {
 
     URI uri = uriBuilder.build();
+    RequestContext context = new RequestContextImpl(headers, uri, method, body);
+    HttpRequest request = buildRequest(context);
 
-    HttpRequest.Builder request =
-        HttpRequest.newBuilder().uri(uri).timeout(Duration.ofMillis(config.getReadTimeoutMillis()));
+    HttpResponse<InputStream> response;
+    try {
+      LOGGER.debug("Sending {} request to {} ...", method, uri);
+      response = client.send(request, BodyHandlers.ofInputStream());
+    } catch (IOException e) {
+      throw sendFailure(e, method, uri);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+
+    return processResponse(context, response);
+  }
 
+  /**
+   * Sends the request using {@link HttpClient#sendAsync(HttpRequest, BodyHandler)}, which does not
+   * block any thread while waiting for the response. The response body is received completely
+   * before the returned {@link CompletionStage} completes, so that reading the response entity
+   * does not block either.
+   */
+  @Override
+  public CompletionStage<org.projectnessie.client.http.HttpResponse> executeRequestAsync(
+      Method method, Object body) {
+
+    URI uri = uriBuilder.build();
     RequestContext context = new RequestContextImpl(headers, uri, method, body);
+    HttpRequest request;
+    try {
+      request = buildRequest(context);
+    } catch (RuntimeException e) {
+      CompletableFuture<org.projectnessie.client.http.HttpResponse> future =
+          new CompletableFuture<>();
+      future.completeExceptionally(e);
+      return future;
+    }
+
+    LOGGER.debug("Sending async {} request to {} ...", method, uri);
+    return client
+        .sendAsync(request, BUFFERED_BODY)
+        .handle(
+            (response, failure) -> {
+              if (failure != null) {
+                Throwable cause =
+                    failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause()
+                        : failure;
+                if (cause instanceof IOException) {
+                  throw new CompletionException(sendFailure((IOException) cause, method, uri));
+                }
+                throw new CompletionException(cause);
+              }
+              return processResponse(context, response);
+            });
+  }
+
+  private HttpRequest buildRequest(RequestContext context) {
+    HttpRequest.Builder request =
+        HttpRequest.newBuilder()
+            .uri(context.getUri())
+            .timeout(Duration.ofMillis(config.getReadTimeoutMillis()));
 
     boolean doesOutput = prepareRequest(context);
 
@@ -82,35 +153,37 @@ final class JavaRequest extends BaseHttpRequest {
     }
 
     BodyPublisher bodyPublisher = doesOutput ? bodyPublisher(context) : BodyPublishers.noBody();
-    request = request.method(method.name(), bodyPublisher);
+    return request.method(context.getMethod().name(), bodyPublisher).build();
+  }
 
-    HttpResponse<InputStream> response = null;
-    try {
-      try {
-        LOGGER.debug("Sending {} request to {} ...", method, uri);
-        response = client.send(request.build(), BodyHandlers.ofInputStream());
-      } catch (HttpConnectTimeoutException e) {
-        throw new HttpClientException(
-            String.format(
-                "Timeout connecting to '%s' after %ds",
-                uri, config.getConnectionTimeoutMillis() / 1000),
-            e);
-      } catch (HttpTimeoutException e) {
-        throw new HttpClientReadTimeoutException(
-            String.format(
-                "Cannot finish %s request against '%s'. Timeout while waiting for response with a timeout of %ds",
-                method, uri, config.getReadTimeoutMillis() / 1000),
-            e);
-      } catch (MalformedURLException e) {
-        throw new HttpClientException(
-            String.format("Cannot perform %s request. Malformed Url for %s", method, uri), e);
-      } catch (IOException e) {
-        throw new HttpClientException(
-            String.format("Failed to execute %s request against '%s'.", method, uri), e);
-      } catch (InterruptedException e) {
-        throw new RuntimeException(e);
-      }
+  private HttpClientException sendFailure(IOException e, Method method, URI uri) {
+    if (e instanceof HttpConnectTimeoutException) {
+      return new HttpClientException(
+          String.format(
+              "Timeout connecting to '%s' after %ds",
+              uri, config.getConnectionTimeoutMillis() / 1000),
+          e);
+    }
+    if (e instanceof HttpTimeoutException) {
+      return new HttpClientReadTimeoutException(
+          String.format(
+              "Cannot finish %s request against '%s'. Timeout while waiting for response with a timeout of %ds",
+              method, uri, config.getReadTimeoutMillis() / 1000),
+          e);
+    }
+    if (e instanceof MalformedURLException) {
+      return new HttpClientException(
+          String.format("Cannot perform %s request. Malformed Url for %s", method, uri), e);
+    }
+    return new HttpClientException(
+        String.format("Failed to execute %s request against '%s'.", method, uri), e);
+  }
 
+  private org.projectnessie.client.http.HttpResponse processResponse(
+      RequestContext context, HttpResponse<InputStream> response) {
+    Method method = context.getMethod();
+    URI uri = context.getUri();
+    try {
       JavaResponseContext responseContext = new JavaResponseContext(response);
 
       List<BiConsumer<ResponseContext, Exception>> callbacks = context.getResponseCallbacks();
@@ -128,8 +201,11 @@ final class JavaRequest extends BaseHttpRequest {
                 "%s request to %s failed with HTTP/%d", method, uri, response.statusCode()));
       }
 
+      org.projectnessie.client.http.HttpResponse result =
+          new org.projectnessie.client.http.HttpResponse(
+              responseContext, config.getMapper(), config.getSmileMapper());
       response = null;
-      return new org.projectnessie.client.http.HttpResponse(responseContext, config.getMapper());
+      return result;
     } finally {
       if (response != null) {
         try {
@@ -85,7 +85,7 @@ final class UrlConnectionRequest extends BaseHttpRequest {
 
       config.getResponseFilters().forEach(responseFilter -> responseFilter.filter(responseContext));
 
-      return new HttpResponse(responseContext, config.getMapper());
+      return new HttpResponse(responseContext, config.getMapper(), config.getSmileMapper());
     } catch (ProtocolException e) {
       throw new HttpClientException(
           String.format("Cannot perform request against '%s'. Invalid protocol %s", uri, method),
@@ -36,6 +36,7 @@ import org.projectnessie.client.api.MergeReferenceBuilder;
 import org.projectnessie.client.api.NessieApiV1;
 import org.projectnessie.client.api.TransplantCommitsBuilder;
 import org.projectnessie.client.api.UpdateNamespaceBuilder;
+import org.projectnessie.client.cache.NessieClientCache;
 import org.projectnessie.client.http.NessieApiClient;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.Branch;
@@ -44,9 +45,15 @@ import org.projectnessie.model.NessieConfiguration;
 public final class HttpApiV1 implements NessieApiV1 {
 
   private final NessieApiClient client;
+  private final NessieClientCache cache;
 
   public HttpApiV1(NessieApiClient client) {
+    this(client, null);
+  }
+
+  public HttpApiV1(NessieApiClient client, NessieClientCache cache) {
     this.client = client;
+    this.cache = cache;
   }
 
   @Override
@@ -66,7 +73,7 @@ public final class HttpApiV1 implements NessieApiV1 {
 
   @Override
   public GetContentBuilder getContent() {
-    return new HttpGetContent(client);
+    return new HttpGetContent(client, cache);
   }
 
   @Override
@@ -17,11 +17,15 @@ package org.projectnessie.client.http.v1api;
 
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.projectnessie.api.v1.params.GetReferenceParams;
 import org.projectnessie.client.builder.BaseGetContentBuilder;
+import org.projectnessie.client.cache.NessieClientCache;
 import org.projectnessie.client.http.NessieApiClient;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.FetchOption;
+import org.projectnessie.model.GetMultipleContentsRequest;
 import org.projectnessie.model.GetMultipleContentsResponse;
 import org.projectnessie.model.GetMultipleContentsResponse.ContentWithKey;
 
@@ -29,15 +33,27 @@ final class HttpGetContent extends BaseGetContentBuilder {
 
   private final NessieApiClient client;
 
-  HttpGetContent(NessieApiClient client) {
+  HttpGetContent(NessieApiClient client, NessieClientCache cache) {
+    super(cache);
     this.client = client;
   }
 
   @Override
-  public Map<ContentKey, Content> get() throws NessieNotFoundException {
+  protected Map<ContentKey, Content> get(
+      String refName, String hashOnRef, GetMultipleContentsRequest request)
+      throws NessieNotFoundException {
     GetMultipleContentsResponse resp =
-        client.getContentApi().getMultipleContents(refName, hashOnRef, request.build());
+        client.getContentApi().getMultipleContents(refName, hashOnRef, request);
     return resp.getContents().stream()
         .collect(Collectors.toMap(ContentWithKey::getKey, ContentWithKey::getContent));
   }
+
+  @Override
+  protected String resolveHash(String refName) throws NessieNotFoundException {
+    return client
+        .getTreeApi()
+        .getReferenceByName(
+            GetReferenceParams.builder().refName(refName).fetchOption(FetchOption.MINIMAL).build())
+        .getHash();
+  }
 }
@@ -36,6 +36,11 @@ final class HttpMergeReference extends BaseMergeReferenceBuilder {
     throw new UnsupportedOperationException("Merge message overrides are not supported in API v1.");
   }
 
+  @Override
+  public MergeReferenceBuilder mergePlanToken(String mergePlanToken) {
+    throw new UnsupportedOperationException("Merge plans are not supported in API v1.");
+  }
+
   @Override
   public MergeResponse merge() throws NessieNotFoundException, NessieConflictException {
     ImmutableMerge.Builder merge =
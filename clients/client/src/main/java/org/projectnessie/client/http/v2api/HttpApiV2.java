@@ -28,6 +28,7 @@ import org.projectnessie.client.api.GetCommitLogBuilder;
 import org.projectnessie.client.api.GetContentBuilder;
 import org.projectnessie.client.api.GetDiffBuilder;
 import org.projectnessie.client.api.GetEntriesBuilder;
+import org.projectnessie.client.api.GetEventsBuilder;
 import org.projectnessie.client.api.GetMultipleNamespacesBuilder;
 import org.projectnessie.client.api.GetNamespaceBuilder;
 import org.projectnessie.client.api.GetRefLogBuilder;
@@ -36,6 +37,7 @@ import org.projectnessie.client.api.MergeReferenceBuilder;
 import org.projectnessie.client.api.NessieApiV2;
 import org.projectnessie.client.api.TransplantCommitsBuilder;
 import org.projectnessie.client.api.UpdateNamespaceBuilder;
+import org.projectnessie.client.cache.NessieClientCache;
 import org.projectnessie.client.http.HttpClient;
 import org.projectnessie.client.util.v2api.ClientSideCreateNamespace;
 import org.projectnessie.client.util.v2api.ClientSideDeleteNamespace;
@@ -49,9 +51,17 @@ import org.projectnessie.model.SingleReferenceResponse;
 
 public class HttpApiV2 implements NessieApiV2 {
   private final HttpClient client;
+  private final boolean streamingResponses;
+  private final NessieClientCache cache;
 
   public HttpApiV2(HttpClient client) {
+    this(client, false, null);
+  }
+
+  public HttpApiV2(HttpClient client, boolean streamingResponses, NessieClientCache cache) {
     this.client = client;
+    this.streamingResponses = streamingResponses;
+    this.cache = cache;
   }
 
   @Override
@@ -78,12 +88,12 @@ public class HttpApiV2 implements NessieApiV2 {
 
   @Override
   public GetContentBuilder getContent() {
-    return new HttpGetContent(client);
+    return new HttpGetContent(client, cache);
   }
 
   @Override
   public GetAllReferencesBuilder getAllReferences() {
-    return new HttpGetAllReferences(client);
+    return new HttpGetAllReferences(client, streamingResponses);
   }
 
   @Override
@@ -98,12 +108,12 @@ public class HttpApiV2 implements NessieApiV2 {
 
   @Override
   public GetEntriesBuilder getEntries() {
-    return new HttpGetEntries(client);
+    return new HttpGetEntries(client, streamingResponses);
   }
 
   @Override
   public GetCommitLogBuilder getCommitLog() {
-    return new HttpGetCommitLog(client);
+    return new HttpGetCommitLog(client, streamingResponses);
   }
 
   @Override
@@ -151,6 +161,11 @@ public class HttpApiV2 implements NessieApiV2 {
     throw new UnsupportedOperationException("Reflog is not supported in API v2");
   }
 
+  @Override
+  public GetEventsBuilder getEvents() {
+    return new HttpGetEvents(client);
+  }
+
   @Override
   public GetNamespaceBuilder getNamespace() {
     return new ClientSideGetNamespace(this);
@@ -15,19 +15,28 @@
  */
 package org.projectnessie.client.http.v2api;
 
+import static org.projectnessie.api.v2.http.NessieMediaTypes.APPLICATION_NDJSON;
+
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
 import org.projectnessie.api.v2.params.ReferencesParams;
 import org.projectnessie.client.builder.BaseGetAllReferencesBuilder;
 import org.projectnessie.client.http.HttpClient;
+import org.projectnessie.client.http.HttpRequest;
+import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.FetchOption;
+import org.projectnessie.model.Reference;
 import org.projectnessie.model.ReferencesResponse;
 
 final class HttpGetAllReferences extends BaseGetAllReferencesBuilder<ReferencesParams> {
 
   private final HttpClient client;
+  private final boolean streamingResponses;
 
-  HttpGetAllReferences(HttpClient client) {
+  HttpGetAllReferences(HttpClient client, boolean streamingResponses) {
     super(ReferencesParams::forNextPage);
     this.client = client;
+    this.streamingResponses = streamingResponses;
   }
 
   @Override
@@ -39,16 +48,38 @@ final class HttpGetAllReferences extends BaseGetAllReferencesBuilder<ReferencesP
         .build();
   }
 
-  @Override
-  protected ReferencesResponse get(ReferencesParams p) {
+  private HttpRequest request(ReferencesParams p) {
     return client
         .newRequest()
         .path("trees")
         .queryParam("fetch", FetchOption.getFetchOptionName(p.fetchOption()))
+        .queryParam("filter", p.filter());
+  }
+
+  private HttpRequest pageRequest(ReferencesParams p) {
+    return request(p)
         .queryParam("max-records", p.maxRecords())
-        .queryParam("page-token", p.pageToken())
-        .queryParam("filter", p.filter())
-        .get()
-        .readEntity(ReferencesResponse.class);
+        .queryParam("page-token", p.pageToken());
+  }
+
+  @Override
+  protected ReferencesResponse get(ReferencesParams p) {
+    return pageRequest(p).get().readEntity(ReferencesResponse.class);
+  }
+
+  @Override
+  protected CompletionStage<ReferencesResponse> getAsync(ReferencesParams p) {
+    return pageRequest(p).getAsync().thenApply(r -> r.readEntity(ReferencesResponse.class));
+  }
+
+  @Override
+  public Stream<Reference> stream() throws NessieNotFoundException {
+    if (streamingResponses) {
+      return request(params())
+          .accept(APPLICATION_NDJSON)
+          .get()
+          .readEntityStream(Reference.class);
+    }
+    return super.stream();
   }
 }
@@ -15,11 +15,15 @@
  */
 package org.projectnessie.client.http.v2api;
 
+import static org.projectnessie.api.v2.http.NessieMediaTypes.APPLICATION_NDJSON;
+
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import org.projectnessie.api.v2.params.CommitLogParams;
 import org.projectnessie.client.StreamingUtil;
 import org.projectnessie.client.builder.BaseGetCommitLogBuilder;
 import org.projectnessie.client.http.HttpClient;
+import org.projectnessie.client.http.HttpRequest;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.FetchOption;
 import org.projectnessie.model.LogResponse;
@@ -28,10 +32,12 @@ import org.projectnessie.model.Reference;
 final class HttpGetCommitLog extends BaseGetCommitLogBuilder<CommitLogParams> {
 
   private final HttpClient client;
+  private final boolean streamingResponses;
 
-  HttpGetCommitLog(HttpClient client) {
+  HttpGetCommitLog(HttpClient client, boolean streamingResponses) {
     super(CommitLogParams::forNextPage);
     this.client = client;
+    this.streamingResponses = streamingResponses;
   }
 
   @Override
@@ -44,27 +50,51 @@ final class HttpGetCommitLog extends BaseGetCommitLogBuilder<CommitLogParams> {
         .build();
   }
 
-  @Override
-  protected LogResponse get(CommitLogParams p) throws NessieNotFoundException {
+  private HttpRequest request(CommitLogParams p) {
     return client
         .newRequest()
         .path("trees/{ref}/history")
         .resolveTemplate(
             "ref",
             Reference.toPathString(refName, hashOnRef)) // TODO: move refName, hashOnRef to params
-        .queryParam("max-records", p.maxRecords())
-        .queryParam("page-token", p.pageToken())
         .queryParam("filter", p.filter())
         .queryParam("limit-hash", p.startHash())
-        .queryParam("fetch", FetchOption.getFetchOptionName(p.fetchOption()))
+        .queryParam("fetch", FetchOption.getFetchOptionName(p.fetchOption()));
+  }
+
+  private HttpRequest pageRequest(CommitLogParams p) {
+    return request(p)
+        .queryParam("max-records", p.maxRecords())
+        .queryParam("page-token", p.pageToken());
+  }
+
+  @Override
+  protected LogResponse get(CommitLogParams p) throws NessieNotFoundException {
+    return pageRequest(p)
         .unwrap(NessieNotFoundException.class)
         .get()
         .readEntity(LogResponse.class);
   }
 
+  @Override
+  protected CompletionStage<LogResponse> getAsync(CommitLogParams p) {
+    return pageRequest(p)
+        .unwrap(NessieNotFoundException.class)
+        .getAsync()
+        .thenApply(r -> r.readEntity(LogResponse.class));
+  }
+
   @Override
   public Stream<LogResponse.LogEntry> stream() throws NessieNotFoundException {
     CommitLogParams p = params();
+    if (streamingResponses) {
+      // max-records is only a page size hint for paged responses, it must not limit the stream
+      return request(p)
+          .accept(APPLICATION_NDJSON)
+          .unwrap(NessieNotFoundException.class)
+          .get()
+          .readEntityStream(LogResponse.LogEntry.class);
+    }
     return StreamingUtil.generateStream(
         LogResponse::getLogEntries, pageToken -> get(p.forNextPage(pageToken)));
   }
@@ -16,33 +16,97 @@
 package org.projectnessie.client.http.v2api;
 
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import org.projectnessie.client.builder.BaseGetContentBuilder;
+import org.projectnessie.client.cache.NessieClientCache;
 import org.projectnessie.client.http.HttpClient;
+import org.projectnessie.client.http.HttpRequest;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.FetchOption;
+import org.projectnessie.model.GetMultipleContentsRequest;
 import org.projectnessie.model.GetMultipleContentsResponse;
 import org.projectnessie.model.GetMultipleContentsResponse.ContentWithKey;
 import org.projectnessie.model.Reference;
+import org.projectnessie.model.SingleReferenceResponse;
 
 final class HttpGetContent extends BaseGetContentBuilder {
   private final HttpClient client;
 
-  HttpGetContent(HttpClient client) {
+  HttpGetContent(HttpClient client, NessieClientCache cache) {
+    super(cache);
     this.client = client;
   }
 
+  private HttpRequest request(String refName, String hashOnRef) {
+    return client
+        .newRequest()
+        .path("trees/{ref}/contents")
+        .resolveTemplate("ref", Reference.toPathString(refName, hashOnRef));
+  }
+
   @Override
-  public Map<ContentKey, Content> get() throws NessieNotFoundException {
+  protected Map<ContentKey, Content> get(
+      String refName, String hashOnRef, GetMultipleContentsRequest request)
+      throws NessieNotFoundException {
     GetMultipleContentsResponse response =
-        client
-            .newRequest()
-            .path("trees/{ref}/contents")
-            .resolveTemplate("ref", Reference.toPathString(refName, hashOnRef))
+        request(refName, hashOnRef)
             .unwrap(NessieNotFoundException.class)
-            .post(request.build())
+            .post(request)
             .readEntity(GetMultipleContentsResponse.class);
+    return toMap(response);
+  }
+
+  @Override
+  public CompletionStage<Map<ContentKey, Content>> getAsync() {
+    GetMultipleContentsRequest req = request.build();
+    if (cache == null) {
+      return postAsync(refName, hashOnRef, req);
+    }
+    return cache.getContentsAsync(
+        refName,
+        hashOnRef,
+        req.getRequestedKeys(),
+        this::resolveHashAsync,
+        (hash, keys) -> postAsync(refName, hash, GetMultipleContentsRequest.of(keys)));
+  }
+
+  private CompletionStage<Map<ContentKey, Content>> postAsync(
+      String refName, String hashOnRef, GetMultipleContentsRequest request) {
+    return request(refName, hashOnRef)
+        .unwrap(NessieNotFoundException.class)
+        .postAsync(request)
+        .thenApply(r -> toMap(r.readEntity(GetMultipleContentsResponse.class)));
+  }
+
+  @Override
+  protected String resolveHash(String refName) throws NessieNotFoundException {
+    return resolveHashRequest(refName)
+        .unwrap(NessieNotFoundException.class)
+        .get()
+        .readEntity(SingleReferenceResponse.class)
+        .getReference()
+        .getHash();
+  }
+
+  private CompletionStage<String> resolveHashAsync(String refName) {
+    return resolveHashRequest(refName)
+        .unwrap(NessieNotFoundException.class)
+        .getAsync()
+        .thenApply(r -> r.readEntity(SingleReferenceResponse.class).getReference().getHash());
+  }
+
+  private HttpRequest resolveHashRequest(String refName) {
+    return client
+        .newRequest()
+        .path("trees/{ref}")
+        .queryParam("fetch", FetchOption.getFetchOptionName(FetchOption.MINIMAL))
+        .resolveTemplate("ref", refName);
+  }
+
+  private static Map<ContentKey, Content> toMap(GetMultipleContentsResponse response) {
     return response.getContents().stream()
         .collect(Collectors.toMap(ContentWithKey::getKey, ContentWithKey::getContent));
   }
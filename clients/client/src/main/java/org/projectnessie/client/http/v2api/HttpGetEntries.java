@@ -15,9 +15,14 @@
  */
 package org.projectnessie.client.http.v2api;
 
+import static org.projectnessie.api.v2.http.NessieMediaTypes.APPLICATION_NDJSON;
+
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
 import org.projectnessie.api.v2.params.EntriesParams;
 import org.projectnessie.client.builder.BaseGetEntriesBuilder;
 import org.projectnessie.client.http.HttpClient;
+import org.projectnessie.client.http.HttpRequest;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.EntriesResponse;
 import org.projectnessie.model.Reference;
@@ -25,10 +30,12 @@ import org.projectnessie.model.Reference;
 final class HttpGetEntries extends BaseGetEntriesBuilder<EntriesParams> {
 
   private final HttpClient client;
+  private final boolean streamingResponses;
 
-  HttpGetEntries(HttpClient client) {
+  HttpGetEntries(HttpClient client, boolean streamingResponses) {
     super(EntriesParams::forNextPage);
     this.client = client;
+    this.streamingResponses = streamingResponses;
   }
 
   @Override
@@ -39,17 +46,45 @@ final class HttpGetEntries extends BaseGetEntriesBuilder<EntriesParams> {
         .build();
   }
 
-  @Override
-  protected EntriesResponse get(EntriesParams p) throws NessieNotFoundException {
+  private HttpRequest request(EntriesParams p) {
     return client
         .newRequest()
         .path("trees/{ref}/entries")
         .resolveTemplate("ref", Reference.toPathString(refName, hashOnRef))
-        .queryParam("filter", p.filter())
+        .queryParam("filter", p.filter());
+  }
+
+  private HttpRequest pageRequest(EntriesParams p) {
+    return request(p)
         .queryParam("page-token", p.pageToken())
-        .queryParam("max-records", p.maxRecords())
+        .queryParam("max-records", p.maxRecords());
+  }
+
+  @Override
+  protected EntriesResponse get(EntriesParams p) throws NessieNotFoundException {
+    return pageRequest(p)
         .unwrap(NessieNotFoundException.class)
         .get()
         .readEntity(EntriesResponse.class);
   }
+
+  @Override
+  protected CompletionStage<EntriesResponse> getAsync(EntriesParams p) {
+    return pageRequest(p)
+        .unwrap(NessieNotFoundException.class)
+        .getAsync()
+        .thenApply(r -> r.readEntity(EntriesResponse.class));
+  }
+
+  @Override
+  public Stream<EntriesResponse.Entry> stream() throws NessieNotFoundException {
+    if (streamingResponses) {
+      return request(params())
+          .accept(APPLICATION_NDJSON)
+          .unwrap(NessieNotFoundException.class)
+          .get()
+          .readEntityStream(EntriesResponse.Entry.class);
+    }
+    return super.stream();
+  }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.http.v2api;
+
+import java.util.concurrent.CompletionStage;
+import org.projectnessie.client.builder.BaseGetEventsBuilder;
+import org.projectnessie.client.http.HttpClient;
+import org.projectnessie.client.http.HttpRequest;
+import org.projectnessie.model.RepositoryEventsResponse;
+
+final class HttpGetEvents extends BaseGetEventsBuilder {
+
+  private final HttpClient client;
+
+  HttpGetEvents(HttpClient client) {
+    this.client = client;
+  }
+
+  private HttpRequest request(String streamId, Long position) {
+    return client
+        .newRequest()
+        .path("events")
+        .queryParam("stream-id", streamId)
+        .queryParam("position", position != null ? position.toString() : null)
+        .queryParam("max-events", maxEvents)
+        .queryParam("wait-millis", waitMillis);
+  }
+
+  @Override
+  protected RepositoryEventsResponse get(String streamId, Long position) {
+    return request(streamId, position).get().readEntity(RepositoryEventsResponse.class);
+  }
+
+  @Override
+  public CompletionStage<RepositoryEventsResponse> getAsync() {
+    return request(streamId, position)
+        .getAsync()
+        .thenApply(r -> r.readEntity(RepositoryEventsResponse.class));
+  }
+}
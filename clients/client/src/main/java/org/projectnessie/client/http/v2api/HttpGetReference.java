@@ -15,8 +15,10 @@
  */
 package org.projectnessie.client.http.v2api;
 
+import java.util.concurrent.CompletionStage;
 import org.projectnessie.client.builder.BaseGetReferenceBuilder;
 import org.projectnessie.client.http.HttpClient;
+import org.projectnessie.client.http.HttpRequest;
 import org.projectnessie.error.NessieNotFoundException;
 import org.projectnessie.model.FetchOption;
 import org.projectnessie.model.Reference;
@@ -30,16 +32,28 @@ final class HttpGetReference extends BaseGetReferenceBuilder {
     this.client = client;
   }
 
-  @Override
-  public Reference get() throws NessieNotFoundException {
+  private HttpRequest request() {
     return client
         .newRequest()
         .path("trees/{ref}")
         .queryParam("fetch", FetchOption.getFetchOptionName(fetchOption))
-        .resolveTemplate("ref", refName)
+        .resolveTemplate("ref", refName);
+  }
+
+  @Override
+  public Reference get() throws NessieNotFoundException {
+    return request()
         .unwrap(NessieNotFoundException.class)
         .get()
         .readEntity(SingleReferenceResponse.class)
         .getReference();
   }
+
+  @Override
+  public CompletionStage<Reference> getAsync() {
+    return request()
+        .unwrap(NessieNotFoundException.class)
+        .getAsync()
+        .thenApply(r -> r.readEntity(SingleReferenceResponse.class).getReference());
+  }
 }
@@ -48,7 +48,8 @@ final class HttpMergeReference extends BaseMergeReferenceBuilder {
             .message(message)
             .isDryRun(dryRun)
             .isFetchAdditionalInfo(fetchAdditionalInfo)
-            .isReturnConflictAsResult(returnConflictAsResult);
+            .isReturnConflictAsResult(returnConflictAsResult)
+            .mergePlanToken(mergePlanToken);
 
     if (defaultMergeMode != null) {
       merge.defaultKeyMergeMode(defaultMergeMode);
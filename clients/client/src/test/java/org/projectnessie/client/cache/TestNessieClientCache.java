@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.model.Content;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.IcebergTable;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class TestNessieClientCache {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  private static final String HASH_1 = "1234567812345678";
+  private static final String HASH_2 = "8765432187654321";
+
+  private final AtomicLong clock = new AtomicLong();
+  private final List<String> loadedHashes = new ArrayList<>();
+  private final List<List<ContentKey>> loadedKeys = new ArrayList<>();
+  private final List<String> resolvedRefs = new ArrayList<>();
+
+  private static ContentKey key(int i) {
+    return ContentKey.of("ns", "table" + i);
+  }
+
+  private static Content content(String hash, ContentKey key) {
+    return IcebergTable.of(hash + "/" + key, 1, 2, 3, 4);
+  }
+
+  private Map<ContentKey, Content> get(
+      NessieClientCache cache, String refName, String hashOnRef, ContentKey... keys)
+      throws Exception {
+    return cache.getContents(
+        refName,
+        hashOnRef,
+        Arrays.asList(keys),
+        ref -> {
+          resolvedRefs.add(ref);
+          return HASH_2;
+        },
+        (hash, requested) -> {
+          loadedHashes.add(hash);
+          loadedKeys.add(requested);
+          return requested.stream()
+              .filter(k -> !k.equals(key(99)))
+              .collect(Collectors.toMap(Function.identity(), k -> content(hash, k)));
+        });
+  }
+
+  private NessieClientCache cache(int maxEntries, Duration referenceTtl) {
+    return new NessieClientCache(maxEntries, Duration.ofSeconds(60), referenceTtl, clock::get);
+  }
+
+  @Test
+  void contentByHash() throws Exception {
+    NessieClientCache cache = cache(100, Duration.ZERO);
+
+    soft.assertThat(get(cache, "main", HASH_1, key(1), key(2)))
+        .containsEntry(key(1), content(HASH_1, key(1)))
+        .containsEntry(key(2), content(HASH_1, key(2)));
+    soft.assertThat(get(cache, "main", HASH_1, key(1), key(2), key(3)))
+        .containsEntry(key(1), content(HASH_1, key(1)))
+        .containsEntry(key(2), content(HASH_1, key(2)))
+        .containsEntry(key(3), content(HASH_1, key(3)));
+    soft.assertThat(get(cache, "main", HASH_2, key(1)))
+        .containsEntry(key(1), content(HASH_2, key(1)));
+
+    soft.assertThat(loadedKeys)
+        .containsExactly(
+            Arrays.asList(key(1), key(2)),
+            Collections.singletonList(key(3)),
+            Collections.singletonList(key(1)));
+    soft.assertThat(loadedHashes).containsExactly(HASH_1, HASH_1, HASH_2);
+    soft.assertThat(cache.contentHits()).isEqualTo(2);
+    soft.assertThat(cache.contentMisses()).isEqualTo(4);
+    soft.assertThat(resolvedRefs).isEmpty();
+  }
+
+  @Test
+  void nonExistingContentNotCached() throws Exception {
+    NessieClientCache cache = cache(100, Duration.ZERO);
+
+    soft.assertThat(get(cache, "main", HASH_1, key(99))).isEmpty();
+    soft.assertThat(get(cache, "main", HASH_1, key(99))).isEmpty();
+    soft.assertThat(loadedKeys).hasSize(2);
+    soft.assertThat(cache.contentMisses()).isEqualTo(2);
+  }
+
+  @Test
+  void contentExpiry() throws Exception {
+    NessieClientCache cache = cache(100, Duration.ZERO);
+
+    get(cache, "main", HASH_1, key(1));
+    clock.addAndGet(Duration.ofSeconds(59).toNanos());
+    get(cache, "main", HASH_1, key(1));
+    clock.addAndGet(Duration.ofSeconds(1).toNanos());
+    get(cache, "main", HASH_1, key(1));
+
+    soft.assertThat(loadedKeys).hasSize(2);
+    soft.assertThat(cache.contentHits()).isEqualTo(1);
+    soft.assertThat(cache.contentMisses()).isEqualTo(2);
+  }
+
+  @Test
+  void contentEviction() throws Exception {
+    NessieClientCache cache = cache(2, Duration.ZERO);
+
+    get(cache, "main", HASH_1, key(1), key(2));
+    get(cache, "main", HASH_1, key(1));
+    get(cache, "main", HASH_1, key(3));
+    // key(2) was the least recently accessed entry
+    get(cache, "main", HASH_1, key(1), key(2));
+
+    soft.assertThat(loadedKeys)
+        .containsExactly(
+            Arrays.asList(key(1), key(2)),
+            Collections.singletonList(key(3)),
+            Collections.singletonList(key(2)));
+  }
+
+  @Test
+  void referenceNameWithoutReferenceCache() throws Exception {
+    NessieClientCache cache = cache(100, Duration.ZERO);
+
+    get(cache, "main", null, key(1));
+    get(cache, "main", null, key(1));
+
+    soft.assertThat(loadedHashes).containsExactly(null, null);
+    soft.assertThat(resolvedRefs).isEmpty();
+    soft.assertThat(cache.contentHits()).isEqualTo(0);
+    soft.assertThat(cache.contentMisses()).isEqualTo(0);
+  }
+
+  @Test
+  void referenceCache() throws Exception {
+    NessieClientCache cache = cache(100, Duration.ofSeconds(5));
+
+    soft.assertThat(get(cache, "main", null, key(1)))
+        .containsEntry(key(1), content(HASH_2, key(1)));
+    soft.assertThat(get(cache, "main", null, key(1)))
+        .containsEntry(key(1), content(HASH_2, key(1)));
+    // content cached by hash is used for lookups by reference name
+    soft.assertThat(get(cache, null, HASH_2, key(1)))
+        .containsEntry(key(1), content(HASH_2, key(1)));
+
+    soft.assertThat(resolvedRefs).containsExactly("main");
+    soft.assertThat(loadedHashes).containsExactly(HASH_2);
+    soft.assertThat(cache.referenceHits()).isEqualTo(1);
+    soft.assertThat(cache.referenceMisses()).isEqualTo(1);
+
+    clock.addAndGet(Duration.ofSeconds(5).toNanos());
+    get(cache, "main", null, key(1));
+    soft.assertThat(resolvedRefs).containsExactly("main", "main");
+
+    cache.invalidateReferences();
+    get(cache, "main", null, key(1));
+    soft.assertThat(resolvedRefs).containsExactly("main", "main", "main");
+    soft.assertThat(loadedHashes).containsExactly(HASH_2);
+    soft.assertThat(cache.referenceMisses()).isEqualTo(3);
+  }
+
+  @Test
+  void referenceCacheAsync() throws Exception {
+    NessieClientCache cache = cache(100, Duration.ofSeconds(5));
+    CompletableFuture<String> resolved = new CompletableFuture<>();
+    List<CompletableFuture<Map<ContentKey, Content>>> loads = new ArrayList<>();
+
+    CompletableFuture<Map<ContentKey, Content>> result =
+        cache
+            .getContentsAsync(
+                "main",
+                null,
+                Arrays.asList(key(1), key(2)),
+                ref -> {
+                  resolvedRefs.add(ref);
+                  return resolved;
+                },
+                (hash, requested) -> {
+                  loadedHashes.add(hash);
+                  loadedKeys.add(requested);
+                  CompletableFuture<Map<ContentKey, Content>> load = new CompletableFuture<>();
+                  loads.add(load);
+                  return load;
+                })
+            .toCompletableFuture();
+
+    // nothing is loaded before the reference has been resolved
+    soft.assertThat(resolvedRefs).containsExactly("main");
+    soft.assertThat(loads).isEmpty();
+    soft.assertThat(result).isNotDone();
+
+    resolved.complete(HASH_2);
+    soft.assertThat(loadedHashes).containsExactly(HASH_2);
+    soft.assertThat(result).isNotDone();
+
+    Map<ContentKey, Content> loaded =
+        Arrays.asList(key(1), key(2)).stream()
+            .collect(Collectors.toMap(Function.identity(), k -> content(HASH_2, k)));
+    loads.get(0).complete(loaded);
+    soft.assertThat(result)
+        .isCompletedWithValueMatching(m -> m.get(key(2)).equals(content(HASH_2, key(2))));
+
+    // served from the cache, including the reference name
+    soft.assertThat(get(cache, "main", null, key(1), key(2)))
+        .containsEntry(key(1), content(HASH_2, key(1)))
+        .containsEntry(key(2), content(HASH_2, key(2)));
+    soft.assertThat(resolvedRefs).containsExactly("main");
+    soft.assertThat(loadedKeys).hasSize(1);
+    soft.assertThat(cache.contentHits()).isEqualTo(2);
+    soft.assertThat(cache.referenceHits()).isEqualTo(1);
+  }
+
+  @Test
+  void disabled() throws Exception {
+    NessieClientCache cache = cache(0, Duration.ofSeconds(5));
+
+    get(cache, "main", HASH_1, key(1));
+    get(cache, "main", HASH_1, key(1));
+
+    soft.assertThat(loadedKeys).hasSize(2);
+    soft.assertThat(resolvedRefs).isEmpty();
+  }
+
+  @Test
+  void invalidArguments() {
+    soft.assertThatThrownBy(() -> cache(-1, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+    soft.assertThatThrownBy(() -> cache(1, Duration.ofSeconds(-1)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
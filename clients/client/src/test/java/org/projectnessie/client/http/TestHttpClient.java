@@ -42,12 +42,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import javax.net.ssl.SSLHandshakeException;
 import org.assertj.core.api.AbstractThrowableAssert;
 import org.assertj.core.api.SoftAssertions;
@@ -61,7 +65,15 @@ import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.projectnessie.client.rest.NessieHttpResponseFilter;
 import org.projectnessie.client.util.HttpTestServer;
+import org.projectnessie.error.ErrorCode;
+import org.projectnessie.error.ImmutableNessieError;
+import org.projectnessie.error.NessieConflictException;
+import org.projectnessie.error.NessieError;
+import org.projectnessie.error.NessieNotFoundException;
+import org.projectnessie.error.NessieReferenceConflictException;
+import org.projectnessie.error.NessieReferenceNotFoundException;
 import org.projectnessie.model.CommitMeta;
 
 @Execution(ExecutionMode.CONCURRENT)
@@ -262,6 +274,126 @@ public class TestHttpClient {
     }
   }
 
+  @Test
+  void testGetAsync() throws Exception {
+    ExampleBean inputBean = new ExampleBean("x", 1, NOW);
+    HttpTestServer.RequestHandler handler =
+        (req, resp) -> {
+          soft.assertThat(req.getMethod()).isEqualTo("GET");
+          String response = MAPPER.writeValueAsString(inputBean);
+          writeResponseBody(resp, response);
+        };
+    try (HttpTestServer server = new HttpTestServer(handler)) {
+      ExampleBean bean =
+          get(server.getUri())
+              .getAsync()
+              .thenApply(r -> r.readEntity(ExampleBean.class))
+              .toCompletableFuture()
+              .get(30, TimeUnit.SECONDS);
+      soft.assertThat(bean).isEqualTo(inputBean);
+    }
+  }
+
+  private static HttpTestServer.RequestHandler errorHandler(Status status, ErrorCode errorCode) {
+    return (req, resp) -> {
+      NessieError error =
+          ImmutableNessieError.builder()
+              .message("test-error")
+              .status(status.getCode())
+              .reason(status.getReason())
+              .errorCode(errorCode)
+              .build();
+      resp.setStatus(status.getCode());
+      resp.setContentType("application/json");
+      try (OutputStream os = resp.getOutputStream()) {
+        MAPPER.writeValue(os, error);
+      }
+    };
+  }
+
+  private HttpClient createNessieClient(URI baseUri) {
+    return createClient(baseUri, b -> b.addResponseFilter(new NessieHttpResponseFilter(MAPPER)));
+  }
+
+  @Test
+  void testGetAsyncNotFound() throws Exception {
+    try (HttpTestServer server =
+        new HttpTestServer(errorHandler(Status.NOT_FOUND, ErrorCode.REFERENCE_NOT_FOUND))) {
+      HttpClient client = createNessieClient(server.getUri());
+
+      CompletionStage<HttpResponse> unwrapped =
+          client
+              .newRequest()
+              .unwrap(NessieNotFoundException.class, NessieConflictException.class)
+              .getAsync();
+      soft.assertThatThrownBy(() -> unwrapped.toCompletableFuture().get(30, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(NessieReferenceNotFoundException.class)
+          .hasMessageContaining("test-error");
+
+      // Not unwrapped, the API exception is the cause of the HttpClientException
+      CompletionStage<HttpResponse> wrapped = client.newRequest().getAsync();
+      soft.assertThatThrownBy(() -> wrapped.toCompletableFuture().get(30, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(HttpClientException.class)
+          .hasRootCauseInstanceOf(NessieReferenceNotFoundException.class);
+    }
+  }
+
+  @Test
+  void testPostAsyncConflict() throws Exception {
+    try (HttpTestServer server =
+        new HttpTestServer(errorHandler(Status.CONFLICT, ErrorCode.REFERENCE_CONFLICT))) {
+      HttpClient client = createNessieClient(server.getUri());
+
+      CompletionStage<HttpResponse> unwrapped =
+          client
+              .newRequest()
+              .unwrap(NessieNotFoundException.class, NessieConflictException.class)
+              .postAsync(new ExampleBean("x", 1, NOW));
+      soft.assertThatThrownBy(() -> unwrapped.toCompletableFuture().get(30, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(NessieReferenceConflictException.class)
+          .hasMessageContaining("test-error");
+
+      // Only NessieNotFoundException is unwrapped
+      CompletionStage<HttpResponse> wrapped =
+          client
+              .newRequest()
+              .unwrap(NessieNotFoundException.class)
+              .postAsync(new ExampleBean("x", 1, NOW));
+      soft.assertThatThrownBy(() -> wrapped.toCompletableFuture().get(30, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(HttpClientException.class)
+          .hasRootCauseInstanceOf(NessieReferenceConflictException.class);
+    }
+  }
+
+  @Test
+  void testGetStream() throws Exception {
+    List<ExampleBean> inputBeans =
+        IntStream.range(0, 5)
+            .mapToObj(i -> new ExampleBean("x" + i, i, NOW))
+            .collect(Collectors.toList());
+    HttpTestServer.RequestHandler handler =
+        (req, resp) -> {
+          soft.assertThat(req.getHeader("Accept")).isEqualTo("application/x-ndjson");
+          StringBuilder response = new StringBuilder();
+          for (ExampleBean bean : inputBeans) {
+            response.append(MAPPER.writeValueAsString(bean)).append('\n');
+          }
+          writeResponseBody(resp, response.toString(), "application/x-ndjson");
+        };
+    try (HttpTestServer server = new HttpTestServer(handler);
+        Stream<ExampleBean> beans =
+            get(server.getUri())
+                .accept("application/x-ndjson")
+                .get()
+                .readEntityStream(ExampleBean.class)) {
+      soft.assertThat(beans).containsExactlyElementsOf(inputBeans);
+    }
+  }
+
   @Test
   void testPut() throws Exception {
     ExampleBean inputBean = new ExampleBean("x", 1, NOW);
@@ -19,10 +19,14 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
@@ -33,10 +37,18 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.projectnessie.client.NessieConfigConstants;
 import org.projectnessie.client.api.NessieApi;
 import org.projectnessie.client.api.NessieApiV1;
+import org.projectnessie.client.api.NessieApiV2;
 import org.projectnessie.client.auth.BasicAuthenticationProvider;
 import org.projectnessie.client.auth.NessieAuthentication;
+import org.projectnessie.client.cache.NessieClientCache;
 import org.projectnessie.client.util.HttpTestServer;
 import org.projectnessie.client.util.HttpTestUtil;
+import org.projectnessie.model.Branch;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.GetMultipleContentsResponse;
+import org.projectnessie.model.GetMultipleContentsResponse.ContentWithKey;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.SingleReferenceResponse;
 
 @Execution(ExecutionMode.CONCURRENT)
 public class TestHttpClientBuilder {
@@ -138,6 +150,59 @@ public class TestHttpClientBuilder {
                     UTF_8));
   }
 
+  @Test
+  void testClientCachesNotSharedBetweenBuiltClients() throws Exception {
+    ObjectMapper mapper = new ObjectMapper();
+    ContentKey key = ContentKey.of("ns", "table");
+    Branch branch = Branch.of("main", "1234567812345678");
+    String contentsResponse =
+        mapper.writeValueAsString(
+            GetMultipleContentsResponse.of(
+                Collections.singletonList(
+                    ContentWithKey.of(key, IcebergTable.of("meta", 1, 2, 3, 4, "cid")))));
+    String referenceResponse =
+        mapper.writeValueAsString(SingleReferenceResponse.builder().reference(branch).build());
+
+    NessieClientCache first =
+        NessieClientCache.create(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    NessieClientCache second =
+        NessieClientCache.create(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+    try (HttpTestServer server =
+        new HttpTestServer(
+            (req, resp) -> {
+              req.getInputStream().close();
+              HttpTestUtil.writeResponseBody(
+                  resp, "POST".equals(req.getMethod()) ? contentsResponse : referenceResponse);
+            })) {
+      HttpClientBuilder builder = HttpClientBuilder.builder().withUri(server.getUri());
+      try (NessieApiV2 firstApi = builder.withClientCache(first).build(NessieApiV2.class);
+          NessieApiV2 secondApi = builder.withClientCache(second).build(NessieApiV2.class)) {
+
+        assertThat(firstApi.getContent().refName("main").key(key).get()).containsKey(key);
+        assertThat(first.referenceMisses()).isEqualTo(1);
+        assertThat(first.contentMisses()).isEqualTo(1);
+
+        // A reference change via the second client must only invalidate the second client's cache.
+        secondApi.deleteBranch().branch(branch).delete();
+
+        assertThat(
+                firstApi
+                    .getContent()
+                    .refName("main")
+                    .key(key)
+                    .getAsync()
+                    .toCompletableFuture()
+                    .get(30, TimeUnit.SECONDS))
+            .containsKey(key);
+        assertThat(first.referenceHits()).isEqualTo(1);
+        assertThat(first.referenceMisses()).isEqualTo(1);
+        assertThat(first.contentHits()).isEqualTo(1);
+        assertThat(second.referenceMisses()).isEqualTo(0);
+      }
+    }
+  }
+
   static HttpTestServer.RequestHandler handlerForHeaderTest(
       String headerName, AtomicReference<String> receiver) {
     return (req, resp) -> {
@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.contents.jdbc;
+
+import static org.projectnessie.gc.contents.jdbc.JdbcHelper.isIntegrityConstraintViolation;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Inserts rows into a table in chunks, silently ignoring rows that already exist, and returns the
+ * number of actually inserted rows.
+ *
+ * <p>Rows are written using multi-row {@code INSERT ... VALUES} statements. Duplicate rows are
+ * ignored via {@code ON CONFLICT DO NOTHING}, if supported by the database, otherwise a chunk that
+ * contains at least one duplicate is inserted row-by-row. PostgreSQL can optionally
+ * stream all rows via {@code COPY ... FROM STDIN} into a temporary staging table, which is then
+ * merged into the target table using a single {@code INSERT ... SELECT ... ON CONFLICT DO NOTHING}.
+ */
+final class BatchInsert {
+
+  /** PostgreSQL's wire protocol limits the number of bind parameters per statement. */
+  static final int MAX_BIND_PARAMETERS = 32767;
+
+  private final String table;
+  private final String columnList;
+  private final int[] columnTypes;
+  private final String rowPlaceholders;
+
+  BatchInsert(String table, List<String> columns, int[] columnTypes) {
+    if (columns.size() != columnTypes.length) {
+      throw new IllegalArgumentException("Number of columns and column types must be equal");
+    }
+    this.table = table;
+    this.columnList = String.join(", ", columns);
+    this.columnTypes = columnTypes;
+    this.rowPlaceholders =
+        columns.stream().map(c -> "?").collect(Collectors.joining(", ", "(", ")"));
+  }
+
+  /**
+   * Inserts all rows provided by the given iterator using the given connection, the caller is
+   * responsible for committing or rolling back the transaction.
+   *
+   * @param conn connection to use
+   * @param dialect database specific capabilities
+   * @param rows rows to insert, each element must contain one value per column
+   * @param batchSize number of rows per chunk
+   * @param useCopy whether to use {@code COPY ... FROM STDIN}, if supported by the database
+   * @return number of inserted rows, not including rows that already existed
+   */
+  long insert(
+      Connection conn, SqlDialect dialect, Iterator<Object[]> rows, int batchSize, boolean useCopy)
+      throws SQLException {
+    if (useCopy && dialect.supportsCopyFromStdin() && conn.isWrapperFor(PGConnection.class)) {
+      return copyInsert(conn, conn.unwrap(PGConnection.class), rows, batchSize);
+    }
+
+    int rowsPerStatement =
+        Math.max(1, Math.min(batchSize, MAX_BIND_PARAMETERS / columnTypes.length));
+    return batchedInsert(conn, dialect, rows, rowsPerStatement);
+  }
+
+  private long batchedInsert(
+      Connection conn, SqlDialect dialect, Iterator<Object[]> rows, int batchSize)
+      throws SQLException {
+    PreparedStatement fullBatch = null;
+    try {
+      long count = 0L;
+      List<Object[]> chunk = new ArrayList<>(batchSize);
+      while (rows.hasNext()) {
+        chunk.add(rows.next());
+        if (chunk.size() == batchSize) {
+          if (fullBatch == null) {
+            fullBatch = conn.prepareStatement(insertSql(dialect, batchSize));
+          }
+          count += insertChunk(conn, dialect, fullBatch, chunk);
+          chunk.clear();
+        }
+      }
+      if (!chunk.isEmpty()) {
+        try (PreparedStatement lastBatch =
+            conn.prepareStatement(insertSql(dialect, chunk.size()))) {
+          count += insertChunk(conn, dialect, lastBatch, chunk);
+        }
+      }
+      return count;
+    } finally {
+      if (fullBatch != null) {
+        fullBatch.close();
+      }
+    }
+  }
+
+  private long insertChunk(
+      Connection conn, SqlDialect dialect, PreparedStatement stmt, List<Object[]> chunk)
+      throws SQLException {
+    int param = 1;
+    for (Object[] row : chunk) {
+      param = bindRow(stmt, param, row);
+    }
+    try {
+      return stmt.executeUpdate();
+    } catch (SQLException e) {
+      if (dialect.supportsOnConflictDoNothing() || !isIntegrityConstraintViolation(e)) {
+        throw e;
+      }
+    }
+
+    // At least one row in the chunk already exists, insert the rows one-by-one.
+    long count = 0L;
+    try (PreparedStatement single = conn.prepareStatement(insertSql(dialect, 1))) {
+      for (Object[] row : chunk) {
+        bindRow(single, 1, row);
+        try {
+          count += single.executeUpdate();
+        } catch (SQLException e) {
+          if (!isIntegrityConstraintViolation(e)) {
+            throw e;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
+  private int bindRow(PreparedStatement stmt, int param, Object[] row) throws SQLException {
+    for (int i = 0; i < columnTypes.length; i++, param++) {
+      Object value = row[i];
+      if (value == null) {
+        stmt.setNull(param, columnTypes[i]);
+      } else {
+        stmt.setObject(param, value, columnTypes[i]);
+      }
+    }
+    return param;
+  }
+
+  private String insertSql(SqlDialect dialect, int rowCount) {
+    StringBuilder sql =
+        new StringBuilder("INSERT INTO ")
+            .append(table)
+            .append(" \n    (")
+            .append(columnList)
+            .append(") \n    VALUES ");
+    for (int i = 0; i < rowCount; i++) {
+      if (i > 0) {
+        sql.append(", ");
+      }
+      sql.append(rowPlaceholders);
+    }
+    if (dialect.supportsOnConflictDoNothing()) {
+      sql.append(" \n    ON CONFLICT DO NOTHING");
+    }
+    return sql.toString();
+  }
+
+  private long copyInsert(
+      Connection conn, PGConnection pgConn, Iterator<Object[]> rows, int batchSize)
+      throws SQLException {
+    String stagingTable = table + "_staging";
+    try (Statement st = conn.createStatement()) {
+      st.execute("CREATE TEMPORARY TABLE " + stagingTable + " (LIKE " + table + ") ON COMMIT DROP");
+    }
+
+    CopyIn copyIn =
+        pgConn
+            .getCopyAPI()
+            .copyIn(
+                "COPY " + stagingTable + " (" + columnList + ") FROM STDIN WITH (FORMAT csv)");
+    try {
+      StringBuilder csv = new StringBuilder();
+      int buffered = 0;
+      while (rows.hasNext()) {
+        appendCsvRow(csv, rows.next());
+        if (++buffered == batchSize) {
+          writeToCopy(copyIn, csv);
+          buffered = 0;
+        }
+      }
+      if (buffered > 0) {
+        writeToCopy(copyIn, csv);
+      }
+      copyIn.endCopy();
+    } finally {
+      if (copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+    }
+
+    try (Statement st = conn.createStatement()) {
+      return st.executeUpdate(
+          "INSERT INTO "
+              + table
+              + " ("
+              + columnList
+              + ") \n    SELECT "
+              + columnList
+              + " FROM "
+              + stagingTable
+              + " \n    ON CONFLICT DO NOTHING");
+    }
+  }
+
+  private static void writeToCopy(CopyIn copyIn, StringBuilder csv) throws SQLException {
+    byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+    copyIn.writeToCopy(bytes, 0, bytes.length);
+    csv.setLength(0);
+  }
+
+  /**
+   * Appends one row in PostgreSQL's CSV format. An unquoted empty value represents {@code NULL},
+   * all non-numeric values are quoted.
+   */
+  static void appendCsvRow(StringBuilder csv, Object[] row) {
+    for (int i = 0; i < row.length; i++) {
+      if (i > 0) {
+        csv.append(',');
+      }
+      Object value = row[i];
+      if (value instanceof Number) {
+        csv.append(value);
+      } else if (value != null) {
+        csv.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+      }
+    }
+    csv.append('\n');
+  }
+}
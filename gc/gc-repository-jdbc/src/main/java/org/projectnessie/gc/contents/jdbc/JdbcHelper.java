@@ -56,6 +56,11 @@ public final class JdbcHelper {
     return e;
   }
 
+  @FunctionalInterface
+  interface WithConnection<R> {
+    R withConnection(Connection connection) throws SQLException;
+  }
+
   @FunctionalInterface
   interface WithStatement<R> {
     R withStatement(Connection connection, PreparedStatement preparedStatement) throws SQLException;
@@ -37,6 +37,7 @@ import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.START_EXPIRE;
 import static org.projectnessie.gc.contents.jdbc.SqlDmlDdl.START_IDENTIFY;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
 import com.google.errorprone.annotations.MustBeClosed;
 import java.net.URI;
 import java.sql.Connection;
@@ -48,7 +49,6 @@ import java.sql.Types;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -65,6 +65,7 @@ import org.projectnessie.gc.contents.LiveContentSetNotFoundException;
 import org.projectnessie.gc.contents.jdbc.JdbcHelper.FromRow;
 import org.projectnessie.gc.contents.jdbc.JdbcHelper.Prepare;
 import org.projectnessie.gc.contents.jdbc.JdbcHelper.ResultSetSplit;
+import org.projectnessie.gc.contents.jdbc.JdbcHelper.WithConnection;
 import org.projectnessie.gc.contents.jdbc.JdbcHelper.WithStatement;
 import org.projectnessie.gc.contents.spi.PersistenceSpi;
 import org.projectnessie.gc.files.FileReference;
@@ -79,13 +80,33 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
     return ImmutableJdbcPersistenceSpi.builder();
   }
 
+  /** Default number of rows written per multi-row {@code INSERT} or per {@code COPY} chunk. */
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
   @SuppressWarnings({"UnusedReturnValue", "unused"})
   public interface Builder {
     Builder dataSource(DataSource dataSource);
 
+    /**
+     * Number of rows written per multi-row {@code INSERT} statement or per {@code COPY} chunk,
+     * defaults to {@value #DEFAULT_BATCH_SIZE}.
+     */
+    Builder batchSize(int batchSize);
+
+    /**
+     * Whether bulk inserts against PostgreSQL use {@code COPY FROM STDIN} into a temporary staging
+     * table, defaults to {@code true}. Other databases always use multi-row {@code INSERT}s.
+     */
+    Builder usePostgresCopy(boolean usePostgresCopy);
+
     JdbcPersistenceSpi build();
   }
 
+  @Value.Check
+  void check() {
+    Preconditions.checkArgument(batchSize() > 0, "Batch size must be greater than 0");
+  }
+
   @Override
   public void startIdentifyLiveContents(UUID liveSetId, Instant created) {
     singleStatement(
@@ -200,45 +221,34 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
 
   @Override
   public long addIdentifiedLiveContent(UUID liveSetId, Stream<ContentReference> contentReference) {
-    return singleStatement(
-        ADD_CONTENT,
-        (conn, stmt) -> {
-          stmt.setString(1, liveSetId.toString());
-          long count = 0L;
-          for (Iterator<ContentReference> iter = contentReference.iterator(); iter.hasNext(); ) {
-            ContentReference ref = iter.next();
-            stmt.setString(2, ref.contentId());
-            stmt.setString(3, ref.commitId());
-            stmt.setString(4, ref.contentKey().toPathString());
-            stmt.setString(5, ref.contentType().name());
-            if (ref.contentType().equals(Content.Type.ICEBERG_TABLE)) {
-              stmt.setString(
-                  6,
-                  Objects.requireNonNull(
-                      ref.metadataLocation(),
-                      "Illegal null metadataLocation in ContentReference for ICEBERG_TABLE"));
-              stmt.setLong(
-                  7,
-                  Objects.requireNonNull(
-                      ref.snapshotId(),
-                      "Illegal null snapshotId in ContentReference for ICEBERG_TABLE"));
-            } else {
-              throw new UnsupportedOperationException(
-                  "Unsupported content type " + ref.contentType());
-            }
-            try {
-              // TODO add batch updates
-              stmt.executeUpdate();
-              count++;
-            } catch (SQLException e) {
-              if (!isIntegrityConstraintViolation(e)) {
-                throw e;
-              }
-            }
-          }
-          return count;
-        },
-        true);
+    String id = liveSetId.toString();
+    return inTransaction(
+        conn ->
+            ADD_CONTENT.insert(
+                conn,
+                dialect(),
+                Iterators.transform(
+                    contentReference.iterator(), ref -> contentReferenceRow(id, ref)),
+                batchSize(),
+                usePostgresCopy()));
+  }
+
+  private static Object[] contentReferenceRow(String liveSetId, ContentReference ref) {
+    if (!ref.contentType().equals(Content.Type.ICEBERG_TABLE)) {
+      throw new UnsupportedOperationException("Unsupported content type " + ref.contentType());
+    }
+    return new Object[] {
+      liveSetId,
+      ref.contentId(),
+      ref.commitId(),
+      ref.contentKey().toPathString(),
+      ref.contentType().name(),
+      Objects.requireNonNull(
+          ref.metadataLocation(),
+          "Illegal null metadataLocation in ContentReference for ICEBERG_TABLE"),
+      Objects.requireNonNull(
+          ref.snapshotId(), "Illegal null snapshotId in ContentReference for ICEBERG_TABLE")
+    };
   }
 
   @Override
@@ -360,28 +370,21 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
 
   @Override
   public long addFileDeletions(UUID liveSetId, Stream<FileReference> files) {
-    return singleStatement(
-        INSERT_FILE_DELETIONS,
-        (conn, stmt) -> {
-          long count = 0L;
-          for (Iterator<FileReference> iter = files.iterator(); iter.hasNext(); ) {
-            FileReference f = iter.next();
-            stmt.setString(1, liveSetId.toString());
-            stmt.setString(2, f.base().toString());
-            stmt.setString(3, f.path().toString());
-            stmt.setLong(4, f.modificationTimeMillisEpoch());
-            try {
-              stmt.executeUpdate();
-              count++;
-            } catch (SQLException e) {
-              if (!isIntegrityConstraintViolation(e)) {
-                throw e;
-              }
-            }
-          }
-          return count;
-        },
-        true);
+    String id = liveSetId.toString();
+    return inTransaction(
+        conn ->
+            INSERT_FILE_DELETIONS.insert(
+                conn,
+                dialect(),
+                Iterators.transform(files.iterator(), f -> fileDeletionRow(id, f)),
+                batchSize(),
+                usePostgresCopy()));
+  }
+
+  private static Object[] fileDeletionRow(String liveSetId, FileReference f) {
+    return new Object[] {
+      liveSetId, f.base().toString(), f.path().toString(), f.modificationTimeMillisEpoch()
+    };
   }
 
   @Override
@@ -435,6 +438,24 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
     }
   }
 
+  <R> R inTransaction(WithConnection<R> withConnection) {
+    try (Connection conn = connection()) {
+      boolean failed = true;
+      try {
+        R r = withConnection.withConnection(conn);
+        conn.commit();
+        failed = false;
+        return r;
+      } finally {
+        if (failed) {
+          conn.rollback();
+        }
+      }
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   <R> R singleStatement(
       @Language("SQL") String sql, WithStatement<R> withStatement, boolean modifyingStatement) {
     try (Connection conn = connection()) {
@@ -476,4 +497,23 @@ public abstract class JdbcPersistenceSpi implements PersistenceSpi {
   }
 
   abstract DataSource dataSource();
+
+  @Value.Default
+  int batchSize() {
+    return DEFAULT_BATCH_SIZE;
+  }
+
+  @Value.Default
+  boolean usePostgresCopy() {
+    return true;
+  }
+
+  @Value.Lazy
+  SqlDialect dialect() {
+    try (Connection conn = connection()) {
+      return SqlDialect.forConnection(conn);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
 }
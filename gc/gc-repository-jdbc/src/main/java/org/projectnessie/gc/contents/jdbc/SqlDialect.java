@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.contents.jdbc;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Database specific capabilities used to speed up bulk inserts, detected via {@link
+ * #forConnection(Connection)}.
+ */
+enum SqlDialect {
+  /** Databases that only support plain multi-row {@code INSERT ... VALUES} statements. */
+  GENERIC(false, false),
+  /** PostgreSQL supports {@code ON CONFLICT DO NOTHING} and {@code COPY FROM STDIN}. */
+  POSTGRESQL(true, true),
+  /**
+   * CockroachDB supports {@code ON CONFLICT DO NOTHING}, but temporary tables, which are needed for
+   * the {@code COPY} based bulk inserts, are an experimental feature.
+   */
+  COCKROACH(true, false);
+
+  private final boolean onConflictDoNothing;
+  private final boolean copyFromStdin;
+
+  SqlDialect(boolean onConflictDoNothing, boolean copyFromStdin) {
+    this.onConflictDoNothing = onConflictDoNothing;
+    this.copyFromStdin = copyFromStdin;
+  }
+
+  /**
+   * Whether {@code INSERT} statements can ignore duplicate rows via {@code ON CONFLICT DO NOTHING}.
+   */
+  boolean supportsOnConflictDoNothing() {
+    return onConflictDoNothing;
+  }
+
+  /** Whether bulk inserts can use {@code COPY ... FROM STDIN} via a temporary staging table. */
+  boolean supportsCopyFromStdin() {
+    return copyFromStdin;
+  }
+
+  static SqlDialect forConnection(Connection conn) throws SQLException {
+    DatabaseMetaData metaData = conn.getMetaData();
+    if (!"PostgreSQL".equalsIgnoreCase(metaData.getDatabaseProductName())) {
+      return GENERIC;
+    }
+    // CockroachDB uses the PostgreSQL wire protocol and JDBC driver, distinguishable via version()
+    try (Statement st = conn.createStatement();
+        ResultSet rs = st.executeQuery("SELECT version()")) {
+      if (rs.next() && rs.getString(1).contains("CockroachDB")) {
+        return COCKROACH;
+      }
+      return POSTGRESQL;
+    } finally {
+      if (!conn.getAutoCommit()) {
+        conn.rollback();
+      }
+    }
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.projectnessie.gc.contents.jdbc;
 
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -65,10 +66,11 @@ final class SqlDmlDdl {
           + "    modification_timestamp BIGINT, \n"
           + "    PRIMARY KEY (live_set_id, base_uri, path_uri))";
 
-  @Language("SQL")
-  static final String INSERT_FILE_DELETIONS =
-      "INSERT INTO gc_file_deletions \n"
-          + "    (live_set_id, base_uri, path_uri, modification_timestamp) VALUES (?, ?, ?, ?)";
+  static final BatchInsert INSERT_FILE_DELETIONS =
+      new BatchInsert(
+          "gc_file_deletions",
+          Arrays.asList("live_set_id", "base_uri", "path_uri", "modification_timestamp"),
+          new int[] {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BIGINT});
 
   @Language("SQL")
   static final String SELECT_FILE_DELETIONS =
@@ -150,11 +152,26 @@ final class SqlDmlDdl {
           + "    SET expire_finished = ?, set_status = ?, error_message = ? \n"
           + "    WHERE live_set_id = ? AND set_status = ?";
 
-  @Language("SQL")
-  static final String ADD_CONTENT =
-      "INSERT INTO gc_live_set_contents \n"
-          + "    (live_set_id, content_id, commit_id, content_key, content_type, metadata_location, snapshot_id) \n"
-          + "    VALUES (?, ?, ?, ?, ?, ?, ?)";
+  static final BatchInsert ADD_CONTENT =
+      new BatchInsert(
+          "gc_live_set_contents",
+          Arrays.asList(
+              "live_set_id",
+              "content_id",
+              "commit_id",
+              "content_key",
+              "content_type",
+              "metadata_location",
+              "snapshot_id"),
+          new int[] {
+            Types.VARCHAR,
+            Types.VARCHAR,
+            Types.VARCHAR,
+            Types.VARCHAR,
+            Types.VARCHAR,
+            Types.VARCHAR,
+            Types.BIGINT
+          });
 
   @Language("SQL")
   static final String SELECT_CONTENT_REFERENCES =
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.contents.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class TestBatchInsert {
+
+  @Test
+  void csvRows() {
+    StringBuilder csv = new StringBuilder();
+    BatchInsert.appendCsvRow(csv, new Object[] {"a", null, 42L, "", "quote\"d,value"});
+    BatchInsert.appendCsvRow(csv, new Object[] {"line\nbreak"});
+    assertThat(csv.toString())
+        .isEqualTo("\"a\",,42,\"\",\"quote\"\"d,value\"\n" + "\"line\nbreak\"\n");
+  }
+}
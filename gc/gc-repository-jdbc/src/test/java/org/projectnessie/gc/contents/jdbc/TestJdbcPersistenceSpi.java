@@ -51,6 +51,10 @@ public class TestJdbcPersistenceSpi extends AbstractPersistenceSpi {
     }
   }
 
+  static DataSource dataSource() {
+    return dataSource;
+  }
+
   @Override
   protected PersistenceSpi createPersistenceSpi() {
     return JdbcPersistenceSpi.builder().dataSource(dataSource).build();
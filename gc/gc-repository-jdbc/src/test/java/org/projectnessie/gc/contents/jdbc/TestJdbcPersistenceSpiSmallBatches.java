@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.gc.contents.jdbc;
+
+import org.projectnessie.gc.contents.spi.PersistenceSpi;
+
+/**
+ * Runs the persistence tests with a tiny batch size, so that multi-row inserts, partial last
+ * batches and the row-by-row fallback for duplicates are exercised.
+ */
+public class TestJdbcPersistenceSpiSmallBatches extends TestJdbcPersistenceSpi {
+
+  @Override
+  protected PersistenceSpi createPersistenceSpi() {
+    return JdbcPersistenceSpi.builder().dataSource(dataSource()).batchSize(3).build();
+  }
+}
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.Map;
 import javax.sql.DataSource;
 import org.projectnessie.gc.contents.jdbc.AgroalJdbcDataSourceProvider;
+import org.projectnessie.gc.contents.jdbc.JdbcPersistenceSpi;
 import picocli.CommandLine;
 
 public class JdbcOptions {
@@ -40,6 +41,21 @@ public class JdbcOptions {
       split = ",")
   Map<String, String> properties = new HashMap<>();
 
+  @CommandLine.Option(
+      names = "--jdbc-batch-size",
+      description =
+          "Number of rows written per multi-row INSERT statement or per COPY chunk, defaults to "
+              + JdbcPersistenceSpi.DEFAULT_BATCH_SIZE
+              + ".",
+      defaultValue = "" + JdbcPersistenceSpi.DEFAULT_BATCH_SIZE)
+  int batchSize;
+
+  @CommandLine.Option(
+      names = "--jdbc-disable-postgres-copy",
+      description =
+          "Disable bulk inserts via COPY FROM STDIN for PostgreSQL, use multi-row INSERT statements instead.")
+  boolean disablePostgresCopy;
+
   public DataSource createDataSource() throws SQLException {
     AgroalJdbcDataSourceProvider.Builder jdbcDsBuilder =
         AgroalJdbcDataSourceProvider.builder().jdbcUrl(url);
@@ -51,6 +67,14 @@ public class JdbcOptions {
     return dataSourceProvider.dataSource();
   }
 
+  public JdbcPersistenceSpi createPersistenceSpi(DataSource dataSource) {
+    return JdbcPersistenceSpi.builder()
+        .dataSource(dataSource)
+        .batchSize(batchSize)
+        .usePostgresCopy(!disablePostgresCopy)
+        .build();
+  }
+
   static class JdbcUserPassword {
 
     @CommandLine.Option(
@@ -18,7 +18,6 @@ package org.projectnessie.gc.tool.cli.options;
 import javax.sql.DataSource;
 import org.projectnessie.gc.contents.LiveContentSetsRepository;
 import org.projectnessie.gc.contents.inmem.InMemoryPersistenceSpi;
-import org.projectnessie.gc.contents.jdbc.JdbcPersistenceSpi;
 import org.projectnessie.gc.contents.spi.PersistenceSpi;
 import org.projectnessie.gc.tool.cli.Closeables;
 import picocli.CommandLine;
@@ -78,6 +77,6 @@ public class LiveContentSetsStorageOptions {
   private PersistenceSpi createJdbcPersistenceSpi(Closeables closeables, JdbcOptions jdbc)
       throws Exception {
     DataSource dataSource = closeables.maybeAdd(jdbc.createDataSource());
-    return JdbcPersistenceSpi.builder().dataSource(dataSource).build();
+    return jdbc.createPersistenceSpi(dataSource);
   }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.api.v2;
+
+import java.util.concurrent.CompletionStage;
+import javax.annotation.Nullable;
+import org.projectnessie.model.RepositoryEventsResponse;
+
+public interface EventsApi {
+
+  // Note: When substantial changes in Nessie API (this and related interfaces) are made
+  // the API version number reported by NessieConfiguration.getMaxSupportedApiVersion()
+  // should be increased as well.
+
+  /**
+   * Retrieves repository events, waiting up to {@code waitMillis} for new events, if there are no
+   * events after the requested position (long-poll).
+   *
+   * <p>A client starts reading without a stream ID and position, which returns only events that
+   * happen after the request. Subsequent requests pass the stream ID and next position of the
+   * previous response to resume reading. If events between the requested position and the
+   * returned events are not available anymore, the response has the {@link
+   * RepositoryEventsResponse#isEventsLost() events-lost flag} set.
+   *
+   * <p>Events are kept in memory by each server instance, which has its own stream. If a request
+   * reaches another server instance than the previous request, the response is from that
+   * instance's stream and has the events-lost flag set. Events that happened on other server
+   * instances are not returned.
+   *
+   * <p>The returned stage completes when events are available or the wait time elapsed, the server
+   * does not block a request thread while waiting.
+   *
+   * @param streamId stream ID returned by a previous response, if any
+   * @param position position to read from, usually the next position returned by a previous
+   *     response, if absent only new events are returned
+   * @param maxEvents maximum number of events to return, capped by the server
+   * @param waitMillis maximum time to wait for events, capped by the server
+   */
+  CompletionStage<RepositoryEventsResponse> getEvents(
+      @Nullable String streamId,
+      @Nullable Long position,
+      @Nullable Integer maxEvents,
+      @Nullable Integer waitMillis);
+}
@@ -134,6 +134,13 @@ public interface ApiDoc {
 
   String FETCH_ADDITION_INFO_DESCRIPTION = "Whether to provide optional response data.\n";
 
+  String MERGE_PLAN_TOKEN_DESCRIPTION =
+      "Optional token returned by a previous, conflict-free dry-run merge request with the same "
+          + "parameters.\n"
+          + "\n"
+          + "If the HEAD of the target branch did not change since the dry-run, the server can skip "
+          + "the re-analysis of the merge. Unknown or outdated tokens are ignored.";
+
   String RETURN_CONFLICTS_AS_RESULT_DESCRIPTION =
       "When set to 'true' instructs the server to produce normal (non-error) responses in case a conflict is "
           + "detected and report conflict details in the response payload.";
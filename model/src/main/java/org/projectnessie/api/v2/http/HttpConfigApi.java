@@ -15,6 +15,8 @@
  */
 package org.projectnessie.api.v2.http;
 
+import static org.projectnessie.api.v2.http.NessieMediaTypes.APPLICATION_SMILE_LOW_QS;
+
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
@@ -35,7 +37,7 @@ public interface HttpConfigApi extends ConfigApi {
 
   @Override
   @GET
-  @Produces(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
   @Operation(
       summary = "Returns repository and server settings relevant to clients.",
       operationId = "getConfigV2")
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.api.v2.http;
+
+import static org.projectnessie.api.v2.http.NessieMediaTypes.APPLICATION_SMILE_LOW_QS;
+
+import java.util.concurrent.CompletionStage;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.projectnessie.api.v2.EventsApi;
+import org.projectnessie.model.RepositoryEventsResponse;
+
+@Path("v2/events")
+@Tag(name = "v2-beta")
+public interface HttpEventsApi extends EventsApi {
+
+  @Override
+  @GET
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
+  @Operation(
+      summary = "Retrieve repository events, waiting for new events if there are none (long-poll)",
+      description =
+          "Returns the events after the given position of the given event stream. If there are no "
+              + "such events, the request waits until events happen or 'wait-millis' elapsed.\n"
+              + "\n"
+              + "Omit 'stream-id' and 'position' to start reading at the end of the stream. "
+              + "Pass the 'streamId' and 'nextPosition' values of the response to the next request "
+              + "to resume reading. If the requested events are no longer available, for example "
+              + "because the server restarted, the 'eventsLost' flag of the response is set.\n"
+              + "\n"
+              + "Events are kept in memory by each Nessie server instance. If a request reaches "
+              + "another instance than the previous request, for example behind a load balancer, "
+              + "the response is from that instance's event stream and has the 'eventsLost' flag "
+              + "set. Events that happened on other instances are not returned.",
+      operationId = "getEventsV2")
+  @APIResponses({
+    @APIResponse(
+        responseCode = "200",
+        description = "Repository events",
+        content =
+            @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = RepositoryEventsResponse.class))),
+    @APIResponse(responseCode = "401", description = "Invalid credentials provided"),
+    @APIResponse(responseCode = "403", description = "Not allowed to view repository events"),
+  })
+  CompletionStage<RepositoryEventsResponse> getEvents(
+      @Parameter(description = "Stream ID returned by a previous response.")
+          @QueryParam("stream-id")
+          String streamId,
+      @Parameter(description = "Position to read from, 'nextPosition' of a previous response.")
+          @QueryParam("position")
+          Long position,
+      @Parameter(description = "Maximum number of events to return.") @QueryParam("max-events")
+          Integer maxEvents,
+      @Parameter(description = "Maximum time in milliseconds to wait for new events.")
+          @QueryParam("wait-millis")
+          Integer waitMillis);
+}
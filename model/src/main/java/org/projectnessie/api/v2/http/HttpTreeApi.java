@@ -23,6 +23,9 @@ import static org.projectnessie.api.v2.doc.ApiDoc.KEY_PARAMETER_DESCRIPTION;
 import static org.projectnessie.api.v2.doc.ApiDoc.PAGING_INFO;
 import static org.projectnessie.api.v2.doc.ApiDoc.REF_NAME_DESCRIPTION;
 import static org.projectnessie.api.v2.doc.ApiDoc.REF_PARAMETER_DESCRIPTION;
+import static org.projectnessie.api.v2.http.NessieMediaTypes.APPLICATION_NDJSON_LOW_QS;
+import static org.projectnessie.api.v2.http.NessieMediaTypes.APPLICATION_SMILE;
+import static org.projectnessie.api.v2.http.NessieMediaTypes.APPLICATION_SMILE_LOW_QS;
 import static org.projectnessie.model.Validation.REF_NAME_PATH_ELEMENT_REGEX;
 
 import com.fasterxml.jackson.annotation.JsonView;
@@ -38,6 +41,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.ExampleObject;
@@ -72,14 +76,14 @@ import org.projectnessie.model.ReferencesResponse;
 import org.projectnessie.model.SingleReferenceResponse;
 import org.projectnessie.model.ser.Views;
 
-@Consumes(value = MediaType.APPLICATION_JSON)
+@Consumes({MediaType.APPLICATION_JSON, APPLICATION_SMILE})
 @Path("v2/trees")
 @Tag(name = "v2-beta")
 public interface HttpTreeApi extends TreeApi {
 
   @Override
   @GET
-  @Produces(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
   @Operation(
       summary = "Get information about all branches and tags",
       operationId = "getAllReferencesV2")
@@ -100,9 +104,19 @@ public interface HttpTreeApi extends TreeApi {
   @JsonView(Views.V2.class)
   ReferencesResponse getAllReferences(@BeanParam ReferencesParams params);
 
+  /**
+   * Streaming variant of {@link #getAllReferences(ReferencesParams)}, returns all references as
+   * newline delimited JSON, ignores the paging parameters.
+   */
+  @GET
+  @Produces(APPLICATION_NDJSON_LOW_QS)
+  @Operation(hidden = true)
+  @JsonView(Views.V2.class)
+  StreamingOutput streamAllReferences(@BeanParam ReferencesParams params);
+
   @Override
   @POST
-  @Produces(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
   @Operation(
       summary = "Create a new branch or tag",
       description =
@@ -154,7 +168,7 @@ public interface HttpTreeApi extends TreeApi {
 
   @Override
   @GET
-  @Produces(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
   @Path("{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}")
   @Operation(summary = "Fetch details of a reference", operationId = "getReferenceByNameV2")
   @APIResponses({
@@ -178,7 +192,7 @@ public interface HttpTreeApi extends TreeApi {
 
   @Override
   @GET
-  @Produces(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
   @Path("{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}/entries")
   @Operation(
       summary = "Fetch all entries for a given reference",
@@ -229,9 +243,21 @@ public interface HttpTreeApi extends TreeApi {
       @BeanParam EntriesParams params)
       throws NessieNotFoundException;
 
+  /**
+   * Streaming variant of {@link #getEntries(String, EntriesParams)}, returns all entries as newline
+   * delimited JSON, ignores the paging parameters.
+   */
+  @GET
+  @Produces(APPLICATION_NDJSON_LOW_QS)
+  @Path("{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}/entries")
+  @Operation(hidden = true)
+  @JsonView(Views.V2.class)
+  StreamingOutput streamEntries(@PathParam("ref") String ref, @BeanParam EntriesParams params)
+      throws NessieNotFoundException;
+
   @Override
   @GET
-  @Produces(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
   @Path("{ref}/history")
   @Operation(
       summary = "Get commit log for a particular reference",
@@ -286,9 +312,22 @@ public interface HttpTreeApi extends TreeApi {
       @BeanParam CommitLogParams params)
       throws NessieNotFoundException;
 
+  /**
+   * Streaming variant of {@link #getCommitLog(String, CommitLogParams)}, returns the log entries as
+   * newline delimited JSON. The 'max-records' parameter limits the total number of returned log
+   * entries, the 'page-token' parameter can be used to resume a previous listing.
+   */
+  @GET
+  @Produces(APPLICATION_NDJSON_LOW_QS)
+  @Path("{ref}/history")
+  @Operation(hidden = true)
+  @JsonView(Views.V2.class)
+  StreamingOutput streamCommitLog(@PathParam("ref") String ref, @BeanParam CommitLogParams params)
+      throws NessieNotFoundException;
+
   @Override
   @GET
-  @Produces(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
   @Path(
       "{from-ref:"
           + REF_NAME_PATH_ELEMENT_REGEX
@@ -330,7 +369,7 @@ public interface HttpTreeApi extends TreeApi {
 
   @Override
   @PUT
-  @Produces(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
   @Path("{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}")
   @Operation(
       summary = "Set a named reference to a specific hash via another reference.",
@@ -380,7 +419,7 @@ public interface HttpTreeApi extends TreeApi {
 
   @Override
   @DELETE
-  @Produces(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
   @Path("{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}")
   @Operation(
       summary = "Delete a reference",
@@ -415,7 +454,7 @@ public interface HttpTreeApi extends TreeApi {
 
   @Override
   @GET
-  @Produces(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
   @Path("{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}/contents/{key}")
   @Operation(
       summary = "Get the content object associated with a key.",
@@ -458,7 +497,7 @@ public interface HttpTreeApi extends TreeApi {
       throws NessieNotFoundException;
 
   @GET
-  @Produces(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
   @Path("{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}/contents")
   @Operation(
       summary = "Get multiple content objects.",
@@ -497,8 +536,8 @@ public interface HttpTreeApi extends TreeApi {
 
   @Override
   @POST
-  @Produces(MediaType.APPLICATION_JSON)
-  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
+  @Consumes({MediaType.APPLICATION_JSON, APPLICATION_SMILE})
   @Path("{ref:" + REF_NAME_PATH_ELEMENT_REGEX + "}/contents")
   @Operation(
       summary = "Get multiple content objects.",
@@ -547,7 +586,7 @@ public interface HttpTreeApi extends TreeApi {
 
   @Override
   @POST
-  @Produces(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
   @Path("{branch}/history/transplant")
   @Operation(
       summary =
@@ -604,7 +643,7 @@ public interface HttpTreeApi extends TreeApi {
 
   @Override
   @POST
-  @Produces(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
   @Path("{branch}/history/merge")
   @Operation(
       summary = "Merge commits from another reference onto 'branch'.",
@@ -666,8 +705,8 @@ public interface HttpTreeApi extends TreeApi {
   @Override
   @POST
   @Path("{branch}/history/commit")
-  @Produces(MediaType.APPLICATION_JSON)
-  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, APPLICATION_SMILE_LOW_QS})
+  @Consumes({MediaType.APPLICATION_JSON, APPLICATION_SMILE})
   @Operation(
       summary = "Commit one or more operations against the given 'branch'.",
       description =
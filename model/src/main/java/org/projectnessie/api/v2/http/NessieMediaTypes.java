@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.api.v2.http;
+
+/** Media types supported by the Nessie REST API in addition to {@code application/json}. */
+public final class NessieMediaTypes {
+
+  private NessieMediaTypes() {}
+
+  /**
+   * Newline delimited JSON, each line contains exactly one JSON object. Used by the listing
+   * endpoints of the tree API to stream all result elements instead of returning pages.
+   */
+  public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+  /**
+   * {@link #APPLICATION_NDJSON} with a lower server-side quality, so that requests accepting any
+   * media type keep receiving {@code application/json}. Only used in {@code @Produces}.
+   */
+  public static final String APPLICATION_NDJSON_LOW_QS = APPLICATION_NDJSON + ";qs=0.5";
+
+  /**
+   * Jackson's binary JSON encoding Smile, which is more compact and faster to parse than textual
+   * JSON.
+   */
+  public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+  /**
+   * {@link #APPLICATION_SMILE} with a lower server-side quality, so that requests accepting any
+   * media type keep receiving {@code application/json}. Only used in {@code @Produces}.
+   */
+  public static final String APPLICATION_SMILE_LOW_QS = APPLICATION_SMILE + ";qs=0.9";
+}
@@ -20,6 +20,7 @@ import static org.projectnessie.api.v2.doc.ApiDoc.DRY_RUN_DESCRIPTION;
 import static org.projectnessie.api.v2.doc.ApiDoc.FETCH_ADDITION_INFO_DESCRIPTION;
 import static org.projectnessie.api.v2.doc.ApiDoc.FROM_REF_NAME_DESCRIPTION;
 import static org.projectnessie.api.v2.doc.ApiDoc.KEY_MERGE_MODES_DESCRIPTION;
+import static org.projectnessie.api.v2.doc.ApiDoc.MERGE_PLAN_TOKEN_DESCRIPTION;
 import static org.projectnessie.api.v2.doc.ApiDoc.RETURN_CONFLICTS_AS_RESULT_DESCRIPTION;
 import static org.projectnessie.model.Validation.validateHash;
 
@@ -62,6 +63,7 @@ import org.projectnessie.model.Validation;
       @SchemaProperty(
           name = "returnConflictAsResult",
           description = RETURN_CONFLICTS_AS_RESULT_DESCRIPTION),
+      @SchemaProperty(name = "mergePlanToken", description = MERGE_PLAN_TOKEN_DESCRIPTION),
     })
 @Value.Immutable
 @JsonSerialize(as = ImmutableMerge.class)
@@ -77,6 +79,9 @@ public interface Merge extends BaseMergeTransplant {
   @Pattern(regexp = Validation.HASH_REGEX, message = Validation.HASH_MESSAGE)
   String getFromHash();
 
+  @Nullable
+  String getMergePlanToken();
+
   /**
    * Validation rule using {@link org.projectnessie.model.Validation#validateHash(String)}
    * (String)}.
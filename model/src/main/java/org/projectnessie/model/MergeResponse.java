@@ -15,6 +15,9 @@
  */
 package org.projectnessie.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonView;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.util.List;
@@ -23,6 +26,7 @@ import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.immutables.value.Value;
 import org.projectnessie.model.LogResponse.LogEntry;
+import org.projectnessie.model.ser.Views;
 
 @Schema(type = SchemaType.OBJECT, title = "Merge Response")
 @Value.Immutable
@@ -71,6 +75,15 @@ public interface MergeResponse {
   /** Details of all keys encountered during the merge or transplant operation. */
   List<ContentKeyDetails> getDetails();
 
+  /**
+   * Token for a successful dry-run merge. A later merge request with the same parameters can pass
+   * it to let the server skip the re-analysis of the merge, if the target branch did not change.
+   */
+  @Nullable
+  @JsonInclude(Include.NON_NULL)
+  @JsonView(Views.V2.class)
+  String getMergePlanToken();
+
   @Schema(type = SchemaType.OBJECT, title = "Merge Per-Content-Key details")
   @Value.Immutable
   @JsonSerialize(as = ImmutableContentKeyDetails.class)
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.List;
+import javax.annotation.Nullable;
+import javax.validation.constraints.NotNull;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.immutables.value.Value;
+
+/**
+ * A change in the Nessie repository, as returned by the repository events endpoint. Events are
+ * meant to let clients, for example caches, react to changes without polling references or commit
+ * logs.
+ */
+@Schema(type = SchemaType.OBJECT, title = "Repository Event")
+@Value.Immutable
+@JsonSerialize(as = ImmutableRepositoryEvent.class)
+@JsonDeserialize(as = ImmutableRepositoryEvent.class)
+public interface RepositoryEvent {
+
+  static ImmutableRepositoryEvent.Builder builder() {
+    return ImmutableRepositoryEvent.builder();
+  }
+
+  /** Position of this event in the server's event stream, strictly increasing per stream. */
+  long getPosition();
+
+  @NotNull
+  Type getType();
+
+  /** Time when the event happened in microseconds since epoch. */
+  long getEventTimeMicros();
+
+  /** Name of the affected reference, absent for repository-wide events. */
+  @Nullable
+  @JsonInclude(Include.NON_NULL)
+  String getReferenceName();
+
+  /** Type of the affected reference, absent for repository-wide events. */
+  @Nullable
+  @JsonInclude(Include.NON_NULL)
+  Reference.ReferenceType getReferenceType();
+
+  /**
+   * Commit-ID of the affected reference after the operation. For deleted references this is the
+   * last commit-ID of the reference.
+   */
+  @Nullable
+  @JsonInclude(Include.NON_NULL)
+  String getHash();
+
+  /** Commit-ID of the target branch before a commit, merge or transplant operation. */
+  @Nullable
+  @JsonInclude(Include.NON_NULL)
+  String getPreviousHash();
+
+  /** Commit-IDs written by a commit, merge or transplant operation. */
+  @JsonInclude(Include.NON_EMPTY)
+  List<String> getCommitHashes();
+
+  enum Type {
+    COMMIT,
+    MERGE,
+    TRANSPLANT,
+    REFERENCE_CREATED,
+    REFERENCE_DELETED,
+    REFERENCE_ASSIGNED,
+    REPOSITORY_INITIALIZED,
+    REPOSITORY_ERASED
+  }
+}
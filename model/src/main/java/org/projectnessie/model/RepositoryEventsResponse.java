@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.List;
+import javax.validation.constraints.NotNull;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.immutables.value.Value;
+
+@Schema(type = SchemaType.OBJECT, title = "Repository Events Response")
+@Value.Immutable
+@JsonSerialize(as = ImmutableRepositoryEventsResponse.class)
+@JsonDeserialize(as = ImmutableRepositoryEventsResponse.class)
+public interface RepositoryEventsResponse {
+
+  static ImmutableRepositoryEventsResponse.Builder builder() {
+    return ImmutableRepositoryEventsResponse.builder();
+  }
+
+  /**
+   * Identifies the server's event stream. Positions are only meaningful within the same stream, the
+   * stream ID changes for example when the server restarts.
+   */
+  @NotNull
+  String getStreamId();
+
+  /** Position to pass to the next request to resume reading events after the returned ones. */
+  long getNextPosition();
+
+  /**
+   * Indicates that events between the requested position and the returned events are no longer
+   * available, because the requested position was from a different stream or too old. Clients that
+   * maintain state derived from events, like caches, should discard that state.
+   */
+  @Value.Default
+  default boolean isEventsLost() {
+    return false;
+  }
+
+  @NotNull
+  List<RepositoryEvent> getEvents();
+}
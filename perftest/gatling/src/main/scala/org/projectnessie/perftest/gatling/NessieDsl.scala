@@ -15,6 +15,9 @@
  */
 package org.projectnessie.perftest.gatling
 
+import io.gatling.core.Predef.randomSwitchOrElse
+import io.gatling.core.structure.ChainBuilder
+
 /** All Nessie performance tests start from the `NessieDsl.nessie`
   * [[NessieProtocolBuilder]].
   */
@@ -29,4 +32,37 @@ trait NessieDsl {
     *   action builder
     */
   def nessie(tag: String): NessieActionBuilder = NessieActionBuilder(tag)
+
+  /** Build a chain that executes one of the given operations, chosen randomly
+    * according to the weights of the given workload mix. Use it inside a loop
+    * to simulate a workload with a configurable mix of operations. Gatling
+    * reports latency percentiles per action, so each operation should use
+    * distinct action tags.
+    *
+    * @param mix
+    *   the weights of the operations
+    * @param operations
+    *   chains implementing the operations referenced by the workload mix
+    * @return
+    *   chain builder
+    */
+  def workloadMix(
+      mix: WorkloadMix,
+      operations: Map[String, ChainBuilder]
+  ): ChainBuilder = {
+    val unknown = mix.operations.filterNot(operations.contains)
+    require(
+      unknown.isEmpty,
+      s"Unknown operations in workload mix: ${unknown.mkString(", ")}, " +
+        s"available operations: ${operations.keys.toSeq.sorted.mkString(", ")}"
+    )
+
+    val chains = mix.percentages.map { case (op, pct) => (pct, operations(op)) }
+    if (chains.size == 1) {
+      chains.head._2
+    } else {
+      // the last operation gets the remaining share, avoids rounding issues
+      randomSwitchOrElse(chains.init: _*)(chains.last._2)
+    }
+  }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.perftest.gatling
+
+/** Relative weights of the operations of a mixed workload, used with
+  * [[NessieDsl.workloadMix]] to pick the operation of each iteration of a
+  * scenario randomly.
+  *
+  * @param weights
+  *   operation names and their relative weights, weights do not need to sum up
+  *   to `100`, operations with a weight of `0` are never executed
+  */
+case class WorkloadMix(weights: Seq[(String, Double)]) {
+  require(weights.nonEmpty, "Workload mix must contain at least one operation")
+  require(
+    weights.forall(_._2 >= 0d),
+    s"Workload mix weights must not be negative: $this"
+  )
+  require(
+    weights.map(_._2).sum > 0d,
+    "Workload mix must contain at least one operation with a positive weight"
+  )
+
+  /** Names of all operations in this mix. */
+  def operations: Seq[String] = weights.map(_._1)
+
+  /** Operations with a positive weight and their share in percent. */
+  def percentages: Seq[(String, Double)] = {
+    val total = weights.map(_._2).sum
+    weights.filter(_._2 > 0d).map { case (op, w) => (op, w * 100d / total) }
+  }
+
+  def asPrintableString(): String =
+    percentages.map { case (op, pct) => f"$op=$pct%.1f%%" }.mkString(", ")
+}
+
+object WorkloadMix {
+
+  /** Parses a workload mix in the form `op1=weight1,op2=weight2,...` or returns
+    * the profile with the given name.
+    *
+    * @param spec
+    *   name of a profile or the comma separated list of operations and weights
+    * @param profiles
+    *   named profiles
+    */
+  def parse(
+      spec: String,
+      profiles: Map[String, WorkloadMix] = Map.empty
+  ): WorkloadMix =
+    profiles.getOrElse(
+      spec.trim,
+      WorkloadMix(
+        spec
+          .split(',')
+          .map(_.trim)
+          .filter(_.nonEmpty)
+          .map { entry =>
+            val eq = entry.indexOf('=')
+            require(
+              eq > 0,
+              s"Invalid workload mix entry '$entry', expected 'op=weight'"
+            )
+            (entry.substring(0, eq).trim, entry.substring(eq + 1).trim.toDouble)
+          }
+          .toSeq
+      )
+    )
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.perftest.gatling
+
+/** Parameters for the [[MixedWorkloadSimulation]].
+  *
+  * @param branch
+  *   The Nessie branch name to use, the default include the current wall-clock
+  *   in ms since epoch. System property: `sim.branch`, defaults to
+  *   `s"mixed-${System.currentTimeMillis()}"`.
+  * @param mix
+  *   The workload mix, either the name of a profile defined in
+  *   [[MixedWorkloadParams.profiles]] or a comma separated list of
+  *   `operation=weight` pairs, see [[WorkloadMix.parse]]. System property:
+  *   `sim.mix`, defaults to `read-heavy`.
+  * @param numTables
+  *   The number of tables created on the branch before the simulation starts,
+  *   read operations choose random tables. System property: `sim.tables`,
+  *   defaults to `100`.
+  * @param keysPerRequest
+  *   The number of keys requested by each `getMultipleContents` operation.
+  *   System property: `sim.keysPerRequest`, defaults to `10`.
+  * @param pageSize
+  *   The page size used for the entries, commit-log and references operations.
+  *   System property: `sim.pageSize`, defaults to `20`.
+  * @param commitLogPages
+  *   The maximum number of pages read by each `getCommitLog` operation. System
+  *   property: `sim.commitLogPages`, defaults to `3`.
+  * @param numberOfOperations
+  *   The number of operations to perform per user, `0` means endless or until
+  *   the maximum duration ([[durationSeconds]]) has elapsed. System property:
+  *   `sim.operations`, defaults to `1000`.
+  * @param durationSeconds
+  *   The runtime duration of the simulations in seconds, `0` means until the
+  *   specified number of operations ([[numberOfOperations]]) have been
+  *   performed. System property: `sim.duration.seconds`, defaults to `0`.
+  * @param numUsers
+  *   see [[BaseParams.numUsers]]
+  * @param opRate
+  *   see [[BaseParams.opRate]]
+  * @param note
+  *   see [[BaseParams.note]]
+  */
+case class MixedWorkloadParams(
+    branch: String,
+    mix: WorkloadMix,
+    numTables: Int,
+    keysPerRequest: Int,
+    pageSize: Int,
+    commitLogPages: Int,
+    numberOfOperations: Int,
+    durationSeconds: Int,
+    override val numUsers: Int,
+    override val opRate: Double,
+    override val note: String
+) extends BaseParams {
+
+  override def asPrintableString(): String = {
+    s"""${super.asPrintableString().trim}
+    |   branch-name:    $branch
+    |   workload-mix:   ${mix.asPrintableString()}
+    |   num-tables:     $numTables
+    |   keys/request:   $keysPerRequest
+    |   page-size:      $pageSize
+    |   log-pages:      $commitLogPages
+    |   num-operations: $numberOfOperations
+    |   duration:       $durationSeconds
+    |""".stripMargin
+  }
+}
+
+object MixedWorkloadParams {
+
+  /** Operation names usable in workload mixes, see [[MixedWorkloadSimulation]]
+    * for what each operation does.
+    */
+  val GetContent = "getContent"
+  val GetContentAtHash = "getContentAtHash"
+  val GetMultipleContents = "getMultipleContents"
+  val GetEntries = "getEntries"
+  val GetCommitLog = "getCommitLog"
+  val GetReferences = "getReferences"
+  val Commit = "commit"
+  val Merge = "merge"
+
+  /** Predefined workload mixes, `read-heavy` resembles typical production
+    * traffic with 95% reads, `mixed` adds substantial write traffic.
+    */
+  val profiles: Map[String, WorkloadMix] = Map(
+    "read-heavy" -> WorkloadMix(
+      Seq(
+        GetContent -> 40d,
+        GetContentAtHash -> 10d,
+        GetMultipleContents -> 15d,
+        GetEntries -> 10d,
+        GetCommitLog -> 10d,
+        GetReferences -> 10d,
+        Commit -> 4d,
+        Merge -> 1d
+      )
+    ),
+    "mixed" -> WorkloadMix(
+      Seq(
+        GetContent -> 25d,
+        GetContentAtHash -> 5d,
+        GetMultipleContents -> 10d,
+        GetEntries -> 10d,
+        GetCommitLog -> 10d,
+        GetReferences -> 10d,
+        Commit -> 25d,
+        Merge -> 5d
+      )
+    )
+  )
+
+  def fromSystemProperties(): MixedWorkloadParams = {
+    val branch: String =
+      System.getProperty("sim.branch", s"mixed-${System.currentTimeMillis()}")
+    val mix: WorkloadMix =
+      WorkloadMix.parse(System.getProperty("sim.mix", "read-heavy"), profiles)
+    val numTables: Int = Integer.getInteger("sim.tables", 100)
+    val keysPerRequest: Int = Integer.getInteger("sim.keysPerRequest", 10)
+    val pageSize: Int = Integer.getInteger("sim.pageSize", 20)
+    val commitLogPages: Int = Integer.getInteger("sim.commitLogPages", 3)
+    val numberOfOperations: Int = Integer.getInteger("sim.operations", 1000)
+    val durationSeconds: Int =
+      Integer.getInteger("sim.duration.seconds", 0).toInt
+    val base = BaseParams.fromSystemProperties()
+
+    MixedWorkloadParams(
+      branch,
+      mix,
+      numTables,
+      keysPerRequest,
+      pageSize,
+      commitLogPages,
+      numberOfOperations,
+      durationSeconds,
+      base.numUsers,
+      base.opRate,
+      base.note
+    )
+  }
+}
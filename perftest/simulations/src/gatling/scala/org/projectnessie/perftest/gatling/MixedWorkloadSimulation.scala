@@ -0,0 +1,396 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.perftest.gatling
+
+import io.gatling.core.Predef._
+import io.gatling.core.scenario.Simulation
+import io.gatling.core.structure.{ChainBuilder, ScenarioBuilder}
+import org.projectnessie.client.api.NessieApiV1
+import org.projectnessie.client.http.HttpClientBuilder
+import org.projectnessie.error.NessieReferenceConflictException
+import org.projectnessie.model.Operation.Put
+import org.projectnessie.model._
+import org.projectnessie.perftest.gatling.MixedWorkloadParams._
+import org.projectnessie.perftest.gatling.Predef.{nessie, workloadMix}
+
+import java.util.concurrent.ThreadLocalRandom
+import scala.concurrent.duration.{FiniteDuration, HOURS, NANOSECONDS, SECONDS}
+import scala.jdk.CollectionConverters._
+
+/** Simulates a configurable mix of read and write operations against a single
+  * branch, see [[MixedWorkloadParams]] for the configurables.
+  *
+  * Before the simulation starts, the branch is created with
+  * [[MixedWorkloadParams.numTables]] tables. Each iteration of a simulated user
+  * then executes one operation, chosen randomly according to the
+  * [[MixedWorkloadParams.mix]]:
+  *   - `getContent` reads a random table at the HEAD of the branch
+  *   - `getContentAtHash` reads a random table at a random, older commit
+  *   - `getMultipleContents` reads multiple random tables in one request
+  *   - `getEntries` lists the first page of entries
+  *   - `getCommitLog` reads multiple pages of the commit log using a filter
+  *   - `getReferences` lists references including the ahead/behind information
+  *   - `commit` updates a table owned by the simulated user on the branch
+  *   - `merge` commits to a branch owned by the simulated user and merges it
+  *     into the branch, concurrently to the commits of other users
+  *
+  * Gatling reports the latency percentiles for each operation separately.
+  */
+class MixedWorkloadSimulation extends Simulation {
+
+  val params: MixedWorkloadParams = MixedWorkloadParams.fromSystemProperties()
+
+  private val namespace = "mixed"
+
+  /** CEL filter used by the `getCommitLog` operation, matches all commits
+    * created by this simulation.
+    */
+  private val commitLogFilter = s"commit.message.startsWith('$namespace ')"
+
+  private def tableKey(i: Int): ContentKey =
+    ContentKey.of(namespace, s"table_$i")
+
+  private def randomTableKey(): ContentKey =
+    tableKey(ThreadLocalRandom.current().nextInt(params.numTables))
+
+  private def workBranchName(session: Session): String =
+    s"${params.branch}-work-${session.userId}"
+
+  /** Returns the table from the session, if it has a content ID, otherwise
+    * fetches the table from Nessie.
+    */
+  private def currentTable(
+      client: NessieApiV1,
+      session: Session,
+      attribute: String,
+      reference: Reference,
+      key: ContentKey
+  ): Option[IcebergTable] =
+    session(attribute)
+      .asOption[IcebergTable]
+      .filter(_.getId != null)
+      .orElse(
+        Option(client.getContent.reference(reference).key(key).get().get(key))
+          .map(_.asInstanceOf[IcebergTable])
+      )
+
+  /** Commits a new version of the given table, returns the updated branch and
+    * the committed table.
+    */
+  private def commitTable(
+      client: NessieApiV1,
+      branch: Branch,
+      key: ContentKey,
+      existing: Option[IcebergTable],
+      message: String
+  ): (Branch, IcebergTable) = {
+    val metadataLocation = s"metadata_${System.nanoTime()}"
+    val table = existing
+      .map(t =>
+        ImmutableIcebergTable.builder
+          .from(t)
+          .metadataLocation(metadataLocation)
+          .build(): IcebergTable
+      )
+      .getOrElse(IcebergTable.of(metadataLocation, 42, 43, 44, 45))
+
+    val updatedBranch = client
+      .commitMultipleOperations()
+      .branch(branch)
+      .commitMeta(CommitMeta.fromMessage(message))
+      .operation(Put.of(key, table, existing.orNull))
+      .commit()
+
+    (updatedBranch, table)
+  }
+
+  /** Creates the branch and the tables, unless the branch already exists. */
+  before {
+    val client = HttpClientBuilder
+      .builder()
+      .fromSystemProperties()
+      .build(classOf[NessieApiV1])
+    try {
+      val defaultBranch = client.getDefaultBranch
+      val branch = client
+        .createReference()
+        .sourceRefName(defaultBranch.getName)
+        .reference(Branch.of(params.branch, defaultBranch.getHash))
+        .create()
+        .asInstanceOf[Branch]
+
+      val puts: Seq[Operation] = (0 until params.numTables).map { i =>
+        val table = IcebergTable.of(s"metadata_seed_$i", 42, 43, 44, 45)
+        Put.of(tableKey(i), table)
+      }
+      client
+        .commitMultipleOperations()
+        .branch(branch)
+        .commitMeta(CommitMeta.fromMessage(s"$namespace seed tables"))
+        .operations(puts.asJava)
+        .commit()
+    } catch {
+      case _: NessieReferenceConflictException =>
+        System.out.println(s"Using existing branch ${params.branch}")
+    } finally {
+      client.close()
+    }
+  }
+
+  /** Fetches the branch and commit hashes for `getContentAtHash` and creates
+    * the simulated user's work branch for the `merge` operation.
+    */
+  private def setupUser: ChainBuilder =
+    exec(
+      nessie("Setup user")
+        .execute { (client, session) =>
+          val branch = client.getReference
+            .refName(params.branch)
+            .get()
+            .asInstanceOf[Branch]
+          val hashes = client.getCommitLog
+            .reference(branch)
+            .maxRecords(100)
+            .get()
+            .getLogEntries
+            .asScala
+            .map(_.getCommitMeta.getHash)
+            .toSeq
+          val workBranch =
+            try {
+              client
+                .createReference()
+                .sourceRefName(branch.getName)
+                .reference(Branch.of(workBranchName(session), branch.getHash))
+                .create()
+                .asInstanceOf[Branch]
+            } catch {
+              case _: NessieReferenceConflictException =>
+                // work branch left over from a previous run
+                client.getReference
+                  .refName(workBranchName(session))
+                  .get()
+                  .asInstanceOf[Branch]
+            }
+
+          session
+            .set("branch", branch)
+            .set("hashes", hashes)
+            .set("workBranch", workBranch)
+        }
+        // don't measure/log this action
+        .dontLog()
+    )
+
+  private def getContent: ChainBuilder =
+    exec(nessie(GetContent).execute { (client, session) =>
+      client.getContent.refName(params.branch).key(randomTableKey()).get()
+      session
+    })
+
+  private def getContentAtHash: ChainBuilder =
+    exec(nessie(GetContentAtHash).execute { (client, session) =>
+      val hashes = session("hashes").as[Seq[String]]
+      client.getContent
+        .refName(params.branch)
+        .hashOnRef(hashes(ThreadLocalRandom.current().nextInt(hashes.size)))
+        .key(randomTableKey())
+        .get()
+      session
+    })
+
+  private def getMultipleContents: ChainBuilder =
+    exec(nessie(GetMultipleContents).execute { (client, session) =>
+      val keys = Seq.fill(params.keysPerRequest)(randomTableKey()).distinct
+      client.getContent.refName(params.branch).keys(keys.asJava).get()
+      session
+    })
+
+  private def getEntries: ChainBuilder =
+    exec(nessie(GetEntries).execute { (client, session) =>
+      client.getEntries.refName(params.branch).maxRecords(params.pageSize).get()
+      session
+    })
+
+  private def getCommitLog: ChainBuilder =
+    exec(nessie(GetCommitLog).execute { (client, session) =>
+      var pageToken: String = null
+      var page = 0
+      var hasMore = true
+      while (hasMore && page < params.commitLogPages) {
+        val response = client.getCommitLog
+          .refName(params.branch)
+          .filter(commitLogFilter)
+          .maxRecords(params.pageSize)
+          .pageToken(pageToken)
+          .get()
+        pageToken = response.getToken
+        hasMore = response.isHasMore
+        page += 1
+      }
+      session
+    })
+
+  private def getReferences: ChainBuilder =
+    exec(nessie(GetReferences).execute { (client, session) =>
+      client.getAllReferences
+        .fetch(FetchOption.ALL)
+        .maxRecords(params.pageSize)
+        .get()
+      session
+    })
+
+  private def commit: ChainBuilder =
+    exec(
+      nessie(Commit)
+        .execute { (client, session) =>
+          val branch = session("branch").as[Branch]
+          val key = ContentKey.of(namespace, s"user_${session.userId}")
+          val existing = currentTable(client, session, "userTable", branch, key)
+
+          val (updatedBranch, table) = commitTable(
+            client,
+            branch,
+            key,
+            existing,
+            s"$namespace commit ${session.userId}"
+          )
+
+          session.set("branch", updatedBranch).set("userTable", table)
+        }
+        // re-fetch the table in the next iteration
+        .onException((_, _, session) => session.remove("userTable"))
+    )
+
+  private def merge: ChainBuilder =
+    exec(
+      nessie(s"$Merge-commit to work branch")
+        .execute { (client, session) =>
+          val workBranch = session("workBranch").as[Branch]
+          val key = ContentKey.of(namespace, s"work_${session.userId}")
+          val existing =
+            currentTable(client, session, "workTable", workBranch, key)
+
+          val (updatedBranch, table) = commitTable(
+            client,
+            workBranch,
+            key,
+            existing,
+            s"$namespace work ${session.userId}"
+          )
+
+          session.set("workBranch", updatedBranch).set("workTable", table)
+        }
+        .onException((_, _, session) => session.remove("workTable"))
+    ).exec(
+      nessie(Merge)
+        .execute { (client, session) =>
+          val branch = session("branch").as[Branch]
+          val workBranch = session("workBranch").as[Branch]
+
+          val response = client
+            .mergeRefIntoBranch()
+            .branch(branch)
+            .fromRef(workBranch)
+            .merge()
+
+          session.set(
+            "branch",
+            Branch.of(branch.getName, response.getResultantTargetHash)
+          )
+        }
+    ).exec(
+      nessie(s"$Merge-reset work branch")
+        .execute { (client, session) =>
+          // Let the work branch start at the merge result, a failed merge
+          // discards the work commit.
+          val branch = session("branch").as[Branch]
+          val workBranch = session("workBranch").as[Branch]
+
+          client.assignBranch().branch(workBranch).assignTo(branch).assign()
+
+          session
+            .set("workBranch", Branch.of(workBranch.getName, branch.getHash))
+            .remove("workTable")
+        }
+        // don't measure/log this action
+        .dontLog()
+    )
+
+  private def operation: ChainBuilder = {
+    val chain = workloadMix(
+      params.mix,
+      Map(
+        GetContent -> getContent,
+        GetContentAtHash -> getContentAtHash,
+        GetMultipleContents -> getMultipleContents,
+        GetEntries -> getEntries,
+        GetCommitLog -> getCommitLog,
+        GetReferences -> getReferences,
+        Commit -> commit,
+        Merge -> merge
+      )
+    )
+
+    if (params.opRate > 0) {
+      // "pace" the operations, if an operation-rate is configured
+      val oneHour = FiniteDuration(1, HOURS)
+      val nanosPerIteration =
+        oneHour.toNanos / (params.opRate * oneHour.toSeconds)
+      pace(FiniteDuration(nanosPerIteration.toLong, NANOSECONDS))
+        .exitBlockOnFail(chain)
+    } else {
+      // if no operation-rate is configured, run "as fast as possible"
+      chain
+    }
+  }
+
+  private def buildScenario(): ScenarioBuilder = {
+    val scn = scenario("Mixed-Workload")
+      .exec(setupUser)
+
+    if (params.numberOfOperations > 0) {
+      // Process configured number of operations
+      scn.repeat(params.numberOfOperations, "operationNum") {
+        operation
+      }
+    } else {
+      // otherwise run "forever" (or until "max-duration")
+      scn.forever("operationNum") {
+        operation
+      }
+    }
+  }
+
+  /** Sets up the simulation. Implemented as a function to respect the optional
+    * maximum-duration.
+    */
+  private def doSetUp(): SetUp = {
+    val nessieProtocol: NessieProtocol = nessie().clientFromSystemProperties()
+
+    System.out.println(params.asPrintableString())
+
+    var s: SetUp = setUp(buildScenario().inject(atOnceUsers(params.numUsers)))
+    if (params.durationSeconds > 0) {
+      s = s.maxDuration(FiniteDuration(params.durationSeconds, SECONDS))
+    }
+    s.protocols(nessieProtocol)
+  }
+
+  // This is where everything starts, doSetUp() returns the `SetUp` ...
+
+  doSetUp()
+}
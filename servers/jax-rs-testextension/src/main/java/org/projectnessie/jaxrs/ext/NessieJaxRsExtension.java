@@ -56,7 +56,9 @@ import org.projectnessie.services.rest.NamespaceParamConverterProvider;
 import org.projectnessie.services.rest.NessieExceptionMapper;
 import org.projectnessie.services.rest.NessieJaxRsJsonMappingExceptionMapper;
 import org.projectnessie.services.rest.NessieJaxRsJsonParseExceptionMapper;
+import org.projectnessie.services.rest.NessieJaxRsSmileProvider;
 import org.projectnessie.services.rest.ReferenceTypeParamConverterProvider;
+import org.projectnessie.services.rest.RequestReadStatsFilter;
 import org.projectnessie.services.rest.RestConfigResource;
 import org.projectnessie.services.rest.RestContentResource;
 import org.projectnessie.services.rest.RestDiffResource;
@@ -64,6 +66,7 @@ import org.projectnessie.services.rest.RestNamespaceResource;
 import org.projectnessie.services.rest.RestRefLogResource;
 import org.projectnessie.services.rest.RestTreeResource;
 import org.projectnessie.services.rest.RestV2ConfigResource;
+import org.projectnessie.services.rest.RestV2EventsResource;
 import org.projectnessie.services.rest.RestV2TreeResource;
 import org.projectnessie.services.rest.ValidationExceptionMapper;
 import org.projectnessie.versioned.PersistVersionStoreExtension;
@@ -230,6 +233,7 @@ public class NessieJaxRsExtension extends NessieClientResolver
               ResourceConfig config = new ResourceConfig();
               config.register(RestV2ConfigResource.class);
               config.register(RestV2TreeResource.class);
+              config.register(RestV2EventsResource.class);
               config.register(RestConfigResource.class);
               config.register(RestTreeResource.class);
               config.register(RestContentResource.class);
@@ -246,6 +250,8 @@ public class NessieJaxRsExtension extends NessieClientResolver
               config.register(NessieExceptionMapper.class);
               config.register(NessieJaxRsJsonParseExceptionMapper.class, 10);
               config.register(NessieJaxRsJsonMappingExceptionMapper.class, 10);
+              config.register(NessieJaxRsSmileProvider.class);
+              config.register(RequestReadStatsFilter.class);
               config.register(EncodingFilter.class);
               config.register(GZipEncoder.class);
               config.register(DeflateEncoder.class);
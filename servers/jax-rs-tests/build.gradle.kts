@@ -45,8 +45,10 @@ dependencies {
   compileOnly(libs.jackson.annotations)
 
   testImplementation(project(":nessie-jaxrs-testextension"))
+  testImplementation(libs.micrometer.core)
   testImplementation(libs.slf4j.jcl.over.slf4j)
   testRuntimeOnly(libs.h2)
+  testRuntimeOnly(libs.jackson.dataformat.smile)
 
   testCompileOnly(libs.microprofile.openapi)
 
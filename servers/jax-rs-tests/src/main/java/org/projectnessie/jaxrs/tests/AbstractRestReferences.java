@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -48,6 +49,7 @@ import org.projectnessie.model.Operation;
 import org.projectnessie.model.Operation.Put;
 import org.projectnessie.model.Reference;
 import org.projectnessie.model.ReferenceMetadata;
+import org.projectnessie.model.ReferencesResponse;
 import org.projectnessie.model.Tag;
 import org.projectnessie.model.Validation;
 
@@ -77,6 +79,44 @@ public abstract class AbstractRestReferences extends AbstractRestMisc {
         .anySatisfy(r -> assertThat(r.getName()).isEqualTo("main"));
   }
 
+  @Test
+  public void getAllReferencesPaged() throws Exception {
+    String mainHash = getApi().getReference().refName("main").get().getHash();
+    for (int i = 0; i < 5; i++) {
+      getApi()
+          .createReference()
+          .sourceRefName("main")
+          .reference(Branch.of("paged-" + i, mainHash))
+          .create();
+    }
+
+    List<String> allNames =
+        getApi().getAllReferences().get().getReferences().stream()
+            .map(Reference::getName)
+            .collect(Collectors.toList());
+    assertThat(allNames).contains("main", "paged-0", "paged-4");
+
+    List<String> pagedNames = new ArrayList<>();
+    String pageToken = null;
+    int pages = 0;
+    do {
+      ReferencesResponse page =
+          getApi().getAllReferences().maxRecords(2).pageToken(pageToken).get();
+      assertThat(page.getReferences()).hasSizeLessThanOrEqualTo(2);
+      page.getReferences().forEach(r -> pagedNames.add(r.getName()));
+      pageToken = page.isHasMore() ? page.getToken() : null;
+      pages++;
+    } while (pageToken != null);
+
+    assertThat(pagedNames).containsExactlyElementsOf(allNames);
+    assertThat(pages).isEqualTo((allNames.size() + 1) / 2);
+
+    // client-side paging via stream()
+    assertThat(getApi().getAllReferences().maxRecords(2).stream())
+        .extracting(Reference::getName)
+        .containsExactlyElementsOf(allNames);
+  }
+
   @Test
   public void getUnknownReference() {
     assertThatThrownBy(() -> getApi().getReference().refName("unknown123").get())
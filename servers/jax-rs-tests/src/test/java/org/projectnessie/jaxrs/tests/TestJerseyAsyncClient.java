@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.jaxrs.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.projectnessie.client.api.NessieApiV2;
+import org.projectnessie.client.ext.NessieApiVersion;
+import org.projectnessie.client.ext.NessieApiVersions;
+import org.projectnessie.client.ext.NessieClientFactory;
+import org.projectnessie.error.NessieReferenceNotFoundException;
+import org.projectnessie.jaxrs.ext.NessieJaxRsExtension;
+import org.projectnessie.model.Branch;
+import org.projectnessie.model.CommitMeta;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.FetchOption;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.Operation.Put;
+import org.projectnessie.versioned.persist.adapter.DatabaseAdapter;
+import org.projectnessie.versioned.persist.inmem.InmemoryDatabaseAdapterFactory;
+import org.projectnessie.versioned.persist.inmem.InmemoryTestConnectionProviderSource;
+import org.projectnessie.versioned.persist.tests.extension.DatabaseAdapterExtension;
+import org.projectnessie.versioned.persist.tests.extension.NessieDbAdapter;
+import org.projectnessie.versioned.persist.tests.extension.NessieDbAdapterName;
+import org.projectnessie.versioned.persist.tests.extension.NessieExternalDatabase;
+
+/**
+ * Verifies that the asynchronous request methods of the Nessie API v2 client return the same
+ * results as the blocking ones and surface API errors from the returned stage.
+ */
+@ExtendWith(DatabaseAdapterExtension.class)
+@NessieDbAdapterName(InmemoryDatabaseAdapterFactory.NAME)
+@NessieExternalDatabase(InmemoryTestConnectionProviderSource.class)
+@NessieApiVersions(versions = {NessieApiVersion.V2})
+class TestJerseyAsyncClient {
+
+  @NessieDbAdapter static DatabaseAdapter databaseAdapter;
+
+  @RegisterExtension
+  static NessieJaxRsExtension server = new NessieJaxRsExtension(() -> databaseAdapter);
+
+  private NessieApiV2 api;
+
+  @BeforeEach
+  void initApi(NessieClientFactory clientFactory) {
+    api = (NessieApiV2) clientFactory.make();
+  }
+
+  @AfterEach
+  void closeApi() {
+    api.close();
+  }
+
+  private static <T> T await(CompletionStage<T> stage) throws Exception {
+    return stage.toCompletableFuture().get(30, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void getAsync() throws Exception {
+    Branch main = api.getDefaultBranch();
+    Branch branch =
+        (Branch)
+            api.createReference()
+                .sourceRefName(main.getName())
+                .reference(Branch.of("getAsync", main.getHash()))
+                .create();
+    ContentKey key = ContentKey.of("async", "table");
+    branch =
+        api.commitMultipleOperations()
+            .branch(branch)
+            .commitMeta(CommitMeta.fromMessage("async"))
+            .operation(Put.of(key, IcebergTable.of("metadata", 1, 2, 3, 4)))
+            .commit();
+
+    assertThat(await(api.getReference().refName(branch.getName()).getAsync()))
+        .isEqualTo(api.getReference().refName(branch.getName()).get())
+        .isEqualTo(branch);
+
+    assertThat(await(api.getContent().refName(branch.getName()).key(key).getAsync()))
+        .isEqualTo(api.getContent().refName(branch.getName()).key(key).get())
+        .containsKey(key);
+
+    assertThat(await(api.getAllReferences().fetch(FetchOption.ALL).getAsync()))
+        .isEqualTo(api.getAllReferences().fetch(FetchOption.ALL).get());
+
+    assertThat(await(api.getEntries().refName(branch.getName()).getAsync()))
+        .isEqualTo(api.getEntries().refName(branch.getName()).get());
+
+    assertThat(await(api.getCommitLog().refName(branch.getName()).getAsync()))
+        .isEqualTo(api.getCommitLog().refName(branch.getName()).get());
+  }
+
+  @Test
+  void getAsyncNotFound() {
+    assertThatThrownBy(() -> await(api.getReference().refName("does-not-exist").getAsync()))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(NessieReferenceNotFoundException.class)
+        .hasMessageContaining("does-not-exist");
+
+    assertThatThrownBy(
+            () ->
+                await(
+                    api.getContent()
+                        .refName("does-not-exist")
+                        .key(ContentKey.of("async", "table"))
+                        .getAsync()))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(NessieReferenceNotFoundException.class);
+
+    assertThatThrownBy(() -> await(api.getCommitLog().refName("does-not-exist").getAsync()))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(NessieReferenceNotFoundException.class);
+
+    assertThatThrownBy(() -> await(api.getEntries().refName("does-not-exist").getAsync()))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(NessieReferenceNotFoundException.class);
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.jaxrs.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.projectnessie.client.api.NessieApiV2;
+import org.projectnessie.client.api.RepositoryEventSubscription;
+import org.projectnessie.client.ext.NessieApiVersion;
+import org.projectnessie.client.ext.NessieApiVersions;
+import org.projectnessie.client.ext.NessieClientFactory;
+import org.projectnessie.error.NessieForbiddenException;
+import org.projectnessie.jaxrs.ext.NessieAccessChecker;
+import org.projectnessie.jaxrs.ext.NessieJaxRsExtension;
+import org.projectnessie.model.Branch;
+import org.projectnessie.model.CommitMeta;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.Operation.Put;
+import org.projectnessie.model.RepositoryEvent;
+import org.projectnessie.model.RepositoryEvent.Type;
+import org.projectnessie.model.RepositoryEventsResponse;
+import org.projectnessie.services.authz.AbstractBatchAccessChecker;
+import org.projectnessie.services.authz.AccessContext;
+import org.projectnessie.services.authz.BatchAccessChecker;
+import org.projectnessie.services.authz.Check;
+import org.projectnessie.services.config.ServerConfigExtension;
+import org.projectnessie.services.rest.RestV2EventsResource;
+import org.projectnessie.versioned.persist.adapter.DatabaseAdapter;
+import org.projectnessie.versioned.persist.adapter.events.RepositoryEventDispatcher;
+import org.projectnessie.versioned.persist.inmem.InmemoryDatabaseAdapterFactory;
+import org.projectnessie.versioned.persist.inmem.InmemoryTestConnectionProviderSource;
+import org.projectnessie.versioned.persist.tests.extension.DatabaseAdapterExtension;
+import org.projectnessie.versioned.persist.tests.extension.NessieDbAdapter;
+import org.projectnessie.versioned.persist.tests.extension.NessieDbAdapterName;
+import org.projectnessie.versioned.persist.tests.extension.NessieExternalDatabase;
+
+/**
+ * Verifies the {@link RestV2EventsResource events endpoint}, its authorization and the client's
+ * events subscription.
+ */
+@ExtendWith(DatabaseAdapterExtension.class)
+@NessieDbAdapterName(InmemoryDatabaseAdapterFactory.NAME)
+@NessieExternalDatabase(InmemoryTestConnectionProviderSource.class)
+@NessieApiVersions(versions = {NessieApiVersion.V2})
+class TestJerseyEvents {
+
+  @NessieDbAdapter(eventConsumer = EventBufferPublisher.class)
+  static DatabaseAdapter databaseAdapter;
+
+  @RegisterExtension
+  static NessieJaxRsExtension server = new NessieJaxRsExtension(() -> databaseAdapter);
+
+  /** Publishes the database adapter's events to the event buffer served by the Jersey server. */
+  static final class EventBufferPublisher extends RepositoryEventDispatcher {
+    EventBufferPublisher() {
+      super(ServerConfigExtension.EVENT_BUFFER::publish);
+    }
+  }
+
+  private NessieApiV2 api;
+
+  @BeforeEach
+  void initApi(NessieClientFactory clientFactory) {
+    api = (NessieApiV2) clientFactory.make();
+  }
+
+  @AfterEach
+  void closeApi() {
+    api.close();
+  }
+
+  private Branch createBranch(String name) throws Exception {
+    Branch main = api.getDefaultBranch();
+    return (Branch)
+        api.createReference()
+            .sourceRefName(main.getName())
+            .reference(Branch.of(name, main.getHash()))
+            .create();
+  }
+
+  private Branch commit(Branch branch, String key) throws Exception {
+    return api.commitMultipleOperations()
+        .branch(branch)
+        .commitMeta(CommitMeta.fromMessage("commit " + key))
+        .operation(Put.of(ContentKey.of(key), IcebergTable.of(key, 1, 2, 3, 4)))
+        .commit();
+  }
+
+  @Test
+  void commitEvents() throws Exception {
+    RepositoryEventsResponse start = api.getEvents().get();
+    assertThat(start.getEvents()).isEmpty();
+    assertThat(start.isEventsLost()).isFalse();
+
+    Branch branch = createBranch("commitEvents");
+    Branch committed = commit(branch, "commitEvents");
+
+    RepositoryEventsResponse response =
+        api.getEvents().streamId(start.getStreamId()).position(start.getNextPosition()).get();
+    assertThat(response.isEventsLost()).isFalse();
+    assertThat(response.getStreamId()).isEqualTo(start.getStreamId());
+    assertThat(response.getEvents())
+        .extracting(
+            RepositoryEvent::getType, RepositoryEvent::getReferenceName, RepositoryEvent::getHash)
+        .containsExactly(
+            tuple(Type.REFERENCE_CREATED, branch.getName(), branch.getHash()),
+            tuple(Type.COMMIT, branch.getName(), committed.getHash()));
+    assertThat(response.getEvents().get(1).getCommitHashes())
+        .containsExactly(committed.getHash());
+    assertThat(response.getNextPosition()).isEqualTo(start.getNextPosition() + 2);
+  }
+
+  @Test
+  void unknownStreamId() throws Exception {
+    RepositoryEventsResponse start = api.getEvents().get();
+
+    // Events of another stream, for example from another server instance or before a restart,
+    // cannot be resumed, the response starts at the oldest retained event of the current stream.
+    RepositoryEventsResponse response =
+        api.getEvents().streamId("unknown-stream").position(42L).maxEvents(1).get();
+    assertThat(response.isEventsLost()).isTrue();
+    assertThat(response.getStreamId()).isEqualTo(start.getStreamId());
+    assertThat(response.getNextPosition()).isLessThanOrEqualTo(start.getNextPosition());
+  }
+
+  @Test
+  void subscription() throws Exception {
+    BlockingQueue<RepositoryEventsResponse> responses = new LinkedBlockingQueue<>();
+    AtomicBoolean listenerFailed = new AtomicBoolean();
+
+    try (RepositoryEventSubscription subscription =
+        api.getEvents()
+            .streamId("unknown-stream")
+            .position(42L)
+            .waitMillis(5000)
+            .subscribe(
+                response -> {
+                  // A failing listener must not end the subscription.
+                  if (listenerFailed.compareAndSet(false, true)) {
+                    throw new IllegalStateException("listener failure");
+                  }
+                  responses.add(response);
+                })) {
+
+      // The first response for the unknown stream ID has the events-lost flag set and is passed
+      // to the listener, which fails.
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+      while (!listenerFailed.get()) {
+        assertThat(System.nanoTime()).isLessThan(deadline);
+        Thread.sleep(10L);
+      }
+
+      Branch branch = createBranch("subscription");
+      Branch committed = commit(branch, "subscription");
+
+      RepositoryEvent commitEvent = null;
+      while (commitEvent == null) {
+        RepositoryEventsResponse response =
+            responses.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        assertThat(response).isNotNull();
+        commitEvent =
+            response.getEvents().stream()
+                .filter(e -> e.getType() == Type.COMMIT)
+                .filter(e -> e.getReferenceName().equals(branch.getName()))
+                .findFirst()
+                .orElse(null);
+      }
+      assertThat(commitEvent.getHash()).isEqualTo(committed.getHash());
+      assertThat(subscription.getFailure()).isNull();
+    }
+  }
+
+  @Test
+  void closeDoesNotWaitForLongPoll() throws Exception {
+    RepositoryEventsResponse start = api.getEvents().get();
+    BlockingQueue<RepositoryEventsResponse> responses = new LinkedBlockingQueue<>();
+
+    RepositoryEventSubscription subscription =
+        api.getEvents()
+            .streamId(start.getStreamId())
+            .position(start.getNextPosition())
+            .waitMillis(10_000)
+            .subscribe(responses::add);
+
+    // Let the subscription's long-poll request reach the server.
+    Thread.sleep(500L);
+
+    long closeStart = System.nanoTime();
+    subscription.close();
+    assertThat(System.nanoTime() - closeStart).isLessThan(TimeUnit.SECONDS.toNanos(2));
+
+    // The response to the in-flight request is not passed to the listener after close().
+    commit(createBranch("closeDoesNotWaitForLongPoll"), "closeDoesNotWaitForLongPoll");
+    assertThat(responses.poll(1, TimeUnit.SECONDS)).isNull();
+  }
+
+  @Test
+  void forbidden(
+      @NessieAccessChecker
+          Consumer<Function<AccessContext, BatchAccessChecker>> accessCheckerConsumer)
+      throws Exception {
+    accessCheckerConsumer.accept(
+        x ->
+            new AbstractBatchAccessChecker() {
+              @Override
+              public Map<Check, String> check() {
+                return getChecks().stream()
+                    .filter(c -> c.type() == Check.CheckType.VIEW_REFLOG)
+                    .collect(Collectors.toMap(Function.identity(), c -> "Forbidden events"));
+              }
+            });
+
+    assertThatThrownBy(() -> api.getEvents().get())
+        .isInstanceOf(NessieForbiddenException.class)
+        .hasMessageContaining("Forbidden events");
+
+    // Authorization failures are not retried, the subscription stops.
+    try (RepositoryEventSubscription subscription = api.getEvents().subscribe(response -> {})) {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+      while (subscription.getFailure() == null) {
+        assertThat(System.nanoTime()).isLessThan(deadline);
+        Thread.sleep(10L);
+      }
+      assertThat(subscription.getFailure())
+          .isInstanceOf(NessieForbiddenException.class)
+          .hasMessageContaining("Forbidden events");
+    }
+  }
+}
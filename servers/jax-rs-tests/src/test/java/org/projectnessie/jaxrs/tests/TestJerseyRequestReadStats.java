@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.jaxrs.tests;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import java.net.URI;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.projectnessie.client.ext.NessieApiVersion;
+import org.projectnessie.client.ext.NessieApiVersions;
+import org.projectnessie.client.ext.NessieClientUri;
+import org.projectnessie.jaxrs.ext.NessieJaxRsExtension;
+import org.projectnessie.model.Branch;
+import org.projectnessie.model.CommitMeta;
+import org.projectnessie.model.CommitResponse;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.ImmutableOperations;
+import org.projectnessie.model.Operation;
+import org.projectnessie.model.Reference;
+import org.projectnessie.model.SingleReferenceResponse;
+import org.projectnessie.services.rest.RequestReadStatsFilter;
+import org.projectnessie.versioned.persist.adapter.DatabaseAdapter;
+import org.projectnessie.versioned.persist.adapter.DatabaseAdapterConfig;
+import org.projectnessie.versioned.persist.inmem.InmemoryDatabaseAdapterFactory;
+import org.projectnessie.versioned.persist.inmem.InmemoryTestConnectionProviderSource;
+import org.projectnessie.versioned.persist.tests.extension.DatabaseAdapterExtension;
+import org.projectnessie.versioned.persist.tests.extension.NessieDbAdapter;
+import org.projectnessie.versioned.persist.tests.extension.NessieDbAdapterName;
+import org.projectnessie.versioned.persist.tests.extension.NessieExternalDatabase;
+
+/** Verifies the {@link RequestReadStatsFilter} response header and meters. */
+@ExtendWith(DatabaseAdapterExtension.class)
+@NessieDbAdapterName(InmemoryDatabaseAdapterFactory.NAME)
+@NessieExternalDatabase(InmemoryTestConnectionProviderSource.class)
+@NessieApiVersions(versions = {NessieApiVersion.V2})
+class TestJerseyRequestReadStats {
+
+  private static final Pattern READ_STATS =
+      Pattern.compile("commits=(\\d+), key-lists=(\\d+), global-log=(\\d+), bytes=(\\d+)");
+
+  @NessieDbAdapter static DatabaseAdapter databaseAdapter;
+
+  @RegisterExtension
+  static NessieJaxRsExtension server = new NessieJaxRsExtension(() -> databaseAdapter);
+
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void addRegistry() {
+    registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+  }
+
+  @AfterEach
+  void removeRegistry() {
+    Metrics.removeRegistry(registry);
+    registry.close();
+  }
+
+  private static RequestSpecification rest(URI uri) {
+    return given().baseUri(uri.toString()).contentType(ContentType.JSON);
+  }
+
+  private static Branch createBranch(URI uri, String name) {
+    return (Branch)
+        rest(uri)
+            .queryParam("name", name)
+            .queryParam("type", Reference.ReferenceType.BRANCH.name())
+            .post("trees")
+            .then()
+            .statusCode(200)
+            .extract()
+            .as(SingleReferenceResponse.class)
+            .getReference();
+  }
+
+  private static Branch commit(URI uri, Branch branch, ContentKey key) {
+    return rest(uri)
+        .body(
+            ImmutableOperations.builder()
+                .commitMeta(CommitMeta.fromMessage("read stats"))
+                .addOperations(Operation.Put.of(key, IcebergTable.of("loc", 1, 2, 3, 4)))
+                .build())
+        .post("trees/{ref}/history/commit", branch.toPathString())
+        .then()
+        .statusCode(200)
+        .extract()
+        .as(CommitResponse.class)
+        .getTargetBranch();
+  }
+
+  private static long commitsRead(String header) {
+    assertThat(header).isNotNull().matches(READ_STATS);
+    Matcher matcher = READ_STATS.matcher(header);
+    assertThat(matcher.matches()).isTrue();
+    return Long.parseLong(matcher.group(1));
+  }
+
+  @Test
+  void readStatsForGetEntries(@NessieClientUri URI uri) {
+    Branch branch = createBranch(uri, "readStats");
+    branch = commit(uri, branch, ContentKey.of("read", "stats"));
+
+    String header =
+        rest(uri)
+            .get("trees/{ref}/entries", branch.toPathString())
+            .then()
+            .statusCode(200)
+            .extract()
+            .header(RequestReadStatsFilter.READ_STATS_HEADER);
+
+    assertThat(header).isNotNull().matches(READ_STATS);
+    Matcher matcher = READ_STATS.matcher(header);
+    assertThat(matcher.matches()).isTrue();
+    long commits = Long.parseLong(matcher.group(1));
+    long bytes = Long.parseLong(matcher.group(4));
+    assertThat(commits).isGreaterThan(0L);
+    assertThat(bytes).isGreaterThan(0L);
+
+    assertThat(registry.find("nessie.rest.reads.commits").summaries())
+        .filteredOn(s -> s.getId().getTag("endpoint").endsWith(".getEntries"))
+        .singleElement()
+        .satisfies(
+            s -> {
+              assertThat(s.count()).isEqualTo(1L);
+              assertThat(s.totalAmount()).isEqualTo((double) commits);
+            });
+    assertThat(registry.find("nessie.rest.reads.bytes").summaries())
+        .filteredOn(s -> s.getId().getTag("endpoint").endsWith(".getEntries"))
+        .extracting(DistributionSummary::totalAmount)
+        .containsExactly((double) bytes);
+  }
+
+  @Test
+  void smallCommitLogPageReadsOnlyFewCommits(@NessieClientUri URI uri) {
+    int numCommits = 100;
+    Branch branch = createBranch(uri, "smallPage");
+    for (int i = 0; i < numCommits; i++) {
+      branch = commit(uri, branch, ContentKey.of("small", "page-" + i));
+    }
+
+    String header =
+        rest(uri)
+            .queryParam("max-records", 3)
+            .get("trees/{ref}/history", branch.toPathString())
+            .then()
+            .statusCode(200)
+            .extract()
+            .header(RequestReadStatsFilter.READ_STATS_HEADER);
+
+    // Reading a page of 3 log entries must not read (and access-check) a whole batch of commits,
+    // only the requested entries plus the page of parents fetched alongside.
+    assertThat(commitsRead(header))
+        .isGreaterThanOrEqualTo(3L)
+        .isLessThanOrEqualTo(1L + 2 * DatabaseAdapterConfig.DEFAULT_PARENTS_PER_COMMIT);
+  }
+
+  @Test
+  void asyncEndpointNotAccounted(@NessieClientUri URI uri) {
+    // The long-poll completes on the event buffer's scheduler thread, which must not run the
+    // thread-bound read accounting.
+    String header =
+        rest(uri)
+            .queryParam("wait-millis", 200)
+            .get("events")
+            .then()
+            .statusCode(200)
+            .extract()
+            .header(RequestReadStatsFilter.READ_STATS_HEADER);
+    assertThat(header).isNull();
+    assertThat(registry.find("nessie.rest.reads.commits").summaries())
+        .noneMatch(s -> s.getId().getTag("endpoint").endsWith(".getEvents"));
+
+    // synchronous endpoints are still accounted
+    Branch branch = createBranch(uri, "afterAsync");
+    branch = commit(uri, branch, ContentKey.of("after", "async"));
+    header =
+        rest(uri)
+            .get("trees/{ref}/entries", branch.toPathString())
+            .then()
+            .statusCode(200)
+            .extract()
+            .header(RequestReadStatsFilter.READ_STATS_HEADER);
+    assertThat(commitsRead(header)).isGreaterThan(0L);
+  }
+}
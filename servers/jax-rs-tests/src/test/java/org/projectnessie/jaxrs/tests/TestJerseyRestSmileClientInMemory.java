@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.jaxrs.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.projectnessie.api.v2.http.NessieMediaTypes.APPLICATION_SMILE;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterAll;
+import org.projectnessie.client.NessieClientBuilder;
+import org.projectnessie.client.ext.NessieApiVersion;
+import org.projectnessie.client.ext.NessieApiVersions;
+import org.projectnessie.client.ext.NessieClientCustomizer;
+import org.projectnessie.client.http.HttpAuthentication;
+import org.projectnessie.client.http.HttpClientBuilder;
+import org.projectnessie.client.http.ResponseFilter;
+import org.projectnessie.versioned.persist.inmem.InmemoryDatabaseAdapterFactory;
+import org.projectnessie.versioned.persist.inmem.InmemoryTestConnectionProviderSource;
+import org.projectnessie.versioned.persist.tests.extension.NessieDbAdapterName;
+import org.projectnessie.versioned.persist.tests.extension.NessieExternalDatabase;
+
+/**
+ * Runs the REST API tests with a client that requests responses using the binary Smile encoding.
+ *
+ * <p>It is not necessary to run this test for all backends as it tests only the surface area of
+ * HTTP endpoints. Running with the in-memory database adapter is sufficient.
+ */
+@NessieDbAdapterName(InmemoryDatabaseAdapterFactory.NAME)
+@NessieExternalDatabase(InmemoryTestConnectionProviderSource.class)
+@NessieApiVersions(versions = NessieApiVersion.V2)
+class TestJerseyRestSmileClientInMemory extends AbstractTestDatabaseAdapterRest
+    implements NessieClientCustomizer {
+
+  private static final AtomicBoolean SMILE_RESPONSES = new AtomicBoolean();
+
+  @Override
+  public NessieClientBuilder<?> configure(NessieClientBuilder<?> builder) {
+    ResponseFilter smileResponses =
+        context -> {
+          String contentType = context.getContentType();
+          if (contentType != null && contentType.startsWith(APPLICATION_SMILE)) {
+            SMILE_RESPONSES.set(true);
+          }
+        };
+
+    // Abuse the authentication callback a bit to inject the response filter into the java client.
+    return ((HttpClientBuilder) builder)
+        .withBinaryEncoding(true)
+        .withAuthentication(
+            (HttpAuthentication) client -> client.addResponseFilter(smileResponses));
+  }
+
+  @AfterAll
+  static void ensureSmileResponses() {
+    assertThat(SMILE_RESPONSES).isTrue();
+  }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.jaxrs.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.projectnessie.api.v2.http.NessieMediaTypes.APPLICATION_NDJSON;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.projectnessie.client.api.NessieApiV2;
+import org.projectnessie.client.ext.NessieApiVersion;
+import org.projectnessie.client.ext.NessieApiVersions;
+import org.projectnessie.client.ext.NessieClientFactory;
+import org.projectnessie.client.http.HttpAuthentication;
+import org.projectnessie.client.http.HttpClientBuilder;
+import org.projectnessie.client.http.ResponseFilter;
+import org.projectnessie.jaxrs.ext.NessieJaxRsExtension;
+import org.projectnessie.model.Branch;
+import org.projectnessie.model.CommitMeta;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.EntriesResponse;
+import org.projectnessie.model.FetchOption;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.LogResponse;
+import org.projectnessie.model.Operation.Put;
+import org.projectnessie.model.PaginatedResponse;
+import org.projectnessie.model.Reference;
+import org.projectnessie.model.ReferencesResponse;
+import org.projectnessie.services.rest.RestV2TreeResource;
+import org.projectnessie.versioned.persist.adapter.DatabaseAdapter;
+import org.projectnessie.versioned.persist.inmem.InmemoryDatabaseAdapterFactory;
+import org.projectnessie.versioned.persist.inmem.InmemoryTestConnectionProviderSource;
+import org.projectnessie.versioned.persist.tests.extension.DatabaseAdapterExtension;
+import org.projectnessie.versioned.persist.tests.extension.NessieDbAdapter;
+import org.projectnessie.versioned.persist.tests.extension.NessieDbAdapterName;
+import org.projectnessie.versioned.persist.tests.extension.NessieExternalDatabase;
+
+/**
+ * Verifies that the newline delimited JSON endpoints of {@link RestV2TreeResource}, used by clients
+ * configured with {@link HttpClientBuilder#withStreamingResponses(boolean)}, return the same
+ * results as paging through the JSON responses.
+ */
+@ExtendWith(DatabaseAdapterExtension.class)
+@NessieDbAdapterName(InmemoryDatabaseAdapterFactory.NAME)
+@NessieExternalDatabase(InmemoryTestConnectionProviderSource.class)
+@NessieApiVersions(versions = {NessieApiVersion.V2})
+class TestJerseyStreamingResponses {
+
+  private static final int PAGE_SIZE = 2;
+
+  @NessieDbAdapter static DatabaseAdapter databaseAdapter;
+
+  @RegisterExtension
+  static NessieJaxRsExtension server = new NessieJaxRsExtension(() -> databaseAdapter);
+
+  private final AtomicInteger ndJsonResponses = new AtomicInteger();
+  private NessieApiV2 paged;
+  private NessieApiV2 streaming;
+
+  @BeforeEach
+  void initApis(NessieClientFactory clientFactory) {
+    ResponseFilter countNdJson =
+        context -> {
+          String contentType = context.getContentType();
+          if (contentType != null && contentType.startsWith(APPLICATION_NDJSON)) {
+            ndJsonResponses.incrementAndGet();
+          }
+        };
+
+    paged = (NessieApiV2) clientFactory.make();
+    // Abuse the authentication callback a bit to inject the response filter into the java client.
+    streaming =
+        (NessieApiV2)
+            clientFactory.make(
+                builder ->
+                    ((HttpClientBuilder) builder)
+                        .withStreamingResponses(true)
+                        .withAuthentication(
+                            (HttpAuthentication) client -> client.addResponseFilter(countNdJson)));
+  }
+
+  @AfterEach
+  void closeApis() {
+    paged.close();
+    streaming.close();
+  }
+
+  @FunctionalInterface
+  private interface PageRequest<R extends PaginatedResponse> {
+    R get(String pageToken) throws Exception;
+  }
+
+  /** Collects all pages by passing the previous page's token to the next request. */
+  private static <R extends PaginatedResponse, E> List<E> allPages(
+      PageRequest<R> page, Function<R, List<E>> elements) throws Exception {
+    List<E> result = new ArrayList<>();
+    List<R> pages = new ArrayList<>();
+    String token = null;
+    do {
+      R response = page.get(token);
+      pages.add(response);
+      result.addAll(elements.apply(response));
+      token = response.isHasMore() ? response.getToken() : null;
+    } while (token != null);
+    assertThat(pages).hasSizeGreaterThan(1);
+    return result;
+  }
+
+  private Branch prepare(String name, int commits) throws Exception {
+    Branch main = paged.getDefaultBranch();
+    for (int i = 0; i < 5; i++) {
+      paged
+          .createReference()
+          .sourceRefName(main.getName())
+          .reference(Branch.of(name + "-ref-" + i, main.getHash()))
+          .create();
+    }
+
+    Branch branch =
+        (Branch)
+            paged
+                .createReference()
+                .sourceRefName(main.getName())
+                .reference(Branch.of(name, main.getHash()))
+                .create();
+    for (int i = 0; i < commits; i++) {
+      ContentKey key = ContentKey.of(name, "table-" + i);
+      branch =
+          paged
+              .commitMultipleOperations()
+              .branch(branch)
+              .commitMeta(CommitMeta.fromMessage("commit " + i))
+              .operation(Put.of(key, IcebergTable.of("metadata-" + i, i, 1, 2, 3)))
+              .commit();
+    }
+    return branch;
+  }
+
+  @Test
+  void references() throws Exception {
+    prepare("references", 1);
+
+    List<Reference> expected =
+        allPages(
+            token ->
+                paged
+                    .getAllReferences()
+                    .fetch(FetchOption.ALL)
+                    .maxRecords(PAGE_SIZE)
+                    .pageToken(token)
+                    .get(),
+            ReferencesResponse::getReferences);
+
+    try (Stream<Reference> stream =
+        streaming.getAllReferences().fetch(FetchOption.ALL).maxRecords(PAGE_SIZE).stream()) {
+      assertThat(stream).containsExactlyElementsOf(expected);
+    }
+    assertThat(ndJsonResponses).hasValue(1);
+  }
+
+  @Test
+  void entries() throws Exception {
+    Branch branch = prepare("entries", 5);
+
+    EntriesResponse expected =
+        paged.getEntries().refName(branch.getName()).hashOnRef(branch.getHash()).get();
+    assertThat(expected.getEntries()).hasSize(5);
+
+    try (Stream<EntriesResponse.Entry> stream =
+        streaming
+            .getEntries()
+            .refName(branch.getName())
+            .hashOnRef(branch.getHash())
+            .maxRecords(PAGE_SIZE)
+            .stream()) {
+      assertThat(stream.collect(Collectors.toList()))
+          .containsExactlyInAnyOrderElementsOf(expected.getEntries());
+    }
+    assertThat(ndJsonResponses).hasValue(1);
+  }
+
+  @Test
+  void commitLog() throws Exception {
+    Branch branch = prepare("commitLog", 5);
+
+    List<LogResponse.LogEntry> expected =
+        allPages(
+            token ->
+                paged
+                    .getCommitLog()
+                    .refName(branch.getName())
+                    .hashOnRef(branch.getHash())
+                    .fetch(FetchOption.ALL)
+                    .maxRecords(PAGE_SIZE)
+                    .pageToken(token)
+                    .get(),
+            LogResponse::getLogEntries);
+    assertThat(expected).hasSizeGreaterThanOrEqualTo(5);
+
+    try (Stream<LogResponse.LogEntry> stream =
+        streaming
+            .getCommitLog()
+            .refName(branch.getName())
+            .hashOnRef(branch.getHash())
+            .fetch(FetchOption.ALL)
+            .maxRecords(PAGE_SIZE)
+            .stream()) {
+      assertThat(stream).containsExactlyElementsOf(expected);
+    }
+    assertThat(ndJsonResponses).hasValue(1);
+  }
+}
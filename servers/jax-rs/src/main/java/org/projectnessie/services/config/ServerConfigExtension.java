@@ -21,6 +21,8 @@ import javax.enterprise.inject.Default;
 import javax.enterprise.inject.spi.AfterBeanDiscovery;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.Extension;
+import javax.inject.Singleton;
+import org.projectnessie.services.events.RepositoryEventBuffer;
 
 /** This class needs to be in the same package as {@link ServerConfig}. */
 public class ServerConfigExtension implements Extension {
@@ -37,6 +39,12 @@ public class ServerConfigExtension implements Extension {
         }
       };
 
+  /**
+   * Event buffer served by the events endpoint. Tests publish database adapter events to this
+   * buffer by configuring a {@code RepositoryEventDispatcher} as the adapter's event consumer.
+   */
+  public static final RepositoryEventBuffer EVENT_BUFFER = new RepositoryEventBuffer(1000);
+
   @SuppressWarnings("unused")
   public void afterBeanDiscovery(@Observes AfterBeanDiscovery abd, BeanManager bm) {
     abd.addBean()
@@ -44,5 +52,10 @@ public class ServerConfigExtension implements Extension {
         .addQualifier(Default.Literal.INSTANCE)
         .scope(ApplicationScoped.class)
         .produceWith(i -> SERVER_CONFIG);
+    abd.addBean()
+        .addType(RepositoryEventBuffer.class)
+        .addQualifier(Default.Literal.INSTANCE)
+        .scope(Singleton.class)
+        .produceWith(i -> EVENT_BUFFER);
   }
 }
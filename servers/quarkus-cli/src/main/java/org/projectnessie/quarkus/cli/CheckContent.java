@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
@@ -71,6 +72,23 @@ public class CheckContent extends BaseCommand {
       description = "The max number of keys to load at the same time.")
   private int batchSize;
 
+  @CommandLine.Option(
+      names = {"-P", "--parallelism"},
+      defaultValue = "1",
+      description = "The number of batches to load and check concurrently.")
+  private int parallelism;
+
+  @CommandLine.Option(
+      names = {"--unordered"},
+      description =
+          "Write per-key results in the order in which batches complete instead of in key order (only relevant with --parallelism > 1).")
+  private boolean unordered;
+
+  @CommandLine.Option(
+      names = {"--progress"},
+      description = "Periodically print the number of checked keys, throughput and ETA to STDERR.")
+  private boolean progress;
+
   @CommandLine.Option(
       names = {"-r", "--ref"},
       description = "Reference name to use (default branch, if not set).")
@@ -139,23 +157,43 @@ public class CheckContent extends BaseCommand {
 
   private void check(JsonGenerator generator) throws Exception {
     Hash hash = hash();
-    if (keyElements != null && !keyElements.isEmpty()) {
-      check(hash, List.of(Key.of(keyElements)), generator);
-    } else {
-      List<Key> batch = new ArrayList<>(batchSize);
-      try (Stream<KeyListEntry> keys = databaseAdapter.keys(hash, KeyFilterPredicate.ALLOW_ALL)) {
-        keys.forEach(
-            keyListEntry -> {
-              batch.add(keyListEntry.getKey());
-
-              if (batch.size() >= batchSize) {
-                check(hash, batch, generator);
-                batch.clear();
-              }
-            });
-
-        check(hash, batch, generator); // check remaining keys
+    try (ParallelBatches batches =
+        new ParallelBatches(
+            parallelism,
+            !unordered,
+            entry -> write(generator, entry),
+            progress ? spec.commandLine().getErr() : null,
+            keysProcessed::get,
+            "keys")) {
+      if (keyElements != null && !keyElements.isEmpty()) {
+        List<Key> keys = List.of(Key.of(keyElements));
+        batches.submit(output -> check(hash, keys, output));
+      } else {
+        if (progress) {
+          try (Stream<KeyListEntry> keys =
+              databaseAdapter.keys(hash, KeyFilterPredicate.ALLOW_ALL)) {
+            batches.totalItems(keys.count());
+          }
+        }
+
+        List<Key> batch = new ArrayList<>(batchSize);
+        try (Stream<KeyListEntry> keys = databaseAdapter.keys(hash, KeyFilterPredicate.ALLOW_ALL)) {
+          keys.forEach(
+              keyListEntry -> {
+                batch.add(keyListEntry.getKey());
+
+                if (batch.size() >= batchSize) {
+                  List<Key> batchKeys = List.copyOf(batch);
+                  batches.submit(output -> check(hash, batchKeys, output));
+                  batch.clear();
+                }
+              });
+
+          List<Key> remainingKeys = List.copyOf(batch);
+          batches.submit(output -> check(hash, remainingKeys, output)); // check remaining keys
+        }
       }
+      batches.finish();
     }
   }
 
@@ -174,19 +212,19 @@ public class CheckContent extends BaseCommand {
     return main.getHash();
   }
 
-  private void check(Hash hash, List<Key> keys, JsonGenerator generator) {
+  private void check(Hash hash, List<Key> keys, Consumer<Object> output) {
     Map<Key, ContentAndState> values;
     try {
       values = databaseAdapter.values(hash, keys, KeyFilterPredicate.ALLOW_ALL);
     } catch (Exception e) {
-      keys.forEach(k -> report(generator, k, e, null));
+      keys.forEach(k -> report(output, k, e, null));
       return;
     }
 
     keys.forEach(
         k -> {
           if (values.get(k) == null) {
-            report(generator, k, new IllegalArgumentException("Missing content"), null);
+            report(output, k, new IllegalArgumentException("Missing content"), null);
           }
         });
 
@@ -200,14 +238,14 @@ public class CheckContent extends BaseCommand {
                         contentAndState.getRefState(),
                         contentAndState::getGlobalState,
                         databaseAdapter::mapToAttachment);
-            report(generator, k, null, value);
+            report(output, k, null, value);
           } catch (Exception e) {
-            report(generator, k, e, null);
+            report(output, k, e, null);
           }
         });
   }
 
-  private void report(JsonGenerator generator, Key key, Throwable error, Object content) {
+  private void report(Consumer<Object> output, Key key, Throwable error, Object content) {
     keysProcessed.incrementAndGet();
     if (error != null) {
       errorDetected.incrementAndGet();
@@ -238,8 +276,12 @@ public class CheckContent extends BaseCommand {
       builder.content((Content) content);
     }
 
+    output.accept(builder.build());
+  }
+
+  private static void write(JsonGenerator generator, Object entry) {
     try {
-      generator.writeObject(builder.build());
+      generator.writeObject(entry);
 
       // Write a new line after each object to make monitoring I/O more pleasant and predictable
       Object out = generator.getOutputTarget();
@@ -31,6 +31,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
@@ -71,6 +72,23 @@ public class ContentInfo extends BaseCommand {
       description = "The maximum number of keys to process at the same time.")
   private int batchSize;
 
+  @CommandLine.Option(
+      names = {"-P", "--parallelism"},
+      defaultValue = "1",
+      description = "The number of batches to process concurrently.")
+  private int parallelism;
+
+  @CommandLine.Option(
+      names = {"--unordered"},
+      description =
+          "Write per-key results in the order in which batches complete instead of in key order (only relevant with --parallelism > 1).")
+  private boolean unordered;
+
+  @CommandLine.Option(
+      names = {"--progress"},
+      description = "Periodically print the number of processed keys and throughput to STDERR.")
+  private boolean progress;
+
   @CommandLine.Option(
       names = {"-r", "--ref"},
       description = "Reference name to use (all branches, if not set).")
@@ -136,21 +154,31 @@ public class ContentInfo extends BaseCommand {
   }
 
   private void check(JsonGenerator generator) throws Exception {
-    try (Stream<ReferenceInfo<ByteString>> heads = heads()) {
+    try (ParallelBatches batches =
+            new ParallelBatches(
+                parallelism,
+                !unordered,
+                entry -> write(generator, entry),
+                progress ? spec.commandLine().getErr() : null,
+                keysProcessed::get,
+                "keys");
+        Stream<ReferenceInfo<ByteString>> heads = heads()) {
       heads.forEach(
           head -> {
             try {
-              check(generator, head);
+              check(batches, head);
             } catch (Exception e) {
               throw new IllegalStateException(e);
             }
           });
+      batches.finish();
     }
   }
 
-  private void check(JsonGenerator generator, ReferenceInfo<ByteString> head) throws Exception {
+  private void check(ParallelBatches batches, ReferenceInfo<ByteString> head) throws Exception {
     if (keyElements != null && !keyElements.isEmpty()) {
-      check(head, Collections.singleton(Key.of(keyElements)), generator);
+      Set<Key> keys = new HashSet<>(Collections.singleton(Key.of(keyElements)));
+      batches.submit(output -> check(head, keys, output));
     } else {
       Set<Key> batch = new HashSet<>(batchSize);
       try (Stream<KeyListEntry> keys =
@@ -160,14 +188,16 @@ public class ContentInfo extends BaseCommand {
               batch.add(keyListEntry.getKey());
 
               if (batch.size() >= batchSize) {
-                check(head, batch, generator);
+                Set<Key> batchKeys = new HashSet<>(batch);
+                batches.submit(output -> check(head, batchKeys, output));
                 batch.clear();
               }
             });
       }
 
       if (!batch.isEmpty()) {
-        check(head, batch, generator); // check remaining keys
+        Set<Key> remainingKeys = new HashSet<>(batch);
+        batches.submit(output -> check(head, remainingKeys, output)); // check remaining keys
       }
     }
   }
@@ -187,7 +217,7 @@ public class ContentInfo extends BaseCommand {
     return databaseAdapter.namedRefs(GetNamedRefsParams.DEFAULT);
   }
 
-  private void check(ReferenceInfo<ByteString> head, Set<Key> keys, JsonGenerator generator) {
+  private void check(ReferenceInfo<ByteString> head, Set<Key> keys, Consumer<Object> output) {
     try {
       AtomicInteger distanceFromHead = new AtomicInteger();
       try (Stream<CommitLogEntry> commitLog = databaseAdapter.commitLog(head.getHash());
@@ -201,7 +231,7 @@ public class ContentInfo extends BaseCommand {
                       keyWithBytes -> {
                         if (keys.remove(keyWithBytes.getKey())) {
                           report(
-                              generator,
+                              output,
                               head.getNamedRef().getName(),
                               keyWithBytes.getKey(),
                               keyWithBytes,
@@ -214,7 +244,7 @@ public class ContentInfo extends BaseCommand {
             });
       }
     } catch (Exception e) {
-      keys.forEach(k -> report(generator, head.getNamedRef().getName(), k, null, null, -1, e));
+      keys.forEach(k -> report(output, head.getNamedRef().getName(), k, null, null, -1, e));
       return;
     }
 
@@ -222,7 +252,7 @@ public class ContentInfo extends BaseCommand {
     keys.forEach(
         k ->
             report(
-                generator,
+                output,
                 head.getNamedRef().getName(),
                 k,
                 null,
@@ -232,7 +262,7 @@ public class ContentInfo extends BaseCommand {
   }
 
   private void report(
-      JsonGenerator generator,
+      Consumer<Object> output,
       String referenceName,
       Key key,
       KeyWithBytes value,
@@ -286,8 +316,12 @@ public class ContentInfo extends BaseCommand {
       }
     }
 
+    output.accept(builder.build());
+  }
+
+  private static void write(JsonGenerator generator, Object entry) {
     try {
-      generator.writeObject(builder.build());
+      generator.writeObject(entry);
 
       // Write a new line after each object to make monitoring I/O more pleasant and predictable
       Object out = generator.getOutputTarget();
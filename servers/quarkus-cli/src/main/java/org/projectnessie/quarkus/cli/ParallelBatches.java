@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.quarkus.cli;
+
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs the batches of a key-space scan either inline or on a pool of worker threads.
+ *
+ * <p>Each batch produces output objects via the consumer passed to it. Those objects are passed to
+ * the output consumer given to the constructor, which is always invoked from the thread that calls
+ * {@link #submit(Consumer)} and {@link #finish()}, so it does not need to be thread-safe. With
+ * {@code ordered} output, the objects are passed in batch submission order, otherwise in batch
+ * completion order.
+ *
+ * <p>The number of batches in flight is bounded to twice the parallelism, so the scanned keys do
+ * not pile up in memory.
+ */
+final class ParallelBatches implements AutoCloseable {
+
+  private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+  private final Consumer<Object> output;
+  private final boolean ordered;
+  private final int maxPending;
+  private final ExecutorService executor;
+  private final CompletionService<List<Object>> completionService;
+  private final Deque<Future<List<Object>>> pending = new ArrayDeque<>();
+  private int pendingCount;
+
+  private final PrintWriter progressOut;
+  private final LongSupplier processedItems;
+  private final String itemName;
+  private final long startNanos;
+  private long lastProgressNanos;
+  private long totalItems = -1L;
+
+  /**
+   * Constructor.
+   *
+   * @param parallelism number of worker threads, batches are run inline, if less than 2
+   * @param ordered whether to pass the output objects in batch submission order
+   * @param output consumer for the output objects of all batches
+   * @param progressOut receives progress lines, if not {@code null}
+   * @param processedItems supplies the number of processed items for progress lines
+   * @param itemName name of the processed items in progress lines, for example {@code keys}
+   */
+  ParallelBatches(
+      int parallelism,
+      boolean ordered,
+      Consumer<Object> output,
+      PrintWriter progressOut,
+      LongSupplier processedItems,
+      String itemName) {
+    this.output = output;
+    this.ordered = ordered;
+    this.progressOut = progressOut;
+    this.processedItems = processedItems;
+    this.itemName = itemName;
+    this.startNanos = System.nanoTime();
+    this.lastProgressNanos = startNanos;
+
+    if (parallelism > 1) {
+      AtomicInteger threadNum = new AtomicInteger();
+      executor =
+          Executors.newFixedThreadPool(
+              parallelism,
+              r -> {
+                Thread t = new Thread(r, "nessie-cli-worker-" + threadNum.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+              });
+      completionService = ordered ? null : new ExecutorCompletionService<>(executor);
+      maxPending = 2 * parallelism;
+    } else {
+      executor = null;
+      completionService = null;
+      maxPending = 0;
+    }
+  }
+
+  /** Sets the total number of items to process, enables the ETA in progress lines. */
+  void totalItems(long totalItems) {
+    this.totalItems = totalItems;
+  }
+
+  /** Runs the given batch, which must not access any state shared with other batches. */
+  void submit(Consumer<Consumer<Object>> batch) {
+    if (executor == null) {
+      batch.accept(output);
+    } else {
+      Callable<List<Object>> task =
+          () -> {
+            List<Object> results = new ArrayList<>();
+            batch.accept(results::add);
+            return results;
+          };
+      if (ordered) {
+        pending.addLast(executor.submit(task));
+      } else {
+        completionService.submit(task);
+      }
+      pendingCount++;
+
+      while (pendingCount >= maxPending) {
+        awaitNext();
+      }
+      drainCompleted();
+    }
+
+    maybeReportProgress(false);
+  }
+
+  /** Waits for all submitted batches and passes their output objects. */
+  void finish() {
+    while (pendingCount > 0) {
+      awaitNext();
+    }
+    maybeReportProgress(true);
+  }
+
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  private void drainCompleted() {
+    if (ordered) {
+      while (!pending.isEmpty() && pending.peekFirst().isDone()) {
+        awaitNext();
+      }
+    } else {
+      Future<List<Object>> completed;
+      while ((completed = completionService.poll()) != null) {
+        pendingCount--;
+        writeResults(completed);
+      }
+    }
+  }
+
+  private void awaitNext() {
+    Future<List<Object>> next;
+    if (ordered) {
+      next = pending.removeFirst();
+    } else {
+      try {
+        next = completionService.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+    }
+    pendingCount--;
+    writeResults(next);
+  }
+
+  private void writeResults(Future<List<Object>> future) {
+    List<Object> results;
+    try {
+      results = future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+    results.forEach(output);
+  }
+
+  private void maybeReportProgress(boolean last) {
+    if (progressOut == null) {
+      return;
+    }
+    long now = System.nanoTime();
+    if (!last && now - lastProgressNanos < PROGRESS_INTERVAL_NANOS) {
+      return;
+    }
+    lastProgressNanos = now;
+
+    long processed = processedItems.getAsLong();
+    Duration elapsed = Duration.ofNanos(now - startNanos);
+    double perSecond = elapsed.isZero() ? 0d : processed * 1_000_000_000d / elapsed.toNanos();
+
+    StringBuilder line =
+        new StringBuilder()
+            .append(String.format("Processed %,d %s", processed, itemName))
+            .append(" in ")
+            .append(formatDuration(elapsed))
+            .append(String.format(", %,.0f %s/s", perSecond, itemName));
+    if (totalItems > 0L && !last) {
+      line.append(String.format(", %d%%", Math.min(100L, processed * 100L / totalItems)));
+      if (perSecond > 0d && processed < totalItems) {
+        Duration eta = Duration.ofSeconds((long) ((totalItems - processed) / perSecond));
+        line.append(", ETA ").append(formatDuration(eta));
+      }
+    }
+    progressOut.println(line);
+    progressOut.flush();
+  }
+
+  static String formatDuration(Duration duration) {
+    long seconds = duration.getSeconds();
+    return String.format("%d:%02d:%02d", seconds / 3600, (seconds / 60) % 60, seconds % 60);
+  }
+}
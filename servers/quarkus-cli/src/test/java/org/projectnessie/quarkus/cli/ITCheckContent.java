@@ -23,9 +23,12 @@ import com.google.protobuf.ByteString;
 import io.quarkus.test.junit.TestProfile;
 import io.quarkus.test.junit.main.QuarkusMainLauncher;
 import io.quarkus.test.junit.main.QuarkusMainTest;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
@@ -158,6 +161,44 @@ class ITCheckContent extends BaseContentTest<CheckContentEntry> {
     assertThat(result.exitCode()).isEqualTo(0);
   }
 
+  @ParameterizedTest
+  @CsvSource({"1,false", "3,false", "3,true"})
+  public void testParallel(
+      int parallelism, boolean unordered, QuarkusMainLauncher launcher, DatabaseAdapter adapter)
+      throws Exception {
+    commit(table1, adapter);
+    commit(table2, adapter);
+    commit(table3, adapter);
+    commit(table4, adapter);
+
+    launch(launcher, "check-content", "--summary", "--batch=1");
+    List<CheckContentEntry> sequential = entries;
+
+    List<String> args =
+        new ArrayList<>(
+            List.of(
+                "check-content",
+                "--summary",
+                "--batch=1",
+                "--progress",
+                "--parallelism=" + parallelism));
+    if (unordered) {
+      args.add("--unordered");
+    }
+    launch(launcher, args.toArray(new String[0]));
+    assertThat(entries).hasSize(4);
+    assertThat(entries).allSatisfy(e -> assertThat(e.getStatus()).isEqualTo("OK"));
+    if (unordered) {
+      assertThat(entries).containsExactlyInAnyOrderElementsOf(sequential);
+    } else {
+      assertThat(entries).containsExactlyElementsOf(sequential);
+    }
+    assertThat(result.exitCode()).isEqualTo(0);
+    assertThat(result.getOutputStream()).contains("Detected 0 errors in 4 keys.");
+    assertThat(result.getErrorStream())
+        .anySatisfy(line -> assertThat(line).startsWith("Processed 4 keys"));
+  }
+
   @Test
   public void testValidDataNoContent(QuarkusMainLauncher launcher, DatabaseAdapter adapter)
       throws Exception {
@@ -24,7 +24,7 @@ import io.quarkus.test.junit.main.QuarkusMainTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.IcebergTable;
@@ -86,15 +86,17 @@ class ITContentInfo extends BaseContentTest<ContentInfoEntry> {
   }
 
   @ParameterizedTest
-  @ValueSource(ints = {1, 2, 3, 4, 100})
-  public void testValidData(int batchSize, QuarkusMainLauncher launcher, DatabaseAdapter adapter)
+  @CsvSource({"1,1", "2,1", "3,1", "4,1", "100,1", "1,3", "2,2"})
+  public void testValidData(
+      int batchSize, int parallelism, QuarkusMainLauncher launcher, DatabaseAdapter adapter)
       throws Exception {
 
     commit(table1, adapter);
     commit(table2, adapter);
     commit(table3, adapter);
 
-    launch(launcher, "content-info", "--batch", "" + batchSize);
+    launch(
+        launcher, "content-info", "--batch", "" + batchSize, "--parallelism", "" + parallelism);
     assertThat(entries).hasSize(3);
     assertThat(entries).allSatisfy(e -> assertThat(e.getStorageModel()).isEqualTo("ON_REF_STATE"));
     assertThat(entries)
@@ -35,4 +35,13 @@ public interface QuarkusServerConfig extends ServerConfig {
   @WithName("send-stacktrace-to-client")
   @WithDefault("false")
   boolean sendStacktraceToClient();
+
+  /**
+   * Number of most recent repository events retained for the events endpoint, {@code 0} disables
+   * the collection of repository events. Events are only retained by the server instance that
+   * produced them.
+   */
+  @WithName("events.buffer-size")
+  @WithDefault("10000")
+  int eventsBufferSize();
 }
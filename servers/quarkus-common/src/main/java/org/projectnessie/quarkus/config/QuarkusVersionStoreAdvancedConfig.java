@@ -78,6 +78,16 @@ public interface QuarkusVersionStoreAdvancedConfig
   @Override
   int getKeyListEntityPrefetch();
 
+  @WithName("key-list-entity-adaptive-prefetch")
+  @WithDefault("" + DEFAULT_KEY_LIST_ENTITY_ADAPTIVE_PREFETCH)
+  @Override
+  int getKeyListEntityAdaptivePrefetch();
+
+  @WithName("entity-compression-threshold")
+  @WithDefault("" + DEFAULT_ENTITY_COMPRESSION_THRESHOLD)
+  @Override
+  int getEntityCompressionThreshold();
+
   @WithName("commit-timeout")
   @WithDefault("" + DEFAULT_COMMIT_TIMEOUT)
   @Override
@@ -118,6 +128,26 @@ public interface QuarkusVersionStoreAdvancedConfig
   @Override
   int getAttachmentKeysBatchSize();
 
+  @WithName("commit-sequencer.max-batch-size")
+  @WithDefault("" + DEFAULT_COMMIT_SEQUENCER_MAX_BATCH_SIZE)
+  @Override
+  int getCommitSequencerMaxBatchSize();
+
+  @WithName("merge.max-commits")
+  @WithDefault("" + DEFAULT_MERGE_MAX_COMMITS)
+  @Override
+  int getMergeMaxCommits();
+
+  @WithName("merge.max-keys")
+  @WithDefault("" + DEFAULT_MERGE_MAX_KEYS)
+  @Override
+  int getMergeMaxKeys();
+
+  @WithName("merge.plan-cache-size")
+  @WithDefault("" + DEFAULT_MERGE_PLAN_CACHE_SIZE)
+  @Override
+  int getMergePlanCacheSize();
+
   @WithName("tx.jdbc.catalog")
   @WithDefault("")
   @WithConverter(RepoIdConverter.class)
@@ -20,6 +20,9 @@ import io.quarkus.runtime.annotations.StaticInitSafe;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
+import java.util.List;
+import org.projectnessie.versioned.persist.mongodb.MongoClientConfig;
+import org.projectnessie.versioned.persist.rocks.RocksDbConfig;
 
 /** Version store configuration. */
 @StaticInitSafe
@@ -58,5 +61,49 @@ public interface VersionStoreConfig {
     @WithName("db-path")
     @WithDefault("/tmp/nessie-rocksdb")
     String getDbPath();
+
+    /** Size in bytes of the block cache shared by all column families. */
+    @WithName("block-cache-size")
+    @WithDefault("" + RocksDbConfig.DEFAULT_BLOCK_CACHE_SIZE)
+    long getBlockCacheSize();
+
+    /** Column families tuned for point lookups. */
+    @WithName("point-lookup-column-families")
+    @WithDefault("commit_log,key_list")
+    List<String> getPointLookupColumnFamilies();
+
+    /** Bits per key of the bloom filters of the point lookup column families. */
+    @WithName("bloom-filter-bits-per-key")
+    @WithDefault("" + RocksDbConfig.DEFAULT_BLOOM_FILTER_BITS_PER_KEY)
+    double getBloomFilterBitsPerKey();
+
+    /** Compression of all column families, for example {@code lz4} or {@code none}. */
+    @WithName("compression")
+    @WithDefault(RocksDbConfig.DEFAULT_COMPRESSION)
+    String getCompression();
+
+    /** Maximum total size in bytes of the write-ahead-log files. */
+    @WithName("max-total-wal-size")
+    @WithDefault("" + RocksDbConfig.DEFAULT_MAX_TOTAL_WAL_SIZE)
+    long getMaxTotalWalSize();
+
+    /** Whether RocksDB statistics are collected and exported as metrics. */
+    @WithName("statistics.enable")
+    @WithDefault("" + RocksDbConfig.DEFAULT_STATISTICS_ENABLED)
+    boolean isStatisticsEnabled();
+  }
+
+  @StaticInitSafe
+  @ConfigMapping(prefix = "nessie.version.store.mongo")
+  interface MongoVersionStoreConfig {
+    /** Maximum number of concurrent queries per operation reading independent batches. */
+    @WithName("max-concurrent-reads")
+    @WithDefault("" + MongoClientConfig.DEFAULT_MAX_CONCURRENT_READS)
+    int getMaxConcurrentReads();
+
+    /** Maximum number of documents fetched by ID in a single query. */
+    @WithName("read-batch-size")
+    @WithDefault("" + MongoClientConfig.DEFAULT_READ_BATCH_SIZE)
+    int getReadBatchSize();
   }
 }
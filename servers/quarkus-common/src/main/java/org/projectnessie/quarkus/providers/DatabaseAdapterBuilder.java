@@ -16,6 +16,7 @@
 package org.projectnessie.quarkus.providers;
 
 import org.projectnessie.versioned.persist.adapter.DatabaseAdapter;
+import org.projectnessie.versioned.persist.adapter.events.AdapterEventConsumer;
 
 /** Factory interface for creating database adapter instances. */
 public interface DatabaseAdapterBuilder {
@@ -23,7 +24,8 @@ public interface DatabaseAdapterBuilder {
   /**
    * Creates a new database adapter instance.
    *
+   * @param eventConsumer receives the events emitted by the database adapter, may be {@code null}
    * @return new database adapter instance
    */
-  DatabaseAdapter newDatabaseAdapter();
+  DatabaseAdapter newDatabaseAdapter(AdapterEventConsumer eventConsumer);
 }
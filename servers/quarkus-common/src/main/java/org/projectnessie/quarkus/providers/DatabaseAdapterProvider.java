@@ -26,7 +26,10 @@ import org.projectnessie.quarkus.config.VersionStoreConfig;
 import org.projectnessie.quarkus.config.VersionStoreConfig.VersionStoreType;
 import org.projectnessie.quarkus.providers.StoreType.Literal;
 import org.projectnessie.services.config.ServerConfig;
+import org.projectnessie.services.events.RepositoryEventBuffer;
 import org.projectnessie.versioned.persist.adapter.DatabaseAdapter;
+import org.projectnessie.versioned.persist.adapter.events.AdapterEventConsumer;
+import org.projectnessie.versioned.persist.adapter.events.RepositoryEventDispatcher;
 import org.projectnessie.versioned.persist.adapter.spi.TracingDatabaseAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,15 +42,18 @@ public class DatabaseAdapterProvider {
   private final Instance<DatabaseAdapterBuilder> databaseAdapterBuilder;
   private final VersionStoreConfig storeConfig;
   private final ServerConfig serverConfig;
+  private final RepositoryEventBuffer eventBuffer;
 
   @Inject
   public DatabaseAdapterProvider(
       @Any Instance<DatabaseAdapterBuilder> databaseAdapterBuilder,
       VersionStoreConfig storeConfig,
-      ServerConfig serverConfig) {
+      ServerConfig serverConfig,
+      RepositoryEventBuffer eventBuffer) {
     this.databaseAdapterBuilder = databaseAdapterBuilder;
     this.storeConfig = storeConfig;
     this.serverConfig = serverConfig;
+    this.eventBuffer = eventBuffer;
   }
 
   @Produces
@@ -58,8 +64,14 @@ public class DatabaseAdapterProvider {
 
     LOGGER.info("Using {} Version store", versionStoreType);
 
+    AdapterEventConsumer eventConsumer =
+        eventBuffer.isEnabled() ? new RepositoryEventDispatcher(eventBuffer::publish) : null;
+
     DatabaseAdapter databaseAdapter =
-        databaseAdapterBuilder.select(new Literal(versionStoreType)).get().newDatabaseAdapter();
+        databaseAdapterBuilder
+            .select(new Literal(versionStoreType))
+            .get()
+            .newDatabaseAdapter(eventConsumer);
     databaseAdapter.initializeRepo(serverConfig.getDefaultBranch());
 
     if (storeConfig.isTracingEnabled()) {
@@ -20,6 +20,7 @@ import static org.projectnessie.quarkus.config.VersionStoreConfig.VersionStoreTy
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 import org.projectnessie.versioned.persist.adapter.DatabaseAdapter;
+import org.projectnessie.versioned.persist.adapter.events.AdapterEventConsumer;
 import org.projectnessie.versioned.persist.dynamodb.DynamoDatabaseAdapterFactory;
 import org.projectnessie.versioned.persist.dynamodb.DynamoDatabaseClient;
 import org.projectnessie.versioned.persist.dynamodb.ProvidedDynamoClientConfig;
@@ -34,7 +35,7 @@ public class DynamoDatabaseAdapterBuilder implements DatabaseAdapterBuilder {
   @Inject NonTransactionalDatabaseAdapterConfig config;
 
   @Override
-  public DatabaseAdapter newDatabaseAdapter() {
+  public DatabaseAdapter newDatabaseAdapter(AdapterEventConsumer eventConsumer) {
     DynamoDatabaseClient client = new DynamoDatabaseClient();
     client.configure(ProvidedDynamoClientConfig.of(dynamoConfig));
     client.initialize();
@@ -43,6 +44,7 @@ public class DynamoDatabaseAdapterBuilder implements DatabaseAdapterBuilder {
         .newBuilder()
         .withConfig(config)
         .withConnector(client)
+        .withEventConsumer(eventConsumer)
         .build();
   }
 }
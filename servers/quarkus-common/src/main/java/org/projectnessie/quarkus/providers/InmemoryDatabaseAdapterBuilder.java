@@ -20,6 +20,7 @@ import static org.projectnessie.quarkus.config.VersionStoreConfig.VersionStoreTy
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 import org.projectnessie.versioned.persist.adapter.DatabaseAdapter;
+import org.projectnessie.versioned.persist.adapter.events.AdapterEventConsumer;
 import org.projectnessie.versioned.persist.inmem.InmemoryDatabaseAdapterFactory;
 import org.projectnessie.versioned.persist.inmem.InmemoryStore;
 import org.projectnessie.versioned.persist.nontx.NonTransactionalDatabaseAdapterConfig;
@@ -31,11 +32,12 @@ public class InmemoryDatabaseAdapterBuilder implements DatabaseAdapterBuilder {
   @Inject NonTransactionalDatabaseAdapterConfig config;
 
   @Override
-  public DatabaseAdapter newDatabaseAdapter() {
+  public DatabaseAdapter newDatabaseAdapter(AdapterEventConsumer eventConsumer) {
     return new InmemoryDatabaseAdapterFactory()
         .newBuilder()
         .withConfig(config)
         .withConnector(new InmemoryStore())
+        .withEventConsumer(eventConsumer)
         .build();
   }
 }
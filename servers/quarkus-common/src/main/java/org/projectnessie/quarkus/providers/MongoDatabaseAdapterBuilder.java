@@ -24,7 +24,9 @@ import io.quarkus.mongodb.runtime.MongoClients;
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.projectnessie.quarkus.config.VersionStoreConfig.MongoVersionStoreConfig;
 import org.projectnessie.versioned.persist.adapter.DatabaseAdapter;
+import org.projectnessie.versioned.persist.adapter.events.AdapterEventConsumer;
 import org.projectnessie.versioned.persist.mongodb.MongoClientConfig;
 import org.projectnessie.versioned.persist.mongodb.MongoDatabaseAdapterFactory;
 import org.projectnessie.versioned.persist.mongodb.MongoDatabaseClient;
@@ -39,21 +41,27 @@ public class MongoDatabaseAdapterBuilder implements DatabaseAdapterBuilder {
   String databaseName;
 
   @Inject NonTransactionalDatabaseAdapterConfig config;
+  @Inject MongoVersionStoreConfig mongoConfig;
 
   @Override
-  public DatabaseAdapter newDatabaseAdapter() {
+  public DatabaseAdapter newDatabaseAdapter(AdapterEventConsumer eventConsumer) {
     MongoClients mongoClients = Arc.container().instance(MongoClients.class).get();
     MongoClient mongoClient =
         mongoClients.createMongoClient(MongoClientBeanUtil.DEFAULT_MONGOCLIENT_NAME);
 
     MongoDatabaseClient client = new MongoDatabaseClient();
-    client.configure(MongoClientConfig.of(mongoClient).withDatabaseName(databaseName));
+    client.configure(
+        MongoClientConfig.of(mongoClient)
+            .withDatabaseName(databaseName)
+            .withMaxConcurrentReads(mongoConfig.getMaxConcurrentReads())
+            .withReadBatchSize(mongoConfig.getReadBatchSize()));
     client.initialize();
 
     return new MongoDatabaseAdapterFactory()
         .newBuilder()
         .withConfig(config)
         .withConnector(client)
+        .withEventConsumer(eventConsumer)
         .build();
   }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.quarkus.providers;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Disposes;
+import javax.enterprise.inject.Produces;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.projectnessie.quarkus.config.QuarkusServerConfig;
+import org.projectnessie.services.events.RepositoryEventBuffer;
+
+@ApplicationScoped
+public class RepositoryEventBufferProvider {
+
+  private final QuarkusServerConfig serverConfig;
+
+  @Inject
+  public RepositoryEventBufferProvider(QuarkusServerConfig serverConfig) {
+    this.serverConfig = serverConfig;
+  }
+
+  @Produces
+  @Singleton
+  public RepositoryEventBuffer produceRepositoryEventBuffer() {
+    return new RepositoryEventBuffer(serverConfig.eventsBufferSize());
+  }
+
+  void close(@Disposes RepositoryEventBuffer eventBuffer) {
+    eventBuffer.close();
+  }
+}
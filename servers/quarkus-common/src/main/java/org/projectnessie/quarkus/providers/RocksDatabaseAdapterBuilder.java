@@ -20,6 +20,7 @@ import static org.projectnessie.quarkus.config.VersionStoreConfig.VersionStoreTy
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 import org.projectnessie.versioned.persist.adapter.DatabaseAdapter;
+import org.projectnessie.versioned.persist.adapter.events.AdapterEventConsumer;
 import org.projectnessie.versioned.persist.nontx.NonTransactionalDatabaseAdapterConfig;
 import org.projectnessie.versioned.persist.rocks.RocksDatabaseAdapterFactory;
 import org.projectnessie.versioned.persist.rocks.RocksDbInstance;
@@ -32,11 +33,12 @@ public class RocksDatabaseAdapterBuilder implements DatabaseAdapterBuilder {
   @Inject NonTransactionalDatabaseAdapterConfig config;
 
   @Override
-  public DatabaseAdapter newDatabaseAdapter() {
+  public DatabaseAdapter newDatabaseAdapter(AdapterEventConsumer eventConsumer) {
     return new RocksDatabaseAdapterFactory()
         .newBuilder()
         .withConfig(config)
         .withConnector(rocksDbInstance)
+        .withEventConsumer(eventConsumer)
         .build();
   }
 }
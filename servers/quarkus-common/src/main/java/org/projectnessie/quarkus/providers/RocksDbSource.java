@@ -32,7 +32,15 @@ public class RocksDbSource {
   RocksDbInstance createRocksDbInstance() {
     RocksDbInstance rocksDbInstance = new RocksDbInstance();
     rocksDbInstance.configure(
-        ImmutableRocksDbConfig.builder().dbPath(rocksConfig.getDbPath()).build());
+        ImmutableRocksDbConfig.builder()
+            .dbPath(rocksConfig.getDbPath())
+            .blockCacheSize(rocksConfig.getBlockCacheSize())
+            .pointLookupColumnFamilies(rocksConfig.getPointLookupColumnFamilies())
+            .bloomFilterBitsPerKey(rocksConfig.getBloomFilterBitsPerKey())
+            .compression(rocksConfig.getCompression())
+            .maxTotalWalSize(rocksConfig.getMaxTotalWalSize())
+            .statisticsEnabled(rocksConfig.isStatisticsEnabled())
+            .build());
     rocksDbInstance.initialize();
     return rocksDbInstance;
   }
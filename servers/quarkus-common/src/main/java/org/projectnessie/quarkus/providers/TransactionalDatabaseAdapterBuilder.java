@@ -20,6 +20,7 @@ import static org.projectnessie.quarkus.config.VersionStoreConfig.VersionStoreTy
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 import org.projectnessie.versioned.persist.adapter.DatabaseAdapter;
+import org.projectnessie.versioned.persist.adapter.events.AdapterEventConsumer;
 import org.projectnessie.versioned.persist.tx.TxConnectionConfig;
 import org.projectnessie.versioned.persist.tx.TxConnectionProvider;
 import org.projectnessie.versioned.persist.tx.TxDatabaseAdapterConfig;
@@ -33,11 +34,12 @@ public class TransactionalDatabaseAdapterBuilder implements DatabaseAdapterBuild
   @Inject TxConnectionProvider<TxConnectionConfig> connector;
 
   @Override
-  public DatabaseAdapter newDatabaseAdapter() {
+  public DatabaseAdapter newDatabaseAdapter(AdapterEventConsumer eventConsumer) {
     return new PostgresDatabaseAdapterFactory()
         .newBuilder()
         .withConfig(config)
         .withConnector(connector)
+        .withEventConsumer(eventConsumer)
         .build();
   }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.authz;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.projectnessie.services.authz.Check.CheckType;
+
+/**
+ * Determines the values of the {@code op} variable for which an authorization rule can possibly
+ * evaluate to {@code true}, so that rules that cannot match an operation do not need to be
+ * evaluated for it.
+ *
+ * <p>The analysis is conservative: only conditions of the form {@code op == 'NAME'} and {@code op
+ * in ['NAME', ...]}, combined via {@code &&} and {@code ||} and optionally enclosed in parentheses,
+ * restrict the set of operations. Any other expression is assumed to potentially match all
+ * operations.
+ */
+final class AuthorizationRuleOps {
+
+  private static final Pattern OP_EQUALS =
+      Pattern.compile("^(?:op\\s*==\\s*(['\"])(\\w+)\\1|(['\"])(\\w+)\\3\\s*==\\s*op)$");
+  private static final Pattern OP_IN =
+      Pattern.compile("^op\\s+in\\s*\\[((?:\\s*(['\"])\\w+\\2\\s*,?)*)\\s*]$");
+  private static final Pattern QUOTED_NAME = Pattern.compile("['\"](\\w+)['\"]");
+
+  private AuthorizationRuleOps() {}
+
+  static Set<CheckType> possibleOps(String expression) {
+    String expr = stripEnclosingParentheses(expression.trim());
+
+    if (!topLevelPositions(expr, "?").isEmpty()) {
+      return EnumSet.allOf(CheckType.class);
+    }
+
+    List<String> disjuncts = splitTopLevel(expr, "||");
+    if (disjuncts.size() > 1) {
+      Set<CheckType> ops = EnumSet.noneOf(CheckType.class);
+      for (String disjunct : disjuncts) {
+        ops.addAll(possibleOps(disjunct));
+      }
+      return ops;
+    }
+
+    List<String> conjuncts = splitTopLevel(expr, "&&");
+    if (conjuncts.size() > 1) {
+      Set<CheckType> ops = EnumSet.allOf(CheckType.class);
+      for (String conjunct : conjuncts) {
+        ops.retainAll(possibleOps(conjunct));
+      }
+      return ops;
+    }
+
+    return atomOps(expr);
+  }
+
+  private static Set<CheckType> atomOps(String expr) {
+    Matcher m = OP_EQUALS.matcher(expr);
+    if (m.matches()) {
+      return opsForNames(Collections.singletonList(m.group(2) != null ? m.group(2) : m.group(4)));
+    }
+    m = OP_IN.matcher(expr);
+    if (m.matches()) {
+      List<String> names = new ArrayList<>();
+      Matcher name = QUOTED_NAME.matcher(m.group(1));
+      while (name.find()) {
+        names.add(name.group(1));
+      }
+      return opsForNames(names);
+    }
+    return EnumSet.allOf(CheckType.class);
+  }
+
+  private static Set<CheckType> opsForNames(List<String> names) {
+    Set<CheckType> ops = EnumSet.noneOf(CheckType.class);
+    for (CheckType type : CheckType.values()) {
+      if (names.contains(type.name())) {
+        ops.add(type);
+      }
+    }
+    return ops;
+  }
+
+  private static String stripEnclosingParentheses(String expr) {
+    while (expr.startsWith("(") && closingParenthesis(expr) == expr.length() - 1) {
+      expr = expr.substring(1, expr.length() - 1).trim();
+    }
+    return expr;
+  }
+
+  /** Returns the index of the parenthesis that closes the one at index {@code 0}. */
+  private static int closingParenthesis(String expr) {
+    int depth = 0;
+    char quote = 0;
+    for (int i = 0; i < expr.length(); i++) {
+      char c = expr.charAt(i);
+      if (quote != 0) {
+        if (c == '\\') {
+          i++;
+        } else if (c == quote) {
+          quote = 0;
+        }
+      } else if (c == '\'' || c == '"') {
+        quote = c;
+      } else if (c == '(') {
+        depth++;
+      } else if (c == ')' && --depth == 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static List<String> splitTopLevel(String expr, String operator) {
+    List<String> parts = new ArrayList<>();
+    int start = 0;
+    for (int pos : topLevelPositions(expr, operator)) {
+      parts.add(expr.substring(start, pos));
+      start = pos + operator.length();
+    }
+    parts.add(expr.substring(start));
+    return parts;
+  }
+
+  /**
+   * Returns the positions of the given operator outside of string literals, parentheses, brackets
+   * and braces.
+   */
+  private static List<Integer> topLevelPositions(String expr, String operator) {
+    List<Integer> positions = new ArrayList<>();
+    int depth = 0;
+    char quote = 0;
+    for (int i = 0; i < expr.length(); i++) {
+      char c = expr.charAt(i);
+      if (quote != 0) {
+        if (c == '\\') {
+          i++;
+        } else if (c == quote) {
+          quote = 0;
+        }
+      } else if (c == '\'' || c == '"') {
+        quote = c;
+      } else if (c == '(' || c == '[' || c == '{') {
+        depth++;
+      } else if (c == ')' || c == ']' || c == '}') {
+        depth--;
+      } else if (depth == 0 && expr.startsWith(operator, i)) {
+        positions.add(i);
+        i += operator.length() - 1;
+      }
+    }
+    return positions;
+  }
+}
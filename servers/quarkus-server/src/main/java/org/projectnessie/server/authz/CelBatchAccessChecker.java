@@ -19,7 +19,6 @@ import com.google.common.collect.ImmutableMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Supplier;
-import org.projectnessie.cel.tools.ScriptException;
 import org.projectnessie.services.authz.AbstractBatchAccessChecker;
 import org.projectnessie.services.authz.AccessContext;
 import org.projectnessie.services.authz.BatchAccessChecker;
@@ -122,21 +121,7 @@ final class CelBatchAccessChecker extends AbstractBatchAccessChecker {
       Check check,
       Supplier<String> errorMessageSupplier,
       Map<Check, String> failed) {
-    boolean allowed =
-        compiledRules.getRules().entrySet().stream()
-            .anyMatch(
-                entry -> {
-                  try {
-                    return entry.getValue().execute(Boolean.class, arguments);
-                  } catch (ScriptException e) {
-                    throw new RuntimeException(
-                        String.format(
-                            "Failed to execute authorization rule with id '%s' due to: %s",
-                            entry.getKey(), e.getMessage()),
-                        e);
-                  }
-                });
-    if (!allowed) {
+    if (!compiledRules.isAllowed(check.type(), arguments)) {
       failed.put(check, errorMessageSupplier.get());
     }
   }
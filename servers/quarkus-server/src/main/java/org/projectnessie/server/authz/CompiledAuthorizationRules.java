@@ -17,26 +17,39 @@ package org.projectnessie.server.authz;
 
 import static org.projectnessie.services.authz.Check.CheckType.VIEW_REFERENCE;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import io.quarkus.runtime.Startup;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.projectnessie.cel.tools.Script;
 import org.projectnessie.cel.tools.ScriptException;
 import org.projectnessie.server.config.QuarkusNessieAuthorizationConfig;
+import org.projectnessie.services.authz.Check.CheckType;
 import org.projectnessie.services.cel.CELUtil;
 
 /**
  * Compiles the authorization rules from {@link QuarkusNessieAuthorizationConfig} at startup and
  * provides access to them via {@link CompiledAuthorizationRules#getRules()}.
+ *
+ * <p>Rules are partitioned by the operations they can possibly match, see {@link
+ * AuthorizationRuleOps}, and the results of rule evaluations are cached, because rules only depend
+ * on the role, operation, reference, path and content type. The decision cache belongs to the
+ * compiled rules, so it is discarded whenever the rules are compiled again.
  */
 @Singleton
 @Startup
 public class CompiledAuthorizationRules {
   private final QuarkusNessieAuthorizationConfig config;
   private final Map<String, Script> compiledRules;
+  private final Map<CheckType, Map<String, Script>> rulesByOp;
+  private final Cache<Map<String, Object>, Boolean> decisionCache;
   private static final String ALLOW_VIEWING_ALL_REFS_ID = "__ALLOW_VIEWING_REF_ID";
   private static final String ALLOW_VIEWING_ALL_REFS =
       String.format("op=='%s' && ref.matches('.*')", VIEW_REFERENCE);
@@ -45,6 +58,11 @@ public class CompiledAuthorizationRules {
   public CompiledAuthorizationRules(QuarkusNessieAuthorizationConfig config) {
     this.config = config;
     this.compiledRules = compileAuthorizationRules();
+    this.rulesByOp = partitionRulesByOp(compiledRules);
+    this.decisionCache =
+        config.decisionCacheSize() > 0
+            ? CacheBuilder.newBuilder().maximumSize(config.decisionCacheSize()).build()
+            : null;
   }
 
   /**
@@ -81,6 +99,20 @@ public class CompiledAuthorizationRules {
     return ImmutableMap.copyOf(scripts);
   }
 
+  private static Map<CheckType, Map<String, Script>> partitionRulesByOp(
+      Map<String, Script> rules) {
+    Map<CheckType, Map<String, Script>> byOp = new EnumMap<>(CheckType.class);
+    for (CheckType type : CheckType.values()) {
+      byOp.put(type, new LinkedHashMap<>());
+    }
+    rules.forEach(
+        (expression, script) ->
+            AuthorizationRuleOps.possibleOps(expression)
+                .forEach(type -> byOp.get(type).put(expression, script)));
+    byOp.replaceAll((type, scripts) -> ImmutableMap.copyOf(scripts));
+    return byOp;
+  }
+
   /**
    * Returns a map of compiled authorization rules.
    *
@@ -89,4 +121,57 @@ public class CompiledAuthorizationRules {
   public Map<String, Script> getRules() {
     return compiledRules;
   }
+
+  /**
+   * Returns the compiled authorization rules that can possibly allow the given operation.
+   *
+   * @param op the operation
+   * @return A map of compiled authorization rules
+   */
+  public Map<String, Script> getRules(CheckType op) {
+    return rulesByOp.get(op);
+  }
+
+  /**
+   * Checks whether any rule allows the operation described by the given arguments, which must
+   * contain the values for the {@code role}, {@code op}, {@code ref}, {@code path} and {@code
+   * contentType} variables.
+   *
+   * @param op the operation to check
+   * @param arguments the arguments for the rules
+   * @return {@code true} if at least one rule evaluates to {@code true}
+   */
+  boolean isAllowed(CheckType op, Map<String, Object> arguments) {
+    if (decisionCache == null) {
+      return evaluate(op, arguments);
+    }
+    Boolean allowed = decisionCache.getIfPresent(arguments);
+    if (allowed == null) {
+      allowed = evaluate(op, arguments);
+      decisionCache.put(arguments, allowed);
+    }
+    return allowed;
+  }
+
+  /** Number of currently cached authorization decisions. */
+  @VisibleForTesting
+  long cachedDecisions() {
+    return decisionCache != null ? decisionCache.size() : 0L;
+  }
+
+  private boolean evaluate(CheckType op, Map<String, Object> arguments) {
+    return getRules(op).entrySet().stream()
+        .anyMatch(
+            entry -> {
+              try {
+                return entry.getValue().execute(Boolean.class, arguments);
+              } catch (ScriptException e) {
+                throw new RuntimeException(
+                    String.format(
+                        "Failed to execute authorization rule with id '%s' due to: %s",
+                        entry.getKey(), e.getMessage()),
+                    e);
+              }
+            });
+  }
 }
@@ -42,4 +42,14 @@ public interface QuarkusNessieAuthorizationConfig {
    *     expression.
    */
   Map<String, String> rules();
+
+  /**
+   * Maximum number of authorization decisions cached per Nessie server instance, keyed by role,
+   * operation, reference, path and content type. {@code 0} disables the cache.
+   *
+   * @return maximum number of cached authorization decisions
+   */
+  @WithName("decision-cache-size")
+  @WithDefault("10000")
+  int decisionCacheSize();
 }
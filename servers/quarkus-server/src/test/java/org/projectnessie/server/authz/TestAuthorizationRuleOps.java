@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.authz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.projectnessie.services.authz.Check.CheckType.CREATE_REFERENCE;
+import static org.projectnessie.services.authz.Check.CheckType.DELETE_REFERENCE;
+import static org.projectnessie.services.authz.Check.CheckType.READ_ENTITY_VALUE;
+import static org.projectnessie.services.authz.Check.CheckType.VIEW_REFERENCE;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.projectnessie.services.authz.Check.CheckType;
+
+class TestAuthorizationRuleOps {
+
+  static Stream<Arguments> possibleOps() {
+    Set<CheckType> all = EnumSet.allOf(CheckType.class);
+    return Stream.of(
+        Arguments.of("role=='admin'", all),
+        Arguments.of("op=='VIEW_REFERENCE'", EnumSet.of(VIEW_REFERENCE)),
+        Arguments.of("op == \"VIEW_REFERENCE\" && ref.matches('.*')", EnumSet.of(VIEW_REFERENCE)),
+        Arguments.of("'VIEW_REFERENCE' == op", EnumSet.of(VIEW_REFERENCE)),
+        Arguments.of("(op=='VIEW_REFERENCE') && role=='x'", EnumSet.of(VIEW_REFERENCE)),
+        Arguments.of(
+            "op in ['VIEW_REFERENCE','CREATE_REFERENCE', 'NO_SUCH_OP'] && role=='admin_user'",
+            EnumSet.of(VIEW_REFERENCE, CREATE_REFERENCE)),
+        Arguments.of(
+            "(op=='VIEW_REFERENCE' || op=='DELETE_REFERENCE') && role=='x'",
+            EnumSet.of(VIEW_REFERENCE, DELETE_REFERENCE)),
+        Arguments.of(
+            "op=='VIEW_REFERENCE' && role=='x' || op=='READ_ENTITY_VALUE'",
+            EnumSet.of(VIEW_REFERENCE, READ_ENTITY_VALUE)),
+        Arguments.of("op=='VIEW_REFERENCE' && role=='x' || role=='admin'", all),
+        Arguments.of(
+            "op=='VIEW_REFERENCE' && op=='CREATE_REFERENCE'", EnumSet.noneOf(CheckType.class)),
+        Arguments.of("op!='VIEW_REFERENCE'", all),
+        Arguments.of("!(op=='VIEW_REFERENCE')", all),
+        Arguments.of("op=='VIEW_REFERENCE' ? true : role=='admin'", all),
+        Arguments.of("op=='VIEW_REFERENCE' && path == 'a || b'", EnumSet.of(VIEW_REFERENCE)),
+        Arguments.of("op=='VIEW_REFERENCE' && path.startsWith('x?')", EnumSet.of(VIEW_REFERENCE)),
+        Arguments.of("(op=='VIEW_REFERENCE') || (role=='x')", all));
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  void possibleOps(String expression, Set<CheckType> expected) {
+    assertThat(AuthorizationRuleOps.possibleOps(expression))
+        .containsExactlyInAnyOrderElementsOf(expected);
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.server.authz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.projectnessie.services.authz.Check.CheckType.COMMIT_CHANGE_AGAINST_REFERENCE;
+import static org.projectnessie.services.authz.Check.CheckType.CREATE_REFERENCE;
+import static org.projectnessie.services.authz.Check.CheckType.DELETE_REFERENCE;
+import static org.projectnessie.services.authz.Check.CheckType.LIST_COMMIT_LOG;
+import static org.projectnessie.services.authz.Check.CheckType.READ_ENTITY_VALUE;
+import static org.projectnessie.services.authz.Check.CheckType.VIEW_REFERENCE;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.projectnessie.cel.tools.Script;
+import org.projectnessie.cel.tools.ScriptException;
+import org.projectnessie.server.config.QuarkusNessieAuthorizationConfig;
+import org.projectnessie.services.authz.Check.CheckType;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class TestCompiledAuthorizationRules {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  private static final Map<String, String> RULES =
+      ImmutableMap.<String, String>builder()
+          .put(
+              "view_allowed_branches",
+              "op=='VIEW_REFERENCE' && role.startsWith('user') && ref.startsWith('allowed')")
+          .put("manage_refs", "op in ['CREATE_REFERENCE', 'DELETE_REFERENCE'] && role=='admin'")
+          .put("superuser", "role=='superuser'")
+          .put(
+              "read_or_log",
+              "op=='READ_ENTITY_VALUE' && path.startsWith('allowed.') || op=='LIST_COMMIT_LOG'")
+          .put("reader", "op!='DELETE_REFERENCE' && role=='reader'")
+          .put(
+              "commit_tables",
+              "(op=='COMMIT_CHANGE_AGAINST_REFERENCE') && contentType=='ICEBERG_TABLE'")
+          .build();
+
+  private static final List<String> ROLES =
+      Arrays.asList("", "user1", "admin", "superuser", "reader", "other");
+  private static final List<String> REFS = Arrays.asList("", "allowedBranch", "main");
+  private static final List<String> PATHS = Arrays.asList("", "allowed.table", "secret.table");
+  private static final List<String> CONTENT_TYPES = Arrays.asList("", "ICEBERG_TABLE", "NAMESPACE");
+
+  private static CompiledAuthorizationRules compile(Map<String, String> rules, int cacheSize) {
+    return new CompiledAuthorizationRules(
+        new QuarkusNessieAuthorizationConfig() {
+          @Override
+          public boolean enabled() {
+            return true;
+          }
+
+          @Override
+          public Map<String, String> rules() {
+            return rules;
+          }
+
+          @Override
+          public int decisionCacheSize() {
+            return cacheSize;
+          }
+        });
+  }
+
+  private static Map<String, Object> arguments(
+      String role, CheckType op, String ref, String path, String contentType) {
+    return ImmutableMap.of(
+        "role", role, "op", op.name(), "ref", ref, "path", path, "contentType", contentType);
+  }
+
+  /** Evaluates all rules, regardless of the operation, like before rules were partitioned. */
+  private static boolean evaluateAllRules(
+      CompiledAuthorizationRules rules, Map<String, Object> arguments) throws ScriptException {
+    for (Script script : rules.getRules().values()) {
+      if (script.execute(Boolean.class, arguments)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static List<Map<String, Object>> allArguments() {
+    List<Map<String, Object>> all = new ArrayList<>();
+    for (String role : ROLES) {
+      for (CheckType op : CheckType.values()) {
+        for (String ref : REFS) {
+          for (String path : PATHS) {
+            for (String contentType : CONTENT_TYPES) {
+              all.add(arguments(role, op, ref, path, contentType));
+            }
+          }
+        }
+      }
+    }
+    return all;
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 10_000})
+  void sameDecisionsAsEvaluatingAllRules(int cacheSize) throws Exception {
+    CompiledAuthorizationRules rules = compile(RULES, cacheSize);
+
+    List<Map<String, Object>> allArguments = allArguments();
+    for (Map<String, Object> args : allArguments) {
+      CheckType op = CheckType.valueOf((String) args.get("op"));
+      boolean expected = evaluateAllRules(rules, args);
+      // evaluate twice, the second call is served from the decision cache, if enabled
+      soft.assertThat(rules.isAllowed(op, args)).describedAs("%s", args).isEqualTo(expected);
+      soft.assertThat(rules.isAllowed(op, args))
+          .describedAs("%s (cached)", args)
+          .isEqualTo(expected);
+    }
+
+    soft.assertThat(rules.cachedDecisions())
+        .isEqualTo(cacheSize > 0 ? allArguments.size() : 0L);
+  }
+
+  @Test
+  void allowAndDeny() {
+    CompiledAuthorizationRules rules = compile(RULES, 10_000);
+
+    // rule restricted to a single operation
+    soft.assertThat(
+            rules.isAllowed(VIEW_REFERENCE, arguments("user1", VIEW_REFERENCE, "allowedX", "", "")))
+        .isTrue();
+    soft.assertThat(
+            rules.isAllowed(VIEW_REFERENCE, arguments("user1", VIEW_REFERENCE, "main", "", "")))
+        .isFalse();
+    soft.assertThat(
+            rules.isAllowed(
+                CREATE_REFERENCE, arguments("user1", CREATE_REFERENCE, "allowedX", "", "")))
+        .isFalse();
+
+    // multi-operation rule
+    soft.assertThat(
+            rules.isAllowed(CREATE_REFERENCE, arguments("admin", CREATE_REFERENCE, "main", "", "")))
+        .isTrue();
+    soft.assertThat(
+            rules.isAllowed(DELETE_REFERENCE, arguments("admin", DELETE_REFERENCE, "main", "", "")))
+        .isTrue();
+    soft.assertThat(
+            rules.isAllowed(VIEW_REFERENCE, arguments("admin", VIEW_REFERENCE, "main", "", "")))
+        .isFalse();
+
+    // catch-all rules
+    soft.assertThat(
+            rules.isAllowed(
+                DELETE_REFERENCE, arguments("superuser", DELETE_REFERENCE, "main", "", "")))
+        .isTrue();
+    soft.assertThat(
+            rules.isAllowed(VIEW_REFERENCE, arguments("reader", VIEW_REFERENCE, "main", "", "")))
+        .isTrue();
+    soft.assertThat(
+            rules.isAllowed(
+                DELETE_REFERENCE, arguments("reader", DELETE_REFERENCE, "main", "", "")))
+        .isFalse();
+
+    // disjunction of an operation restricted and an unrestricted condition
+    soft.assertThat(
+            rules.isAllowed(
+                READ_ENTITY_VALUE,
+                arguments("other", READ_ENTITY_VALUE, "main", "allowed.t", "ICEBERG_TABLE")))
+        .isTrue();
+    soft.assertThat(
+            rules.isAllowed(
+                READ_ENTITY_VALUE,
+                arguments("other", READ_ENTITY_VALUE, "main", "secret.t", "ICEBERG_TABLE")))
+        .isFalse();
+    soft.assertThat(
+            rules.isAllowed(LIST_COMMIT_LOG, arguments("other", LIST_COMMIT_LOG, "main", "", "")))
+        .isTrue();
+
+    // content type condition
+    soft.assertThat(
+            rules.isAllowed(
+                COMMIT_CHANGE_AGAINST_REFERENCE,
+                arguments(
+                    "other", COMMIT_CHANGE_AGAINST_REFERENCE, "main", "t", "ICEBERG_TABLE")))
+        .isTrue();
+    soft.assertThat(
+            rules.isAllowed(
+                COMMIT_CHANGE_AGAINST_REFERENCE,
+                arguments("other", COMMIT_CHANGE_AGAINST_REFERENCE, "main", "t", "NAMESPACE")))
+        .isFalse();
+  }
+
+  @Test
+  void cachedDecisions() {
+    CompiledAuthorizationRules rules = compile(RULES, 10_000);
+    Map<String, Object> admin = arguments("admin", CREATE_REFERENCE, "main", "", "");
+    Map<String, Object> user = arguments("user1", CREATE_REFERENCE, "main", "", "");
+
+    soft.assertThat(rules.isAllowed(CREATE_REFERENCE, admin)).isTrue();
+    soft.assertThat(rules.cachedDecisions()).isEqualTo(1L);
+    // cache hit
+    soft.assertThat(rules.isAllowed(CREATE_REFERENCE, admin)).isTrue();
+    soft.assertThat(rules.cachedDecisions()).isEqualTo(1L);
+    // decisions are keyed by all rule arguments, a cached "allow" never applies to another role
+    soft.assertThat(rules.isAllowed(CREATE_REFERENCE, user)).isFalse();
+    soft.assertThat(rules.isAllowed(CREATE_REFERENCE, admin)).isTrue();
+    soft.assertThat(rules.cachedDecisions()).isEqualTo(2L);
+
+    // compiling the rules again, with changed rules, starts with an empty cache
+    CompiledAuthorizationRules changed =
+        compile(ImmutableMap.of("manage_refs", "op=='CREATE_REFERENCE' && role=='user1'"), 10_000);
+    soft.assertThat(changed.cachedDecisions()).isEqualTo(0L);
+    soft.assertThat(changed.isAllowed(CREATE_REFERENCE, admin)).isFalse();
+    soft.assertThat(changed.isAllowed(CREATE_REFERENCE, user)).isTrue();
+  }
+
+  @Test
+  void bounded() {
+    CompiledAuthorizationRules rules = compile(RULES, 5);
+    for (int i = 0; i < 20; i++) {
+      soft.assertThat(
+              rules.isAllowed(
+                  VIEW_REFERENCE, arguments("user1", VIEW_REFERENCE, "allowed" + i, "", "")))
+          .isTrue();
+    }
+    soft.assertThat(rules.cachedDecisions()).isLessThanOrEqualTo(5L);
+  }
+}
@@ -35,11 +35,15 @@ dependencies {
   implementation(libs.javax.ws.rs21)
   implementation(libs.javax.servlet)
   implementation(libs.guava)
+  implementation(libs.micrometer.core)
+  implementation(libs.opentracing.api)
+  implementation(libs.opentracing.util)
   compileOnly(libs.microprofile.openapi)
   compileOnly(libs.jakarta.validation.api)
 
   implementation(platform(libs.jackson.bom))
   implementation(libs.jackson.databind)
+  implementation(libs.jackson.jaxrs.smile.provider)
   compileOnly(libs.jackson.annotations)
 
   testCompileOnly(libs.microprofile.openapi)
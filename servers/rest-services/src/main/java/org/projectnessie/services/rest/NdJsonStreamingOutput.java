@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.ContextResolver;
+import javax.ws.rs.ext.Providers;
+import org.projectnessie.model.ser.Views;
+
+/**
+ * Writes the elements of a {@link Stream} as newline delimited JSON, one object per line, without
+ * materializing the whole result in memory. The stream is closed after all elements have been
+ * written or if writing fails.
+ *
+ * <p>Elements are serialized with the server's configured {@link ObjectMapper}, if the JAX-RS
+ * runtime provides one via a {@link ContextResolver}, so that modules and settings match the
+ * non-streaming JSON responses. Indentation is always disabled, because every element must be
+ * written to a single line.
+ */
+final class NdJsonStreamingOutput implements StreamingOutput {
+
+  /** Number of elements after which the output is flushed to the client. */
+  static final int FLUSH_INTERVAL = 100;
+
+  private static final ObjectMapper DEFAULT_MAPPER =
+      new ObjectMapper().disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+  private final ObjectWriter writer;
+  private final Stream<?> stream;
+
+  private NdJsonStreamingOutput(ObjectMapper mapper, Stream<?> stream) {
+    this.writer =
+        mapper
+            .writerWithView(Views.V2.class)
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .withRootValueSeparator("\n");
+    this.stream = stream;
+  }
+
+  /**
+   * Creates the streaming output for the given stream.
+   *
+   * @param providers JAX-RS providers of the current request, used to look up the server's {@link
+   *     ObjectMapper}, may be {@code null}
+   * @param stream elements to write
+   */
+  static StreamingOutput ndJson(Providers providers, Stream<?> stream) {
+    return new NdJsonStreamingOutput(objectMapper(providers), stream);
+  }
+
+  static ObjectMapper objectMapper(Providers providers) {
+    ObjectMapper mapper = configuredObjectMapper(providers);
+    return mapper != null ? mapper : DEFAULT_MAPPER;
+  }
+
+  /**
+   * Returns the server's configured JSON {@link ObjectMapper} or {@code null}, if the JAX-RS
+   * runtime does not provide one.
+   */
+  static ObjectMapper configuredObjectMapper(Providers providers) {
+    if (providers != null) {
+      ContextResolver<ObjectMapper> resolver =
+          providers.getContextResolver(ObjectMapper.class, MediaType.APPLICATION_JSON_TYPE);
+      if (resolver != null) {
+        return resolver.getContext(Object.class);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void write(OutputStream output) throws IOException {
+    try (Stream<?> s = stream;
+        SequenceWriter writer = this.writer.writeValues(output)) {
+      int count = 0;
+      for (Iterator<?> iter = s.iterator(); iter.hasNext(); ) {
+        writer.write(iter.next());
+        if (++count % FLUSH_INTERVAL == 0) {
+          writer.flush();
+        }
+      }
+      if (count > 0) {
+        // terminate the last line, the separator is only written between two elements
+        writer.flush();
+        output.write('\n');
+      }
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.rest;
+
+import static org.projectnessie.api.v2.http.NessieMediaTypes.APPLICATION_SMILE;
+import static org.projectnessie.services.rest.NdJsonStreamingOutput.configuredObjectMapper;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.jaxrs.smile.JacksonSmileProvider;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.Providers;
+
+/**
+ * Reads and writes request and response entities using Jackson's binary Smile encoding, when
+ * requested by clients via the {@code Accept} or {@code Content-Type} headers. The {@code
+ * JsonView} annotations on the resource methods are respected like for JSON.
+ *
+ * <p>The Smile mapper is derived from the server's configured JSON {@link ObjectMapper}, if the
+ * JAX-RS runtime provides one, so that modules and settings match the JSON responses.
+ */
+@Provider
+@Consumes(APPLICATION_SMILE)
+@Produces(APPLICATION_SMILE)
+public class NessieJaxRsSmileProvider extends JacksonSmileProvider {
+
+  private static final ObjectMapper DEFAULT_MAPPER =
+      SmileMapper.builder()
+          .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+          .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+          .build();
+
+  private volatile DerivedMapper derivedMapper;
+
+  public NessieJaxRsSmileProvider() {}
+
+  NessieJaxRsSmileProvider(Providers providers) {
+    this._providers = providers;
+  }
+
+  @Override
+  protected ObjectMapper _locateMapperViaProvider(Class<?> type, MediaType mediaType) {
+    ObjectMapper jsonMapper = configuredObjectMapper(_providers);
+    if (jsonMapper == null) {
+      return DEFAULT_MAPPER;
+    }
+    if (jsonMapper.getFactory() instanceof SmileFactory) {
+      return jsonMapper;
+    }
+
+    DerivedMapper derived = derivedMapper;
+    if (derived == null || derived.jsonMapper != jsonMapper) {
+      ObjectMapper smileMapper;
+      try {
+        smileMapper = jsonMapper.copyWith(new SmileFactory());
+      } catch (IllegalStateException e) {
+        // ObjectMapper subclasses that do not support copying
+        return DEFAULT_MAPPER;
+      }
+      derived = new DerivedMapper(jsonMapper, smileMapper);
+      derivedMapper = derived;
+    }
+    return derived.smileMapper;
+  }
+
+  private static final class DerivedMapper {
+    final ObjectMapper jsonMapper;
+    final ObjectMapper smileMapper;
+
+    DerivedMapper(ObjectMapper jsonMapper, ObjectMapper smileMapper) {
+      this.jsonMapper = jsonMapper;
+      this.smileMapper = smileMapper;
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.rest;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.opentracing.Span;
+import io.opentracing.util.GlobalTracer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletionStage;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.ext.Provider;
+import org.projectnessie.versioned.RequestReadStats;
+
+/**
+ * Accounts the backend reads issued while serving a REST request via {@link RequestReadStats},
+ * reports them in the {@value #READ_STATS_HEADER} response header and as tags of the active trace
+ * span, and records them as distributions per REST endpoint.
+ *
+ * <p>Reads that happen while streaming the response entity, after the response headers have been
+ * sent, are not accounted. Asynchronous resource methods, which return a {@link CompletionStage} or
+ * take a {@link Suspended} {@link javax.ws.rs.container.AsyncResponse}, are not accounted at all,
+ * because their response filters run on a different thread than the request filters, so the
+ * thread-bound accounting could neither see their reads nor be ended.
+ */
+@Provider
+public class RequestReadStatsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  public static final String READ_STATS_HEADER = "Nessie-Read-Stats";
+
+  private static final String PROPERTY = RequestReadStats.class.getName();
+
+  @Context private ResourceInfo resourceInfo;
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) {
+    if (isAsync()) {
+      return;
+    }
+    requestContext.setProperty(PROPERTY, RequestReadStats.start());
+  }
+
+  private boolean isAsync() {
+    Method method = resourceInfo != null ? resourceInfo.getResourceMethod() : null;
+    if (method == null) {
+      return false;
+    }
+    if (CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+      return true;
+    }
+    for (Annotation[] parameterAnnotations : method.getParameterAnnotations()) {
+      for (Annotation annotation : parameterAnnotations) {
+        if (annotation instanceof Suspended) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    Object property = requestContext.getProperty(PROPERTY);
+    if (!(property instanceof RequestReadStats)) {
+      return;
+    }
+    RequestReadStats stats = (RequestReadStats) property;
+    stats.close();
+    requestContext.removeProperty(PROPERTY);
+
+    responseContext.getHeaders().putSingle(READ_STATS_HEADER, stats.toString());
+
+    Span span = GlobalTracer.get().activeSpan();
+    if (span != null) {
+      span.setTag("nessie.read.commits", stats.getCommits());
+      span.setTag("nessie.read.key-lists", stats.getKeyListEntities());
+      span.setTag("nessie.read.global-log", stats.getGlobalLogEntries());
+      span.setTag("nessie.read.bytes", stats.getBytes());
+    }
+
+    String endpoint = endpoint();
+    if (endpoint != null) {
+      readsSummary("commits", endpoint).record(stats.getCommits());
+      readsSummary("key-lists", endpoint).record(stats.getKeyListEntities());
+      readsSummary("global-log", endpoint).record(stats.getGlobalLogEntries());
+      readsSummary("bytes", endpoint).record(stats.getBytes());
+    }
+  }
+
+  private String endpoint() {
+    Method method = resourceInfo != null ? resourceInfo.getResourceMethod() : null;
+    if (method == null) {
+      return null;
+    }
+    return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+  }
+
+  private static DistributionSummary readsSummary(String what, String endpoint) {
+    return DistributionSummary.builder("nessie.rest.reads." + what)
+        .tag("endpoint", endpoint)
+        .publishPercentileHistogram()
+        .register(Metrics.globalRegistry);
+  }
+}
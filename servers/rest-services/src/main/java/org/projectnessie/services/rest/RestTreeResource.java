@@ -81,8 +81,9 @@ public class RestTreeResource implements HttpTreeApi {
   @JsonView(Views.V1.class)
   @Override
   public ReferencesResponse getAllReferences(ReferencesParams params) {
-    Preconditions.checkArgument(params.pageToken() == null, "Paging not supported");
-    return resource().getAllReferences(params.fetchOption(), params.filter());
+    return resource()
+        .getAllReferences(
+            params.fetchOption(), params.filter(), params.maxRecords(), params.pageToken());
   }
 
   @JsonView(Views.V1.class)
@@ -185,7 +186,8 @@ public class RestTreeResource implements HttpTreeApi {
             merge.getDefaultKeyMergeMode(),
             merge.isDryRun(),
             merge.isFetchAdditionalInfo(),
-            merge.isReturnConflictAsResult());
+            merge.isReturnConflictAsResult(),
+            null);
   }
 
   @JsonView(Views.V1.class)
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.rest;
+
+import java.util.concurrent.CompletionStage;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.SecurityContext;
+import org.projectnessie.api.v2.http.HttpEventsApi;
+import org.projectnessie.model.RepositoryEventsResponse;
+import org.projectnessie.services.authz.Authorizer;
+import org.projectnessie.services.config.ServerConfig;
+import org.projectnessie.services.events.RepositoryEventBuffer;
+import org.projectnessie.services.impl.EventApiImplWithAuthorization;
+import org.projectnessie.services.spi.EventService;
+import org.projectnessie.versioned.VersionStore;
+
+/** REST endpoint for repository events. */
+@RequestScoped
+public class RestV2EventsResource implements HttpEventsApi {
+
+  private final ServerConfig config;
+  private final VersionStore store;
+  private final Authorizer authorizer;
+  private final RepositoryEventBuffer eventBuffer;
+
+  @Context SecurityContext securityContext;
+
+  // Mandated by CDI 2.0
+  public RestV2EventsResource() {
+    this(null, null, null, null);
+  }
+
+  @Inject
+  public RestV2EventsResource(
+      ServerConfig config,
+      VersionStore store,
+      Authorizer authorizer,
+      RepositoryEventBuffer eventBuffer) {
+    this.config = config;
+    this.store = store;
+    this.authorizer = authorizer;
+    this.eventBuffer = eventBuffer;
+  }
+
+  private EventService resource() {
+    return new EventApiImplWithAuthorization(
+        config,
+        store,
+        authorizer,
+        securityContext == null ? null : securityContext.getUserPrincipal(),
+        eventBuffer);
+  }
+
+  @Override
+  public CompletionStage<RepositoryEventsResponse> getEvents(
+      String streamId, Long position, Integer maxEvents, Integer waitMillis) {
+    return resource().getEvents(streamId, position, maxEvents, waitMillis);
+  }
+}
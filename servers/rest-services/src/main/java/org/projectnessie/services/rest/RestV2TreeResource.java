@@ -15,12 +15,16 @@
  */
 package org.projectnessie.services.rest;
 
+import static org.projectnessie.services.rest.NdJsonStreamingOutput.ndJson;
+
 import com.fasterxml.jackson.annotation.JsonView;
 import java.util.List;
 import javax.enterprise.context.RequestScoped;
 import javax.inject.Inject;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.Providers;
 import org.projectnessie.api.v2.http.HttpTreeApi;
 import org.projectnessie.api.v2.params.CommitLogParams;
 import org.projectnessie.api.v2.params.DiffParams;
@@ -69,6 +73,7 @@ public class RestV2TreeResource implements HttpTreeApi {
   private final Authorizer authorizer;
 
   @Context SecurityContext securityContext;
+  @Context Providers providers;
 
   // Mandated by CDI 2.0
   public RestV2TreeResource() {
@@ -121,7 +126,17 @@ public class RestV2TreeResource implements HttpTreeApi {
   @JsonView(Views.V2.class)
   @Override
   public ReferencesResponse getAllReferences(ReferencesParams params) {
-    return tree().getAllReferences(params.fetchOption(), params.filter());
+    return tree()
+        .getAllReferences(
+            params.fetchOption(), params.filter(), params.maxRecords(), params.pageToken());
+  }
+
+  @JsonView(Views.V2.class)
+  @Override
+  public StreamingOutput streamAllReferences(ReferencesParams params) {
+    return ndJson(
+        providers,
+        tree().streamAllReferences(params.fetchOption(), params.filter(), params.pageToken()));
   }
 
   @JsonView(Views.V2.class)
@@ -158,6 +173,16 @@ public class RestV2TreeResource implements HttpTreeApi {
     return tree().getEntries(reference.getName(), reference.getHash(), null, params.filter());
   }
 
+  @JsonView(Views.V2.class)
+  @Override
+  public StreamingOutput streamEntries(String ref, EntriesParams params)
+      throws NessieNotFoundException {
+    Reference reference = resolveRef(ref);
+    return ndJson(
+        providers,
+        tree().streamEntries(reference.getName(), reference.getHash(), null, params.filter()));
+  }
+
   @JsonView(Views.V2.class)
   @Override
   public LogResponse getCommitLog(String ref, CommitLogParams params)
@@ -174,6 +199,24 @@ public class RestV2TreeResource implements HttpTreeApi {
             params.pageToken());
   }
 
+  @JsonView(Views.V2.class)
+  @Override
+  public StreamingOutput streamCommitLog(String ref, CommitLogParams params)
+      throws NessieNotFoundException {
+    Reference reference = resolveRef(ref);
+    return ndJson(
+        providers,
+        tree()
+            .streamCommitLog(
+                reference.getName(),
+                params.fetchOption(),
+                params.startHash(),
+                reference.getHash(),
+                params.filter(),
+                params.maxRecords(),
+                params.pageToken()));
+  }
+
   @JsonView(Views.V2.class)
   @Override
   public DiffResponse getDiff(DiffParams params) throws NessieNotFoundException {
@@ -265,7 +308,8 @@ public class RestV2TreeResource implements HttpTreeApi {
             merge.getDefaultKeyMergeMode(),
             merge.isDryRun(),
             merge.isFetchAdditionalInfo(),
-            merge.isReturnConflictAsResult());
+            merge.isReturnConflictAsResult(),
+            merge.getMergePlanToken());
   }
 
   @JsonView(Views.V2.class)
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.projectnessie.services.rest.NdJsonStreamingOutput.ndJson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.ContextResolver;
+import javax.ws.rs.ext.ExceptionMapper;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Providers;
+import org.junit.jupiter.api.Test;
+
+public class TestNdJsonStreamingOutput {
+
+  public static final class Item {
+    public final String itemName;
+
+    Item(String itemName) {
+      this.itemName = itemName;
+    }
+  }
+
+  private static String write(Providers providers, Item... items) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ndJson(providers, Stream.of(items)).write(output);
+    return new String(output.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void defaultMapper() throws Exception {
+    assertThat(write(null, new Item("a"), new Item("b")))
+        .isEqualTo("{\"itemName\":\"a\"}\n{\"itemName\":\"b\"}\n");
+    assertThat(write(null)).isEmpty();
+  }
+
+  @Test
+  public void serverMapper() throws Exception {
+    ObjectMapper serverMapper =
+        new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+
+    // The server's mapper settings apply, but every element is still written to a single line.
+    assertThat(write(providers(serverMapper), new Item("a"), new Item("b")))
+        .isEqualTo("{\"item_name\":\"a\"}\n{\"item_name\":\"b\"}\n");
+  }
+
+  static Providers providers(ObjectMapper mapper) {
+    return new Providers() {
+      @Override
+      public <T> MessageBodyReader<T> getMessageBodyReader(
+          Class<T> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return null;
+      }
+
+      @Override
+      public <T> MessageBodyWriter<T> getMessageBodyWriter(
+          Class<T> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return null;
+      }
+
+      @Override
+      public <T extends Throwable> ExceptionMapper<T> getExceptionMapper(Class<T> type) {
+        return null;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public <T> ContextResolver<T> getContextResolver(Class<T> contextType, MediaType mediaType) {
+        return contextType == ObjectMapper.class ? type -> (T) mapper : null;
+      }
+    };
+  }
+}
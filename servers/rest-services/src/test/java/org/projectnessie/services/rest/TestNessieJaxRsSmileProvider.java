@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.projectnessie.services.rest.TestNdJsonStreamingOutput.providers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.Providers;
+import org.junit.jupiter.api.Test;
+import org.projectnessie.api.v2.http.NessieMediaTypes;
+import org.projectnessie.services.rest.TestNdJsonStreamingOutput.Item;
+
+public class TestNessieJaxRsSmileProvider {
+
+  private static final MediaType SMILE = MediaType.valueOf(NessieMediaTypes.APPLICATION_SMILE);
+
+  private static ObjectMapper locateMapper(Providers providers) {
+    return new NessieJaxRsSmileProvider(providers).locateMapper(Item.class, SMILE);
+  }
+
+  private static JsonNode writeAndRead(ObjectMapper mapper, Object value) throws Exception {
+    byte[] smile = mapper.writeValueAsBytes(value);
+    return new ObjectMapper(new SmileFactory()).readTree(smile);
+  }
+
+  @Test
+  public void defaultMapper() throws Exception {
+    ObjectMapper mapper = locateMapper(null);
+    assertThat(mapper.getFactory()).isInstanceOf(SmileFactory.class);
+    assertThat(writeAndRead(mapper, new Item("a")).get("itemName").asText()).isEqualTo("a");
+  }
+
+  @Test
+  public void serverMapper() throws Exception {
+    ObjectMapper serverMapper =
+        new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    NessieJaxRsSmileProvider provider = new NessieJaxRsSmileProvider(providers(serverMapper));
+
+    ObjectMapper mapper = provider.locateMapper(Item.class, SMILE);
+    assertThat(mapper).isNotSameAs(serverMapper);
+    assertThat(mapper.getFactory()).isInstanceOf(SmileFactory.class);
+    assertThat(serverMapper.getFactory()).isNotInstanceOf(SmileFactory.class);
+
+    // The server's mapper settings apply to the Smile encoding as well.
+    assertThat(writeAndRead(mapper, new Item("a")).get("item_name").asText()).isEqualTo("a");
+
+    // The derived mapper is reused.
+    assertThat(provider.locateMapper(Item.class, SMILE)).isSameAs(mapper);
+  }
+}
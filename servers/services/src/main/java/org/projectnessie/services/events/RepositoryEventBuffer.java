@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.events;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.projectnessie.model.ImmutableRepositoryEvent;
+import org.projectnessie.model.RepositoryEvent;
+import org.projectnessie.model.RepositoryEventsResponse;
+
+/**
+ * Bounded in-memory buffer of the most recent {@link RepositoryEvent}s, serving the repository
+ * events endpoint.
+ *
+ * <p>Publishing never waits for readers: once the buffer is full, each new event overwrites the
+ * oldest one. Readers that fell behind are told via {@link
+ * RepositoryEventsResponse#isEventsLost()}. Events get consecutive positions starting at {@code
+ * 0}, positions are only valid for the {@link #getStreamId() stream ID} of this buffer instance.
+ *
+ * <p>The buffer only contains the events produced by the database adapter of the same server
+ * instance. When multiple Nessie servers serve the same repository, each has its own stream: a
+ * reader whose requests hit another server than the previous one gets a response from that
+ * server's stream with the events-lost flag set, and never sees events that only happened on the
+ * other servers. The events endpoint is therefore only useful for single-instance deployments or
+ * when readers always reach the same server instance.
+ *
+ * <p>Waiting for events does not block the calling thread: {@link #poll(String, Long, int, long)}
+ * returns a {@link CompletionStage} that is completed by a single internal thread, either when new
+ * events are published or when the wait time elapsed.
+ */
+public final class RepositoryEventBuffer implements AutoCloseable {
+
+  private final String streamId = UUID.randomUUID().toString();
+  private final RepositoryEvent[] events;
+
+  /** Position of the next event to be published, guarded by {@code this}. */
+  private long nextPosition;
+
+  /** Polls waiting for the next event, guarded by {@code this}. */
+  private final List<PendingPoll> pendingPolls = new ArrayList<>();
+
+  /** Completes pending polls, lazily created, guarded by {@code this}. */
+  private ScheduledExecutorService executor;
+
+  private boolean closed;
+
+  /**
+   * Creates a new buffer.
+   *
+   * @param capacity number of events to retain, {@code 0} disables the buffer, no events will be
+   *     retained and readers only see empty responses
+   */
+  public RepositoryEventBuffer(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity must not be negative");
+    }
+    this.events = new RepositoryEvent[capacity];
+  }
+
+  public String getStreamId() {
+    return streamId;
+  }
+
+  public boolean isEnabled() {
+    return events.length > 0;
+  }
+
+  /**
+   * Appends an event to the buffer, the event's {@link RepositoryEvent#getPosition() position} is
+   * replaced with the next position of this buffer.
+   */
+  public void publish(RepositoryEvent event) {
+    if (!isEnabled()) {
+      return;
+    }
+    List<PendingPoll> ready;
+    ScheduledExecutorService completer;
+    synchronized (this) {
+      long position = nextPosition++;
+      events[index(position)] = ImmutableRepositoryEvent.copyOf(event).withPosition(position);
+      if (pendingPolls.isEmpty()) {
+        return;
+      }
+      ready = new ArrayList<>(pendingPolls);
+      pendingPolls.clear();
+      completer = executor;
+    }
+    // Complete the pending polls and write their responses outside of the publishing thread,
+    // which is the thread that performed the commit or reference operation.
+    completer.execute(() -> ready.forEach(this::complete));
+  }
+
+  /**
+   * Retrieves events starting at the given position, waits up to {@code waitMillis} for new events,
+   * if there are no events at the given position yet.
+   *
+   * @param streamId stream ID from a previous response, a different stream ID than this buffer's
+   *     means that the client may have missed events
+   * @param position position to read from, {@code null} to only return new events
+   * @param maxEvents maximum number of events to return
+   * @param waitMillis maximum time to wait for events
+   * @return stage that completes with the response, immediately if there are events to return or
+   *     {@code waitMillis} is {@code 0}
+   */
+  public CompletionStage<RepositoryEventsResponse> poll(
+      @Nullable String streamId, @Nullable Long position, int maxEvents, long waitMillis) {
+    if (maxEvents <= 0) {
+      throw new IllegalArgumentException("maxEvents must be positive");
+    }
+
+    synchronized (this) {
+      PendingPoll poll;
+      if (position == null) {
+        poll = new PendingPoll(nextPosition, false, maxEvents);
+      } else if (!this.streamId.equals(streamId)) {
+        poll = new PendingPoll(oldestPosition(), position > 0L || streamId != null, maxEvents);
+      } else if (position > nextPosition) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Position %d is beyond the end of the event stream at %d", position, nextPosition));
+      } else {
+        poll = new PendingPoll(position, false, maxEvents);
+      }
+
+      if (poll.position < nextPosition || waitMillis <= 0L || closed) {
+        poll.future.complete(read(poll));
+        return poll.future;
+      }
+
+      pendingPolls.add(poll);
+      poll.timeout = executor().schedule(() -> expire(poll), waitMillis, TimeUnit.MILLISECONDS);
+      return poll.future;
+    }
+  }
+
+  /** Completes all pending polls and stops the internal thread. */
+  @Override
+  public void close() {
+    List<PendingPoll> pending;
+    synchronized (this) {
+      closed = true;
+      pending = new ArrayList<>(pendingPolls);
+      pendingPolls.clear();
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+    }
+    pending.forEach(this::complete);
+  }
+
+  private void expire(PendingPoll poll) {
+    synchronized (this) {
+      if (!pendingPolls.remove(poll)) {
+        return;
+      }
+    }
+    complete(poll);
+  }
+
+  private void complete(PendingPoll poll) {
+    Future<?> timeout = poll.timeout;
+    if (timeout != null) {
+      timeout.cancel(false);
+    }
+    RepositoryEventsResponse response;
+    synchronized (this) {
+      response = read(poll);
+    }
+    poll.future.complete(response);
+  }
+
+  private RepositoryEventsResponse read(PendingPoll poll) {
+    long pos = poll.position;
+    boolean eventsLost = poll.eventsLost;
+
+    long oldest = oldestPosition();
+    if (pos < oldest) {
+      eventsLost = true;
+      pos = oldest;
+    }
+
+    List<RepositoryEvent> result = new ArrayList<>();
+    for (; pos < nextPosition && result.size() < poll.maxEvents; pos++) {
+      result.add(events[index(pos)]);
+    }
+
+    return RepositoryEventsResponse.builder()
+        .streamId(this.streamId)
+        .nextPosition(pos)
+        .isEventsLost(eventsLost)
+        .events(result)
+        .build();
+  }
+
+  private ScheduledExecutorService executor() {
+    if (executor == null) {
+      executor =
+          Executors.newSingleThreadScheduledExecutor(
+              new ThreadFactoryBuilder().setDaemon(true).setNameFormat("nessie-events").build());
+    }
+    return executor;
+  }
+
+  private long oldestPosition() {
+    return Math.max(0L, nextPosition - events.length);
+  }
+
+  private int index(long position) {
+    return (int) (position % events.length);
+  }
+
+  private static final class PendingPoll {
+    final long position;
+    final boolean eventsLost;
+    final int maxEvents;
+    final CompletableFuture<RepositoryEventsResponse> future = new CompletableFuture<>();
+    volatile Future<?> timeout;
+
+    PendingPoll(long position, boolean eventsLost, int maxEvents) {
+      this.position = position;
+      this.eventsLost = eventsLost;
+      this.maxEvents = maxEvents;
+    }
+  }
+}
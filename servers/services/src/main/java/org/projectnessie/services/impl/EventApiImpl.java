@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.impl;
+
+import java.security.Principal;
+import java.util.concurrent.CompletionStage;
+import org.projectnessie.model.RepositoryEventsResponse;
+import org.projectnessie.services.authz.Authorizer;
+import org.projectnessie.services.config.ServerConfig;
+import org.projectnessie.services.events.RepositoryEventBuffer;
+import org.projectnessie.services.spi.EventService;
+import org.projectnessie.versioned.VersionStore;
+
+public class EventApiImpl extends BaseApiImpl implements EventService {
+
+  static final int MAX_EVENTS = 1000;
+
+  /** Maximum long-poll wait time, below the default read-timeout of Nessie clients. */
+  static final int MAX_WAIT_MILLIS = 20_000;
+
+  private final RepositoryEventBuffer eventBuffer;
+
+  public EventApiImpl(
+      ServerConfig config,
+      VersionStore store,
+      Authorizer authorizer,
+      Principal principal,
+      RepositoryEventBuffer eventBuffer) {
+    super(config, store, authorizer, principal);
+    this.eventBuffer = eventBuffer;
+  }
+
+  @Override
+  public CompletionStage<RepositoryEventsResponse> getEvents(
+      String streamId, Long position, Integer maxEvents, Integer waitMillis) {
+    int max = Math.min(maxEvents != null && maxEvents > 0 ? maxEvents : MAX_EVENTS, MAX_EVENTS);
+    int wait = Math.min(waitMillis != null ? Math.max(waitMillis, 0) : 0, MAX_WAIT_MILLIS);
+    return eventBuffer.poll(streamId, position, max, wait);
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.impl;
+
+import java.security.Principal;
+import java.util.concurrent.CompletionStage;
+import org.projectnessie.model.RepositoryEventsResponse;
+import org.projectnessie.services.authz.Authorizer;
+import org.projectnessie.services.config.ServerConfig;
+import org.projectnessie.services.events.RepositoryEventBuffer;
+import org.projectnessie.versioned.VersionStore;
+
+/**
+ * Does authorization check (if enabled) on the {@link EventApiImpl}. Repository events expose the
+ * changes of all references, like the reflog, so the same permission is required.
+ */
+public class EventApiImplWithAuthorization extends EventApiImpl {
+
+  public EventApiImplWithAuthorization(
+      ServerConfig config,
+      VersionStore store,
+      Authorizer authorizer,
+      Principal principal,
+      RepositoryEventBuffer eventBuffer) {
+    super(config, store, authorizer, principal, eventBuffer);
+  }
+
+  @Override
+  public CompletionStage<RepositoryEventsResponse> getEvents(
+      String streamId, Long position, Integer maxEvents, Integer waitMillis) {
+    startAccessCheck().canViewRefLog().checkAndThrow();
+    return super.getEvents(streamId, position, maxEvents, waitMillis);
+  }
+}
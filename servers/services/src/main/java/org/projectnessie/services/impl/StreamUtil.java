@@ -15,10 +15,17 @@
  */
 package org.projectnessie.services.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /** Helper methods around streaming. */
 final class StreamUtil {
@@ -52,4 +59,44 @@ final class StreamUtil {
       }
     };
   }
+
+  /**
+   * Lazily collects the elements of the source stream into chunks of up to {@code chunkSize}
+   * elements, passes each chunk to {@code chunkMapper} and returns the elements of the results.
+   *
+   * <p>Useful for batched operations, like access checks, that shall not consume the whole source
+   * stream at once. Closing the returned stream closes the source stream.
+   *
+   * @param source the source stream
+   * @param chunkSize maximum number of elements per chunk
+   * @param chunkMapper maps a chunk of source elements to the result elements
+   * @param <T> the type of the source elements
+   * @param <R> the type of the result elements
+   * @return a new {@link Stream}
+   */
+  static <T, R> Stream<R> mapChunks(
+      Stream<T> source, int chunkSize, Function<List<T>, List<R>> chunkMapper) {
+    Spliterator<T> src = source.spliterator();
+    Spliterator<R> chunked =
+        new Spliterators.AbstractSpliterator<R>(Long.MAX_VALUE, 0) {
+          private Iterator<R> current = Collections.emptyIterator();
+
+          @Override
+          public boolean tryAdvance(Consumer<? super R> consumer) {
+            while (!current.hasNext()) {
+              List<T> chunk = new ArrayList<>(chunkSize);
+              while (chunk.size() < chunkSize && src.tryAdvance(chunk::add)) {
+                // collect the next chunk
+              }
+              if (chunk.isEmpty()) {
+                return false;
+              }
+              current = chunkMapper.apply(chunk).iterator();
+            }
+            consumer.accept(current.next());
+            return true;
+          }
+        };
+    return StreamSupport.stream(chunked, false).onClose(source::close);
+  }
 }
@@ -93,6 +93,7 @@ import org.projectnessie.versioned.Delete;
 import org.projectnessie.versioned.GetNamedRefsParams;
 import org.projectnessie.versioned.GetNamedRefsParams.RetrieveOptions;
 import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.ImmutableGetNamedRefsParams;
 import org.projectnessie.versioned.Key;
 import org.projectnessie.versioned.KeyEntry;
 import org.projectnessie.versioned.MergeConflictException;
@@ -119,31 +120,63 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
   }
 
   @Override
-  public ReferencesResponse getAllReferences(FetchOption fetchOption, String filter) {
+  public ReferencesResponse getAllReferences(
+      FetchOption fetchOption, String filter, Integer maxRecords, String pageToken) {
     ImmutableReferencesResponse.Builder resp = ReferencesResponse.builder();
+    try (Stream<Reference> references = streamAllReferences(fetchOption, filter, pageToken)) {
+      if (maxRecords == null || maxRecords <= 0) {
+        references.forEach(resp::addReferences);
+      } else {
+        // References are returned ordered by name, the name of the first reference of the next
+        // page is the page token.
+        List<Reference> items = references.limit(maxRecords + 1L).collect(Collectors.toList());
+        if (items.size() > maxRecords) {
+          resp.addAllReferences(items.subList(0, maxRecords))
+              .isHasMore(true)
+              .token(items.get(maxRecords).getName());
+        } else {
+          resp.addAllReferences(items);
+        }
+      }
+    }
+    return resp.build();
+  }
+
+  @Override
+  public Stream<Reference> streamAllReferences(
+      FetchOption fetchOption, String filter, String pageToken) {
     boolean fetchAll = FetchOption.isFetchAll(fetchOption);
-    try (Stream<ReferenceInfo<CommitMeta>> str =
-        getStore().getNamedRefs(getGetNamedRefsParams(fetchAll))) {
-      Stream<Reference> unfiltered =
-          str.map(refInfo -> TreeApiImpl.makeReference(refInfo, fetchAll));
-      Stream<Reference> filtered = filterReferences(unfiltered, filter);
-      filtered.forEach(resp::addReferences);
+    Stream<ReferenceInfo<CommitMeta>> str;
+    try {
+      str = getStore().getNamedRefs(getGetNamedRefsParams(fetchAll, pageToken));
     } catch (ReferenceNotFoundException e) {
       throw new IllegalArgumentException(
           String.format(
               "Could not find default branch '%s'.", this.getConfig().getDefaultBranch()));
     }
-    return resp.build();
+    try {
+      Stream<Reference> unfiltered =
+          str.map(refInfo -> TreeApiImpl.makeReference(refInfo, fetchAll));
+      return filterReferences(unfiltered, filter);
+    } catch (RuntimeException e) {
+      str.close();
+      throw e;
+    }
   }
 
-  private GetNamedRefsParams getGetNamedRefsParams(boolean fetchMetadata) {
-    return fetchMetadata
-        ? GetNamedRefsParams.builder()
-            .baseReference(BranchName.of(this.getConfig().getDefaultBranch()))
-            .branchRetrieveOptions(RetrieveOptions.BASE_REFERENCE_RELATED_AND_COMMIT_META)
-            .tagRetrieveOptions(RetrieveOptions.COMMIT_META)
-            .build()
-        : GetNamedRefsParams.DEFAULT;
+  private GetNamedRefsParams getGetNamedRefsParams(boolean fetchMetadata, String pageToken) {
+    if (!fetchMetadata && pageToken == null) {
+      return GetNamedRefsParams.DEFAULT;
+    }
+    ImmutableGetNamedRefsParams.Builder params =
+        GetNamedRefsParams.builder().nameStartAt(pageToken);
+    if (fetchMetadata) {
+      params
+          .baseReference(BranchName.of(this.getConfig().getDefaultBranch()))
+          .branchRetrieveOptions(RetrieveOptions.BASE_REFERENCE_RELATED_AND_COMMIT_META)
+          .tagRetrieveOptions(RetrieveOptions.COMMIT_META);
+    }
+    return params.build();
   }
 
   /**
@@ -204,7 +237,7 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
     try {
       boolean fetchAll = FetchOption.isFetchAll(fetchOption);
       return makeReference(
-          getStore().getNamedRef(refName, getGetNamedRefsParams(fetchAll)), fetchAll);
+          getStore().getNamedRef(refName, getGetNamedRefsParams(fetchAll, null)), fetchAll);
     } catch (ReferenceNotFoundException e) {
       throw new NessieReferenceNotFoundException(e.getMessage(), e);
     }
@@ -275,6 +308,28 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
     return getCommitLog(maxRecords, fetchOption, filter, endRef, oldestHashLimit);
   }
 
+  @Override
+  public Stream<LogEntry> streamCommitLog(
+      String namedRef,
+      FetchOption fetchOption,
+      String oldestHashLimit,
+      String youngestHash,
+      String filter,
+      Integer maxRecords,
+      String pageToken)
+      throws NessieNotFoundException {
+
+    WithHash<NamedRef> endRef =
+        namedRefWithHashOrThrow(namedRef, null == pageToken ? youngestHash : pageToken);
+
+    return streamCommitLog(
+        fetchOption,
+        filter,
+        endRef,
+        oldestHashLimit,
+        maxRecords != null ? maxRecords : Integer.MAX_VALUE);
+  }
+
   protected LogResponse getCommitLog(
       Integer maxRecords,
       FetchOption fetchOption,
@@ -285,19 +340,9 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
     int max =
         Math.min(maxRecords != null ? maxRecords : MAX_COMMIT_LOG_ENTRIES, MAX_COMMIT_LOG_ENTRIES);
 
-    boolean fetchAll = FetchOption.isFetchAll(fetchOption);
-    try (Stream<Commit> commits = getStore().getCommits(endRef.getHash(), fetchAll)) {
-      Stream<LogEntry> logEntries = commits.map(commit -> commitToLogEntry(fetchAll, commit));
-
-      logEntries =
-          StreamSupport.stream(
-              StreamUtil.takeUntilIncl(
-                  logEntries.spliterator(),
-                  x -> Objects.equals(x.getCommitMeta().getHash(), startHash)),
-              false);
-
-      List<LogEntry> items =
-          filterCommitLog(logEntries, filter).limit(max + 1).collect(Collectors.toList());
+    try (Stream<LogEntry> logEntries =
+        streamCommitLog(fetchOption, filter, endRef, startHash, max + 1)) {
+      List<LogEntry> items = logEntries.collect(Collectors.toList());
 
       if (items.size() == max + 1) {
         return LogResponse.builder()
@@ -307,9 +352,44 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
             .build();
       }
       return LogResponse.builder().addAllLogEntries(items).build();
+    }
+  }
+
+  /**
+   * Returns up to {@code maxEntries} filtered log entries starting at {@code endRef} until the root
+   * commit or the commit with the hash {@code startHash}. The returned stream must be closed.
+   */
+  protected Stream<LogEntry> streamCommitLog(
+      FetchOption fetchOption,
+      String filter,
+      WithHash<NamedRef> endRef,
+      String startHash,
+      int maxEntries)
+      throws NessieNotFoundException {
+    boolean fetchAll = FetchOption.isFetchAll(fetchOption);
+    Stream<Commit> commits;
+    try {
+      commits = getStore().getCommits(endRef.getHash(), fetchAll);
     } catch (ReferenceNotFoundException e) {
       throw new NessieReferenceNotFoundException(e.getMessage(), e);
     }
+
+    try {
+      Stream<LogEntry> logEntries = commits.map(commit -> commitToLogEntry(fetchAll, commit));
+
+      logEntries =
+          StreamSupport.stream(
+                  StreamUtil.takeUntilIncl(
+                      logEntries.spliterator(),
+                      x -> Objects.equals(x.getCommitMeta().getHash(), startHash)),
+                  false)
+              .onClose(commits::close);
+
+      return filterCommitLog(logEntries, filter).limit(maxEntries);
+    } catch (RuntimeException e) {
+      commits.close();
+      throw e;
+    }
   }
 
   private ImmutableLogEntry commitToLogEntry(boolean fetchAll, Commit commit) {
@@ -470,7 +550,8 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
       MergeBehavior defaultMergeType,
       Boolean dryRun,
       Boolean fetchAdditionalInfo,
-      Boolean returnConflictAsResult)
+      Boolean returnConflictAsResult,
+      @Nullable String mergePlanToken)
       throws NessieNotFoundException, NessieConflictException {
     try {
       MergeResult<Commit> result =
@@ -484,7 +565,8 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
                   keyMergeTypes(keyMergeTypes),
                   defaultMergeType(defaultMergeType),
                   Boolean.TRUE.equals(dryRun),
-                  Boolean.TRUE.equals(fetchAdditionalInfo));
+                  Boolean.TRUE.equals(fetchAdditionalInfo),
+                  Optional.ofNullable(mergePlanToken));
       return createResponse(fetchAdditionalInfo, result);
     } catch (ReferenceNotFoundException e) {
       throw new NessieReferenceNotFoundException(e.getMessage(), e);
@@ -510,7 +592,8 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
             .expectedHash(hashToString.apply(result.getExpectedHash()))
             .commonAncestor(hashToString.apply(result.getCommonAncestor()))
             .wasApplied(result.wasApplied())
-            .wasSuccessful(result.wasSuccessful());
+            .wasSuccessful(result.wasSuccessful())
+            .mergePlanToken(result.getMergePlanToken());
 
     BiConsumer<List<Commit>, Consumer<LogEntry>> convertCommits =
         (src, dest) -> {
@@ -569,7 +652,6 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
   public EntriesResponse getEntries(
       String namedRef, String hashOnRef, Integer namespaceDepth, String filter)
       throws NessieNotFoundException {
-    WithHash<NamedRef> refWithHash = namedRefWithHashOrThrow(namedRef, hashOnRef);
     // TODO Implement paging. At the moment, we do not expect that many keys/entries to be returned.
     //  So the size of the whole result is probably reasonable and unlikely to "kill" either the
     //  server or client. We have to figure out _how_ to implement paging for keys/entries, i.e.
@@ -578,25 +660,42 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
     //  note currently we are filtering types at the REST level. This could in theory be pushed down
     // to the store though
     //  all existing VersionStore implementations have to read all keys anyways so we don't get much
+    ImmutableEntriesResponse.Builder response = EntriesResponse.builder();
+    try (Stream<EntriesResponse.Entry> entries =
+        streamEntries(namedRef, hashOnRef, namespaceDepth, filter)) {
+      entries.forEach(response::addEntries);
+    }
+    return response.build();
+  }
+
+  @Override
+  public Stream<EntriesResponse.Entry> streamEntries(
+      String namedRef, String hashOnRef, Integer namespaceDepth, String filter)
+      throws NessieNotFoundException {
+    WithHash<NamedRef> refWithHash = namedRefWithHashOrThrow(namedRef, hashOnRef);
+    Stream<KeyEntry> entryStream;
     try {
-      ImmutableEntriesResponse.Builder response = EntriesResponse.builder();
-      try (Stream<KeyEntry> entryStream = getStore().getKeys(refWithHash.getHash())) {
-        Stream<EntriesResponse.Entry> entriesStream =
-            filterEntries(refWithHash, entryStream, filter)
-                .map(key -> EntriesResponse.Entry.entry(fromKey(key.getKey()), key.getType()));
-        if (namespaceDepth != null && namespaceDepth > 0) {
-          entriesStream =
-              entriesStream
-                  .filter(e -> e.getName().getElements().size() >= namespaceDepth)
-                  .map(e -> truncate(e, namespaceDepth))
-                  .distinct();
-        }
-        entriesStream.forEach(response::addEntries);
-      }
-      return response.build();
+      entryStream = getStore().getKeys(refWithHash.getHash());
     } catch (ReferenceNotFoundException e) {
       throw new NessieReferenceNotFoundException(e.getMessage(), e);
     }
+
+    try {
+      Stream<EntriesResponse.Entry> entriesStream =
+          filterEntries(refWithHash, entryStream, filter)
+              .map(key -> EntriesResponse.Entry.entry(fromKey(key.getKey()), key.getType()));
+      if (namespaceDepth != null && namespaceDepth > 0) {
+        entriesStream =
+            entriesStream
+                .filter(e -> e.getName().getElements().size() >= namespaceDepth)
+                .map(e -> truncate(e, namespaceDepth))
+                .distinct();
+      }
+      return entriesStream.onClose(entryStream::close);
+    } catch (RuntimeException e) {
+      entryStream.close();
+      throw e;
+    }
   }
 
   private static EntriesResponse.Entry truncate(EntriesResponse.Entry entry, Integer depth) {
@@ -32,17 +32,12 @@ import org.projectnessie.model.Branch;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.FetchOption;
 import org.projectnessie.model.ImmutableLogEntry;
-import org.projectnessie.model.ImmutableLogResponse;
-import org.projectnessie.model.ImmutableReferencesResponse;
-import org.projectnessie.model.LogResponse;
 import org.projectnessie.model.LogResponse.LogEntry;
 import org.projectnessie.model.MergeBehavior;
 import org.projectnessie.model.MergeKeyBehavior;
 import org.projectnessie.model.MergeResponse;
-import org.projectnessie.model.Operation;
 import org.projectnessie.model.Operations;
 import org.projectnessie.model.Reference;
-import org.projectnessie.model.ReferencesResponse;
 import org.projectnessie.services.authz.Authorizer;
 import org.projectnessie.services.authz.BatchAccessChecker;
 import org.projectnessie.services.authz.Check;
@@ -56,28 +51,32 @@ import org.projectnessie.versioned.WithHash;
 /** Does authorization checks (if enabled) on the {@link TreeApiImpl}. */
 public class TreeApiImplWithAuthorization extends TreeApiImpl {
 
+  /** Maximum number of result elements that are checked via a single {@link BatchAccessChecker}. */
+  private static final int ACCESS_CHECK_BATCH_SIZE = 250;
+
   public TreeApiImplWithAuthorization(
       ServerConfig config, VersionStore store, Authorizer authorizer, Principal principal) {
     super(config, store, authorizer, principal);
   }
 
   @Override
-  public ReferencesResponse getAllReferences(FetchOption fetchOption, String filter) {
-    ImmutableReferencesResponse.Builder resp = ReferencesResponse.builder();
-    BatchAccessChecker check = startAccessCheck();
-    List<Reference> refs =
-        super.getAllReferences(fetchOption, filter).getReferences().stream()
-            .peek(ref -> check.canViewReference(RefUtil.toNamedRef(ref)))
-            .collect(Collectors.toList());
-    Set<NamedRef> notAllowed =
-        check.check().keySet().stream()
-            .map(Check::ref)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet());
-    refs.stream()
-        .filter(ref -> !notAllowed.contains(RefUtil.toNamedRef(ref)))
-        .forEach(resp::addReferences);
-    return resp.build();
+  public Stream<Reference> streamAllReferences(
+      FetchOption fetchOption, String filter, String pageToken) {
+    return StreamUtil.mapChunks(
+        super.streamAllReferences(fetchOption, filter, pageToken),
+        ACCESS_CHECK_BATCH_SIZE,
+        refs -> {
+          BatchAccessChecker check = startAccessCheck();
+          refs.forEach(ref -> check.canViewReference(RefUtil.toNamedRef(ref)));
+          Set<NamedRef> notAllowed =
+              check.check().keySet().stream()
+                  .map(Check::ref)
+                  .filter(Objects::nonNull)
+                  .collect(Collectors.toSet());
+          return refs.stream()
+              .filter(ref -> !notAllowed.contains(RefUtil.toNamedRef(ref)))
+              .collect(Collectors.toList());
+        });
   }
 
   @Override
@@ -144,87 +143,94 @@ public class TreeApiImplWithAuthorization extends TreeApiImpl {
     // catch potential issues during post-processing early (e.g. a new attribute added to
     // EntriesResponse, but not added here).
 
-    // First, collect the content-keys to which the user has no access to.
+    // The checks are performed in batches to not consume the whole stream of entries at once.
 
-    List<KeyEntry> entriesList =
-        super.filterEntries(refWithHash, entries, filter).collect(Collectors.toList());
+    return StreamUtil.mapChunks(
+        super.filterEntries(refWithHash, entries, filter),
+        ACCESS_CHECK_BATCH_SIZE,
+        entriesList -> {
+          // First, collect the content-keys to which the user has no access to.
 
-    BatchAccessChecker responseCheck = startAccessCheck();
-    entriesList.forEach(
-        e ->
-            responseCheck.canReadContentKey(
-                refWithHash.getValue(), fromKey(e.getKey()), e.getContentId()));
-    Set<String> notAllowedContentIds =
-        responseCheck.check().keySet().stream().map(Check::contentId).collect(Collectors.toSet());
+          BatchAccessChecker responseCheck = startAccessCheck();
+          entriesList.forEach(
+              e ->
+                  responseCheck.canReadContentKey(
+                      refWithHash.getValue(), fromKey(e.getKey()), e.getContentId()));
+          Set<String> notAllowedContentIds =
+              responseCheck.check().keySet().stream()
+                  .map(Check::contentId)
+                  .collect(Collectors.toSet());
 
-    // Second, only add the `Entry`s for allowed content keys.
+          // Second, only add the `Entry`s for allowed content keys.
 
-    return entriesList.stream()
-        .filter(entry -> !notAllowedContentIds.contains(entry.getContentId()));
+          return entriesList.stream()
+              .filter(entry -> !notAllowedContentIds.contains(entry.getContentId()))
+              .collect(Collectors.toList());
+        });
   }
 
   @Override
-  protected LogResponse getCommitLog(
-      Integer maxRecords,
+  protected Stream<LogEntry> streamCommitLog(
       FetchOption fetchOption,
       String filter,
       WithHash<NamedRef> endRef,
-      String startHash)
+      String startHash,
+      int maxEntries)
       throws NessieNotFoundException {
     NamedRef ref = endRef.getValue();
 
     startAccessCheck().canListCommitLog(ref).checkAndThrow();
-    LogResponse logResponse =
-        super.getCommitLog(maxRecords, fetchOption, filter, endRef, startHash);
-
-    Stream<Operation> allOperations =
-        logResponse.getLogEntries().stream()
-            .map(LogEntry::getOperations)
-            .filter(Objects::nonNull)
-            .flatMap(Collection::stream);
 
     // Post-process the response to only contain content-keys to which the user has access to.
     // Note: no optimization here to return the non-post-processed response to ensure that tests
     // catch potential issues during post-processing early (e.g. a new attribute added to
     // LogResponse, but not added here).
+    // The checks are performed in batches to not consume the whole commit log at once. A batch is
+    // never larger than the number of requested entries, so small pages only read what they return.
 
-    // First, collect the content-keys to which the user has no access to.
+    return StreamUtil.mapChunks(
+        super.streamCommitLog(fetchOption, filter, endRef, startHash, maxEntries),
+        Math.min(ACCESS_CHECK_BATCH_SIZE, maxEntries),
+        logEntries -> {
+          // First, collect the content-keys to which the user has no access to.
 
-    BatchAccessChecker responseCheck = startAccessCheck();
-    allOperations.forEach(
-        op -> {
-          if (op instanceof Put) {
-            Put put = (Put) op;
-            responseCheck.canReadContentKey(ref, put.getKey(), put.getContent().getId());
-          } else if (op instanceof Delete) {
-            Delete delete = (Delete) op;
-            responseCheck.canReadContentKey(ref, delete.getKey(), null);
-          }
-        });
-    Set<ContentKey> notAllowed =
-        responseCheck.check().keySet().stream().map(Check::key).collect(Collectors.toSet());
+          BatchAccessChecker responseCheck = startAccessCheck();
+          logEntries.stream()
+              .map(LogEntry::getOperations)
+              .filter(Objects::nonNull)
+              .flatMap(Collection::stream)
+              .forEach(
+                  op -> {
+                    if (op instanceof Put) {
+                      Put put = (Put) op;
+                      responseCheck.canReadContentKey(ref, put.getKey(), put.getContent().getId());
+                    } else if (op instanceof Delete) {
+                      Delete delete = (Delete) op;
+                      responseCheck.canReadContentKey(ref, delete.getKey(), null);
+                    }
+                  });
+          Set<ContentKey> notAllowed =
+              responseCheck.check().keySet().stream().map(Check::key).collect(Collectors.toSet());
 
-    // Second, only add the `Operation`s for allowed content keys.
+          // Second, only add the `Operation`s for allowed content keys.
 
-    ImmutableLogResponse.Builder newLogResponse =
-        LogResponse.builder().isHasMore(logResponse.isHasMore()).token(logResponse.getToken());
-    logResponse.getLogEntries().stream()
-        .map(
-            e -> {
-              ImmutableLogEntry.Builder newLogEntry =
-                  LogEntry.builder()
-                      .commitMeta(e.getCommitMeta())
-                      .parentCommitHash(e.getParentCommitHash())
-                      .additionalParents(e.getAdditionalParents());
-              if (e.getOperations() != null) {
-                e.getOperations().stream()
-                    .filter(op -> !notAllowed.contains(op.getKey()))
-                    .forEach(newLogEntry::addOperations);
-              }
-              return newLogEntry.build();
-            })
-        .forEach(newLogResponse::addLogEntries);
-    return newLogResponse.build();
+          return logEntries.stream()
+              .map(
+                  e -> {
+                    ImmutableLogEntry.Builder newLogEntry =
+                        LogEntry.builder()
+                            .commitMeta(e.getCommitMeta())
+                            .parentCommitHash(e.getParentCommitHash())
+                            .additionalParents(e.getAdditionalParents());
+                    if (e.getOperations() != null) {
+                      e.getOperations().stream()
+                          .filter(op -> !notAllowed.contains(op.getKey()))
+                          .forEach(newLogEntry::addOperations);
+                    }
+                    return (LogEntry) newLogEntry.build();
+                  })
+              .collect(Collectors.toList());
+        });
   }
 
   @Override
@@ -278,7 +284,8 @@ public class TreeApiImplWithAuthorization extends TreeApiImpl {
       MergeBehavior defaultMergeType,
       Boolean dryRun,
       Boolean fetchAdditionalInfo,
-      Boolean returnConflictAsResult)
+      Boolean returnConflictAsResult,
+      @Nullable String mergePlanToken)
       throws NessieNotFoundException, NessieConflictException {
     startAccessCheck()
         .canViewReference(namedRefWithHashOrThrow(fromRefName, fromHash).getValue())
@@ -295,7 +302,8 @@ public class TreeApiImplWithAuthorization extends TreeApiImpl {
         defaultMergeType,
         dryRun,
         fetchAdditionalInfo,
-        returnConflictAsResult);
+        returnConflictAsResult,
+        mergePlanToken);
   }
 
   @Override
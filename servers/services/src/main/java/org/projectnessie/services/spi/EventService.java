@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.spi;
+
+import java.util.concurrent.CompletionStage;
+import javax.annotation.Nullable;
+import org.projectnessie.model.RepositoryEventsResponse;
+
+/**
+ * Server-side interface to services providing repository events.
+ *
+ * <p>Refer to the javadoc of corresponding client-facing interfaces in the {@code model} module for
+ * the meaning of various methods and their parameters.
+ */
+public interface EventService {
+  CompletionStage<RepositoryEventsResponse> getEvents(
+      @Nullable String streamId,
+      @Nullable Long position,
+      @Nullable Integer maxEvents,
+      @Nullable Integer waitMillis);
+}
@@ -17,6 +17,7 @@ package org.projectnessie.services.spi;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
@@ -28,6 +29,7 @@ import org.projectnessie.model.Branch;
 import org.projectnessie.model.EntriesResponse;
 import org.projectnessie.model.FetchOption;
 import org.projectnessie.model.LogResponse;
+import org.projectnessie.model.LogResponse.LogEntry;
 import org.projectnessie.model.MergeBehavior;
 import org.projectnessie.model.MergeKeyBehavior;
 import org.projectnessie.model.MergeResponse;
@@ -46,7 +48,18 @@ public interface TreeService {
 
   Branch getDefaultBranch() throws NessieNotFoundException;
 
-  ReferencesResponse getAllReferences(FetchOption fetchOption, @Nullable String filter);
+  ReferencesResponse getAllReferences(
+      FetchOption fetchOption,
+      @Nullable String filter,
+      @Nullable Integer maxRecords,
+      @Nullable String pageToken);
+
+  /**
+   * Streaming variant of {@link #getAllReferences(FetchOption, String, Integer, String)}, the
+   * returned stream must be closed.
+   */
+  Stream<Reference> streamAllReferences(
+      FetchOption fetchOption, @Nullable String filter, @Nullable String pageToken);
 
   Reference getReferenceByName(
       @Valid
@@ -104,6 +117,26 @@ public interface TreeService {
       @Nullable String pageToken)
       throws NessieNotFoundException;
 
+  /**
+   * Streaming variant of {@link #getCommitLog(String, FetchOption, String, String, String, Integer,
+   * String)}, the returned stream must be closed. The number of returned log entries is not capped,
+   * but limited to {@code maxRecords}, if specified.
+   */
+  Stream<LogEntry> streamCommitLog(
+      @Valid
+          @NotNull
+          @Pattern(regexp = Validation.REF_NAME_REGEX, message = Validation.REF_NAME_MESSAGE)
+          String namedRef,
+      FetchOption fetchOption,
+      @Valid @Pattern(regexp = Validation.HASH_REGEX, message = Validation.HASH_MESSAGE)
+          String oldestHashLimit,
+      @Valid @Pattern(regexp = Validation.HASH_REGEX, message = Validation.HASH_MESSAGE)
+          String youngestHash,
+      @Nullable String filter,
+      @Nullable Integer maxRecords,
+      @Nullable String pageToken)
+      throws NessieNotFoundException;
+
   MergeResponse transplantCommitsIntoBranch(
       @Valid
           @NotNull
@@ -145,7 +178,8 @@ public interface TreeService {
       MergeBehavior defaultMergeType,
       @Nullable Boolean dryRun,
       @Nullable Boolean fetchAdditionalInfo,
-      @Nullable Boolean returnConflictAsResult)
+      @Nullable Boolean returnConflictAsResult,
+      @Nullable String mergePlanToken)
       throws NessieNotFoundException, NessieConflictException;
 
   EntriesResponse getEntries(
@@ -159,6 +193,21 @@ public interface TreeService {
       @Nullable String filter)
       throws NessieNotFoundException;
 
+  /**
+   * Streaming variant of {@link #getEntries(String, String, Integer, String)}, the returned stream
+   * must be closed.
+   */
+  Stream<EntriesResponse.Entry> streamEntries(
+      @Valid
+          @NotNull
+          @Pattern(regexp = Validation.REF_NAME_REGEX, message = Validation.REF_NAME_MESSAGE)
+          String namedRef,
+      @Valid @Nullable @Pattern(regexp = Validation.HASH_REGEX, message = Validation.HASH_MESSAGE)
+          String hashOnRef,
+      @Nullable Integer namespaceDepth,
+      @Nullable String filter)
+      throws NessieNotFoundException;
+
   Branch commitMultipleOperations(
       @Valid
           @NotNull
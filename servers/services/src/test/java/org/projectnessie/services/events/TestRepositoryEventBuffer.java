@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.projectnessie.model.RepositoryEvent;
+import org.projectnessie.model.RepositoryEvent.Type;
+import org.projectnessie.model.RepositoryEventsResponse;
+
+public class TestRepositoryEventBuffer {
+
+  private static RepositoryEvent event(String hash) {
+    return RepositoryEvent.builder()
+        .type(Type.COMMIT)
+        .position(-1L)
+        .eventTimeMicros(42L)
+        .referenceName("main")
+        .hash(hash)
+        .build();
+  }
+
+  private static RepositoryEventsResponse await(CompletionStage<RepositoryEventsResponse> poll)
+      throws Exception {
+    return poll.toCompletableFuture().get(30, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void positions() throws Exception {
+    try (RepositoryEventBuffer buffer = new RepositoryEventBuffer(10)) {
+      RepositoryEventsResponse initial = await(buffer.poll(null, null, 100, 0L));
+      assertThat(initial.getEvents()).isEmpty();
+      assertThat(initial.getNextPosition()).isEqualTo(0L);
+      assertThat(initial.getStreamId()).isEqualTo(buffer.getStreamId());
+      assertThat(initial.isEventsLost()).isFalse();
+
+      buffer.publish(event("a"));
+      buffer.publish(event("b"));
+      buffer.publish(event("c"));
+
+      RepositoryEventsResponse response = await(buffer.poll(buffer.getStreamId(), 0L, 2, 0L));
+      assertThat(response.getEvents())
+          .extracting(RepositoryEvent::getPosition, RepositoryEvent::getHash)
+          .containsExactly(tuple(0L, "a"), tuple(1L, "b"));
+      assertThat(response.getNextPosition()).isEqualTo(2L);
+      assertThat(response.isEventsLost()).isFalse();
+
+      response = await(buffer.poll(buffer.getStreamId(), response.getNextPosition(), 100, 0L));
+      assertThat(response.getEvents()).extracting(RepositoryEvent::getHash).containsExactly("c");
+      assertThat(response.getNextPosition()).isEqualTo(3L);
+
+      // 'null' position only returns new events
+      response = await(buffer.poll(null, null, 100, 0L));
+      assertThat(response.getEvents()).isEmpty();
+      assertThat(response.getNextPosition()).isEqualTo(3L);
+
+      assertThatThrownBy(() -> buffer.poll(buffer.getStreamId(), 4L, 100, 0L))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  void eventsLost() throws Exception {
+    try (RepositoryEventBuffer buffer = new RepositoryEventBuffer(3)) {
+      for (int i = 0; i < 5; i++) {
+        buffer.publish(event("h" + i));
+      }
+
+      RepositoryEventsResponse response = await(buffer.poll(buffer.getStreamId(), 1L, 100, 0L));
+      assertThat(response.isEventsLost()).isTrue();
+      assertThat(response.getEvents())
+          .extracting(RepositoryEvent::getHash)
+          .containsExactly("h2", "h3", "h4");
+      assertThat(response.getNextPosition()).isEqualTo(5L);
+
+      // unknown stream, for example after a server restart or from another server instance
+      response = await(buffer.poll("other-stream", 5L, 100, 0L));
+      assertThat(response.isEventsLost()).isTrue();
+      assertThat(response.getStreamId()).isEqualTo(buffer.getStreamId());
+      assertThat(response.getEvents()).hasSize(3);
+    }
+  }
+
+  @Test
+  void longPoll() throws Exception {
+    try (RepositoryEventBuffer buffer = new RepositoryEventBuffer(10)) {
+      CompletableFuture<RepositoryEventsResponse> poll =
+          buffer.poll(buffer.getStreamId(), 0L, 100, 30_000L).toCompletableFuture();
+      assertThat(poll).isNotDone();
+
+      buffer.publish(event("a"));
+
+      RepositoryEventsResponse response = await(poll);
+      assertThat(response.getEvents()).extracting(RepositoryEvent::getHash).containsExactly("a");
+      assertThat(response.getNextPosition()).isEqualTo(1L);
+
+      long start = System.nanoTime();
+      response = await(buffer.poll(buffer.getStreamId(), 1L, 100, 50L));
+      assertThat(response.getEvents()).isEmpty();
+      assertThat(response.getNextPosition()).isEqualTo(1L);
+      assertThat(System.nanoTime() - start)
+          .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+    }
+  }
+
+  @Test
+  void closeCompletesPendingPolls() throws Exception {
+    RepositoryEventBuffer buffer = new RepositoryEventBuffer(10);
+    CompletableFuture<RepositoryEventsResponse> poll =
+        buffer.poll(buffer.getStreamId(), 0L, 100, 30_000L).toCompletableFuture();
+    assertThat(poll).isNotDone();
+
+    buffer.close();
+
+    RepositoryEventsResponse response = await(poll);
+    assertThat(response.getEvents()).isEmpty();
+    assertThat(response.getNextPosition()).isEqualTo(0L);
+    assertThat(await(buffer.poll(buffer.getStreamId(), 0L, 100, 30_000L)).getEvents()).isEmpty();
+  }
+
+  @Test
+  void disabled() throws Exception {
+    try (RepositoryEventBuffer buffer = new RepositoryEventBuffer(0)) {
+      assertThat(buffer.isEnabled()).isFalse();
+      buffer.publish(event("a"));
+      RepositoryEventsResponse response = await(buffer.poll(null, null, 100, 0L));
+      assertThat(response.getEvents()).isEmpty();
+      assertThat(response.getNextPosition()).isEqualTo(0L);
+    }
+  }
+}
@@ -15,7 +15,11 @@
  */
 package org.projectnessie.services.impl;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -70,4 +74,39 @@ public class StreamUtilTest {
         .hasSize(5)
         .containsExactly(1, 2, 3, 4, 5);
   }
+
+  @Test
+  public void testMapChunks() {
+    AtomicInteger chunks = new AtomicInteger();
+    AtomicBoolean closed = new AtomicBoolean();
+    try (Stream<Integer> mapped =
+        StreamUtil.mapChunks(
+            IntStream.rangeClosed(1, 10).boxed().onClose(() -> closed.set(true)),
+            3,
+            chunk -> {
+              chunks.incrementAndGet();
+              return chunk.stream().filter(x -> x % 2 == 0).collect(Collectors.toList());
+            })) {
+      Assertions.assertThat(chunks).hasValue(0);
+      Assertions.assertThat(mapped).containsExactly(2, 4, 6, 8, 10);
+    }
+    Assertions.assertThat(chunks).hasValue(4);
+    Assertions.assertThat(closed).isTrue();
+  }
+
+  @Test
+  public void testMapChunksIsLazy() {
+    AtomicInteger chunks = new AtomicInteger();
+    Assertions.assertThat(
+            StreamUtil.mapChunks(
+                    IntStream.iterate(1, x -> x + 1).boxed(),
+                    5,
+                    chunk -> {
+                      chunks.incrementAndGet();
+                      return chunk;
+                    })
+                .limit(7))
+        .containsExactly(1, 2, 3, 4, 5, 6, 7);
+    Assertions.assertThat(chunks).hasValue(2);
+  }
 }
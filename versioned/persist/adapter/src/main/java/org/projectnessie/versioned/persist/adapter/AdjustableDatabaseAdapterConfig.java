@@ -33,6 +33,11 @@ public interface AdjustableDatabaseAdapterConfig extends DatabaseAdapterConfig {
 
   AdjustableDatabaseAdapterConfig withKeyListEntityPrefetch(int keyListEntityPrefetch);
 
+  AdjustableDatabaseAdapterConfig withKeyListEntityAdaptivePrefetch(
+      int keyListEntityAdaptivePrefetch);
+
+  AdjustableDatabaseAdapterConfig withEntityCompressionThreshold(int entityCompressionThreshold);
+
   AdjustableDatabaseAdapterConfig withCommitTimeout(long commitTimeout);
 
   AdjustableDatabaseAdapterConfig withCommitRetries(int commitRetries);
@@ -49,7 +54,17 @@ public interface AdjustableDatabaseAdapterConfig extends DatabaseAdapterConfig {
 
   AdjustableDatabaseAdapterConfig withParentsPerRefLogEntry(int parentsPerRefLogEntry);
 
+  AdjustableDatabaseAdapterConfig withRefLogStripes(int refLogStripes);
+
   AdjustableDatabaseAdapterConfig withAssumedWallClockDriftMicros(long assumedWallClockDriftMicros);
 
   AdjustableDatabaseAdapterConfig withAttachmentKeysBatchSize(int attachmentKeysBatchSize);
+
+  AdjustableDatabaseAdapterConfig withCommitSequencerMaxBatchSize(int commitSequencerMaxBatchSize);
+
+  AdjustableDatabaseAdapterConfig withMergeMaxCommits(int mergeMaxCommits);
+
+  AdjustableDatabaseAdapterConfig withMergeMaxKeys(int mergeMaxKeys);
+
+  AdjustableDatabaseAdapterConfig withMergePlanCacheSize(int mergePlanCacheSize);
 }
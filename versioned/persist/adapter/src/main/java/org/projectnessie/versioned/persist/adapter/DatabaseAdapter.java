@@ -29,6 +29,7 @@ import org.projectnessie.versioned.ContentAttachment;
 import org.projectnessie.versioned.ContentAttachmentKey;
 import org.projectnessie.versioned.Diff;
 import org.projectnessie.versioned.GetNamedRefsParams;
+import org.projectnessie.versioned.GetRefLogParams;
 import org.projectnessie.versioned.Hash;
 import org.projectnessie.versioned.Key;
 import org.projectnessie.versioned.MergeResult;
@@ -201,11 +202,13 @@ public interface DatabaseAdapter {
       throws ReferenceNotFoundException;
 
   /**
-   * Get all named references including their current HEAD.
+   * Get all named references including their current HEAD, ordered by name.
    *
    * @param params options that control which information shall be returned in each {@link
-   *     ReferenceInfo}, see {@link ReferenceInfo} for details.
-   * @return stream with all named references.
+   *     ReferenceInfo}, see {@link ReferenceInfo} for details, and which references shall be
+   *     returned, see {@link GetNamedRefsParams#getNamePrefix()} and {@link
+   *     GetNamedRefsParams#getNameStartAt()}.
+   * @return stream with all matching named references.
    */
   @MustBeClosed
   Stream<ReferenceInfo<ByteString>> namedRefs(GetNamedRefsParams params)
@@ -302,7 +305,24 @@ public interface DatabaseAdapter {
    * @param offset initial reflog id to read from
    */
   @MustBeClosed
-  Stream<RefLog> refLog(Hash offset) throws RefLogNotFoundException;
+  default Stream<RefLog> refLog(Hash offset) throws RefLogNotFoundException {
+    return refLog(offset, GetRefLogParams.DEFAULT);
+  }
+
+  /**
+   * Retrieve the refLog starting at the refLog referenced by {@code offset}, only returning the
+   * entries that match the given {@link GetRefLogParams params}.
+   *
+   * <p>The returned stream ends with the first refLog entry that is older than {@link
+   * GetRefLogParams#getMinOperationTime()}, so no more refLog entries than necessary are read.
+   *
+   * @return stream of {@link RefLog}s, most recent entry first
+   * @param offset initial reflog id to read from, the entry for this id is also subject to the
+   *     filters in {@code params}
+   * @param params filters to apply
+   */
+  @MustBeClosed
+  Stream<RefLog> refLog(Hash offset, GetRefLogParams params) throws RefLogNotFoundException;
 
   /**
    * Scan all commit log entries, no guarantees about order nor about the behavior when commits
@@ -311,6 +331,20 @@ public interface DatabaseAdapter {
   @MustBeClosed
   Stream<CommitLogEntry> scanAllCommitLogEntries();
 
+  /**
+   * Scan the commit log entries in one of {@code partitions} disjoint ranges of the commit-log
+   * keyspace. Calling this function for all partitions {@code 0 .. partitions-1} returns all
+   * commit log entries. The returned streams are independent of each other and can be consumed
+   * concurrently, for example to speed up full-repository scans.
+   *
+   * <p>Same guarantees as {@link #scanAllCommitLogEntries()}.
+   *
+   * @param partition 0-based index of the partition to scan
+   * @param partitions total number of partitions, must be between 1 and 65536
+   */
+  @MustBeClosed
+  Stream<CommitLogEntry> scanAllCommitLogEntries(int partition, int partitions);
+
   /**
    * Retrieve the known attachment keys for a content ID.
    *
@@ -39,14 +39,21 @@ public interface DatabaseAdapterConfig {
   int DEFAULT_MAX_KEY_LIST_ENTITY_SIZE = 1_000_000;
   float DEFAULT_KEY_LIST_HASH_LOAD_FACTOR = 0.65f;
   int DEFAULT_KEY_LIST_ENTITY_PREFETCH = 0;
+  int DEFAULT_KEY_LIST_ENTITY_ADAPTIVE_PREFETCH = 2;
+  int DEFAULT_ENTITY_COMPRESSION_THRESHOLD = 0;
   int DEFAULT_COMMIT_TIMEOUT = 500;
   int DEFAULT_COMMIT_RETRIES = Integer.MAX_VALUE;
   int DEFAULT_PARENTS_PER_REFLOG_ENTRY = 20;
+  int DEFAULT_REF_LOG_STRIPES = 8;
   int DEFAULT_RETRY_INITIAL_SLEEP_MILLIS_LOWER = 5;
   int DEFAULT_RETRY_INITIAL_SLEEP_MILLIS_UPPER = 25;
   int DEFAULT_RETRY_MAX_SLEEP_MILLIS = 75;
   long DEFAULT_ASSUMED_WALL_CLOCK_DRIFT_MICROS = 5_000_000L;
   int DEFAULT_ATTACHMENT_KEYS_BATCH_SIZE = 100;
+  int DEFAULT_COMMIT_SEQUENCER_MAX_BATCH_SIZE = 0;
+  int DEFAULT_MERGE_MAX_COMMITS = 100_000;
+  int DEFAULT_MERGE_MAX_KEYS = 1_000_000;
+  int DEFAULT_MERGE_PLAN_CACHE_SIZE = 1_000;
 
   /**
    * A free-form string that identifies a particular Nessie storage repository.
@@ -151,6 +158,32 @@ public interface DatabaseAdapterConfig {
     return DEFAULT_KEY_LIST_ENTITY_PREFETCH;
   }
 
+  /**
+   * The maximum number of adjacent key-list-entities to fetch adaptively, based on the observed
+   * rate of keys that overflow into the next key-list-entity and the number of keys requested per
+   * key-list-entity, defaults to {@value #DEFAULT_KEY_LIST_ENTITY_ADAPTIVE_PREFETCH}. Values less
+   * than or equal to {@link #getKeyListEntityPrefetch()} disable adaptive prefetching.
+   *
+   * <p>Applied to key-lists written by Nessie since 0.31.0 using the {@link
+   * CommitLogEntry.KeyListVariant#OPEN_ADDRESSING} format.
+   */
+  @Value.Default
+  default int getKeyListEntityAdaptivePrefetch() {
+    return DEFAULT_KEY_LIST_ENTITY_ADAPTIVE_PREFETCH;
+  }
+
+  /**
+   * Minimum serialized size in bytes of commit-log-entries and key-list-entities to be persisted
+   * compressed. Values less than or equal to {@code 0} disable compression, which is the default.
+   *
+   * <p>Compressed and uncompressed entities can always be read, but Nessie versions that do not
+   * support compression cannot read compressed entities.
+   */
+  @Value.Default
+  default int getEntityCompressionThreshold() {
+    return DEFAULT_ENTITY_COMPRESSION_THRESHOLD;
+  }
+
   /**
    * Timeout for CAS-like operations in milliseconds. Default is {@value #DEFAULT_COMMIT_TIMEOUT}
    * milliseconds.
@@ -252,6 +285,19 @@ public interface DatabaseAdapterConfig {
     return DEFAULT_PARENTS_PER_REFLOG_ENTRY;
   }
 
+  /**
+   * The number of stripes for the heads of the ref-log. Each named reference updates only the
+   * ref-log head of its stripe, so writes to unrelated references do not contend on a single
+   * ref-log head. Defaults to {@value #DEFAULT_REF_LOG_STRIPES}.
+   *
+   * <p>Increasing the number of stripes is safe. Non-transactional database adapters do not read
+   * the ref-log entries of stripes beyond the configured number.
+   */
+  @Value.Default
+  default int getRefLogStripes() {
+    return DEFAULT_REF_LOG_STRIPES;
+  }
+
   /** The assumed wall-clock drift between multiple Nessie instances in microseconds. */
   @Value.Default
   default long getAssumedWallClockDriftMicros() {
@@ -269,4 +315,57 @@ public interface DatabaseAdapterConfig {
   default int getAttachmentKeysBatchSize() {
     return DEFAULT_ATTACHMENT_KEYS_BATCH_SIZE;
   }
+
+  /**
+   * The maximum number of concurrent commits against the same branch that are applied as a chain of
+   * commits via a single update of the branch's HEAD, see {@link
+   * org.projectnessie.versioned.persist.adapter.spi.CommitSequencer}. Commits are only coalesced
+   * within a single Nessie instance.
+   *
+   * <p>Values {@code <= 1} disable the commit sequencer, defaults to {@value
+   * #DEFAULT_COMMIT_SEQUENCER_MAX_BATCH_SIZE}.
+   */
+  @Value.Default
+  default int getCommitSequencerMaxBatchSize() {
+    return DEFAULT_COMMIT_SEQUENCER_MAX_BATCH_SIZE;
+  }
+
+  /**
+   * The maximum number of commits on either the source or the target side that a merge or
+   * transplant operation reads, including the search for the common ancestor. Operations that
+   * exceed this limit fail with an {@link IllegalArgumentException} before all commits have been
+   * loaded into memory.
+   *
+   * <p>Values {@code <= 0} disable the limit, defaults to {@value #DEFAULT_MERGE_MAX_COMMITS}.
+   */
+  @Value.Default
+  default int getMergeMaxCommits() {
+    return DEFAULT_MERGE_MAX_COMMITS;
+  }
+
+  /**
+   * The maximum number of distinct keys modified on either the source or the target side of a
+   * merge or transplant operation. Operations that exceed this limit fail with an {@link
+   * IllegalArgumentException}.
+   *
+   * <p>Values {@code <= 0} disable the limit, defaults to {@value #DEFAULT_MERGE_MAX_KEYS}.
+   */
+  @Value.Default
+  default int getMergeMaxKeys() {
+    return DEFAULT_MERGE_MAX_KEYS;
+  }
+
+  /**
+   * The maximum number of merge plans, the outcome of conflict-free dry-run merges, that are kept
+   * in memory, see {@link org.projectnessie.versioned.MergeResult#getMergePlanToken()}. Merge plans
+   * are only known to the Nessie instance that performed the dry-run merge and expire after a few
+   * minutes.
+   *
+   * <p>Values {@code <= 0} disable merge plans, defaults to {@value
+   * #DEFAULT_MERGE_PLAN_CACHE_SIZE}.
+   */
+  @Value.Default
+  default int getMergePlanCacheSize() {
+    return DEFAULT_MERGE_PLAN_CACHE_SIZE;
+  }
 }
@@ -15,6 +15,7 @@
  */
 package org.projectnessie.versioned.persist.adapter;
 
+import java.util.Optional;
 import org.immutables.value.Value;
 import org.projectnessie.versioned.Hash;
 
@@ -25,10 +26,23 @@ public interface MergeParams extends MetadataRewriteParams {
   /** Commit-hash to start reading commits from. */
   Hash getMergeFromHash();
 
+  /**
+   * Token of a merge plan returned by a previous dry-run merge, see {@link
+   * org.projectnessie.versioned.MergeResult#getMergePlanToken()}. Unknown or outdated plans are
+   * ignored.
+   */
+  @Value.Default
+  @SuppressWarnings("immutables:untype")
+  default Optional<String> getMergePlanToken() {
+    return Optional.empty();
+  }
+
   @SuppressWarnings("override")
   interface Builder extends MetadataRewriteParams.Builder<Builder> {
     Builder mergeFromHash(Hash mergeFromHash);
 
+    Builder mergePlanToken(Optional<String> mergePlanToken);
+
     MergeParams build();
   }
 
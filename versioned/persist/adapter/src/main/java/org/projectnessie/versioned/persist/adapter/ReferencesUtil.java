@@ -18,16 +18,26 @@ package org.projectnessie.versioned.persist.adapter;
 import static org.projectnessie.versioned.persist.adapter.spi.AbstractDatabaseAdapter.NO_ANCESTOR;
 
 import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.protobuf.ByteString;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.agrona.collections.Hashing;
-import org.agrona.collections.Object2IntHashMap;
 import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.collections.ObjectHashSet;
+import org.projectnessie.versioned.CompactHashIntMap;
+import org.projectnessie.versioned.CompactHashSet;
 import org.projectnessie.versioned.GetNamedRefsParams;
 import org.projectnessie.versioned.Hash;
 import org.projectnessie.versioned.NamedRef;
@@ -55,19 +65,9 @@ public final class ReferencesUtil {
         ObjectHashSet.DEFAULT_INITIAL_CAPACITY, Hashing.DEFAULT_LOAD_FACTOR, false);
   }
 
-  private static <T> Set<T> newOpenAddressingHashSet(Set<T> source) {
-    ObjectHashSet<T> copy = new ObjectHashSet<>(source.size(), Hashing.DEFAULT_LOAD_FACTOR, false);
-    if (source instanceof ObjectHashSet) {
-      copy.addAll((ObjectHashSet<T>) source);
-    } else {
-      copy.addAll(source);
-    }
-    return copy;
-  }
-
   public static class IdentifyHeadsAndForkPoints {
     // Map contains both the commit-IDs and parent-
-    private final Object2IntHashMap<Hash> commits;
+    private final CompactHashIntMap commits;
     private final Set<Hash> heads;
     private final Set<Hash> forkPoints;
     private final long scanStartedAtInMicros;
@@ -76,12 +76,11 @@ public final class ReferencesUtil {
     private static final int MASK_PARENT_SEEN = 2;
 
     public IdentifyHeadsAndForkPoints(int expectedCommitCount, long scanStartedAtInMicros) {
-      // Using open-addressing implementation here, because it's much more space-efficient than
-      // java.util.HashSet.
-      this.commits =
-          new Object2IntHashMap<>(expectedCommitCount * 2, Hashing.DEFAULT_LOAD_FACTOR, 0, true);
-      this.heads = newOpenAddressingHashSet();
-      this.forkPoints = newOpenAddressingHashSet();
+      // Using compact implementations here, which store the commit-IDs inline without an object
+      // per entry, because it's much more space-efficient than java.util.HashSet.
+      this.commits = new CompactHashIntMap(expectedCommitCount * 2, 0);
+      this.heads = new CompactHashSet();
+      this.forkPoints = new CompactHashSet();
       this.scanStartedAtInMicros = scanStartedAtInMicros;
     }
 
@@ -148,6 +147,23 @@ public final class ReferencesUtil {
    */
   public HeadsAndForkPoints identifyAllHeadsAndForkPoints(
       int expectedCommitCount, Consumer<CommitLogEntry> commitHandler) {
+    return identifyAllHeadsAndForkPoints(expectedCommitCount, commitHandler, 1);
+  }
+
+  /**
+   * Identifies all heads and fork-points like {@link #identifyAllHeadsAndForkPoints(int,
+   * Consumer)}, but scans the commit log using {@code scanParallelism} concurrent partitioned
+   * scans, see {@link DatabaseAdapter#scanAllCommitLogEntries(int, int)}.
+   *
+   * <p>Invocations of {@code commitHandler} are serialized, the handler does not need to be
+   * thread-safe.
+   *
+   * @param scanParallelism number of concurrent partitioned commit log scans, {@code 1} scans
+   *     sequentially on the calling thread
+   */
+  public HeadsAndForkPoints identifyAllHeadsAndForkPoints(
+      int expectedCommitCount, Consumer<CommitLogEntry> commitHandler, int scanParallelism) {
+    Preconditions.checkArgument(scanParallelism > 0, "scanParallelism must be positive");
 
     // Need to remember the time when the identification started, so that a follow-up
     // identifyReferencedAndUnreferencedHeads() knows when it can stop scanning a named-reference's
@@ -165,13 +181,63 @@ public final class ReferencesUtil {
 
     // scanAllCommitLogEntries() returns all commits in no specific order, parents may be scanned
     // before or after their children.
-    try (Stream<CommitLogEntry> scan = databaseAdapter.scanAllCommitLogEntries()) {
-      scan.peek(commitHandler).forEach(identify::handleCommit);
+    if (scanParallelism == 1) {
+      try (Stream<CommitLogEntry> scan = databaseAdapter.scanAllCommitLogEntries()) {
+        scan.peek(commitHandler).forEach(identify::handleCommit);
+      }
+    } else {
+      Consumer<CommitLogEntry> handler =
+          entry -> {
+            synchronized (identify) {
+              commitHandler.accept(entry);
+              identify.handleCommit(entry);
+            }
+          };
+      scanPartitioned(scanParallelism, handler);
     }
 
     return identify.finish();
   }
 
+  private void scanPartitioned(int partitions, Consumer<CommitLogEntry> handler) {
+    AtomicInteger threadNum = new AtomicInteger();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            partitions,
+            r -> {
+              Thread t = new Thread(r, "nessie-commit-log-scan-" + threadNum.incrementAndGet());
+              t.setDaemon(true);
+              return t;
+            });
+    try {
+      List<Future<?>> futures = new ArrayList<>(partitions);
+      for (int i = 0; i < partitions; i++) {
+        int partition = i;
+        futures.add(
+            executor.submit(
+                () -> {
+                  try (Stream<CommitLogEntry> scan =
+                      databaseAdapter.scanAllCommitLogEntries(partition, partitions)) {
+                    scan.forEach(handler);
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          Throwables.throwIfUnchecked(e.getCause());
+          throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new RuntimeException(e);
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   /**
    * Identifies unreferenced heads and heads that are part of a named reference.
    *
@@ -181,7 +247,7 @@ public final class ReferencesUtil {
       HeadsAndForkPoints headsAndForkPoints) throws ReferenceNotFoundException {
     Map<Hash, Set<NamedRef>> referenced = newOpenAddressingHashMap();
     Set<Hash> heads = headsAndForkPoints.getHeads();
-    Set<Hash> unreferenced = newOpenAddressingHashSet(heads);
+    Set<Hash> unreferenced = new CompactHashSet(heads);
 
     long stopAtCommitTimeMicros =
         headsAndForkPoints.getScanStartedAtInMicros()
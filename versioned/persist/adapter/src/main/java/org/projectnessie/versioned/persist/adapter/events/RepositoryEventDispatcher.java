@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.events;
+
+import java.util.function.Consumer;
+import org.projectnessie.model.ImmutableRepositoryEvent;
+import org.projectnessie.model.Reference;
+import org.projectnessie.model.RepositoryEvent;
+import org.projectnessie.versioned.NamedRef;
+import org.projectnessie.versioned.TagName;
+import org.projectnessie.versioned.persist.adapter.CommitLogEntry;
+
+/**
+ * Converts the {@link AdapterEvent}s emitted by the database adapter to {@link RepositoryEvent}s
+ * and passes those to a publisher, for example the event buffer backing the events endpoint.
+ *
+ * <p>Events are delivered synchronously by the database adapter, so the publisher must not wait
+ * for readers.
+ */
+public class RepositoryEventDispatcher implements AdapterEventConsumer {
+
+  private final Consumer<RepositoryEvent> publisher;
+
+  public RepositoryEventDispatcher(Consumer<RepositoryEvent> publisher) {
+    this.publisher = publisher;
+  }
+
+  @Override
+  public void accept(AdapterEvent adapterEvent) {
+    publisher.accept(toRepositoryEvent(adapterEvent));
+  }
+
+  static RepositoryEvent toRepositoryEvent(AdapterEvent adapterEvent) {
+    ImmutableRepositoryEvent.Builder event =
+        RepositoryEvent.builder()
+            .position(0L)
+            .type(eventType(adapterEvent))
+            .eventTimeMicros(adapterEvent.getEventTimeMicros());
+
+    if (adapterEvent instanceof CommittingEvent) {
+      CommittingEvent committing = (CommittingEvent) adapterEvent;
+      event
+          .referenceName(committing.getBranch().getName())
+          .referenceType(Reference.ReferenceType.BRANCH)
+          .hash(committing.getHash().asString())
+          .previousHash(committing.getPreviousHash().asString());
+      for (CommitLogEntry commit : committing.getCommits()) {
+        event.addCommitHashes(commit.getHash().asString());
+      }
+    } else if (adapterEvent instanceof ReferenceEvent) {
+      ReferenceEvent reference = (ReferenceEvent) adapterEvent;
+      NamedRef ref = reference.getRef();
+      event
+          .referenceName(ref.getName())
+          .referenceType(
+              ref instanceof TagName ? Reference.ReferenceType.TAG : Reference.ReferenceType.BRANCH)
+          .hash(reference.getCurrentHash().asString());
+    }
+
+    return event.build();
+  }
+
+  private static RepositoryEvent.Type eventType(AdapterEvent adapterEvent) {
+    switch (adapterEvent.getOperationType()) {
+      case COMMIT:
+        return RepositoryEvent.Type.COMMIT;
+      case MERGE:
+        return RepositoryEvent.Type.MERGE;
+      case TRANSPLANT:
+        return RepositoryEvent.Type.TRANSPLANT;
+      case CRETE_REF:
+        return RepositoryEvent.Type.REFERENCE_CREATED;
+      case DELETE_REF:
+        return RepositoryEvent.Type.REFERENCE_DELETED;
+      case ASSIGN_REF:
+        return RepositoryEvent.Type.REFERENCE_ASSIGNED;
+      case REPOSITORY_INITIALIZED:
+        return RepositoryEvent.Type.REPOSITORY_INITIALIZED;
+      case REPOSITORY_ERASED:
+        return RepositoryEvent.Type.REPOSITORY_ERASED;
+      default:
+        throw new IllegalArgumentException(
+            "Unsupported operation type " + adapterEvent.getOperationType());
+    }
+  }
+}
@@ -26,22 +26,25 @@ import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUti
 import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUtil.referenceNotFound;
 import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUtil.takeUntilExcludeLast;
 import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUtil.takeUntilIncludeLast;
-import static org.projectnessie.versioned.persist.adapter.spi.Traced.trace;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import com.google.common.hash.Hasher;
 import com.google.errorprone.annotations.MustBeClosed;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.UnsafeByteOperations;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.opentracing.Span;
 import io.opentracing.Tracer;
 import io.opentracing.log.Fields;
 import io.opentracing.tag.Tags;
 import io.opentracing.util.GlobalTracer;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
@@ -60,12 +63,13 @@ import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.Spliterators.AbstractSpliterator;
+import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -73,12 +77,15 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.projectnessie.model.Content;
 import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.CompactHashSet;
 import org.projectnessie.versioned.ContentAttachment;
 import org.projectnessie.versioned.Diff;
 import org.projectnessie.versioned.GetNamedRefsParams;
 import org.projectnessie.versioned.GetNamedRefsParams.RetrieveOptions;
+import org.projectnessie.versioned.GetRefLogParams;
 import org.projectnessie.versioned.Hash;
 import org.projectnessie.versioned.ImmutableKeyDetails;
 import org.projectnessie.versioned.ImmutableMergeResult;
@@ -96,6 +103,7 @@ import org.projectnessie.versioned.ReferenceConflictException;
 import org.projectnessie.versioned.ReferenceInfo;
 import org.projectnessie.versioned.ReferenceInfo.CommitsAheadBehind;
 import org.projectnessie.versioned.ReferenceNotFoundException;
+import org.projectnessie.versioned.RequestReadStats;
 import org.projectnessie.versioned.StoreWorker;
 import org.projectnessie.versioned.TagName;
 import org.projectnessie.versioned.persist.adapter.CommitLogEntry;
@@ -149,10 +157,17 @@ public abstract class AbstractDatabaseAdapter<
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractDatabaseAdapter.class);
 
   protected static final String TAG_HASH = "hash";
-  protected static final String TAG_COUNT = "count";
+  protected static final String TAG_COUNT = Traced.TAG_COUNT;
   protected final CONFIG config;
   protected static final StoreWorker STORE_WORKER = DefaultStoreWorker.instance();
   private final AdapterEventConsumer eventConsumer;
+  private final Cache<String, MergePlan> mergePlans;
+  private final BackendCallMetrics backendCallMetrics;
+  private final AdaptiveKeyListPrefetch keyListPrefetch;
+  private final DistributionSummary keyListLookupRounds;
+
+  /** Merge plans are only valid as long as the target branch does not change. */
+  private static final Duration MERGE_PLAN_EXPIRY = Duration.ofMinutes(5);
 
   @SuppressWarnings("UnstableApiUsage")
   public static final Hash NO_ANCESTOR =
@@ -166,6 +181,17 @@ public abstract class AbstractDatabaseAdapter<
     Objects.requireNonNull(config, "config parameter must not be null");
     this.config = config;
     this.eventConsumer = eventConsumer;
+    this.mergePlans =
+        config.getMergePlanCacheSize() > 0
+            ? CacheBuilder.newBuilder()
+                .maximumSize(config.getMergePlanCacheSize())
+                .expireAfterWrite(MERGE_PLAN_EXPIRY)
+                .build()
+            : null;
+    this.backendCallMetrics = new BackendCallMetrics(BackendCallMetrics.backendName(getClass()));
+    this.keyListPrefetch = new AdaptiveKeyListPrefetch(config.getKeyListEntityAdaptivePrefetch());
+    this.keyListLookupRounds =
+        DatabaseAdapterMetrics.keyListLookupRounds(backendCallMetrics.getBackend());
   }
 
   @Override
@@ -181,6 +207,28 @@ public abstract class AbstractDatabaseAdapter<
   @VisibleForTesting
   public abstract OP_CONTEXT borrowConnection();
 
+  /**
+   * Starts tracing a call into the backend database, also recording its latency and {@link
+   * #TAG_COUNT batch size} in the per-backend-operation metrics.
+   */
+  protected final Traced trace(String opName) {
+    return Traced.trace(opName, backendCallMetrics);
+  }
+
+  /**
+   * Maps batches of {@code batchSize} elements of {@code source} via {@code batchMapper}, for reads
+   * against the backend database that do not depend on each other. The default implementation
+   * issues the reads sequentially, database adapters can override this function to issue the reads
+   * concurrently using a {@link ConcurrentBatchSpliterator}.
+   */
+  protected <SRC, DST> Spliterator<DST> independentBatchedReads(
+      int batchSize,
+      Spliterator<SRC> source,
+      Function<List<SRC>, Spliterator<DST>> batchMapper,
+      int characteristics) {
+    return new BatchSpliterator<>(batchSize, source, batchMapper, characteristics);
+  }
+
   @Override
   public Hash noAncestorHash() {
     return NO_ANCESTOR;
@@ -354,17 +402,25 @@ public abstract class AbstractDatabaseAdapter<
     mergeParams.getExpectedHead().ifPresent(mergeResult::expectedHash);
     mergeResult.targetBranch(mergeParams.getToBranch()).effectiveTargetHash(toHead);
 
+    MergePlan plan = mergePlan(mergeParams, toHead);
+
     // 2. find nearest common-ancestor between 'from' + 'fromHash'
     Hash commonAncestor =
-        findCommonAncestor(ctx, mergeParams.getMergeFromHash(), mergeParams.getToBranch(), toHead);
+        plan != null
+            ? plan.getCommonAncestor()
+            : findCommonAncestor(
+                ctx, mergeParams.getMergeFromHash(), mergeParams.getToBranch(), toHead);
 
     mergeResult.commonAncestor(commonAncestor);
 
     // 3. Collect commit-log-entries
+    // The target commits are part of the merge result, so they are read even if a merge plan
+    // exists, although the plan's conflict checks already covered them.
     List<CommitLogEntry> toEntriesReverseChronological;
     try (Stream<CommitLogEntry> commits = readCommitLogStream(ctx, toHead)) {
       toEntriesReverseChronological =
-          takeUntilExcludeLast(commits, e -> e.getHash().equals(commonAncestor))
+          limitMergeCommits(
+                  takeUntilExcludeLast(commits, e -> e.getHash().equals(commonAncestor)), "target")
               .collect(Collectors.toList());
     }
 
@@ -374,7 +430,8 @@ public abstract class AbstractDatabaseAdapter<
     try (Stream<CommitLogEntry> commits =
         readCommitLogStream(ctx, mergeParams.getMergeFromHash())) {
       commitsToMergeChronological =
-          takeUntilExcludeLast(commits, e -> e.getHash().equals(commonAncestor))
+          limitMergeCommits(
+                  takeUntilExcludeLast(commits, e -> e.getHash().equals(commonAncestor)), "source")
               .collect(Collectors.toList());
     }
 
@@ -401,7 +458,35 @@ public abstract class AbstractDatabaseAdapter<
         mergeParams,
         mergeResult,
         writtenCommits,
-        singletonList(commitsToMergeChronological.get(0).getHash()));
+        singletonList(commitsToMergeChronological.get(0).getHash()),
+        plan != null ? plan.getDetails() : null,
+        details -> registerMergePlan(mergeParams, toHead, commonAncestor, details, mergeResult));
+  }
+
+  /**
+   * Returns the merge plan referenced by the given merge parameters, if it exists and has been
+   * computed for the same parameters and the current HEAD of the target branch.
+   */
+  private MergePlan mergePlan(MergeParams mergeParams, Hash toHead) {
+    if (mergePlans == null || !mergeParams.getMergePlanToken().isPresent()) {
+      return null;
+    }
+    MergePlan plan = mergePlans.getIfPresent(mergeParams.getMergePlanToken().get());
+    return plan != null && plan.matches(mergeParams, toHead) ? plan : null;
+  }
+
+  private void registerMergePlan(
+      MergeParams mergeParams,
+      Hash toHead,
+      Hash commonAncestor,
+      Map<Key, KeyDetails> details,
+      ImmutableMergeResult.Builder<CommitLogEntry> mergeResult) {
+    if (mergePlans == null) {
+      return;
+    }
+    String token = UUID.randomUUID().toString();
+    mergePlans.put(token, new MergePlan(mergeParams, toHead, commonAncestor, details));
+    mergeResult.mergePlanToken(token);
   }
 
   /**
@@ -426,6 +511,7 @@ public abstract class AbstractDatabaseAdapter<
     if (transplantParams.getSequenceToTransplant().isEmpty()) {
       throw new IllegalArgumentException("No hashes to transplant given.");
     }
+    checkMergeCommitsLimit(transplantParams.getSequenceToTransplant().size(), "source");
 
     transplantParams.getExpectedHead().ifPresent(mergeResult::expectedHash);
     mergeResult.targetBranch(transplantParams.getToBranch()).effectiveTargetHash(targetHead);
@@ -437,7 +523,10 @@ public abstract class AbstractDatabaseAdapter<
         targetHead,
         transplantParams.getToBranch(),
         transplantParams.getExpectedHead(),
-        targetEntriesReverseChronological::add);
+        e -> {
+          checkMergeCommitsLimit(targetEntriesReverseChronological.size() + 1, "target");
+          targetEntriesReverseChronological.add(e);
+        });
 
     targetEntriesReverseChronological.forEach(mergeResult::addTargetCommits);
 
@@ -489,7 +578,9 @@ public abstract class AbstractDatabaseAdapter<
         transplantParams,
         mergeResult,
         writtenCommits,
-        emptyList());
+        emptyList(),
+        null,
+        details -> {});
   }
 
   protected Hash mergeTransplantCommon(
@@ -503,63 +594,29 @@ public abstract class AbstractDatabaseAdapter<
       MetadataRewriteParams params,
       ImmutableMergeResult.Builder<CommitLogEntry> mergeResult,
       Consumer<CommitLogEntry> writtenCommits,
-      List<Hash> additionalParents)
+      List<Hash> additionalParents,
+      @Nullable Map<Key, KeyDetails> plannedDetails,
+      Consumer<Map<Key, KeyDetails>> conflictFreeDryRun)
       throws ReferenceConflictException, ReferenceNotFoundException {
 
-    // Collect modified keys.
-    Collections.reverse(toEntriesReverseChronological);
-
-    Map<Key, ImmutableKeyDetails.Builder> keyDetailsMap = new HashMap<>();
+    Predicate<Key> mergePredicate =
+        k -> params.getMergeTypes().getOrDefault(k, params.getDefaultMergeType()).isMerge();
 
-    Function<Key, MergeType> mergeType =
-        key -> params.getMergeTypes().getOrDefault(key, params.getDefaultMergeType());
-
-    Function<Key, ImmutableKeyDetails.Builder> keyDetails =
-        key ->
-            keyDetailsMap.computeIfAbsent(
-                key, x -> KeyDetails.builder().mergeType(mergeType.apply(key)));
-
-    BiConsumer<Stream<CommitLogEntry>, BiConsumer<ImmutableKeyDetails.Builder, Iterable<Hash>>>
-        keysFromCommitsToKeyDetails =
-            (commits, receiver) -> {
-              Map<Key, Set<Hash>> keyHashesMap = new HashMap<>();
-              Function<Key, Set<Hash>> keyHashes =
-                  key -> keyHashesMap.computeIfAbsent(key, x -> new LinkedHashSet<>());
-              commits.forEach(
-                  commit -> {
-                    commit
-                        .getDeletes()
-                        .forEach(delete -> keyHashes.apply(delete).add(commit.getHash()));
-                    commit
-                        .getPuts()
-                        .forEach(put -> keyHashes.apply(put.getKey()).add(commit.getHash()));
-                  });
-              keyHashesMap.forEach((key, hashes) -> receiver.accept(keyDetails.apply(key), hashes));
-            };
-
-    Set<Key> keysTouchedOnTarget = new HashSet<>();
-    keysFromCommitsToKeyDetails.accept(
-        commitsToMergeChronological.stream(), ImmutableKeyDetails.Builder::addAllSourceCommits);
-    keysFromCommitsToKeyDetails.accept(
-        toEntriesReverseChronological.stream()
-            .peek(
-                e -> {
-                  e.getPuts().stream().map(KeyWithBytes::getKey).forEach(keysTouchedOnTarget::add);
-                  e.getDeletes().forEach(keysTouchedOnTarget::remove);
-                }),
-        ImmutableKeyDetails.Builder::addAllTargetCommits);
-
-    Predicate<Key> skipCheckPredicate = k -> mergeType.apply(k).isSkipCheck();
-    Predicate<Key> mergePredicate = k -> mergeType.apply(k).isMerge();
-
-    // Ignore keys in collision-check that will not be merged or collision-checked
-    keysTouchedOnTarget.removeIf(skipCheckPredicate);
-
-    boolean hasCollisions =
-        hasKeyCollisions(ctx, toHead, keysTouchedOnTarget, commitsToMergeChronological, keyDetails);
-    keyDetailsMap.forEach((key, details) -> mergeResult.putDetails(key, details.build()));
-
-    mergeResult.wasSuccessful(!hasCollisions);
+    boolean hasCollisions;
+    if (plannedDetails != null) {
+      // Conflict checks have already been performed for the merge plan.
+      mergeResult.putAllDetails(plannedDetails).wasSuccessful(true);
+      hasCollisions = false;
+    } else {
+      hasCollisions =
+          checkMergeTransplantConflicts(
+              ctx,
+              toHead,
+              commitsToMergeChronological,
+              toEntriesReverseChronological,
+              params,
+              mergeResult);
+    }
 
     if (hasCollisions && !params.isDryRun()) {
       MergeResult<CommitLogEntry> result = mergeResult.resultantTargetHash(toHead).build();
@@ -575,7 +632,10 @@ public abstract class AbstractDatabaseAdapter<
           result);
     }
 
-    if (params.isDryRun() || hasCollisions) {
+    if (params.isDryRun()) {
+      if (!hasCollisions) {
+        conflictFreeDryRun.accept(mergeResult.build().getDetails());
+      }
       return toHead;
     }
 
@@ -618,6 +678,106 @@ public abstract class AbstractDatabaseAdapter<
     return toHead;
   }
 
+  /**
+   * Computes the per-key details of a merge or transplant and checks for conflicting changes on the
+   * target branch.
+   *
+   * @return {@code true}, if conflicting changes were found
+   */
+  private boolean checkMergeTransplantConflicts(
+      OP_CONTEXT ctx,
+      Hash toHead,
+      List<CommitLogEntry> commitsToMergeChronological,
+      List<CommitLogEntry> toEntriesReverseChronological,
+      MetadataRewriteParams params,
+      ImmutableMergeResult.Builder<CommitLogEntry> mergeResult)
+      throws ReferenceNotFoundException {
+
+    // Collect modified keys.
+    Collections.reverse(toEntriesReverseChronological);
+
+    Map<Key, ImmutableKeyDetails.Builder> keyDetailsMap = new HashMap<>();
+
+    Function<Key, MergeType> mergeType =
+        key -> params.getMergeTypes().getOrDefault(key, params.getDefaultMergeType());
+
+    Function<Key, ImmutableKeyDetails.Builder> keyDetails =
+        key ->
+            keyDetailsMap.computeIfAbsent(
+                key, x -> KeyDetails.builder().mergeType(mergeType.apply(key)));
+
+    // The commits that modified each key are tracked via their position in the list of commits,
+    // instead of a set of hashes per key, to keep the memory footprint of large merges low.
+    keyCommitIndexes(commitsToMergeChronological, "source")
+        .forEach(
+            i -> commitsToMergeChronological.get(i).getHash(),
+            (key, hashes) -> keyDetails.apply(key).addAllSourceCommits(hashes));
+    keyCommitIndexes(toEntriesReverseChronological, "target")
+        .forEach(
+            i -> toEntriesReverseChronological.get(i).getHash(),
+            (key, hashes) -> keyDetails.apply(key).addAllTargetCommits(hashes));
+
+    Set<Key> keysTouchedOnTarget = new HashSet<>();
+    for (CommitLogEntry e : toEntriesReverseChronological) {
+      e.getPuts().stream().map(KeyWithBytes::getKey).forEach(keysTouchedOnTarget::add);
+      e.getDeletes().forEach(keysTouchedOnTarget::remove);
+    }
+
+    Predicate<Key> skipCheckPredicate = k -> mergeType.apply(k).isSkipCheck();
+
+    // Ignore keys in collision-check that will not be merged or collision-checked
+    keysTouchedOnTarget.removeIf(skipCheckPredicate);
+
+    boolean hasCollisions =
+        hasKeyCollisions(ctx, toHead, keysTouchedOnTarget, commitsToMergeChronological, keyDetails);
+    keyDetailsMap.forEach((key, details) -> mergeResult.putDetails(key, details.build()));
+
+    mergeResult.wasSuccessful(!hasCollisions);
+    return hasCollisions;
+  }
+
+  /**
+   * Collects the keys modified by the given commits, fails if the number of distinct keys exceeds
+   * {@link DatabaseAdapterConfig#getMergeMaxKeys()}.
+   */
+  private KeyCommitIndexes keyCommitIndexes(List<CommitLogEntry> commits, String side) {
+    KeyCommitIndexes indexes = new KeyCommitIndexes(config.getMergeMaxKeys(), side);
+    for (int i = 0; i < commits.size(); i++) {
+      CommitLogEntry commit = commits.get(i);
+      for (Key delete : commit.getDeletes()) {
+        indexes.add(delete, i);
+      }
+      for (KeyWithBytes put : commit.getPuts()) {
+        indexes.add(put.getKey(), i);
+      }
+    }
+    return indexes;
+  }
+
+  /**
+   * Lets the given stream of commits fail as soon as it returns more commits than allowed by {@link
+   * DatabaseAdapterConfig#getMergeMaxCommits()}, so that the commits beyond that limit are not even
+   * read.
+   */
+  private <T> Stream<T> limitMergeCommits(Stream<T> commits, String side) {
+    if (config.getMergeMaxCommits() <= 0) {
+      return commits;
+    }
+    int[] count = {0};
+    return commits.peek(c -> checkMergeCommitsLimit(++count[0], side));
+  }
+
+  private void checkMergeCommitsLimit(int commits, String side) {
+    int maxCommits = config.getMergeMaxCommits();
+    if (maxCommits > 0 && commits > maxCommits) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Merge/transplant requires more than %d commits on the %s side, which exceeds the "
+                  + "configured limit",
+              maxCommits, side));
+    }
+  }
+
   /**
    * Compute the diff between two references.
    *
@@ -917,7 +1077,11 @@ public abstract class AbstractDatabaseAdapter<
       return null;
     }
     try (Traced ignore = trace("fetchFromCommitLog").tag(TAG_HASH, hash.asString())) {
-      return doFetchFromCommitLog(ctx, hash);
+      CommitLogEntry entry = doFetchFromCommitLog(ctx, hash);
+      if (entry != null) {
+        RequestReadStats.recordCommits(1);
+      }
+      return entry;
     }
   }
 
@@ -926,8 +1090,20 @@ public abstract class AbstractDatabaseAdapter<
   @Override
   @SuppressWarnings("MustBeClosedChecker")
   public Stream<CommitLogEntry> scanAllCommitLogEntries() {
+    return scanAllCommitLogEntries(ScanPartition.full());
+  }
+
+  @Override
+  @SuppressWarnings("MustBeClosedChecker")
+  public Stream<CommitLogEntry> scanAllCommitLogEntries(int partition, int partitions) {
+    return scanAllCommitLogEntries(ScanPartition.of(partition, partitions));
+  }
+
+  @MustBeClosed
+  @SuppressWarnings("MustBeClosedChecker")
+  private Stream<CommitLogEntry> scanAllCommitLogEntries(ScanPartition partition) {
     OP_CONTEXT ctx = borrowConnection();
-    return doScanAllCommitLogEntries(ctx)
+    return doScanAllCommitLogEntries(ctx, partition)
         .onClose(
             () -> {
               try {
@@ -938,8 +1114,13 @@ public abstract class AbstractDatabaseAdapter<
             });
   }
 
+  /**
+   * Scan the commit-log-entries in the given partition of the commit-log keyspace, must return
+   * all entries if {@link ScanPartition#isFull()}.
+   */
   @MustBeClosed
-  protected abstract Stream<CommitLogEntry> doScanAllCommitLogEntries(OP_CONTEXT c);
+  protected abstract Stream<CommitLogEntry> doScanAllCommitLogEntries(
+      OP_CONTEXT c, ScanPartition partition);
 
   /**
    * Fetch multiple {@link CommitLogEntry commit-log-entries} from the commit-log. The returned list
@@ -978,11 +1159,12 @@ public abstract class AbstractDatabaseAdapter<
       try (Traced ignore =
           trace("fetchPageFromCommitLog")
               .tag(TAG_HASH, hashes.get(0).asString())
-              .tag(TAG_COUNT, hashes.size())) {
+              .tag(TAG_COUNT, remainingHashes.cardinality())) {
         fromStorage =
             doFetchMultipleFromCommitLog(
                 ctx, remainingHashes.stream().mapToObj(hashes::get).collect(Collectors.toList()));
       }
+      RequestReadStats.recordCommits((int) fromStorage.stream().filter(Objects::nonNull).count());
 
       // Fill the gaps in the final result list. Note that fetchPageFromCommitLog must return the
       // list of the same size as its `remainingHashes` parameter.
@@ -1562,13 +1744,24 @@ public abstract class AbstractDatabaseAdapter<
 
     List<KeyListEntry> keyListEntries = new ArrayList<>();
 
+    int staticPrefetch = config.getKeyListEntityPrefetch();
+    Preconditions.checkArgument(
+        0 <= staticPrefetch,
+        "Key-list segment prefetch parameter %s cannot be negative",
+        staticPrefetch);
+
     // If one or more `Key`s could not be immediately found in their "natural" segment in round 0,
     // because the end of the segment was hit, the next segment(s) will be consulted for the
     // remaining keys. Each "wrap around" increments the 'round'.
-    for (int round = 0; !remainingKeys.isEmpty(); round++) {
-      // Figure out the key-list-entities to load
+    int round = 0;
+    for (; !remainingKeys.isEmpty(); round++) {
+      // Figure out the key-list-entities to load, prefetch adjacent key-list-entities depending on
+      // the observed overflow rate.
       List<Hash> entitiesToFetch =
-          helper.entityIdsToFetch(round, config.getKeyListEntityPrefetch(), remainingKeys);
+          helper.entityIdsToFetch(
+              round,
+              keysInSegment -> keyListPrefetch.prefetchFor(keysInSegment, staticPrefetch),
+              remainingKeys);
 
       // Fetch the key-list-entities for the identified segments, store those
       if (!entitiesToFetch.isEmpty()) {
@@ -1578,8 +1771,13 @@ public abstract class AbstractDatabaseAdapter<
       }
 
       // Try to extract the key-list-entries for the remainingKeys and add to the result list
+      int lookedUpKeys = remainingKeys.size();
       remainingKeys = helper.checkForKeys(round, remainingKeys, keyListEntries::add);
+      if (round == 0) {
+        keyListPrefetch.recordLookup(lookedUpKeys, remainingKeys.size());
+      }
     }
+    keyListLookupRounds.record(round);
 
     return keyListEntries;
   }
@@ -1651,7 +1849,13 @@ public abstract class AbstractDatabaseAdapter<
       return Stream.empty();
     }
     try (Traced ignore = trace("fetchKeyLists").tag(TAG_COUNT, keyListsIds.size())) {
-      return doFetchKeyLists(ctx, keyListsIds);
+      return doFetchKeyLists(ctx, keyListsIds)
+          .peek(
+              keyList -> {
+                if (keyList != null) {
+                  RequestReadStats.recordKeyListEntities(1);
+                }
+              });
     }
   }
 
@@ -1773,7 +1977,7 @@ public abstract class AbstractDatabaseAdapter<
   protected final class CommonAncestorState {
     final Iterator<Hash> toLog;
     final List<Hash> toCommitHashesList;
-    final Set<Hash> toCommitHashes = new HashSet<>();
+    final Set<Hash> toCommitHashes = new CompactHashSet();
 
     public CommonAncestorState(OP_CONTEXT ctx, Hash toHead, boolean trackCount) {
       this.toLog = Spliterators.iterator(readCommitLogHashes(ctx, toHead));
@@ -1809,14 +2013,18 @@ public abstract class AbstractDatabaseAdapter<
   protected Hash findCommonAncestor(OP_CONTEXT ctx, Hash from, NamedRef toBranch, Hash toHead)
       throws ReferenceConflictException {
 
-    // TODO this implementation requires guardrails:
-    //  max number of "to"-commits to fetch, max number of "from"-commits to fetch,
-    //  both impact the cost (CPU, memory, I/O) of a merge operation.
+    // The number of "from"- and "to"-commits to fetch is limited by the configured
+    // max-merge-commits, both impact the cost (CPU, memory, I/O) of a merge operation.
 
     CommonAncestorState commonAncestorState = new CommonAncestorState(ctx, toHead, false);
 
     Hash commonAncestorHash =
-        findCommonAncestor(ctx, from, commonAncestorState, (dist, hash) -> hash);
+        findCommonAncestor(
+            ctx,
+            from,
+            commonAncestorState,
+            (dist, hash) -> hash,
+            commits -> checkMergeCommitsLimit(commits, "source or target"));
     if (commonAncestorHash == null) {
       throw new ReferenceConflictException(
           String.format(
@@ -1828,17 +2036,42 @@ public abstract class AbstractDatabaseAdapter<
 
   protected <R> R findCommonAncestor(
       OP_CONTEXT ctx, Hash from, CommonAncestorState state, BiFunction<Integer, Hash, R> result) {
+    return findCommonAncestor(ctx, from, state, result, fetched -> {});
+  }
+
+  /**
+   * Variant of {@link #findCommonAncestor(Object, Hash, CommonAncestorState, BiFunction)} that,
+   * after each round that did not find the common ancestor, passes the number of commits that are
+   * known to exist after the common ancestor on the "from" or the "to" side to {@code
+   * commitsAfterCommonAncestor}, which can throw an exception to abort the search.
+   */
+  protected <R> R findCommonAncestor(
+      OP_CONTEXT ctx,
+      Hash from,
+      CommonAncestorState state,
+      BiFunction<Integer, Hash, R> result,
+      IntConsumer commitsAfterCommonAncestor) {
     Iterator<Hash> fromLog = Spliterators.iterator(readCommitLogHashes(ctx, from));
     List<Hash> fromCommitHashes = new ArrayList<>();
+    boolean fromExhausted = false;
+    boolean toExhausted = false;
     while (true) {
       boolean anyFetched = false;
       for (int i = 0; i < config.getParentsPerCommit(); i++) {
-        if (state.fetchNext()) {
-          anyFetched = true;
+        if (!toExhausted) {
+          if (state.fetchNext()) {
+            anyFetched = true;
+          } else {
+            toExhausted = true;
+          }
         }
-        if (fromLog.hasNext()) {
-          fromCommitHashes.add(fromLog.next());
-          anyFetched = true;
+        if (!fromExhausted) {
+          if (fromLog.hasNext()) {
+            fromCommitHashes.add(fromLog.next());
+            anyFetched = true;
+          } else {
+            fromExhausted = true;
+          }
         }
       }
       if (!anyFetched) {
@@ -1851,6 +2084,21 @@ public abstract class AbstractDatabaseAdapter<
           return result.apply(diffOnFrom, f);
         }
       }
+
+      // The common ancestor is not among the commits fetched from at least one side, so that side
+      // has at least as many commits after the common ancestor as have been fetched from it. If one
+      // side has been read completely, it's the other side.
+      int fromFetched = fromCommitHashes.size();
+      int toFetched = state.toCommitHashes.size();
+      int minCommits;
+      if (fromExhausted) {
+        minCommits = toFetched;
+      } else if (toExhausted) {
+        minCommits = fromFetched;
+      } else {
+        minCommits = Math.min(fromFetched, toFetched);
+      }
+      commitsAfterCommonAncestor.accept(minCommits);
     }
   }
 
@@ -2176,6 +2424,35 @@ public abstract class AbstractDatabaseAdapter<
     return StreamSupport.stream(split, false);
   }
 
+  /**
+   * Reads from the refLog starting at the given refLog-hash, returning only the entries matching
+   * the given {@link GetRefLogParams params}.
+   *
+   * <p>The refLog is returned with the most recent entry first, so the returned stream stops at the
+   * first entry older than {@link GetRefLogParams#getMinOperationTime()}. Entries of other
+   * references and entries newer than {@link GetRefLogParams#getMaxOperationTime()} still have to
+   * be read, but are skipped.
+   */
+  @MustBeClosed
+  protected Stream<RefLog> readRefLogStream(
+      OP_CONTEXT ctx, Hash initialHash, GetRefLogParams params) throws RefLogNotFoundException {
+    Stream<RefLog> refLog = readRefLogStream(ctx, initialHash);
+
+    long minOperationTime = params.getMinOperationTime();
+    if (minOperationTime != Long.MIN_VALUE) {
+      refLog = takeUntilExcludeLast(refLog, e -> e.getOperationTime() < minOperationTime);
+    }
+    long maxOperationTime = params.getMaxOperationTime();
+    if (maxOperationTime != Long.MAX_VALUE) {
+      refLog = refLog.filter(e -> e.getOperationTime() <= maxOperationTime);
+    }
+    String refName = params.getRefName();
+    if (refName != null) {
+      refLog = refLog.filter(e -> refName.equals(e.getRefName()));
+    }
+    return refLog;
+  }
+
   protected abstract Spliterator<RefLog> readRefLog(OP_CONTEXT ctx, Hash initialHash)
       throws RefLogNotFoundException;
 
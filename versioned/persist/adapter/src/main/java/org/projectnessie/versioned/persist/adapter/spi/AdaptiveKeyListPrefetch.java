@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.spi;
+
+/**
+ * Decides how many adjacent key-list-entities to fetch together with the "natural" segment of the
+ * requested keys, based on the observed rate of keys that overflow into the next segment.
+ *
+ * <p>A key overflows, if it is not found in its natural segment, because linear probing moved it
+ * into a following segment. Each overflow costs another round-trip to the database, unless the
+ * following segment has been fetched in the same batch. The probability that at least one of
+ * {@code k} keys requested from the same segment needs the {@code n}-th following segment is
+ * estimated as {@code 1 - (1 - p^n)^k}, with {@code p} being the observed overflow rate. Adjacent
+ * segments are fetched while that probability is above {@value #PREFETCH_PROBABILITY_THRESHOLD},
+ * but not more than the configured maximum.
+ */
+final class AdaptiveKeyListPrefetch {
+
+  /** Minimum number of observed keys before the overflow rate is considered. */
+  static final int MIN_SAMPLES = 64;
+  /** The observed counts are halved, when this number of keys has been observed. */
+  static final int DECAY_SAMPLES = 10_000;
+
+  static final double PREFETCH_PROBABILITY_THRESHOLD = 0.25d;
+
+  private final int maxPrefetch;
+
+  private long keys;
+  private long overflows;
+
+  AdaptiveKeyListPrefetch(int maxPrefetch) {
+    this.maxPrefetch = maxPrefetch;
+  }
+
+  /**
+   * Records the outcome of the first lookup round for the given number of keys, of which {@code
+   * overflowedKeys} could not be found in their natural segment.
+   */
+  synchronized void recordLookup(int lookedUpKeys, int overflowedKeys) {
+    keys += lookedUpKeys;
+    overflows += overflowedKeys;
+    if (keys >= DECAY_SAMPLES) {
+      keys /= 2;
+      overflows /= 2;
+    }
+  }
+
+  synchronized double overflowRate() {
+    return keys >= MIN_SAMPLES ? (double) overflows / keys : 0d;
+  }
+
+  /**
+   * Returns the number of adjacent segments to fetch for a segment that is expected to contain
+   * {@code keysInSegment} of the requested keys, at least {@code staticPrefetch}.
+   */
+  int prefetchFor(int keysInSegment, int staticPrefetch) {
+    if (maxPrefetch <= staticPrefetch) {
+      return staticPrefetch;
+    }
+    double p = overflowRate();
+    if (p <= 0d) {
+      return staticPrefetch;
+    }
+
+    int prefetch = 0;
+    double pNeighbour = p;
+    while (prefetch < maxPrefetch
+        && 1d - Math.pow(1d - pNeighbour, keysInSegment) >= PREFETCH_PROBABILITY_THRESHOLD) {
+      prefetch++;
+      pNeighbour *= p;
+    }
+    return Math.max(prefetch, staticPrefetch);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.spi;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+
+/**
+ * Per-backend-operation meters of a database adapter, recorded via {@link Traced} for each call
+ * from {@link AbstractDatabaseAdapter} and its subclasses into the backend database.
+ *
+ * <p>Meters are looked up once per operation and then reused, so recording a call does not hit
+ * the meter registry.
+ */
+public final class BackendCallMetrics {
+
+  private final String backend;
+  private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+  public BackendCallMetrics(@Nonnull String backend) {
+    this.backend = backend;
+  }
+
+  /**
+   * Derives the backend name from a database adapter class name, for example {@code Rocks} for
+   * {@code RocksDatabaseAdapter}.
+   */
+  public static String backendName(Class<?> adapterClass) {
+    String name = adapterClass.getSimpleName();
+    if (name.isEmpty()) {
+      name = adapterClass.getName();
+    }
+    return name.endsWith("DatabaseAdapter")
+        ? name.substring(0, name.length() - "DatabaseAdapter".length())
+        : name;
+  }
+
+  public String getBackend() {
+    return backend;
+  }
+
+  Operation operation(String operation) {
+    return operations.computeIfAbsent(operation, op -> new Operation(backend, op));
+  }
+
+  static final class Operation {
+    private final Timer duration;
+    private final DistributionSummary batchSize;
+
+    private Operation(String backend, String operation) {
+      this.duration = DatabaseAdapterMetrics.backendCallDuration(backend, operation);
+      this.batchSize = DatabaseAdapterMetrics.backendCallBatchSize(backend, operation);
+    }
+
+    void finished(long durationNanos) {
+      duration.record(durationNanos, NANOSECONDS);
+    }
+
+    void batchSize(double entities) {
+      batchSize.record(entities);
+    }
+  }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.spi;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.ReferenceConflictException;
+import org.projectnessie.versioned.ReferenceNotFoundException;
+import org.projectnessie.versioned.ReferenceRetryFailureException;
+import org.projectnessie.versioned.VersionStoreException;
+import org.projectnessie.versioned.persist.adapter.CommitParams;
+
+/**
+ * Coalesces concurrent commits against the same branch on this node.
+ *
+ * <p>Committers for a branch are queued. The first committer becomes the "leader" and applies up
+ * to {@code maxBatchSize} queued commits as a chain of individual commits via a single
+ * compare-and-swap of the branch's HEAD, then passes the leadership to the next queued committer,
+ * if any. Each commit in a batch is still validated against its own expected HEAD, conflicts only
+ * fail the affected commit. Commits that arrive while a batch is being applied are collected for
+ * the next batch, which reduces the number of failed compare-and-swap operations and retries for
+ * "hot" branches.
+ *
+ * <p>If applying a batch fails with an unexpected exception, the commits of that batch are applied
+ * one by one.
+ *
+ * <p>Queued committers wait at most the commit timeout for their commit to be picked up. A commit
+ * that is still queued after that time fails with a {@link ReferenceRetryFailureException}. A
+ * commit that is already being applied is waited for, the adapter bounds that by its own retry
+ * timeout.
+ */
+public final class CommitSequencer {
+
+  /** Applies a batch of commits against the same branch via a single reference update. */
+  @FunctionalInterface
+  public interface BatchCommitter {
+    /**
+     * Applies the given commits back-to-back, must call either {@link Commit#succeeded(Hash)} or
+     * {@link Commit#failed(Exception)} for every commit or throw an exception.
+     */
+    void commitBatch(List<Commit> commits) throws VersionStoreException;
+  }
+
+  /** Applies a single commit, usually the adapter's non-batching commit implementation. */
+  @FunctionalInterface
+  public interface SingleCommitter {
+    Hash commit(CommitParams commitParams)
+        throws ReferenceConflictException, ReferenceNotFoundException;
+  }
+
+  private final int maxBatchSize;
+  private final long commitTimeoutMillis;
+  private final BatchCommitter batchCommitter;
+  private final SingleCommitter singleCommitter;
+  private final Runnable queuedListener;
+  private final ConcurrentMap<BranchName, BranchQueue> queues = new ConcurrentHashMap<>();
+
+  public CommitSequencer(
+      int maxBatchSize,
+      long commitTimeoutMillis,
+      BatchCommitter batchCommitter,
+      SingleCommitter singleCommitter) {
+    this(maxBatchSize, commitTimeoutMillis, batchCommitter, singleCommitter, () -> {});
+  }
+
+  @VisibleForTesting
+  CommitSequencer(
+      int maxBatchSize,
+      long commitTimeoutMillis,
+      BatchCommitter batchCommitter,
+      SingleCommitter singleCommitter,
+      Runnable queuedListener) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+    }
+    if (commitTimeoutMillis <= 0L) {
+      throw new IllegalArgumentException("commitTimeoutMillis must be greater than 0");
+    }
+    this.maxBatchSize = maxBatchSize;
+    this.commitTimeoutMillis = commitTimeoutMillis;
+    this.batchCommitter = batchCommitter;
+    this.singleCommitter = singleCommitter;
+    this.queuedListener = queuedListener;
+  }
+
+  /**
+   * Queues the given commit and waits until it has been applied, either by this thread or by the
+   * thread that currently applies commits against the same branch.
+   */
+  public Hash commit(CommitParams commitParams)
+      throws ReferenceConflictException, ReferenceNotFoundException {
+    BranchName branch = commitParams.getToBranch();
+    Commit commit = new Commit(commitParams);
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(commitTimeoutMillis);
+
+    BranchQueue queue;
+    while (true) {
+      queue = queues.computeIfAbsent(branch, b -> new BranchQueue());
+      synchronized (queue) {
+        if (queue.retired) {
+          // The previous leader just removed this queue, use a new one.
+          continue;
+        }
+        queue.pending.add(commit);
+        if (!queue.leaderActive) {
+          queue.leaderActive = true;
+          commit.becomeLeader();
+        }
+      }
+      break;
+    }
+    queuedListener.run();
+
+    switch (commit.awaitLeadershipOrCompletion(deadline)) {
+      case LEADER:
+        lead(branch, queue);
+        break;
+      case TIMED_OUT:
+        timedOut(branch, queue, commit);
+        break;
+      default:
+        break;
+    }
+    return commit.result();
+  }
+
+  private void timedOut(BranchName branch, BranchQueue queue, Commit commit) {
+    boolean lead;
+    synchronized (queue) {
+      lead = commit.isLeader();
+      if (!lead && queue.pending.remove(commit)) {
+        commit.failed(
+            new ReferenceRetryFailureException(
+                String.format(
+                    "Commit to branch '%s' was not applied within %d ms",
+                    branch.getName(), commitTimeoutMillis),
+                0,
+                commitTimeoutMillis));
+        return;
+      }
+    }
+    if (lead) {
+      lead(branch, queue);
+    } else {
+      // The commit is part of the batch that is currently being applied.
+      commit.awaitCompletion();
+    }
+  }
+
+  private void lead(BranchName branch, BranchQueue queue) {
+    List<Commit> batch = new ArrayList<>();
+    try {
+      synchronized (queue) {
+        // The leader is always the head of the queue, so it is always part of the batch.
+        while (batch.size() < maxBatchSize && !queue.pending.isEmpty()) {
+          batch.add(queue.pending.poll());
+        }
+      }
+      apply(batch);
+    } catch (Throwable t) {
+      for (Commit c : batch) {
+        c.failed(new RuntimeException("Failed to apply commits", t));
+      }
+      throw t;
+    } finally {
+      synchronized (queue) {
+        Commit next = queue.pending.peek();
+        if (next != null) {
+          next.becomeLeader();
+        } else {
+          queue.leaderActive = false;
+          queue.retired = true;
+          queues.remove(branch, queue);
+        }
+      }
+    }
+  }
+
+  private void apply(List<Commit> batch) {
+    if (batch.size() > 1) {
+      try {
+        batchCommitter.commitBatch(batch);
+      } catch (VersionStoreException e) {
+        // Branch-level failure, like a non-existing branch or too many retries.
+        for (Commit c : batch) {
+          c.failed(e);
+        }
+      } catch (RuntimeException e) {
+        // Fall through and apply the remaining commits individually.
+      }
+    }
+    for (Commit c : batch) {
+      if (!c.isDone()) {
+        try {
+          c.succeeded(singleCommitter.commit(c.params));
+        } catch (ReferenceConflictException | ReferenceNotFoundException | RuntimeException e) {
+          c.failed(e);
+        }
+      }
+    }
+  }
+
+  private enum WaitResult {
+    DONE,
+    LEADER,
+    TIMED_OUT
+  }
+
+  private static final class BranchQueue {
+    final ArrayDeque<Commit> pending = new ArrayDeque<>();
+    boolean leaderActive;
+    boolean retired;
+  }
+
+  /** A queued commit. */
+  public static final class Commit {
+    private final CommitParams params;
+    private boolean leader;
+    private boolean done;
+    private Hash hash;
+    private Exception failure;
+
+    private Commit(CommitParams params) {
+      this.params = params;
+    }
+
+    public CommitParams getParams() {
+      return params;
+    }
+
+    public synchronized void succeeded(Hash hash) {
+      if (!done) {
+        this.hash = hash;
+        this.done = true;
+        notifyAll();
+      }
+    }
+
+    public synchronized void failed(Exception failure) {
+      if (!done) {
+        this.failure = failure;
+        this.done = true;
+        notifyAll();
+      }
+    }
+
+    synchronized boolean isDone() {
+      return done;
+    }
+
+    synchronized boolean isLeader() {
+      return leader;
+    }
+
+    synchronized void becomeLeader() {
+      leader = true;
+      notifyAll();
+    }
+
+    /**
+     * Waits until this commit has been applied by another thread, until the current thread becomes
+     * the leader or until the given {@link System#nanoTime()} deadline has passed.
+     */
+    synchronized WaitResult awaitLeadershipOrCompletion(long deadline) {
+      boolean interrupted = false;
+      try {
+        while (!done && !leader) {
+          long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+          if (remainingMillis <= 0L) {
+            return WaitResult.TIMED_OUT;
+          }
+          try {
+            wait(remainingMillis);
+          } catch (InterruptedException e) {
+            // The commit is already queued and will be applied, wait for the result.
+            interrupted = true;
+          }
+        }
+        return done ? WaitResult.DONE : WaitResult.LEADER;
+      } finally {
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+    /** Waits until this commit has been applied by another thread. */
+    synchronized void awaitCompletion() {
+      boolean interrupted = false;
+      try {
+        while (!done) {
+          try {
+            wait();
+          } catch (InterruptedException e) {
+            interrupted = true;
+          }
+        }
+      } finally {
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+    synchronized Hash result() throws ReferenceConflictException, ReferenceNotFoundException {
+      if (failure instanceof ReferenceConflictException) {
+        throw (ReferenceConflictException) failure;
+      }
+      if (failure instanceof ReferenceNotFoundException) {
+        throw (ReferenceNotFoundException) failure;
+      }
+      if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      }
+      if (failure != null) {
+        throw new RuntimeException(failure);
+      }
+      return hash;
+    }
+  }
+}
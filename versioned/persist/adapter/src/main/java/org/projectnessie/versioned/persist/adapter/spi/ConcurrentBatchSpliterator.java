@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.spi;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Variant of {@link BatchSpliterator} that maps up to {@code maxInFlight} batches concurrently
+ * using the given {@link Executor}, while returning the mapped elements in the order of the
+ * batches.
+ *
+ * <p>The source is consumed by the thread that advances this spliterator, only the batch mapper
+ * runs on the executor. The batch mapper must therefore be safe to be called concurrently and
+ * should fully materialize the returned {@link Spliterator}.
+ */
+public final class ConcurrentBatchSpliterator<SRC, DST> extends AbstractSpliterator<DST> {
+
+  private final Spliterator<SRC> source;
+  private final int batchSize;
+  private final Function<List<SRC>, Spliterator<DST>> batchMapper;
+  private final Executor executor;
+  private final int maxInFlight;
+
+  private final Deque<CompletableFuture<Spliterator<DST>>> inFlight = new ArrayDeque<>();
+  private Spliterator<DST> mapped = Spliterators.emptySpliterator();
+  private boolean sourceEof;
+
+  public ConcurrentBatchSpliterator(
+      int batchSize,
+      Spliterator<SRC> source,
+      Function<List<SRC>, Spliterator<DST>> batchMapper,
+      Executor executor,
+      int maxInFlight,
+      int characteristics) {
+    super(Long.MAX_VALUE, characteristics);
+    Preconditions.checkArgument(batchSize > 0, "batchSize must be greater than 0");
+    Preconditions.checkArgument(maxInFlight > 0, "maxInFlight must be greater than 0");
+    this.batchSize = batchSize;
+    this.source = source;
+    this.batchMapper = batchMapper;
+    this.executor = executor;
+    this.maxInFlight = maxInFlight;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super DST> action) {
+    while (true) {
+      if (mapped.tryAdvance(action)) {
+        return true;
+      }
+
+      submitBatches();
+      CompletableFuture<Spliterator<DST>> next = inFlight.poll();
+      if (next == null) {
+        return false;
+      }
+      // Keep the window full while waiting for and consuming the next batch.
+      submitBatches();
+      mapped = await(next);
+    }
+  }
+
+  private void submitBatches() {
+    while (!sourceEof && inFlight.size() < maxInFlight) {
+      List<SRC> batch = new ArrayList<>(batchSize);
+      while (batch.size() < batchSize) {
+        if (!source.tryAdvance(batch::add)) {
+          sourceEof = true;
+          break;
+        }
+      }
+      if (!batch.isEmpty()) {
+        inFlight.add(CompletableFuture.supplyAsync(() -> batchMapper.apply(batch), executor));
+      }
+    }
+  }
+
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
+  }
+}
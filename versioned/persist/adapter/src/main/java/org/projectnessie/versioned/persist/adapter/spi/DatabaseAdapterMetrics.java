@@ -18,6 +18,7 @@ package org.projectnessie.versioned.persist.adapter.spi;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
 import javax.annotation.Nonnull;
@@ -49,4 +50,34 @@ public final class DatabaseAdapterMetrics {
         .tag("result", result)
         .register(Metrics.globalRegistry);
   }
+
+  /**
+   * Latency of the calls into the backend database, tagged with the backend (for example {@code
+   * Rocks} or {@code Postgres}) and the operation (for example {@code fetchPageFromCommitLog}).
+   */
+  public static Timer backendCallDuration(@Nonnull String backend, @Nonnull String operation) {
+    return Timer.builder("nessie.databaseadapter.backend.duration")
+        .tag("backend", backend)
+        .tag("operation", operation)
+        .publishPercentileHistogram()
+        .register(Metrics.globalRegistry);
+  }
+
+  /** Number of entities requested or written per call into the backend database. */
+  public static DistributionSummary backendCallBatchSize(
+      @Nonnull String backend, @Nonnull String operation) {
+    return DistributionSummary.builder("nessie.databaseadapter.backend.batch-size")
+        .tag("backend", backend)
+        .tag("operation", operation)
+        .publishPercentileHistogram()
+        .register(Metrics.globalRegistry);
+  }
+
+  /** Number of sequential rounds needed to look up keys in an open-addressing key list. */
+  public static DistributionSummary keyListLookupRounds(@Nonnull String backend) {
+    return DistributionSummary.builder("nessie.databaseadapter.keylist.rounds")
+        .tag("backend", backend)
+        .publishPercentileHistogram()
+        .register(Metrics.globalRegistry);
+  }
 }
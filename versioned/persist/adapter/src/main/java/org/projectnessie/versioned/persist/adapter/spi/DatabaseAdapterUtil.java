@@ -56,7 +56,9 @@ public final class DatabaseAdapterUtil {
 
   @SuppressWarnings("UnstableApiUsage")
   public static void hashKey(Hasher hasher, Key k) {
-    k.getElements().forEach(e -> hasher.putString(e, StandardCharsets.UTF_8));
+    for (int i = 0; i < k.getElementCount(); i++) {
+      hasher.putString(k.getElement(i), StandardCharsets.UTF_8);
+    }
   }
 
   public static ReferenceConflictException hashCollisionDetected() {
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
 import org.agrona.collections.Hashing;
 import org.agrona.collections.Object2IntHashMap;
 import org.projectnessie.versioned.Hash;
@@ -93,14 +94,39 @@ final class FetchValuesUsingOpenAddressing {
         0 <= prefetchEntities,
         "Key-list segment prefetch parameter %s cannot be negative",
         prefetchEntities);
-    prefetchEntities = Math.min(prefetchEntities, keyListCount - 1);
+    return entityIdsToFetch(round, keysInSegment -> prefetchEntities, remainingKeys);
+  }
+
+  /**
+   * Identify the {@link KeyListEntity}s that need to be fetched to get the {@link KeyListEntry}s
+   * for {@code remainingKeys}, the number of adjacent segments to prefetch is determined per
+   * segment by {@code prefetchForKeysInSegment} from the number of {@code remainingKeys} in that
+   * segment.
+   */
+  List<Hash> entityIdsToFetch(
+      int round, IntUnaryOperator prefetchForKeysInSegment, Collection<Key> remainingKeys) {
+    int[] keySegments = new int[remainingKeys.size()];
+    int[] keysInSegment = new int[keyListCount];
+    int keyIndex = 0;
+    for (Key key : remainingKeys) {
+      int segment = segmentForKey(bucketForKey(key), round);
+      keySegments[keyIndex++] = segment;
+      keysInSegment[segment]++;
+    }
 
     // Identify the key-list segments to fetch
     List<Hash> entitiesToFetch = new ArrayList<>();
-    for (Key key : remainingKeys) {
-      int keyBucket = bucketForKey(key);
-      int segment = segmentForKey(keyBucket, round);
+    for (int keySegment : keySegments) {
+      int keys = keysInSegment[keySegment];
+      if (keys == 0) {
+        // segment already handled for a previous key
+        continue;
+      }
+      keysInSegment[keySegment] = 0;
 
+      int segment = keySegment;
+      int prefetchEntities =
+          Math.max(0, Math.min(prefetchForKeysInSegment.applyAsInt(keys), keyListCount - 1));
       for (int prefetch = 0; ; prefetch++) {
         if (segment > 0) {
           // Decrement accounts for the embedded key-list segment
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.spi;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.Key;
+
+/**
+ * Records which commits of one side of a merge or transplant modified which keys.
+ *
+ * <p>Commits are referenced by their position in the list of commits of that side, so each key
+ * only holds a growable {@code int} array instead of a set of {@link Hash}es. Enforces the maximum
+ * number of distinct keys.
+ */
+final class KeyCommitIndexes {
+
+  private final Map<Key, int[]> indexes = new HashMap<>();
+  private final int maxKeys;
+  private final String side;
+
+  /**
+   * @param maxKeys maximum number of distinct keys, values {@code <= 0} disable the limit
+   * @param side name of the side of the merge or transplant, used in the error message
+   */
+  KeyCommitIndexes(int maxKeys, String side) {
+    this.maxKeys = maxKeys;
+    this.side = side;
+  }
+
+  /** Records that the commit at the given position modified the given key. */
+  void add(Key key, int commitIndex) {
+    // Element 0 holds the number of commit-indexes in the array.
+    int[] idx = indexes.get(key);
+    if (idx == null) {
+      if (maxKeys > 0 && indexes.size() >= maxKeys) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Merge/transplant modifies more than %d keys on the %s side, which exceeds the "
+                    + "configured limit",
+                maxKeys, side));
+      }
+      idx = new int[4];
+      indexes.put(key, idx);
+    } else {
+      int count = idx[0];
+      if (idx[count] == commitIndex) {
+        // Commit modified the same key more than once, e.g. a delete + put
+        return;
+      }
+      if (count + 1 == idx.length) {
+        idx = Arrays.copyOf(idx, idx.length * 2);
+        indexes.put(key, idx);
+      }
+    }
+    idx[++idx[0]] = commitIndex;
+  }
+
+  int size() {
+    return indexes.size();
+  }
+
+  /**
+   * Passes each key with the hashes of the commits that modified it, in the order in which the
+   * commits were added, to the given consumer.
+   */
+  void forEach(IntFunction<Hash> commitHash, BiConsumer<Key, List<Hash>> consumer) {
+    indexes.forEach(
+        (key, idx) ->
+            consumer.accept(
+                key,
+                new AbstractList<Hash>() {
+                  @Override
+                  public Hash get(int index) {
+                    return commitHash.apply(idx[index + 1]);
+                  }
+
+                  @Override
+                  public int size() {
+                    return idx[0];
+                  }
+                }));
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.spi;
+
+import java.util.Map;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.Key;
+import org.projectnessie.versioned.MergeResult.KeyDetails;
+import org.projectnessie.versioned.MergeType;
+import org.projectnessie.versioned.persist.adapter.MergeParams;
+
+/**
+ * Outcome of a conflict-free dry-run merge, which lets a subsequent merge with the same parameters
+ * skip the common-ancestor search and the conflict checks, as long as the HEAD of the target branch
+ * did not change.
+ */
+final class MergePlan {
+
+  private final Hash fromHash;
+  private final BranchName toBranch;
+  private final Hash targetHead;
+  private final Hash commonAncestor;
+  private final Map<Key, MergeType> mergeTypes;
+  private final MergeType defaultMergeType;
+  private final Map<Key, KeyDetails> details;
+
+  MergePlan(
+      MergeParams params, Hash targetHead, Hash commonAncestor, Map<Key, KeyDetails> details) {
+    this.fromHash = params.getMergeFromHash();
+    this.toBranch = params.getToBranch();
+    this.targetHead = targetHead;
+    this.commonAncestor = commonAncestor;
+    this.mergeTypes = params.getMergeTypes();
+    this.defaultMergeType = params.getDefaultMergeType();
+    this.details = details;
+  }
+
+  /**
+   * Checks whether this plan has been computed for the same source hash, target branch and merge
+   * types as the given merge parameters and against the given HEAD of the target branch.
+   */
+  boolean matches(MergeParams params, Hash currentTargetHead) {
+    return targetHead.equals(currentTargetHead)
+        && fromHash.equals(params.getMergeFromHash())
+        && toBranch.equals(params.getToBranch())
+        && defaultMergeType == params.getDefaultMergeType()
+        && mergeTypes.equals(params.getMergeTypes());
+  }
+
+  Hash getCommonAncestor() {
+    return commonAncestor;
+  }
+
+  Map<Key, KeyDetails> getDetails() {
+    return details;
+  }
+}
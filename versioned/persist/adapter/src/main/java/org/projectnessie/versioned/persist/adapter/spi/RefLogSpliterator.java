@@ -13,7 +13,7 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.projectnessie.versioned.persist.nontx;
+package org.projectnessie.versioned.persist.adapter.spi;
 
 import java.util.Comparator;
 import java.util.List;
@@ -25,24 +25,25 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.projectnessie.versioned.Hash;
 import org.projectnessie.versioned.RefLogNotFoundException;
+import org.projectnessie.versioned.persist.adapter.DatabaseAdapterConfig;
 import org.projectnessie.versioned.persist.adapter.RefLog;
 
 /**
  * {@link Spliterator} of {@link RefLog} entries using a variable number of ref-log stripes,
- * according to {@link NonTransactionalDatabaseAdapterConfig#getRefLogStripes()} to read {@link
- * RefLog}s from in parallel.
+ * according to {@link DatabaseAdapterConfig#getRefLogStripes()} to read {@link RefLog}s from in
+ * parallel.
  *
  * <p>The next {@link RefLog} returned by this implementation is the next available from all stripes
  * with the lowest {@link RefLog#getOperationTime()}.
  */
-final class RefLogSpliterator extends AbstractSpliterator<RefLog> {
+public final class RefLogSpliterator extends AbstractSpliterator<RefLog> {
 
   private final List<RefLogSplit> splits;
 
   private RefLog initialRefLog;
   private boolean eof;
 
-  RefLogSpliterator(Hash initialHash, Stream<Spliterator<RefLog>> refLogStripeFetcher)
+  public RefLogSpliterator(Hash initialHash, Stream<Spliterator<RefLog>> refLogStripeFetcher)
       throws RefLogNotFoundException {
     super(Long.MAX_VALUE, 0);
 
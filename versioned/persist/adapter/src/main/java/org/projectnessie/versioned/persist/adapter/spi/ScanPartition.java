@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.spi;
+
+import com.google.common.base.Preconditions;
+import com.google.protobuf.ByteString;
+import org.projectnessie.versioned.Hash;
+
+/**
+ * One of {@link #getPartitions()} disjoint ranges of the commit-log keyspace, used to scan all
+ * commit-log-entries in independent, concurrently consumable chunks.
+ *
+ * <p>The ranges are defined over the first two bytes of a commit ID, interpreted as an unsigned
+ * 16-bit big-endian value, so hash-prefix ordered stores (RocksDB, JDBC, MongoDB) can use range
+ * scans. Stores with native parallel scans (DynamoDB) can use {@link #getPartition()} and {@link
+ * #getPartitions()} as segment number and total segments.
+ */
+public final class ScanPartition {
+
+  /** Number of distinct two-byte hash prefixes, the maximum number of partitions. */
+  public static final int PREFIX_SPACE = 1 << 16;
+
+  private static final ScanPartition FULL = new ScanPartition(0, 1);
+
+  private final int partition;
+  private final int partitions;
+  private final int lowerBound;
+  private final int upperBound;
+
+  private ScanPartition(int partition, int partitions) {
+    this.partition = partition;
+    this.partitions = partitions;
+    this.lowerBound = boundary(partition, partitions);
+    this.upperBound = boundary(partition + 1, partitions);
+  }
+
+  public static ScanPartition full() {
+    return FULL;
+  }
+
+  /**
+   * Returns the partition with the 0-based index {@code partition} of {@code partitions} total
+   * partitions.
+   */
+  public static ScanPartition of(int partition, int partitions) {
+    Preconditions.checkArgument(
+        partitions > 0 && partitions <= PREFIX_SPACE,
+        "Number of partitions must be between 1 and %s, but is %s",
+        PREFIX_SPACE,
+        partitions);
+    Preconditions.checkArgument(
+        partition >= 0 && partition < partitions,
+        "Partition must be between 0 and %s, but is %s",
+        partitions - 1,
+        partition);
+    return partitions == 1 ? FULL : new ScanPartition(partition, partitions);
+  }
+
+  private static int boundary(int partition, int partitions) {
+    return (int) ((long) partition * PREFIX_SPACE / partitions);
+  }
+
+  public int getPartition() {
+    return partition;
+  }
+
+  public int getPartitions() {
+    return partitions;
+  }
+
+  /** Whether this partition covers the whole keyspace. */
+  public boolean isFull() {
+    return partitions == 1;
+  }
+
+  /** Whether there is an exclusive upper bound, {@code false} for the last partition. */
+  public boolean hasUpperBound() {
+    return upperBound < PREFIX_SPACE;
+  }
+
+  /** Inclusive lower bound as the big-endian two-byte hash prefix. */
+  public ByteString lowerBoundBytes() {
+    return prefixBytes(lowerBound);
+  }
+
+  /** Exclusive upper bound as the big-endian two-byte hash prefix, see {@link #hasUpperBound()}. */
+  public ByteString upperBoundBytes() {
+    Preconditions.checkState(hasUpperBound(), "Last partition has no upper bound");
+    return prefixBytes(upperBound);
+  }
+
+  /** Inclusive lower bound as the hex-encoded hash prefix, see {@link Hash#asString()}. */
+  public String lowerBoundHex() {
+    return prefixHex(lowerBound);
+  }
+
+  /** Exclusive upper bound as the hex-encoded hash prefix, see {@link #hasUpperBound()}. */
+  public String upperBoundHex() {
+    Preconditions.checkState(hasUpperBound(), "Last partition has no upper bound");
+    return prefixHex(upperBound);
+  }
+
+  public boolean contains(Hash hash) {
+    return contains(hash.asBytes(), 0);
+  }
+
+  /**
+   * Checks whether the hash bytes starting at {@code offset} in {@code bytes} belong to this
+   * partition, useful for database keys with a repository prefix.
+   */
+  public boolean contains(ByteString bytes, int offset) {
+    if (isFull()) {
+      return true;
+    }
+    int b0 = bytes.size() > offset ? bytes.byteAt(offset) & 0xff : 0;
+    int b1 = bytes.size() > offset + 1 ? bytes.byteAt(offset + 1) & 0xff : 0;
+    int prefix = (b0 << 8) | b1;
+    return prefix >= lowerBound && prefix < upperBound;
+  }
+
+  private static ByteString prefixBytes(int prefix) {
+    return ByteString.copyFrom(new byte[] {(byte) (prefix >> 8), (byte) prefix});
+  }
+
+  private static String prefixHex(int prefix) {
+    return String.format("%04x", prefix);
+  }
+
+  @Override
+  public String toString() {
+    return "ScanPartition{" + partition + " of " + partitions + '}';
+  }
+}
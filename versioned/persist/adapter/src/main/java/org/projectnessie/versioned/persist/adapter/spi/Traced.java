@@ -23,14 +23,29 @@ import java.io.Closeable;
 
 public final class Traced implements Closeable {
 
+  /** Numbers tagged with this name are also recorded as the batch size of the operation. */
+  static final String TAG_COUNT = "count";
+
   private final Span span;
   private final Scope scope;
+  private final BackendCallMetrics.Operation metrics;
+  private final long startNanos;
 
   public static Traced trace(String opName) {
-    return new Traced(opName);
+    return new Traced(opName, null);
+  }
+
+  /**
+   * Like {@link #trace(String)}, but also records the latency and batch size of the operation in
+   * the given backend metrics.
+   */
+  public static Traced trace(String opName, BackendCallMetrics metrics) {
+    return new Traced(opName, metrics.operation(opName));
   }
 
-  private Traced(String opName) {
+  private Traced(String opName, BackendCallMetrics.Operation metrics) {
+    this.metrics = metrics;
+    this.startNanos = metrics != null ? System.nanoTime() : 0L;
     Tracer t = GlobalTracer.get();
     String spanName = "DatabaseAdapter." + opName;
     span =
@@ -45,10 +60,16 @@ public final class Traced implements Closeable {
   public void close() {
     scope.close();
     span.finish();
+    if (metrics != null) {
+      metrics.finished(System.nanoTime() - startNanos);
+    }
   }
 
   public Traced tag(String tag, Number number) {
     span.setTag(tagName(tag), number);
+    if (metrics != null && TAG_COUNT.equals(tag)) {
+      metrics.batchSize(number.doubleValue());
+    }
     return this;
   }
 
@@ -28,6 +28,7 @@ import javax.annotation.Nonnull;
 import org.projectnessie.versioned.ContentAttachment;
 import org.projectnessie.versioned.ContentAttachmentKey;
 import org.projectnessie.versioned.GetNamedRefsParams;
+import org.projectnessie.versioned.GetRefLogParams;
 import org.projectnessie.versioned.Hash;
 import org.projectnessie.versioned.Key;
 import org.projectnessie.versioned.MergeResult;
@@ -61,6 +62,7 @@ public final class TracingDatabaseAdapter implements DatabaseAdapter {
   private static final String TAG_FROM = "from";
   private static final String TAG_TO = "to";
   private static final String TAG_CONTENT_ID = "cid";
+  private static final String TAG_PARTITION = "partition";
 
   private final DatabaseAdapter delegate;
 
@@ -234,10 +236,10 @@ public final class TracingDatabaseAdapter implements DatabaseAdapter {
   }
 
   @Override
-  public Stream<RefLog> refLog(Hash offset) throws RefLogNotFoundException {
+  public Stream<RefLog> refLog(Hash offset, GetRefLogParams params) throws RefLogNotFoundException {
     try (Traced ignore =
         trace("refLog.stream").tag(TAG_HASH, offset != null ? offset.asString() : "HEAD")) {
-      return delegate.refLog(offset);
+      return delegate.refLog(offset, params);
     }
   }
 
@@ -256,6 +258,16 @@ public final class TracingDatabaseAdapter implements DatabaseAdapter {
     }
   }
 
+  @Override
+  public Stream<CommitLogEntry> scanAllCommitLogEntries(int partition, int partitions) {
+    try (Traced ignore =
+        trace("scanAllCommitLogEntries.partition")
+            .tag(TAG_PARTITION, partition)
+            .tag(TAG_COUNT, partitions)) {
+      return delegate.scanAllCommitLogEntries(partition, partitions);
+    }
+  }
+
   @Override
   public void assertCleanStateForTests() {
     delegate.assertCleanStateForTests();
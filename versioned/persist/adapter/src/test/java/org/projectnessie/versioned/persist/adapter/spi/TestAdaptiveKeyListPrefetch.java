@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TestAdaptiveKeyListPrefetch {
+
+  @Test
+  void noObservations() {
+    AdaptiveKeyListPrefetch prefetch = new AdaptiveKeyListPrefetch(2);
+    assertThat(prefetch.overflowRate()).isEqualTo(0d);
+    assertThat(prefetch.prefetchFor(100, 0)).isEqualTo(0);
+    assertThat(prefetch.prefetchFor(100, 1)).isEqualTo(1);
+  }
+
+  @Test
+  void tooFewSamples() {
+    AdaptiveKeyListPrefetch prefetch = new AdaptiveKeyListPrefetch(2);
+    prefetch.recordLookup(AdaptiveKeyListPrefetch.MIN_SAMPLES - 1, 10);
+    assertThat(prefetch.overflowRate()).isEqualTo(0d);
+    assertThat(prefetch.prefetchFor(100, 0)).isEqualTo(0);
+  }
+
+  @Test
+  void disabled() {
+    AdaptiveKeyListPrefetch prefetch = new AdaptiveKeyListPrefetch(0);
+    prefetch.recordLookup(1000, 500);
+    assertThat(prefetch.prefetchFor(100, 0)).isEqualTo(0);
+    assertThat(prefetch.prefetchFor(100, 1)).isEqualTo(1);
+  }
+
+  @Test
+  void dependsOnKeysPerSegment() {
+    AdaptiveKeyListPrefetch prefetch = new AdaptiveKeyListPrefetch(3);
+    // 5% of the keys overflow into the next segment
+    prefetch.recordLookup(1000, 50);
+    assertThat(prefetch.overflowRate()).isEqualTo(0.05d);
+
+    // 1 - 0.95^1 < 0.25
+    assertThat(prefetch.prefetchFor(1, 0)).isEqualTo(0);
+    // 1 - 0.95^20 ~ 0.64, 1 - 0.9975^20 ~ 0.05
+    assertThat(prefetch.prefetchFor(20, 0)).isEqualTo(1);
+    // 1 - 0.9975^200 ~ 0.39, 1 - 0.999875^200 ~ 0.02
+    assertThat(prefetch.prefetchFor(200, 0)).isEqualTo(2);
+    // never more than the configured maximum
+    assertThat(prefetch.prefetchFor(1_000_000, 0)).isEqualTo(3);
+    // never less than the static prefetch
+    assertThat(prefetch.prefetchFor(1, 2)).isEqualTo(2);
+  }
+
+  @Test
+  void decay() {
+    AdaptiveKeyListPrefetch prefetch = new AdaptiveKeyListPrefetch(2);
+    prefetch.recordLookup(5000, 5000);
+    assertThat(prefetch.overflowRate()).isEqualTo(1d);
+    for (int i = 0; i < 50; i++) {
+      prefetch.recordLookup(1000, 0);
+    }
+    assertThat(prefetch.overflowRate()).isLessThan(0.01d);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TestBackendCallMetrics {
+
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void addRegistry() {
+    registry = new SimpleMeterRegistry();
+    Metrics.addRegistry(registry);
+  }
+
+  @AfterEach
+  void removeRegistry() {
+    Metrics.removeRegistry(registry);
+    registry.close();
+  }
+
+  @Test
+  void backendName() {
+    assertThat(BackendCallMetrics.backendName(RocksDatabaseAdapter.class)).isEqualTo("Rocks");
+    assertThat(BackendCallMetrics.backendName(TestBackendCallMetrics.class))
+        .isEqualTo("TestBackendCallMetrics");
+  }
+
+  @Test
+  void recordsDurationAndBatchSize() {
+    BackendCallMetrics metrics = new BackendCallMetrics("Test");
+
+    try (Traced ignore = Traced.trace("fetchSomething", metrics).tag(Traced.TAG_COUNT, 3)) {
+      // nothing to do
+    }
+    try (Traced ignore =
+        Traced.trace("fetchSomething", metrics).tag(Traced.TAG_COUNT, 5).tag("hash", "abc")) {
+      // nothing to do
+    }
+    try (Traced ignore = Traced.trace("writeSomething", metrics)) {
+      // nothing to do
+    }
+
+    Timer fetchDuration =
+        registry
+            .get("nessie.databaseadapter.backend.duration")
+            .tag("backend", "Test")
+            .tag("operation", "fetchSomething")
+            .timer();
+    assertThat(fetchDuration.count()).isEqualTo(2);
+
+    DistributionSummary fetchBatchSize =
+        registry
+            .get("nessie.databaseadapter.backend.batch-size")
+            .tag("backend", "Test")
+            .tag("operation", "fetchSomething")
+            .summary();
+    assertThat(fetchBatchSize.count()).isEqualTo(2);
+    assertThat(fetchBatchSize.totalAmount()).isEqualTo(8d);
+    assertThat(fetchBatchSize.max()).isEqualTo(5d);
+
+    assertThat(
+            registry
+                .get("nessie.databaseadapter.backend.duration")
+                .tag("operation", "writeSomething")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            registry
+                .get("nessie.databaseadapter.backend.batch-size")
+                .tag("operation", "writeSomething")
+                .summary()
+                .count())
+        .isEqualTo(0);
+  }
+
+  @Test
+  void tracingWithoutMetrics() {
+    try (Traced ignore = Traced.trace("untracked").tag(Traced.TAG_COUNT, 3)) {
+      // nothing to do
+    }
+    assertThat(
+            registry
+                .find("nessie.databaseadapter.backend.duration")
+                .tag("operation", "untracked")
+                .meters())
+        .isEmpty();
+  }
+
+  private static final class RocksDatabaseAdapter {}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.ReferenceConflictException;
+import org.projectnessie.versioned.ReferenceRetryFailureException;
+import org.projectnessie.versioned.persist.adapter.CommitParams;
+
+class TestCommitSequencer {
+
+  private static final long COMMIT_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+  private static CommitParams params(String branch) {
+    CommitParams params = mock(CommitParams.class);
+    when(params.getToBranch()).thenReturn(BranchName.of(branch));
+    return params;
+  }
+
+  @Test
+  void singleCommitBypassesBatch() throws Exception {
+    AtomicInteger batches = new AtomicInteger();
+    CommitSequencer sequencer =
+        new CommitSequencer(
+            10, COMMIT_TIMEOUT, commits -> batches.incrementAndGet(), p -> Hash.of("12345678"));
+
+    assertThat(sequencer.commit(params("main"))).isEqualTo(Hash.of("12345678"));
+    assertThat(batches).hasValue(0);
+  }
+
+  @Test
+  void singleCommitFailure() {
+    CommitSequencer sequencer =
+        new CommitSequencer(
+            10,
+            COMMIT_TIMEOUT,
+            commits -> {},
+            p -> {
+              throw new ReferenceConflictException("conflict");
+            });
+
+    assertThatThrownBy(() -> sequencer.commit(params("main")))
+        .isInstanceOf(ReferenceConflictException.class)
+        .hasMessage("conflict");
+  }
+
+  @Test
+  void concurrentCommitsAreBatched() throws Exception {
+    int threads = 8;
+    CountDownLatch firstCommitStarted = new CountDownLatch(1);
+    CountDownLatch releaseFirstCommit = new CountDownLatch(1);
+    CountDownLatch queued = new CountDownLatch(threads);
+    List<Integer> batchSizes = new ArrayList<>();
+    AtomicInteger counter = new AtomicInteger();
+
+    CommitSequencer sequencer =
+        new CommitSequencer(
+            threads,
+            COMMIT_TIMEOUT,
+            commits -> {
+              synchronized (batchSizes) {
+                batchSizes.add(commits.size());
+              }
+              for (CommitSequencer.Commit commit : commits) {
+                commit.succeeded(Hash.of(String.format("%08x", counter.incrementAndGet())));
+              }
+            },
+            p -> {
+              // Block the first commit, so that the other commits get queued.
+              firstCommitStarted.countDown();
+              try {
+                releaseFirstCommit.await();
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+              return Hash.of(String.format("%08x", counter.incrementAndGet()));
+            },
+            queued::countDown);
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Hash>> futures = new ArrayList<>();
+      futures.add(executor.submit(() -> sequencer.commit(params("main"))));
+      assertThat(firstCommitStarted.await(30, TimeUnit.SECONDS)).isTrue();
+      for (int i = 1; i < threads; i++) {
+        futures.add(executor.submit(() -> sequencer.commit(params("main"))));
+      }
+      // Wait until all other committers are queued behind the blocked first commit.
+      assertThat(queued.await(30, TimeUnit.SECONDS)).isTrue();
+      releaseFirstCommit.countDown();
+
+      List<Hash> hashes = new ArrayList<>();
+      for (Future<Hash> future : futures) {
+        hashes.add(future.get(30, TimeUnit.SECONDS));
+      }
+      assertThat(hashes).doesNotHaveDuplicates().hasSize(threads);
+      // The first commit is applied alone, all others are applied as a single batch.
+      assertThat(batchSizes).containsExactly(threads - 1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void queuedCommitTimesOut() throws Exception {
+    CountDownLatch firstCommitStarted = new CountDownLatch(1);
+    CountDownLatch releaseFirstCommit = new CountDownLatch(1);
+
+    CommitSequencer sequencer =
+        new CommitSequencer(
+            10,
+            100L,
+            commits -> {
+              throw new IllegalStateException("must not be called");
+            },
+            p -> {
+              firstCommitStarted.countDown();
+              try {
+                releaseFirstCommit.await();
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+              return Hash.of("12345678");
+            });
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Hash> first = executor.submit(() -> sequencer.commit(params("main")));
+      assertThat(firstCommitStarted.await(30, TimeUnit.SECONDS)).isTrue();
+
+      assertThatThrownBy(() -> sequencer.commit(params("main")))
+          .isInstanceOf(ReferenceRetryFailureException.class)
+          .hasMessage("Commit to branch 'main' was not applied within 100 ms");
+
+      releaseFirstCommit.countDown();
+      assertThat(first.get(30, TimeUnit.SECONDS)).isEqualTo(Hash.of("12345678"));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.spi;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestConcurrentBatchSpliterator {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void createExecutor() {
+    executor = Executors.newFixedThreadPool(8);
+  }
+
+  @AfterEach
+  void shutdownExecutor() throws Exception {
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private <DST> ConcurrentBatchSpliterator<Integer, DST> spliterator(
+      int count, int maxInFlight, Function<List<Integer>, Spliterator<DST>> batchMapper) {
+    return new ConcurrentBatchSpliterator<>(
+        3,
+        IntStream.range(0, count).boxed().spliterator(),
+        batchMapper,
+        executor,
+        maxInFlight,
+        Spliterator.NONNULL);
+  }
+
+  @Test
+  public void empty() {
+    ConcurrentLinkedQueue<List<Integer>> inputs = new ConcurrentLinkedQueue<>();
+    assertThat(
+            StreamSupport.stream(
+                spliterator(
+                    0,
+                    4,
+                    batch -> {
+                      inputs.add(batch);
+                      return batch.spliterator();
+                    }),
+                false))
+        .isEmpty();
+    assertThat(inputs).isEmpty();
+  }
+
+  @Test
+  public void orderedResults() {
+    ConcurrentLinkedQueue<List<Integer>> inputs = new ConcurrentLinkedQueue<>();
+    List<String> result =
+        StreamSupport.stream(
+                spliterator(
+                    10,
+                    4,
+                    batch -> {
+                      inputs.add(batch);
+                      sleepRandomly();
+                      return batch.stream()
+                          .map(Objects::toString)
+                          .collect(Collectors.toList())
+                          .spliterator();
+                    }),
+                false)
+            .collect(Collectors.toList());
+
+    assertThat(result)
+        .containsExactlyElementsOf(
+            IntStream.range(0, 10).mapToObj(Integer::toString).collect(Collectors.toList()));
+    assertThat(inputs)
+        .containsExactlyInAnyOrder(asList(0, 1, 2), asList(3, 4, 5), asList(6, 7, 8), asList(9));
+  }
+
+  @Test
+  public void boundedInFlight() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    long count =
+        StreamSupport.stream(
+                spliterator(
+                    300,
+                    4,
+                    batch -> {
+                      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                      try {
+                        sleepRandomly();
+                        return batch.spliterator();
+                      } finally {
+                        running.decrementAndGet();
+                      }
+                    }),
+                false)
+            .count();
+
+    assertThat(count).isEqualTo(300);
+    assertThat(maxRunning).hasValueBetween(1, 4);
+  }
+
+  @Test
+  public void failure() {
+    assertThatThrownBy(
+            () ->
+                StreamSupport.stream(
+                        spliterator(
+                            10,
+                            2,
+                            batch -> {
+                              if (batch.contains(5)) {
+                                throw new IllegalStateException("failed batch");
+                              }
+                              return batch.spliterator();
+                            }),
+                        false)
+                    .count())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("failed batch");
+  }
+
+  private static void sleepRandomly() {
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
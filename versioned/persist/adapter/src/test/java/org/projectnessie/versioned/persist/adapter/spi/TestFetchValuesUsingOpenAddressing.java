@@ -32,6 +32,7 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -295,6 +296,41 @@ public class TestFetchValuesUsingOpenAddressing {
     }
   }
 
+  /**
+   * Exercise {@link FetchValuesUsingOpenAddressing#entityIdsToFetch(int, IntUnaryOperator,
+   * Collection)}, which determines the number of segments to prefetch per segment from the number
+   * of keys in that segment.
+   */
+  @Test
+  public void perSegmentPrefetching() {
+    IntUnaryOperator prefetchIfMultipleKeys = keysInSegment -> keysInSegment > 1 ? 1 : 0;
+
+    // Buckets 2 + 3 are in the first external segment, bucket 4 in the second one
+    Key bucket2 = new KeyWithSpecificHash(2, ImmutableList.of("two"));
+    Key bucket3 = new KeyWithSpecificHash(3, ImmutableList.of("three"));
+    Key bucket4 = new KeyWithSpecificHash(4, ImmutableList.of("four"));
+
+    FetchValuesUsingOpenAddressing fetch =
+        new FetchValuesUsingOpenAddressing(
+            getCommitFixture(2, 4, KeyWithSpecificHash::withMaxIntHash));
+    assertThat(fetch.entityIdsToFetch(0, prefetchIfMultipleKeys, ImmutableList.of(bucket2)))
+        .containsExactly(Hash.of("01"));
+
+    fetch =
+        new FetchValuesUsingOpenAddressing(
+            getCommitFixture(2, 4, KeyWithSpecificHash::withMaxIntHash));
+    assertThat(
+            fetch.entityIdsToFetch(
+                0, prefetchIfMultipleKeys, ImmutableList.of(bucket2, bucket4, bucket3)))
+        .containsExactly(Hash.of("01"), Hash.of("02"));
+
+    fetch =
+        new FetchValuesUsingOpenAddressing(
+            getCommitFixture(2, 4, KeyWithSpecificHash::withMaxIntHash));
+    assertThat(fetch.entityIdsToFetch(0, keysInSegment -> 5, ImmutableList.of(bucket4, bucket2)))
+        .containsExactly(Hash.of("02"), Hash.of("03"), Hash.of("01"));
+  }
+
   /**
    * Check {@link FetchValuesUsingOpenAddressing#entityIdsToFetch(int, int, Collection)} for an
    * informative exception when prefetch is negative.
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.projectnessie.versioned.Hash;
+
+public class TestScanPartition {
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 7, 16, 100})
+  void partitionsCoverKeyspaceOnce(int partitions) {
+    ScanPartition[] all = new ScanPartition[partitions];
+    for (int i = 0; i < partitions; i++) {
+      all[i] = ScanPartition.of(i, partitions);
+    }
+
+    for (int prefix = 0; prefix < ScanPartition.PREFIX_SPACE; prefix++) {
+      Hash hash = Hash.of(String.format("%04x", prefix) + "00112233445566778899aabbccddeeff");
+      int matches = 0;
+      for (ScanPartition partition : all) {
+        if (partition.contains(hash)) {
+          matches++;
+          String hex = hash.asString();
+          assertThat(hex).isGreaterThanOrEqualTo(partition.lowerBoundHex());
+          if (partition.hasUpperBound()) {
+            assertThat(hex).isLessThan(partition.upperBoundHex());
+          }
+        }
+      }
+      assertThat(matches).describedAs("prefix %04x", prefix).isEqualTo(1);
+    }
+
+    assertThat(all[0].lowerBoundHex()).isEqualTo("0000");
+    assertThat(all[partitions - 1].hasUpperBound()).isFalse();
+    for (int i = 1; i < partitions; i++) {
+      assertThat(all[i - 1].upperBoundBytes()).isEqualTo(all[i].lowerBoundBytes());
+      assertThat(all[i - 1].upperBoundHex()).isEqualTo(all[i].lowerBoundHex());
+    }
+  }
+
+  @Test
+  void maxPartitions() {
+    for (int i = 0; i < ScanPartition.PREFIX_SPACE; i++) {
+      ScanPartition partition = ScanPartition.of(i, ScanPartition.PREFIX_SPACE);
+      assertThat(partition.lowerBoundHex()).isEqualTo(String.format("%04x", i));
+      assertThat(partition.hasUpperBound()).isEqualTo(i < ScanPartition.PREFIX_SPACE - 1);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4})
+  void containsWithKeyPrefix(int partitions) {
+    ByteString keyPrefix = ByteString.copyFromUtf8("repo:");
+    Hash hash = Hash.of("ffee00112233445566778899aabbccddeeff00112233445566778899aabbccdd");
+    ByteString key = keyPrefix.concat(hash.asBytes());
+    assertThat(ScanPartition.of(partitions - 1, partitions).contains(key, keyPrefix.size()))
+        .isTrue();
+    if (partitions > 1) {
+      assertThat(ScanPartition.of(0, partitions).contains(key, keyPrefix.size())).isFalse();
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-1, 0, ScanPartition.PREFIX_SPACE + 1})
+  void illegalPartitions(int partitions) {
+    assertThatThrownBy(() -> ScanPartition.of(0, partitions))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Number of partitions must be between 1 and ");
+    assertThatThrownBy(() -> ScanPartition.of(2, 2))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Partition must be between 0 and 1, but is 2");
+  }
+}
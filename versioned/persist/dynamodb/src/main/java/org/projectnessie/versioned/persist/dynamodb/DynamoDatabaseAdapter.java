@@ -19,6 +19,8 @@ import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.attachmentKeyAsString;
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.attachmentKeyFromString;
+import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.serializeCommitLogEntry;
+import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.serializeKeyList;
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.toProto;
 import static org.projectnessie.versioned.persist.dynamodb.Tables.KEY_NAME;
 import static org.projectnessie.versioned.persist.dynamodb.Tables.TABLE_ATTACHMENTS;
@@ -65,6 +67,7 @@ import org.projectnessie.versioned.persist.adapter.RepoDescription;
 import org.projectnessie.versioned.persist.adapter.events.AdapterEventConsumer;
 import org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization;
 import org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.Parser;
+import org.projectnessie.versioned.persist.adapter.spi.ScanPartition;
 import org.projectnessie.versioned.persist.nontx.NonTransactionalDatabaseAdapter;
 import org.projectnessie.versioned.persist.nontx.NonTransactionalDatabaseAdapterConfig;
 import org.projectnessie.versioned.persist.nontx.NonTransactionalOperationContext;
@@ -240,7 +243,10 @@ public class DynamoDatabaseAdapter
   @Override
   protected void doWriteIndividualCommit(
       NonTransactionalOperationContext ctx, CommitLogEntry entry) {
-    insert(TABLE_COMMIT_LOG, entry.getHash().asString(), toProto(entry).toByteArray());
+    insert(
+        TABLE_COMMIT_LOG,
+        entry.getHash().asString(),
+        serializeCommitLogEntry(entry, config.getEntityCompressionThreshold()));
   }
 
   @Override
@@ -266,7 +272,7 @@ public class DynamoDatabaseAdapter
         TABLE_COMMIT_LOG,
         entries,
         e -> e.getHash().asString(),
-        e -> ProtoSerialization.toProto(e).toByteArray(),
+        e -> serializeCommitLogEntry(e, config.getEntityCompressionThreshold()),
         e -> emptyMap());
   }
 
@@ -277,7 +283,7 @@ public class DynamoDatabaseAdapter
         TABLE_KEY_LISTS,
         newKeyListEntities,
         e -> e.getId().asString(),
-        e -> ProtoSerialization.toProto(e.getKeys()).toByteArray(),
+        e -> serializeKeyList(e.getKeys(), config.getEntityCompressionThreshold()),
         e -> emptyMap());
   }
 
@@ -769,10 +775,18 @@ public class DynamoDatabaseAdapter
   }
 
   @Override
-  protected Stream<CommitLogEntry> doScanAllCommitLogEntries(NonTransactionalOperationContext c) {
+  protected Stream<CommitLogEntry> doScanAllCommitLogEntries(
+      NonTransactionalOperationContext c, ScanPartition partition) {
     return client
         .client
-        .scanPaginator(b -> b.tableName(TABLE_COMMIT_LOG).scanFilter(repositoryScanFilter()))
+        .scanPaginator(
+            b -> {
+              b.tableName(TABLE_COMMIT_LOG).scanFilter(repositoryScanFilter());
+              if (!partition.isFull()) {
+                // DynamoDB's native parallel scan, each segment is an independent scan
+                b.segment(partition.getPartition()).totalSegments(partition.getPartitions());
+              }
+            })
         .stream()
         .flatMap(
             scanResponse ->
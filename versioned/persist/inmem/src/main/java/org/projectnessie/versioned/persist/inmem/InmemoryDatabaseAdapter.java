@@ -17,6 +17,8 @@ package org.projectnessie.versioned.persist.inmem;
 
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.protoToCommitLogEntry;
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.protoToKeyList;
+import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.serializeCommitLogEntry;
+import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.serializeKeyList;
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.toProto;
 import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUtil.hashCollisionDetected;
 import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUtil.referenceNotFound;
@@ -24,6 +26,7 @@ import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUti
 import com.google.common.collect.Maps;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnsafeByteOperations;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -44,6 +47,7 @@ import org.projectnessie.versioned.persist.adapter.RefLog;
 import org.projectnessie.versioned.persist.adapter.RepoDescription;
 import org.projectnessie.versioned.persist.adapter.events.AdapterEventConsumer;
 import org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization;
+import org.projectnessie.versioned.persist.adapter.spi.ScanPartition;
 import org.projectnessie.versioned.persist.nontx.NonTransactionalDatabaseAdapter;
 import org.projectnessie.versioned.persist.nontx.NonTransactionalDatabaseAdapterConfig;
 import org.projectnessie.versioned.persist.nontx.NonTransactionalOperationContext;
@@ -279,11 +283,15 @@ public class InmemoryDatabaseAdapter
     }
   }
 
+  private ByteString serialized(CommitLogEntry entry) {
+    return UnsafeByteOperations.unsafeWrap(
+        serializeCommitLogEntry(entry, config.getEntityCompressionThreshold()));
+  }
+
   @Override
   protected void doWriteIndividualCommit(NonTransactionalOperationContext ctx, CommitLogEntry entry)
       throws ReferenceConflictException {
-    if (store.commitLog.putIfAbsent(dbKey(entry.getHash()), toProto(entry).toByteString())
-        != null) {
+    if (store.commitLog.putIfAbsent(dbKey(entry.getHash()), serialized(entry)) != null) {
       throw hashCollisionDetected();
     }
   }
@@ -302,7 +310,7 @@ public class InmemoryDatabaseAdapter
       NonTransactionalOperationContext ctx, List<CommitLogEntry> entries)
       throws ReferenceNotFoundException {
     for (CommitLogEntry entry : entries) {
-      if (store.commitLog.replace(dbKey(entry.getHash()), toProto(entry).toByteString()) == null) {
+      if (store.commitLog.replace(dbKey(entry.getHash()), serialized(entry)) == null) {
         throw referenceNotFound(entry.getHash());
       }
     }
@@ -401,7 +409,11 @@ public class InmemoryDatabaseAdapter
   protected void doWriteKeyListEntities(
       NonTransactionalOperationContext ctx, List<KeyListEntity> newKeyListEntities) {
     newKeyListEntities.forEach(
-        e -> store.keyLists.put(dbKey(e.getId()), toProto(e.getKeys()).toByteString()));
+        e ->
+            store.keyLists.put(
+                dbKey(e.getId()),
+                UnsafeByteOperations.unsafeWrap(
+                    serializeKeyList(e.getKeys(), config.getEntityCompressionThreshold()))));
   }
 
   @Override
@@ -467,9 +479,11 @@ public class InmemoryDatabaseAdapter
   }
 
   @Override
-  protected Stream<CommitLogEntry> doScanAllCommitLogEntries(NonTransactionalOperationContext c) {
+  protected Stream<CommitLogEntry> doScanAllCommitLogEntries(
+      NonTransactionalOperationContext c, ScanPartition partition) {
     return store.commitLog.entrySet().stream()
         .filter(e -> e.getKey().startsWith(keyPrefix))
+        .filter(e -> partition.contains(e.getKey(), keyPrefix.size()))
         .map(Entry::getValue)
         .map(ProtoSerialization::protoToCommitLogEntry);
   }
@@ -23,6 +23,9 @@ import org.projectnessie.versioned.persist.adapter.DatabaseConnectionConfig;
 @Value.Immutable
 public interface MongoClientConfig extends DatabaseConnectionConfig {
 
+  int DEFAULT_MAX_CONCURRENT_READS = 4;
+  int DEFAULT_READ_BATCH_SIZE = 50;
+
   static MongoClientConfig of(MongoClient client) {
     return ImmutableMongoClientConfig.builder().client(client).build();
   }
@@ -41,4 +44,27 @@ public interface MongoClientConfig extends DatabaseConnectionConfig {
   MongoClient getClient();
 
   MongoClientConfig withClient(MongoClient client);
+
+  /**
+   * Maximum number of queries that a single operation issues concurrently, when it reads multiple
+   * independent batches, for example named references or key-list entities. {@code 1} issues all
+   * queries sequentially.
+   */
+  @Value.Default
+  default int getMaxConcurrentReads() {
+    return DEFAULT_MAX_CONCURRENT_READS;
+  }
+
+  MongoClientConfig withMaxConcurrentReads(int maxConcurrentReads);
+
+  /**
+   * Maximum number of documents requested by a single query, when fetching documents by ID. Larger
+   * requests are split into multiple queries, which are issued concurrently.
+   */
+  @Value.Default
+  default int getReadBatchSize() {
+    return DEFAULT_READ_BATCH_SIZE;
+  }
+
+  MongoClientConfig withReadBatchSize(int readBatchSize);
 }
@@ -17,6 +17,8 @@ package org.projectnessie.versioned.persist.mongodb;
 
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.attachmentKeyAsString;
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.protoToKeyList;
+import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.serializeCommitLogEntry;
+import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.serializeKeyList;
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.toProto;
 
 import com.google.common.collect.Maps;
@@ -50,6 +52,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -71,7 +74,9 @@ import org.projectnessie.versioned.persist.adapter.RepoDescription;
 import org.projectnessie.versioned.persist.adapter.events.AdapterEventConsumer;
 import org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization;
 import org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.Parser;
+import org.projectnessie.versioned.persist.adapter.spi.ConcurrentBatchSpliterator;
 import org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUtil;
+import org.projectnessie.versioned.persist.adapter.spi.ScanPartition;
 import org.projectnessie.versioned.persist.nontx.NonTransactionalDatabaseAdapter;
 import org.projectnessie.versioned.persist.nontx.NonTransactionalDatabaseAdapterConfig;
 import org.projectnessie.versioned.persist.nontx.NonTransactionalOperationContext;
@@ -99,6 +104,7 @@ public class MongoDatabaseAdapter
   private static final String ID_ATTR_OBJECT_TYPE = "type";
   private static final String ID_ATTR_OBJECT_ID = "oid";
   private static final String ID_REPO_PATH = ID_PROPERTY_NAME + "." + ID_REPO_NAME;
+  private static final String ID_HASH_PATH = ID_PROPERTY_NAME + "." + ID_HASH_NAME;
   private static final String DATA_PROPERTY_NAME = "data";
   private static final String GLOBAL_ID_PROPERTY_NAME = "globalId";
   private static final String LOCK_ID_PROPERTY_NAME = "lockId";
@@ -334,14 +340,19 @@ public class MongoDatabaseAdapter
    */
   private <T> List<T> fetchMappedPage(
       MongoCollection<Document> collection, List<Hash> hashes, Function<Document, T> mapper) {
-    List<Document> ids = hashes.stream().map(this::toId).collect(Collectors.toList());
-    FindIterable<Document> docs =
-        collection.find(Filters.in(ID_PROPERTY_NAME, ids)).limit(hashes.size());
+    // Large pages are fetched using multiple, concurrent queries. Documents are mapped by the
+    // calling thread though, so that read statistics are accounted for the current request.
+    Spliterator<Document> docs =
+        hashes.size() <= client.getReadBatchSize()
+            ? findByIds(collection, hashes)
+            : independentBatchedReads(
+                client.getReadBatchSize(),
+                hashes.spliterator(),
+                batch -> findByIds(collection, batch),
+                Spliterator.NONNULL);
 
     Map<Hash, Document> loaded = Maps.newHashMapWithExpectedSize(hashes.size());
-    for (Document doc : docs) {
-      loaded.put(idAsHash(doc), doc);
-    }
+    docs.forEachRemaining(doc -> loaded.put(idAsHash(doc), doc));
 
     List<T> result = new ArrayList<>(hashes.size());
     for (Hash hash : hashes) {
@@ -357,6 +368,27 @@ public class MongoDatabaseAdapter
     return result;
   }
 
+  private Spliterator<Document> findByIds(MongoCollection<Document> collection, List<Hash> hashes) {
+    List<Document> ids = hashes.stream().map(this::toId).collect(Collectors.toList());
+    List<Document> docs = new ArrayList<>(hashes.size());
+    collection.find(Filters.in(ID_PROPERTY_NAME, ids)).limit(hashes.size()).into(docs);
+    return docs.spliterator();
+  }
+
+  @Override
+  protected <SRC, DST> Spliterator<DST> independentBatchedReads(
+      int batchSize,
+      Spliterator<SRC> source,
+      Function<List<SRC>, Spliterator<DST>> batchMapper,
+      int characteristics) {
+    ExecutorService executor = client.getReadExecutor();
+    if (executor == null) {
+      return super.independentBatchedReads(batchSize, source, batchMapper, characteristics);
+    }
+    return new ConcurrentBatchSpliterator<>(
+        batchSize, source, batchMapper, executor, client.getMaxConcurrentReads(), characteristics);
+  }
+
   private <T> List<T> fetchPage(
       MongoCollection<Document> collection, List<Hash> hashes, Parser<T> parser) {
     return fetchMappedPage(
@@ -622,7 +654,10 @@ public class MongoDatabaseAdapter
   @Override
   protected void doWriteIndividualCommit(NonTransactionalOperationContext ctx, CommitLogEntry entry)
       throws ReferenceConflictException {
-    insert(client.getCommitLog(), entry.getHash(), toProto(entry).toByteArray());
+    insert(
+        client.getCommitLog(),
+        entry.getHash(),
+        serializeCommitLogEntry(entry, config.getEntityCompressionThreshold()));
   }
 
   @Override
@@ -631,7 +666,11 @@ public class MongoDatabaseAdapter
       throws ReferenceConflictException {
     List<Document> docs =
         entries.stream()
-            .map(e -> toDoc(e.getHash(), toProto(e).toByteArray()))
+            .map(
+                e ->
+                    toDoc(
+                        e.getHash(),
+                        serializeCommitLogEntry(e, config.getEntityCompressionThreshold())))
             .collect(Collectors.toList());
     insert(client.getCommitLog(), docs);
   }
@@ -642,7 +681,11 @@ public class MongoDatabaseAdapter
       throws ReferenceNotFoundException {
     List<WriteModel<Document>> requests =
         entries.stream()
-            .map(e -> toDoc(e.getHash(), toProto(e).toByteArray()))
+            .map(
+                e ->
+                    toDoc(
+                        e.getHash(),
+                        serializeCommitLogEntry(e, config.getEntityCompressionThreshold())))
             .map(
                 d ->
                     new UpdateOneModel<Document>(
@@ -666,7 +709,12 @@ public class MongoDatabaseAdapter
     try {
       List<Document> docs =
           newKeyListEntities.stream()
-              .map(keyList -> toDoc(keyList.getId(), toProto(keyList.getKeys()).toByteArray()))
+              .map(
+                  keyList ->
+                      toDoc(
+                          keyList.getId(),
+                          serializeKeyList(
+                              keyList.getKeys(), config.getEntityCompressionThreshold())))
               .collect(Collectors.toList());
       insert(client.getKeyLists(), docs);
     } catch (ReferenceConflictException e) {
@@ -784,12 +832,20 @@ public class MongoDatabaseAdapter
   }
 
   @Override
-  protected Stream<CommitLogEntry> doScanAllCommitLogEntries(NonTransactionalOperationContext c) {
-    Bson idPrefixFilter = Filters.eq(ID_REPO_PATH, repositoryId);
+  protected Stream<CommitLogEntry> doScanAllCommitLogEntries(
+      NonTransactionalOperationContext c, ScanPartition partition) {
+    Bson filter = Filters.eq(ID_REPO_PATH, repositoryId);
+    if (!partition.isFull()) {
+      // Commit IDs are stored as lower-case hex strings, which have the same order as the bytes.
+      filter = Filters.and(filter, Filters.gte(ID_HASH_PATH, partition.lowerBoundHex()));
+      if (partition.hasUpperBound()) {
+        filter = Filters.and(filter, Filters.lt(ID_HASH_PATH, partition.upperBoundHex()));
+      }
+    }
     FindIterable<Document> iter =
         client
             .getCommitLog()
-            .find(idPrefixFilter, Document.class)
+            .find(filter, Document.class)
             .batchSize(config.getCommitLogScanPrefetch());
     Spliterator<Document> split = iter.spliterator();
     return StreamSupport.stream(split, false)
@@ -22,6 +22,9 @@ import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.bson.Document;
 import org.projectnessie.versioned.persist.adapter.DatabaseConnectionProvider;
@@ -42,6 +45,7 @@ public class MongoDatabaseClient implements DatabaseConnectionProvider<MongoClie
 
   private MongoClientConfig config;
   private MongoClient managedClient;
+  private ExecutorService readExecutor;
   private MongoCollection<Document> repoDesc;
   private MongoCollection<Document> globalPointers;
   private MongoCollection<Document> globalLog;
@@ -61,6 +65,10 @@ public class MongoDatabaseClient implements DatabaseConnectionProvider<MongoClie
 
   @Override
   public void close() {
+    if (readExecutor != null) {
+      readExecutor.shutdown();
+      readExecutor = null;
+    }
     if (managedClient != null) {
       try {
         managedClient.close();
@@ -99,6 +107,32 @@ public class MongoDatabaseClient implements DatabaseConnectionProvider<MongoClie
     refLogHeads = database.getCollection(TABLE_REF_LOG_HEADS);
     attachments = database.getCollection(ATTACHMENTS);
     attachmentKeys = database.getCollection(ATTACHMENT_KEYS);
+
+    if (config.getMaxConcurrentReads() > 1 && readExecutor == null) {
+      // Concurrency is bounded per operation by the max-concurrent-reads window and overall by the
+      // driver's connection pool, so idle threads can be released.
+      AtomicInteger threadNum = new AtomicInteger();
+      readExecutor =
+          Executors.newCachedThreadPool(
+              r -> {
+                Thread t = new Thread(r, "nessie-mongo-read-" + threadNum.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+              });
+    }
+  }
+
+  public int getMaxConcurrentReads() {
+    return config.getMaxConcurrentReads();
+  }
+
+  public int getReadBatchSize() {
+    return config.getReadBatchSize();
+  }
+
+  /** Executor for concurrent reads, {@code null} if concurrent reads are disabled. */
+  public ExecutorService getReadExecutor() {
+    return readExecutor;
   }
 
   public MongoCollection<Document> getRepoDesc() {
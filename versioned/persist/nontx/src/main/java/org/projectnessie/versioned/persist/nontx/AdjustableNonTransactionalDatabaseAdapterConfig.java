@@ -31,8 +31,6 @@ public interface AdjustableNonTransactionalDatabaseAdapterConfig
   AdjustableNonTransactionalDatabaseAdapterConfig withReferenceNamesBatchSize(
       int referenceNamesBatchSize);
 
-  AdjustableNonTransactionalDatabaseAdapterConfig withRefLogStripes(int refLogStripes);
-
   AdjustableNonTransactionalDatabaseAdapterConfig withCommitLogScanPrefetch(
       int commitLogScanPrefetch);
 }
@@ -29,7 +29,6 @@ import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUti
 import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUtil.takeUntilExcludeLast;
 import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUtil.transplantConflictMessage;
 import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUtil.verifyExpectedHash;
-import static org.projectnessie.versioned.persist.adapter.spi.Traced.trace;
 import static org.projectnessie.versioned.persist.adapter.spi.TryLoopState.newTryLoopState;
 import static org.projectnessie.versioned.persist.nontx.NonTransactionalDatabaseAdapter.CasOpResult.casOpResult;
 import static org.projectnessie.versioned.persist.nontx.NonTransactionalOperationContext.NON_TRANSACTIONAL_OPERATION_CONTEXT;
@@ -41,17 +40,20 @@ import com.google.protobuf.ByteString;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.TreeSet;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -64,9 +66,11 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.CompactHashSet;
 import org.projectnessie.versioned.ContentAttachment;
 import org.projectnessie.versioned.ContentAttachmentKey;
 import org.projectnessie.versioned.GetNamedRefsParams;
+import org.projectnessie.versioned.GetRefLogParams;
 import org.projectnessie.versioned.Hash;
 import org.projectnessie.versioned.ImmutableMergeResult;
 import org.projectnessie.versioned.Key;
@@ -77,6 +81,7 @@ import org.projectnessie.versioned.ReferenceAlreadyExistsException;
 import org.projectnessie.versioned.ReferenceConflictException;
 import org.projectnessie.versioned.ReferenceInfo;
 import org.projectnessie.versioned.ReferenceNotFoundException;
+import org.projectnessie.versioned.RequestReadStats;
 import org.projectnessie.versioned.TagName;
 import org.projectnessie.versioned.VersionStoreException;
 import org.projectnessie.versioned.persist.adapter.CommitLogEntry;
@@ -106,6 +111,8 @@ import org.projectnessie.versioned.persist.adapter.events.TransplantEvent;
 import org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization;
 import org.projectnessie.versioned.persist.adapter.spi.AbstractDatabaseAdapter;
 import org.projectnessie.versioned.persist.adapter.spi.BatchSpliterator;
+import org.projectnessie.versioned.persist.adapter.spi.CommitSequencer;
+import org.projectnessie.versioned.persist.adapter.spi.RefLogSpliterator;
 import org.projectnessie.versioned.persist.adapter.spi.Traced;
 import org.projectnessie.versioned.persist.adapter.spi.TryLoopState;
 import org.projectnessie.versioned.persist.serialize.AdapterTypes.AttachmentKey;
@@ -142,8 +149,18 @@ public abstract class NonTransactionalDatabaseAdapter<
   public static final String TAG_KEY_LIST_COUNT = "key-list-count";
   public static final String TAG_REF = "ref";
 
+  private final CommitSequencer commitSequencer;
+
   protected NonTransactionalDatabaseAdapter(CONFIG config, AdapterEventConsumer eventConsumer) {
     super(config, eventConsumer);
+    this.commitSequencer =
+        config.getCommitSequencerMaxBatchSize() > 1
+            ? new CommitSequencer(
+                config.getCommitSequencerMaxBatchSize(),
+                config.getCommitTimeout(),
+                this::commitBatch,
+                this::commitSingle)
+            : null;
   }
 
   @Override
@@ -200,7 +217,7 @@ public abstract class NonTransactionalDatabaseAdapter<
 
     @SuppressWarnings("MustBeClosedChecker")
     Stream<ReferenceInfo<ByteString>> refs =
-        fetchNamedReferences(ctx)
+        fetchNamedReferences(ctx, params.getNamePrefix(), params.getNameStartAt())
             .map(NonTransactionalDatabaseAdapter::namedReferenceToReferenceInfo);
 
     Hash defaultBranchHead = namedRefsDefaultBranchHead(ctx, params);
@@ -346,6 +363,14 @@ public abstract class NonTransactionalDatabaseAdapter<
   @Override
   public Hash commit(CommitParams commitParams)
       throws ReferenceConflictException, ReferenceNotFoundException {
+    if (commitSequencer != null) {
+      return commitSequencer.commit(commitParams);
+    }
+    return commitSingle(commitParams);
+  }
+
+  private Hash commitSingle(CommitParams commitParams)
+      throws ReferenceConflictException, ReferenceNotFoundException {
     try {
       return casOpLoop(
           "commit",
@@ -383,6 +408,66 @@ public abstract class NonTransactionalDatabaseAdapter<
     }
   }
 
+  /**
+   * Applies the given commits, which all target the same branch, as a chain of commits via a
+   * single CAS operation. Commits that fail their own conflict checks do not prevent the other
+   * commits from being applied.
+   */
+  private void commitBatch(List<CommitSequencer.Commit> commits) throws VersionStoreException {
+    BranchName branch = commits.get(0).getParams().getToBranch();
+    Object[] results = new Object[commits.size()];
+
+    casOpLoop(
+        "commitBatch",
+        branch,
+        CasOpVariant.COMMIT,
+        (ctx, refHead, branchCommits, newKeyLists) -> {
+          Hash currentHead = Hash.of(refHead.getHash());
+
+          Hash newHead = currentHead;
+          List<CommitLogEntry> newCommits = new ArrayList<>(commits.size());
+          for (int i = 0; i < results.length; i++) {
+            CommitParams commitParams = commits.get(i).getParams();
+            long timeInMicros = config.currentTimeInMicros();
+            try {
+              CommitLogEntry newBranchCommit =
+                  commitAttempt(ctx, timeInMicros, newHead, commitParams, newKeyLists);
+              newHead = newBranchCommit.getHash();
+              branchCommits.accept(newHead);
+              newCommits.add(newBranchCommit);
+              results[i] = newHead;
+            } catch (ReferenceConflictException
+                | ReferenceNotFoundException
+                | IllegalArgumentException e) {
+              results[i] = e;
+            }
+          }
+
+          Hash head = newHead;
+          return casOpResult(
+              refHead,
+              newHead,
+              null,
+              newCommits.isEmpty()
+                  ? null
+                  : () ->
+                      CommitEvent.builder()
+                          .previousHash(currentHead)
+                          .hash(head)
+                          .branch(branch)
+                          .commits(newCommits));
+        },
+        () -> commitConflictMessage("Retry-Failure", branch, Optional.empty()));
+
+    for (int i = 0; i < results.length; i++) {
+      if (results[i] instanceof Hash) {
+        commits.get(i).succeeded((Hash) results[i]);
+      } else {
+        commits.get(i).failed((Exception) results[i]);
+      }
+    }
+  }
+
   @Override
   public Hash create(NamedRef ref, Hash target)
       throws ReferenceAlreadyExistsException, ReferenceNotFoundException {
@@ -670,7 +755,7 @@ public abstract class NonTransactionalDatabaseAdapter<
   @Override
   public void writeMultipleCommits(List<CommitLogEntry> commitLogEntries)
       throws ReferenceConflictException {
-    try {
+    try (Traced ignore = trace("writeMultipleCommits").tag(TAG_COUNT, commitLogEntries.size())) {
       doWriteMultipleCommits(NON_TRANSACTIONAL_OPERATION_CONTEXT, commitLogEntries);
     } catch (ReferenceConflictException e) {
       throw e;
@@ -680,7 +765,7 @@ public abstract class NonTransactionalDatabaseAdapter<
   @Override
   public void updateMultipleCommits(List<CommitLogEntry> commitLogEntries)
       throws ReferenceNotFoundException {
-    try {
+    try (Traced ignore = trace("updateMultipleCommits").tag(TAG_COUNT, commitLogEntries.size())) {
       doUpdateMultipleCommits(NON_TRANSACTIONAL_OPERATION_CONTEXT, commitLogEntries);
     } catch (ReferenceNotFoundException e) {
       throw e;
@@ -855,7 +940,7 @@ public abstract class NonTransactionalDatabaseAdapter<
             this::tryLoopStateCompletion,
             config)) {
       while (true) {
-        Set<Hash> individualCommits = new HashSet<>();
+        Set<Hash> individualCommits = new CompactHashSet();
         Set<Hash> individualKeyLists = new HashSet<>();
 
         NamedReference refHead = fetchNamedReference(ctx, ref.getName());
@@ -1166,28 +1251,52 @@ public abstract class NonTransactionalDatabaseAdapter<
   @MustBeClosed
   protected final Stream<NamedReference> fetchNamedReferences(
       NonTransactionalOperationContext ctx) {
+    return fetchNamedReferences(ctx, null, null);
+  }
+
+  /**
+   * Fetches the named references ordered by name, optionally restricted to the names starting
+   * with {@code namePrefix} and/or the names equal to or greater than {@code nameStartAt}.
+   *
+   * <p>The reference names from all {@link ReferenceNames} segments are sorted in memory, so only
+   * the named references in the requested range are fetched from the database.
+   */
+  @MustBeClosed
+  protected final Stream<NamedReference> fetchNamedReferences(
+      NonTransactionalOperationContext ctx, String namePrefix, String nameStartAt) {
 
     maybeMigrateLegacyNamedReferences(ctx);
 
-    Spliterator<ReferenceNames> split = fetchReferenceNames(ctx);
+    // The named references splits may contain duplicate names, which is probably very, very
+    // rare, but still possible. The TreeSet eliminates those and provides the ordering.
+    NavigableSet<String> allNames = new TreeSet<>();
+    fetchReferenceNames(ctx)
+        .forEachRemaining(refNames -> allNames.addAll(refNames.getRefNamesList()));
 
-    Spliterator<String> allNames =
-        StreamSupport.stream(split, false)
-            .map(ReferenceNames::getRefNamesList)
-            .flatMap(List::stream)
-            // The named references splits may contain duplicate names, which is probably very, very
-            // rare, but still possible.
-            .distinct()
-            .spliterator();
+    String startAt = nameStartAt;
+    if (namePrefix != null && (startAt == null || namePrefix.compareTo(startAt) > 0)) {
+      startAt = namePrefix;
+    }
+    Stream<String> names = (startAt != null ? allNames.tailSet(startAt, true) : allNames).stream();
+    if (namePrefix != null) {
+      names = takeUntilExcludeLast(names, name -> !name.startsWith(namePrefix));
+    }
 
-    BatchSpliterator<String, NamedReference> batchSpliterator =
-        new BatchSpliterator<>(
+    Spliterator<NamedReference> namedReferences =
+        independentBatchedReads(
             config.getReferenceNamesBatchSize(),
-            allNames,
-            batch -> fetchNamedReference(ctx, batch).spliterator(),
-            Spliterator.NONNULL | Spliterator.DISTINCT | Spliterator.IMMUTABLE);
+            names.spliterator(),
+            batch ->
+                fetchNamedReference(ctx, batch).stream()
+                    // Database may return the references in any order
+                    .sorted(Comparator.comparing(NamedReference::getName))
+                    .spliterator(),
+            Spliterator.NONNULL
+                | Spliterator.DISTINCT
+                | Spliterator.IMMUTABLE
+                | Spliterator.ORDERED);
 
-    return StreamSupport.stream(batchSpliterator, false);
+    return StreamSupport.stream(namedReferences, false);
   }
 
   protected final boolean createNamedReference(
@@ -1506,7 +1615,11 @@ public abstract class NonTransactionalDatabaseAdapter<
   protected final GlobalStateLogEntry fetchFromGlobalLog(
       NonTransactionalOperationContext ctx, Hash id) {
     try (Traced ignore = trace("fetchFromGlobalLog").tag(TAG_HASH, id.asString())) {
-      return doFetchFromGlobalLog(ctx, id);
+      GlobalStateLogEntry entry = doFetchFromGlobalLog(ctx, id);
+      if (entry != null) {
+        RequestReadStats.recordGlobalLogEntries(1);
+      }
+      return entry;
     }
   }
 
@@ -1519,7 +1632,10 @@ public abstract class NonTransactionalDatabaseAdapter<
         trace("fetchPageFromGlobalLog")
             .tag(TAG_HASH, hashes.get(0).asString())
             .tag(TAG_COUNT, hashes.size())) {
-      return doFetchPageFromGlobalLog(ctx, hashes);
+      List<GlobalStateLogEntry> entries = doFetchPageFromGlobalLog(ctx, hashes);
+      RequestReadStats.recordGlobalLogEntries(
+          (int) entries.stream().filter(Objects::nonNull).count());
+      return entries;
     }
   }
 
@@ -1552,8 +1668,8 @@ public abstract class NonTransactionalDatabaseAdapter<
 
   @Override
   @MustBeClosed
-  public Stream<RefLog> refLog(Hash offset) throws RefLogNotFoundException {
-    return readRefLogStream(NON_TRANSACTIONAL_OPERATION_CONTEXT, offset);
+  public Stream<RefLog> refLog(Hash offset, GetRefLogParams params) throws RefLogNotFoundException {
+    return readRefLogStream(NON_TRANSACTIONAL_OPERATION_CONTEXT, offset, params);
   }
 
   @Override
@@ -20,7 +20,6 @@ import org.projectnessie.versioned.persist.adapter.DatabaseAdapterConfig;
 
 public interface NonTransactionalDatabaseAdapterConfig extends DatabaseAdapterConfig {
   int DEFAULT_REFERENCES_SEGMENT_SIZE = 250_000;
-  int DEFAULT_REF_LOG_STRIPES = 8;
   int DEFAULT_REFERENCES_SEGMENT_PREFETCH = 1;
   int DEFAULT_REFERENCE_NAMES_BATCH_SIZE = 25;
   int DEFAULT_COMMIT_LOG_SCAN_PREFETCH = 25;
@@ -40,11 +39,6 @@ public interface NonTransactionalDatabaseAdapterConfig extends DatabaseAdapterCo
     return DEFAULT_REFERENCE_NAMES_BATCH_SIZE;
   }
 
-  @Value.Default
-  default int getRefLogStripes() {
-    return DEFAULT_REF_LOG_STRIPES;
-  }
-
   @Value.Default
   default int getCommitLogScanPrefetch() {
     return DEFAULT_COMMIT_LOG_SCAN_PREFETCH;
@@ -34,6 +34,7 @@ dependencies {
   annotationProcessor(libs.immutables.value.processor)
   implementation(libs.findbugs.jsr305)
   implementation(libs.rocksdb.jni)
+  implementation(libs.micrometer.core)
 
   testImplementation(project(":nessie-versioned-tests"))
   testImplementation(project(":nessie-versioned-persist-testextension"))
@@ -19,6 +19,8 @@ import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSeriali
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.protoToKeyList;
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.protoToRefLog;
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.protoToRepoDescription;
+import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.serializeCommitLogEntry;
+import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.serializeKeyList;
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.toProto;
 import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUtil.hashCollisionDetected;
 
@@ -52,6 +54,7 @@ import org.projectnessie.versioned.persist.adapter.RefLog;
 import org.projectnessie.versioned.persist.adapter.RepoDescription;
 import org.projectnessie.versioned.persist.adapter.events.AdapterEventConsumer;
 import org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization;
+import org.projectnessie.versioned.persist.adapter.spi.ScanPartition;
 import org.projectnessie.versioned.persist.nontx.NonTransactionalDatabaseAdapter;
 import org.projectnessie.versioned.persist.nontx.NonTransactionalDatabaseAdapterConfig;
 import org.projectnessie.versioned.persist.nontx.NonTransactionalOperationContext;
@@ -68,11 +71,12 @@ import org.projectnessie.versioned.persist.serialize.AdapterTypes.RefPointer;
 import org.projectnessie.versioned.persist.serialize.AdapterTypes.ReferenceNames;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.Holder;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Slice;
 import org.rocksdb.TransactionDB;
 import org.rocksdb.WriteBatch;
-import org.rocksdb.WriteOptions;
 
 public class RocksDatabaseAdapter
     extends NonTransactionalDatabaseAdapter<NonTransactionalDatabaseAdapterConfig> {
@@ -170,7 +174,10 @@ public class RocksDatabaseAdapter
     try {
       byte[] key = dbKey(entry.getHash());
       checkForHashCollision(dbInstance.getCfCommitLog(), key);
-      db.put(dbInstance.getCfCommitLog(), key, toProto(entry).toByteArray());
+      db.put(
+          dbInstance.getCfCommitLog(),
+          key,
+          serializeCommitLogEntry(entry, config.getEntityCompressionThreshold()));
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
     } finally {
@@ -197,9 +204,12 @@ public class RocksDatabaseAdapter
       WriteBatch batch = new WriteBatch();
       for (CommitLogEntry e : entries) {
         byte[] key = dbKey(e.getHash());
-        batch.put(dbInstance.getCfCommitLog(), key, toProto(e).toByteArray());
+        batch.put(
+            dbInstance.getCfCommitLog(),
+            key,
+            serializeCommitLogEntry(e, config.getEntityCompressionThreshold()));
       }
-      db.write(new WriteOptions(), batch);
+      db.write(dbInstance.getWriteOptions(), batch);
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
     } finally {
@@ -255,7 +265,7 @@ public class RocksDatabaseAdapter
       for (Hash h : newKeyLists) {
         batch.delete(dbInstance.getCfKeyList(), dbKey(h));
       }
-      db.write(new WriteOptions(), batch);
+      db.write(dbInstance.getWriteOptions(), batch);
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
     } finally {
@@ -342,7 +352,10 @@ public class RocksDatabaseAdapter
     try {
       for (KeyListEntity keyListEntity : newKeyListEntities) {
         byte[] key = dbKey(keyListEntity.getId());
-        db.put(dbInstance.getCfKeyList(), key, toProto(keyListEntity.getKeys()).toByteArray());
+        db.put(
+            dbInstance.getCfKeyList(),
+            key,
+            serializeKeyList(keyListEntity.getKeys(), config.getEntityCompressionThreshold()));
       }
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
@@ -719,9 +732,18 @@ public class RocksDatabaseAdapter
   }
 
   @Override
-  protected Stream<CommitLogEntry> doScanAllCommitLogEntries(NonTransactionalOperationContext c) {
-    RocksIterator iter = db.newIterator(dbInstance.getCfCommitLog());
-    iter.seekToFirst();
+  protected Stream<CommitLogEntry> doScanAllCommitLogEntries(
+      NonTransactionalOperationContext c, ScanPartition partition) {
+    // Commit-log keys are ordered by repository-prefix plus commit-ID, so a partition is a
+    // contiguous key range that can be read via seek + iterate-upper-bound.
+    ReadOptions readOptions = new ReadOptions();
+    Slice upperBound = null;
+    if (!partition.isFull() && partition.hasUpperBound()) {
+      upperBound = new Slice(dbKey(partition.upperBoundBytes()));
+      readOptions.setIterateUpperBound(upperBound);
+    }
+    RocksIterator iter = db.newIterator(dbInstance.getCfCommitLog(), readOptions);
+    iter.seek(partition.isFull() ? keyPrefix.toByteArray() : dbKey(partition.lowerBoundBytes()));
 
     Spliterator<CommitLogEntry> split =
         new AbstractSpliterator<CommitLogEntry>(Long.MAX_VALUE, Spliterator.NONNULL) {
@@ -731,14 +753,25 @@ public class RocksDatabaseAdapter
               return false;
             }
             ByteString key = ByteString.copyFrom(iter.key());
-            if (key.startsWith(keyPrefix)) {
-              action.accept(ProtoSerialization.protoToCommitLogEntry(iter.value()));
+            if (!key.startsWith(keyPrefix)) {
+              // Past the keys of this repository
+              return false;
             }
+            action.accept(ProtoSerialization.protoToCommitLogEntry(iter.value()));
             iter.next();
             return true;
           }
         };
-    return StreamSupport.stream(split, false).onClose(iter::close);
+    Slice upperBoundSlice = upperBound;
+    return StreamSupport.stream(split, false)
+        .onClose(
+            () -> {
+              iter.close();
+              readOptions.close();
+              if (upperBoundSlice != null) {
+                upperBoundSlice.close();
+              }
+            });
   }
 
   @Override
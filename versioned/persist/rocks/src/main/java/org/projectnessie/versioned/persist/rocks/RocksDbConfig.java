@@ -15,15 +15,93 @@
  */
 package org.projectnessie.versioned.persist.rocks;
 
+import java.util.Arrays;
+import java.util.List;
 import javax.annotation.Nullable;
 import org.immutables.value.Value;
 import org.projectnessie.versioned.persist.adapter.DatabaseConnectionConfig;
 
 @Value.Immutable
 public interface RocksDbConfig extends DatabaseConnectionConfig {
+
+  long DEFAULT_BLOCK_CACHE_SIZE = 64L * 1024L * 1024L;
+  List<String> DEFAULT_POINT_LOOKUP_COLUMN_FAMILIES =
+      Arrays.asList(RocksDbInstance.CF_COMMIT_LOG, RocksDbInstance.CF_KEY_LIST);
+  double DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10d;
+  String DEFAULT_COMPRESSION = "lz4";
+  long DEFAULT_MAX_TOTAL_WAL_SIZE = 0L;
+  boolean DEFAULT_STATISTICS_ENABLED = false;
+
   /** Database path for Rocks-DB. */
   @Nullable
   String getDbPath();
 
   RocksDbConfig withDbPath(String dbPath);
+
+  /**
+   * Size in bytes of the LRU block cache shared by all column families, {@code 0} lets each column
+   * family use RocksDB's default block cache.
+   */
+  @Value.Default
+  default long getBlockCacheSize() {
+    return DEFAULT_BLOCK_CACHE_SIZE;
+  }
+
+  RocksDbConfig withBlockCacheSize(long blockCacheSize);
+
+  /**
+   * Names of the column families that are tuned for point lookups, using bloom filters and a hash
+   * index in data blocks. Defaults to {@code commit_log} and {@code key_list}, which are almost
+   * exclusively read by ID.
+   */
+  @Value.Default
+  default List<String> getPointLookupColumnFamilies() {
+    return DEFAULT_POINT_LOOKUP_COLUMN_FAMILIES;
+  }
+
+  RocksDbConfig withPointLookupColumnFamilies(Iterable<String> pointLookupColumnFamilies);
+
+  /**
+   * Bits per key of the bloom filters for the {@link #getPointLookupColumnFamilies() point lookup
+   * column families}, {@code 0} disables bloom filters.
+   */
+  @Value.Default
+  default double getBloomFilterBitsPerKey() {
+    return DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+  }
+
+  RocksDbConfig withBloomFilterBitsPerKey(double bloomFilterBitsPerKey);
+
+  /**
+   * Compression used for all column families, one of {@code none}, {@code snappy}, {@code z},
+   * {@code bzip2}, {@code lz4}, {@code lz4hc}, {@code xpress} or {@code zstd}.
+   */
+  @Value.Default
+  default String getCompression() {
+    return DEFAULT_COMPRESSION;
+  }
+
+  RocksDbConfig withCompression(String compression);
+
+  /**
+   * Maximum total size in bytes of the write-ahead-log files, before RocksDB forces a flush of the
+   * oldest memtables, {@code 0} uses RocksDB's default.
+   */
+  @Value.Default
+  default long getMaxTotalWalSize() {
+    return DEFAULT_MAX_TOTAL_WAL_SIZE;
+  }
+
+  RocksDbConfig withMaxTotalWalSize(long maxTotalWalSize);
+
+  /**
+   * Whether RocksDB collects statistics, which are exported as Micrometer meters, disabled by
+   * default, because collecting statistics has a small overhead.
+   */
+  @Value.Default
+  default boolean isStatisticsEnabled() {
+    return DEFAULT_STATISTICS_ENABLED;
+  }
+
+  RocksDbConfig withStatisticsEnabled(boolean statisticsEnabled);
 }
@@ -17,25 +17,40 @@ package org.projectnessie.versioned.persist.rocks;
 
 import static org.rocksdb.RocksDB.DEFAULT_COLUMN_FAMILY;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.StampedLock;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.projectnessie.versioned.persist.adapter.DatabaseConnectionProvider;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
+import org.rocksdb.DataBlockIndexType;
+import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksObject;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
 import org.rocksdb.TransactionDB;
 import org.rocksdb.TransactionDBOptions;
+import org.rocksdb.WriteOptions;
 
 /**
  * Provides the {@link RocksDB} instance for potentially multiple {@link RocksDatabaseAdapter}
@@ -45,7 +60,15 @@ public class RocksDbInstance implements DatabaseConnectionProvider<RocksDbConfig
 
   private TransactionDB db;
 
-  private String dbPath;
+  private RocksDbConfig config;
+
+  /** Native RocksDB objects that must be closed after the database has been closed. */
+  private final List<RocksObject> nativeResources = new ArrayList<>();
+
+  private final List<Meter> meters = new ArrayList<>();
+  private Cache blockCache;
+  private Statistics statistics;
+  private WriteOptions writeOptions;
 
   public static final String CF_REPO_PROPS = "repo_props";
   public static final String CF_GLOBAL_POINTER = "global_pointer";
@@ -73,6 +96,28 @@ public class RocksDbInstance implements DatabaseConnectionProvider<RocksDbConfig
           CF_ATTACHMENTS,
           CF_ATTACHMENT_KEYS);
 
+  /** RocksDB tickers exported as Micrometer counters, if statistics are enabled. */
+  private static final List<TickerType> EXPORTED_TICKERS =
+      Collections.unmodifiableList(
+          Arrays.asList(
+              TickerType.BLOCK_CACHE_HIT,
+              TickerType.BLOCK_CACHE_MISS,
+              TickerType.BLOCK_CACHE_INDEX_HIT,
+              TickerType.BLOCK_CACHE_INDEX_MISS,
+              TickerType.BLOCK_CACHE_FILTER_HIT,
+              TickerType.BLOCK_CACHE_FILTER_MISS,
+              TickerType.BLOCK_CACHE_DATA_HIT,
+              TickerType.BLOCK_CACHE_DATA_MISS,
+              TickerType.BLOOM_FILTER_USEFUL,
+              TickerType.MEMTABLE_HIT,
+              TickerType.MEMTABLE_MISS,
+              TickerType.BYTES_READ,
+              TickerType.BYTES_WRITTEN,
+              TickerType.WAL_FILE_BYTES,
+              TickerType.COMPACT_READ_BYTES,
+              TickerType.COMPACT_WRITE_BYTES,
+              TickerType.STALL_MICROS));
+
   private ColumnFamilyHandle cfRepoProps;
   private ColumnFamilyHandle cfGlobalPointer;
   private ColumnFamilyHandle cfGlobalLog;
@@ -93,47 +138,73 @@ public class RocksDbInstance implements DatabaseConnectionProvider<RocksDbConfig
 
   @Override
   public void configure(RocksDbConfig config) {
-    this.dbPath = config.getDbPath();
+    this.config = config;
   }
 
   @Override
   public synchronized void close() {
-    if (db != null) {
-      try {
+    meters.forEach(Metrics.globalRegistry::remove);
+    meters.clear();
+    try {
+      if (db != null) {
         db.close();
-      } finally {
-        db = null;
       }
+    } finally {
+      db = null;
+      blockCache = null;
+      statistics = null;
+      writeOptions = null;
+      for (int i = nativeResources.size() - 1; i >= 0; i--) {
+        nativeResources.get(i).close();
+      }
+      nativeResources.clear();
     }
   }
 
   @Override
   public synchronized void initialize() {
     if (db == null) {
+      String dbPath = config != null ? config.getDbPath() : null;
       if (dbPath == null || dbPath.trim().isEmpty()) {
         throw new IllegalStateException("RocksDB instance missing dbPath option.");
       }
 
-      List<byte[]> columnFamilies = new ArrayList<>();
-      columnFamilies.add(DEFAULT_COLUMN_FAMILY);
-      CF_ALL.stream().map(s -> s.getBytes(StandardCharsets.UTF_8)).forEach(columnFamilies::add);
+      CompressionType compression = compressionType(config.getCompression());
 
-      List<ColumnFamilyDescriptor> columnFamilyDescriptors =
-          columnFamilies.stream()
-              .map(
-                  c ->
-                      new ColumnFamilyDescriptor(
-                          c, new ColumnFamilyOptions().optimizeUniversalStyleCompaction()))
-              .collect(Collectors.toList());
+      if (config.getBlockCacheSize() > 0L) {
+        blockCache = nativeResource(new LRUCache(config.getBlockCacheSize()));
+      }
+      if (config.isStatisticsEnabled()) {
+        statistics = nativeResource(new Statistics());
+      }
+      writeOptions = nativeResource(new WriteOptions());
+
+      List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
+      columnFamilyDescriptors.add(
+          new ColumnFamilyDescriptor(
+              DEFAULT_COLUMN_FAMILY, columnFamilyOptions(false, compression)));
+      for (String cf : CF_ALL) {
+        boolean pointLookup = config.getPointLookupColumnFamilies().contains(cf);
+        columnFamilyDescriptors.add(
+            new ColumnFamilyDescriptor(
+                cf.getBytes(StandardCharsets.UTF_8),
+                columnFamilyOptions(pointLookup, compression)));
+      }
 
       try (final DBOptions dbOptions =
           new DBOptions().setCreateIfMissing(true).setCreateMissingColumnFamilies(true)) {
-        // TODO: Consider setting WAL limits.
+        if (config.getMaxTotalWalSize() > 0L) {
+          dbOptions.setMaxTotalWalSize(config.getMaxTotalWalSize());
+        }
+        if (statistics != null) {
+          dbOptions.setStatistics(statistics);
+        }
+
         List<ColumnFamilyHandle> columnFamilyHandles = new ArrayList<>();
         db =
             TransactionDB.open(
                 dbOptions,
-                new TransactionDBOptions(),
+                nativeResource(new TransactionDBOptions()),
                 dbPath,
                 columnFamilyDescriptors,
                 columnFamilyHandles);
@@ -156,11 +227,109 @@ public class RocksDbInstance implements DatabaseConnectionProvider<RocksDbConfig
         cfAttachments = columnFamilyHandleMap.get(CF_ATTACHMENTS);
         cfAttachmentKeys = columnFamilyHandleMap.get(CF_ATTACHMENT_KEYS);
       } catch (RocksDBException e) {
+        close();
         throw new RuntimeException("RocksDB failed to start", e);
       }
+
+      registerMeters();
+    }
+  }
+
+  private <T extends RocksObject> T nativeResource(T resource) {
+    nativeResources.add(resource);
+    return resource;
+  }
+
+  private ColumnFamilyOptions columnFamilyOptions(
+      boolean pointLookup, CompressionType compression) {
+    BlockBasedTableConfig tableConfig = new BlockBasedTableConfig();
+    if (blockCache != null) {
+      tableConfig.setBlockCache(blockCache);
+    }
+    if (pointLookup) {
+      // Hash index in data blocks, range scans still work using the binary search index.
+      tableConfig.setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash);
+      if (config.getBloomFilterBitsPerKey() > 0d) {
+        tableConfig.setFilterPolicy(
+            nativeResource(new BloomFilter(config.getBloomFilterBitsPerKey())));
+      }
+    }
+
+    ColumnFamilyOptions options =
+        nativeResource(new ColumnFamilyOptions())
+            .optimizeUniversalStyleCompaction()
+            .setCompressionType(compression)
+            .setTableFormatConfig(tableConfig);
+    if (pointLookup) {
+      options.setMemtableWholeKeyFiltering(true);
+      options.setMemtablePrefixBloomSizeRatio(0.02d);
+    }
+    return options;
+  }
+
+  static CompressionType compressionType(String name) {
+    if ("none".equalsIgnoreCase(name)) {
+      return CompressionType.NO_COMPRESSION;
+    }
+    for (CompressionType type : CompressionType.values()) {
+      if (type.getLibraryName() != null && type.getLibraryName().equalsIgnoreCase(name)) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException("Unknown RocksDB compression '" + name + "'");
+  }
+
+  private void registerMeters() {
+    if (blockCache != null) {
+      meters.add(
+          Gauge.builder("nessie.rocksdb.block-cache.usage", this, i -> i.blockCacheUsage(false))
+              .baseUnit("bytes")
+              .register(Metrics.globalRegistry));
+      meters.add(
+          Gauge.builder(
+                  "nessie.rocksdb.block-cache.pinned-usage", this, i -> i.blockCacheUsage(true))
+              .baseUnit("bytes")
+              .register(Metrics.globalRegistry));
+    }
+    if (statistics != null) {
+      for (TickerType ticker : EXPORTED_TICKERS) {
+        meters.add(
+            FunctionCounter.builder("nessie.rocksdb.ticker", this, i -> i.tickerCount(ticker))
+                .tag("ticker", ticker.name().toLowerCase(Locale.ROOT))
+                .register(Metrics.globalRegistry));
+      }
+      meters.add(
+          Gauge.builder(
+                  "nessie.rocksdb.block-cache.hit-ratio", this, RocksDbInstance::blockCacheHitRatio)
+              .register(Metrics.globalRegistry));
     }
   }
 
+  private synchronized double blockCacheUsage(boolean pinned) {
+    if (blockCache == null) {
+      return Double.NaN;
+    }
+    return pinned ? blockCache.getPinnedUsage() : blockCache.getUsage();
+  }
+
+  private synchronized double tickerCount(TickerType ticker) {
+    return statistics != null ? statistics.getTickerCount(ticker) : 0d;
+  }
+
+  private synchronized double blockCacheHitRatio() {
+    if (statistics == null) {
+      return Double.NaN;
+    }
+    double hits = statistics.getTickerCount(TickerType.BLOCK_CACHE_HIT);
+    double total = hits + statistics.getTickerCount(TickerType.BLOCK_CACHE_MISS);
+    return total > 0d ? hits / total : Double.NaN;
+  }
+
+  /** Shared {@link WriteOptions} for all writes, avoids allocating native objects per write. */
+  public WriteOptions getWriteOptions() {
+    return writeOptions;
+  }
+
   public ColumnFamilyHandle getCfRepoProps() {
     return cfRepoProps;
   }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.rocks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.CompressionType;
+
+class ITRocksDbInstance {
+
+  @TempDir Path dbPath;
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  void addRegistry() {
+    Metrics.addRegistry(registry);
+  }
+
+  @AfterEach
+  void removeRegistry() {
+    Metrics.removeRegistry(registry);
+    registry.close();
+  }
+
+  @Test
+  void statisticsAndBlockCacheMeters() throws Exception {
+    RocksDbInstance instance = new RocksDbInstance();
+    instance.configure(
+        ImmutableRocksDbConfig.builder()
+            .dbPath(dbPath.toString())
+            .blockCacheSize(1024L * 1024L)
+            .statisticsEnabled(true)
+            .build());
+    instance.initialize();
+    try {
+      byte[] key = "key".getBytes(StandardCharsets.UTF_8);
+      instance.getDb().put(instance.getCfCommitLog(), key, new byte[100]);
+      assertThat(instance.getDb().get(instance.getCfCommitLog(), key)).hasSize(100);
+
+      assertThat(registry.find("nessie.rocksdb.block-cache.usage").gauge()).isNotNull();
+      FunctionCounter bytesWritten =
+          registry.find("nessie.rocksdb.ticker").tag("ticker", "bytes_written").functionCounter();
+      assertThat(bytesWritten).isNotNull();
+      assertThat(bytesWritten.count()).isGreaterThan(0d);
+    } finally {
+      instance.close();
+    }
+
+    assertThat(Metrics.globalRegistry.find("nessie.rocksdb.ticker").meters()).isEmpty();
+    assertThat(Metrics.globalRegistry.find("nessie.rocksdb.block-cache.usage").meters()).isEmpty();
+  }
+
+  @Test
+  void defaultsWithoutStatistics() {
+    RocksDbInstance instance = new RocksDbInstance();
+    instance.configure(ImmutableRocksDbConfig.builder().dbPath(dbPath.toString()).build());
+    instance.initialize();
+    try {
+      assertThat(instance.getWriteOptions()).isNotNull();
+      assertThat(Metrics.globalRegistry.find("nessie.rocksdb.ticker").meters()).isEmpty();
+    } finally {
+      instance.close();
+    }
+  }
+
+  @Test
+  void compressionType() {
+    assertThat(RocksDbInstance.compressionType("none")).isSameAs(CompressionType.NO_COMPRESSION);
+    assertThat(RocksDbInstance.compressionType("LZ4")).isSameAs(CompressionType.LZ4_COMPRESSION);
+    assertThat(RocksDbInstance.compressionType("zstd")).isSameAs(CompressionType.ZSTD_COMPRESSION);
+    assertThatThrownBy(() -> RocksDbInstance.compressionType("foo"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
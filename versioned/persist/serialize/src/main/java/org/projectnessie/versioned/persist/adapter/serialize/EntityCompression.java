@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.serialize;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Self-describing compression envelope for serialized entities like commit-log-entries and
+ * key-list-entities.
+ *
+ * <p>A serialized protobuf message never starts with a {@code 0x00} byte, because field number
+ * {@code 0} is illegal. A compressed entity therefore starts with a {@code 0x00} marker byte,
+ * followed by the ID of the compression codec, the uncompressed size as a 4-byte big-endian
+ * integer and the compressed bytes. Everything else is an uncompressed serialized entity, so
+ * entities persisted before compression was enabled remain readable.
+ */
+public final class EntityCompression {
+
+  private static final byte MARKER = 0;
+  private static final byte CODEC_DEFLATE = 1;
+  private static final int HEADER_SIZE = 6;
+
+  private EntityCompression() {}
+
+  /**
+   * Compresses the given serialized entity, if its size is at least {@code threshold} bytes and
+   * the compressed representation is smaller than the serialized entity. Returns the serialized
+   * entity as is, if {@code threshold} is {@code <= 0}.
+   */
+  public static byte[] compress(byte[] serialized, int threshold) {
+    if (threshold <= 0 || serialized.length < threshold) {
+      return serialized;
+    }
+
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(serialized);
+      deflater.finish();
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream(serialized.length / 2 + HEADER_SIZE);
+      out.write(MARKER);
+      out.write(CODEC_DEFLATE);
+      int size = serialized.length;
+      out.write(size >>> 24);
+      out.write(size >>> 16);
+      out.write(size >>> 8);
+      out.write(size);
+
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        int n = deflater.deflate(buffer);
+        out.write(buffer, 0, n);
+        if (out.size() >= serialized.length) {
+          // Not worth it
+          return serialized;
+        }
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /** Checks whether the given stored entity uses the compression envelope. */
+  public static boolean isCompressed(byte[] stored) {
+    return stored.length > 0 && stored[0] == MARKER;
+  }
+
+  /** Checks whether the given stored entity uses the compression envelope. */
+  public static boolean isCompressed(ByteString stored) {
+    return !stored.isEmpty() && stored.byteAt(0) == MARKER;
+  }
+
+  /** Returns the serialized entity, decompressing it if necessary. */
+  public static ByteString decompress(byte[] stored) {
+    if (!isCompressed(stored)) {
+      return UnsafeByteOperations.unsafeWrap(stored);
+    }
+    return UnsafeByteOperations.unsafeWrap(decompress(stored, 0, stored.length));
+  }
+
+  /** Returns the serialized entity, decompressing it if necessary. */
+  public static ByteString decompress(ByteString stored) {
+    if (!isCompressed(stored)) {
+      return stored;
+    }
+    byte[] bytes = stored.toByteArray();
+    return UnsafeByteOperations.unsafeWrap(decompress(bytes, 0, bytes.length));
+  }
+
+  private static byte[] decompress(byte[] stored, int offset, int length) {
+    if (length < HEADER_SIZE) {
+      throw new IllegalArgumentException("Compressed entity too short");
+    }
+    byte codec = stored[offset + 1];
+    if (codec != CODEC_DEFLATE) {
+      throw new IllegalArgumentException("Unknown compression codec " + codec);
+    }
+    int size =
+        ((stored[offset + 2] & 0xff) << 24)
+            | ((stored[offset + 3] & 0xff) << 16)
+            | ((stored[offset + 4] & 0xff) << 8)
+            | (stored[offset + 5] & 0xff);
+
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(stored, offset + HEADER_SIZE, length - HEADER_SIZE);
+      byte[] serialized = new byte[size];
+      int pos = 0;
+      while (pos < size) {
+        int n = inflater.inflate(serialized, pos, size - pos);
+        if (n == 0) {
+          break;
+        }
+        pos += n;
+      }
+      if (pos != size) {
+        throw new IllegalArgumentException(
+            "Compressed entity is truncated, expected " + size + " bytes, got " + pos);
+      }
+      return serialized;
+    } catch (DataFormatException e) {
+      throw new IllegalArgumentException("Invalid compressed entity", e);
+    } finally {
+      inflater.end();
+    }
+  }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.adapter.serialize;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import java.io.IOException;
+import java.util.List;
+import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.Key;
+import org.projectnessie.versioned.persist.adapter.CommitLogEntry;
+import org.projectnessie.versioned.persist.adapter.KeyList;
+import org.projectnessie.versioned.persist.adapter.KeyWithBytes;
+import org.projectnessie.versioned.persist.serialize.AdapterTypes;
+
+/**
+ * {@link CommitLogEntry} that decodes the cheap "header" fields of the serialized commit-log-entry
+ * eagerly, but skips over the potentially big {@link #getPuts() puts}, {@link #getDeletes()
+ * deletes} and the {@link #getKeyList() embedded key-list}, which are only decoded on first
+ * access.
+ *
+ * <p>Walking the commit log, for example to find a common ancestor or to list commits, only needs
+ * the parents and the commit metadata, so the serialized key-list, which can be up to {@link
+ * org.projectnessie.versioned.persist.adapter.DatabaseAdapterConfig#getMaxKeyListSize()} bytes,
+ * is never decoded in that case.
+ *
+ * <p>Lazy entries are only equal to other lazy entries with the same content, never to other
+ * {@link CommitLogEntry} implementations, because those cannot compare equal to a lazy entry. Use
+ * {@code ImmutableCommitLogEntry.copyOf()} to compare with an {@code ImmutableCommitLogEntry}.
+ * {@link #hashCode()} and {@link #toString()} do not decode the entry.
+ */
+final class LazyCommitLogEntry implements CommitLogEntry {
+
+  /** The serialized commit-log-entry, released once the entry has been fully decoded. */
+  private ByteString serialized;
+
+  private final long createdTime;
+  private final Hash hash;
+  private final long commitSeq;
+  private final List<Hash> parents;
+  private final ByteString metadata;
+  private final int keyListDistance;
+  private final boolean hasEmbeddedKeyList;
+  private final List<Hash> keyListsIds;
+  private final List<Integer> keyListEntityOffsets;
+  private final Float keyListLoadFactor;
+  private final Integer keyListBucketCount;
+  private final List<Hash> additionalParents;
+  private final KeyListVariant keyListVariant;
+
+  /** The fully decoded commit-log-entry, only set when any of the "expensive" fields is needed. */
+  private volatile CommitLogEntry decoded;
+
+  private LazyCommitLogEntry(
+      ByteString serialized,
+      long createdTime,
+      Hash hash,
+      long commitSeq,
+      List<Hash> parents,
+      ByteString metadata,
+      int keyListDistance,
+      boolean hasEmbeddedKeyList,
+      List<Hash> keyListsIds,
+      List<Integer> keyListEntityOffsets,
+      Float keyListLoadFactor,
+      Integer keyListBucketCount,
+      List<Hash> additionalParents,
+      KeyListVariant keyListVariant) {
+    this.serialized = serialized;
+    this.createdTime = createdTime;
+    this.hash = hash;
+    this.commitSeq = commitSeq;
+    this.parents = parents;
+    this.metadata = metadata;
+    this.keyListDistance = keyListDistance;
+    this.hasEmbeddedKeyList = hasEmbeddedKeyList;
+    this.keyListsIds = keyListsIds;
+    this.keyListEntityOffsets = keyListEntityOffsets;
+    this.keyListLoadFactor = keyListLoadFactor;
+    this.keyListBucketCount = keyListBucketCount;
+    this.additionalParents = additionalParents;
+    this.keyListVariant = keyListVariant;
+  }
+
+  static LazyCommitLogEntry parse(ByteString serialized) throws InvalidProtocolBufferException {
+    long createdTime = 0L;
+    ByteString hash = ByteString.EMPTY;
+    long commitSeq = 0L;
+    ImmutableList.Builder<Hash> parents = ImmutableList.builder();
+    ByteString metadata = ByteString.EMPTY;
+    int keyListDistance = 0;
+    boolean hasEmbeddedKeyList = false;
+    ImmutableList.Builder<Hash> keyListsIds = ImmutableList.builder();
+    ImmutableList.Builder<Integer> keyListEntityOffsets = ImmutableList.builder();
+    Float keyListLoadFactor = null;
+    int keyListBucketCount = 0;
+    ImmutableList.Builder<Hash> additionalParents = ImmutableList.builder();
+    KeyListVariant keyListVariant = KeyListVariant.EMBEDDED_AND_EXTERNAL_MRU;
+
+    try {
+      CodedInputStream input = serialized.newCodedInput();
+      while (true) {
+        int tag = input.readTag();
+        if (tag == 0) {
+          break;
+        }
+        switch (WireFormat.getTagFieldNumber(tag)) {
+          case AdapterTypes.CommitLogEntry.CREATEDTIME_FIELD_NUMBER:
+            createdTime = input.readInt64();
+            break;
+          case AdapterTypes.CommitLogEntry.HASH_FIELD_NUMBER:
+            hash = input.readBytes();
+            break;
+          case AdapterTypes.CommitLogEntry.PARENTS_FIELD_NUMBER:
+            parents.add(Hash.of(input.readBytes()));
+            break;
+          case AdapterTypes.CommitLogEntry.METADATA_FIELD_NUMBER:
+            metadata = input.readBytes();
+            break;
+          case AdapterTypes.CommitLogEntry.KEY_LIST_DISTANCE_FIELD_NUMBER:
+            keyListDistance = input.readInt32();
+            break;
+          case AdapterTypes.CommitLogEntry.KEY_LIST_FIELD_NUMBER:
+            hasEmbeddedKeyList = true;
+            input.skipField(tag);
+            break;
+          case AdapterTypes.CommitLogEntry.KEY_LIST_IDS_FIELD_NUMBER:
+            keyListsIds.add(Hash.of(input.readBytes()));
+            break;
+          case AdapterTypes.CommitLogEntry.COMMITSEQ_FIELD_NUMBER:
+            commitSeq = input.readInt64();
+            break;
+          case AdapterTypes.CommitLogEntry.ADDITIONAL_PARENTS_FIELD_NUMBER:
+            additionalParents.add(Hash.of(input.readBytes()));
+            break;
+          case AdapterTypes.CommitLogEntry.KEY_LIST_VARIANT_FIELD_NUMBER:
+            AdapterTypes.KeyListVariant variant =
+                AdapterTypes.KeyListVariant.forNumber(input.readEnum());
+            keyListVariant =
+                variant != null
+                    ? KeyListVariant.valueOf(variant.name())
+                    : KeyListVariant.EMBEDDED_AND_EXTERNAL_MRU;
+            break;
+          case AdapterTypes.CommitLogEntry.KEY_LIST_ENTITY_OFFSETS_FIELD_NUMBER:
+            if (WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+              // packed repeated field
+              int limit = input.pushLimit(input.readRawVarint32());
+              while (input.getBytesUntilLimit() > 0) {
+                keyListEntityOffsets.add(input.readInt32());
+              }
+              input.popLimit(limit);
+            } else {
+              keyListEntityOffsets.add(input.readInt32());
+            }
+            break;
+          case AdapterTypes.CommitLogEntry.KEY_LIST_LOAD_FACTOR_FIELD_NUMBER:
+            keyListLoadFactor = input.readFloat();
+            break;
+          case AdapterTypes.CommitLogEntry.KEY_LIST_BUCKET_COUNT_FIELD_NUMBER:
+            keyListBucketCount = input.readInt32();
+            break;
+          default:
+            // puts, deletes and unknown fields are decoded on demand
+            input.skipField(tag);
+            break;
+        }
+      }
+    } catch (InvalidProtocolBufferException e) {
+      throw e;
+    } catch (IOException e) {
+      throw new InvalidProtocolBufferException(e);
+    }
+
+    return new LazyCommitLogEntry(
+        serialized,
+        createdTime,
+        Hash.of(hash),
+        commitSeq,
+        parents.build(),
+        metadata,
+        keyListDistance,
+        hasEmbeddedKeyList,
+        keyListsIds.build(),
+        keyListEntityOffsets.build(),
+        keyListLoadFactor,
+        keyListLoadFactor != null ? keyListBucketCount : null,
+        additionalParents.build(),
+        keyListVariant);
+  }
+
+  private CommitLogEntry decoded() {
+    CommitLogEntry d = decoded;
+    if (d == null) {
+      synchronized (this) {
+        d = decoded;
+        if (d == null) {
+          try {
+            d =
+                ProtoSerialization.protoToCommitLogEntry(
+                    AdapterTypes.CommitLogEntry.parseFrom(serialized));
+          } catch (InvalidProtocolBufferException e) {
+            throw new RuntimeException(e);
+          }
+          decoded = d;
+          serialized = null;
+        }
+      }
+    }
+    return d;
+  }
+
+  @VisibleForTesting
+  boolean isDecoded() {
+    return decoded != null;
+  }
+
+  @Override
+  public long getCreatedTime() {
+    return createdTime;
+  }
+
+  @Override
+  public Hash getHash() {
+    return hash;
+  }
+
+  @Override
+  public long getCommitSeq() {
+    return commitSeq;
+  }
+
+  @Override
+  public List<Hash> getParents() {
+    return parents;
+  }
+
+  @Override
+  public ByteString getMetadata() {
+    return metadata;
+  }
+
+  @Override
+  public List<KeyWithBytes> getPuts() {
+    return decoded().getPuts();
+  }
+
+  @Override
+  public List<Key> getDeletes() {
+    return decoded().getDeletes();
+  }
+
+  @Override
+  public KeyList getKeyList() {
+    if (!hasEmbeddedKeyList) {
+      // see ProtoSerialization.protoToCommitLogEntry()
+      return keyListVariant != KeyListVariant.EMBEDDED_AND_EXTERNAL_MRU ? KeyList.EMPTY : null;
+    }
+    return decoded().getKeyList();
+  }
+
+  @Override
+  public List<Hash> getKeyListsIds() {
+    return keyListsIds;
+  }
+
+  @Override
+  public List<Integer> getKeyListEntityOffsets() {
+    return keyListEntityOffsets;
+  }
+
+  @Override
+  public Float getKeyListLoadFactor() {
+    return keyListLoadFactor;
+  }
+
+  @Override
+  public Integer getKeyListBucketCount() {
+    return keyListBucketCount;
+  }
+
+  @Override
+  public int getKeyListDistance() {
+    return keyListDistance;
+  }
+
+  @Override
+  public List<Hash> getAdditionalParents() {
+    return additionalParents;
+  }
+
+  @Override
+  public KeyListVariant getKeyListVariant() {
+    return keyListVariant;
+  }
+
+  @Override
+  public boolean hasKeySummary() {
+    return keyListVariant != KeyListVariant.EMBEDDED_AND_EXTERNAL_MRU || hasEmbeddedKeyList;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LazyCommitLogEntry)) {
+      return false;
+    }
+    LazyCommitLogEntry other = (LazyCommitLogEntry) o;
+    return hash.equals(other.hash) && decoded().equals(other.decoded());
+  }
+
+  @Override
+  public int hashCode() {
+    return hash.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "LazyCommitLogEntry{hash="
+        + hash
+        + ", commitSeq="
+        + commitSeq
+        + ", createdTime="
+        + createdTime
+        + ", parents="
+        + parents
+        + ", keyListDistance="
+        + keyListDistance
+        + ", keyListVariant="
+        + keyListVariant
+        + ", decoded="
+        + isDecoded()
+        + "}";
+  }
+}
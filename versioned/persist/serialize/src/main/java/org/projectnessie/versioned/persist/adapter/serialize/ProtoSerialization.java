@@ -26,6 +26,7 @@ import org.projectnessie.versioned.ContentAttachmentKey;
 import org.projectnessie.versioned.Hash;
 import org.projectnessie.versioned.ImmutableContentAttachment;
 import org.projectnessie.versioned.Key;
+import org.projectnessie.versioned.RequestReadStats;
 import org.projectnessie.versioned.persist.adapter.CommitLogEntry;
 import org.projectnessie.versioned.persist.adapter.CommitLogEntry.KeyListVariant;
 import org.projectnessie.versioned.persist.adapter.ContentId;
@@ -120,14 +121,30 @@ public final class ProtoSerialization {
     return proto.build();
   }
 
+  /**
+   * Serializes the given commit-log-entry, compressed if its serialized size is at least {@code
+   * compressionThreshold}, see {@link EntityCompression}.
+   */
+  public static byte[] serializeCommitLogEntry(CommitLogEntry entry, int compressionThreshold) {
+    return EntityCompression.compress(toProto(entry).toByteArray(), compressionThreshold);
+  }
+
+  /**
+   * Serializes the given key-list, compressed if its serialized size is at least {@code
+   * compressionThreshold}, see {@link EntityCompression}.
+   */
+  public static byte[] serializeKeyList(KeyList keyList, int compressionThreshold) {
+    return EntityCompression.compress(toProto(keyList).toByteArray(), compressionThreshold);
+  }
+
   public static CommitLogEntry protoToCommitLogEntry(ByteString serialized) {
     try {
       if (serialized == null) {
         return null;
       }
 
-      AdapterTypes.CommitLogEntry proto = AdapterTypes.CommitLogEntry.parseFrom(serialized);
-      return protoToCommitLogEntry(proto);
+      RequestReadStats.recordBytes(serialized.size());
+      return LazyCommitLogEntry.parse(EntityCompression.decompress(serialized));
     } catch (InvalidProtocolBufferException e) {
       throw new RuntimeException(e);
     }
@@ -139,14 +156,19 @@ public final class ProtoSerialization {
         return null;
       }
 
-      AdapterTypes.CommitLogEntry proto = AdapterTypes.CommitLogEntry.parseFrom(bytes);
-      return protoToCommitLogEntry(proto);
+      RequestReadStats.recordBytes(bytes.length);
+      return LazyCommitLogEntry.parse(EntityCompression.decompress(bytes));
     } catch (InvalidProtocolBufferException e) {
       throw new RuntimeException(e);
     }
   }
 
-  private static CommitLogEntry protoToCommitLogEntry(AdapterTypes.CommitLogEntry proto) {
+  /**
+   * Fully decodes the given commit-log-entry. {@link #protoToCommitLogEntry(ByteString)} and {@link
+   * #protoToCommitLogEntry(byte[])} return a {@link LazyCommitLogEntry}, which uses this function
+   * when the puts, deletes or the embedded key-list are accessed.
+   */
+  static CommitLogEntry protoToCommitLogEntry(AdapterTypes.CommitLogEntry proto) {
     ImmutableCommitLogEntry.Builder entry =
         ImmutableCommitLogEntry.builder()
             .createdTime(proto.getCreatedTime())
@@ -207,7 +229,9 @@ public final class ProtoSerialization {
 
   public static KeyList protoToKeyList(ByteString serialized) {
     try {
-      AdapterTypes.KeyList proto = AdapterTypes.KeyList.parseFrom(serialized);
+      RequestReadStats.recordBytes(serialized.size());
+      AdapterTypes.KeyList proto =
+          AdapterTypes.KeyList.parseFrom(EntityCompression.decompress(serialized));
       return protoToKeyList(proto);
     } catch (InvalidProtocolBufferException e) {
       throw new RuntimeException(e);
@@ -216,7 +240,9 @@ public final class ProtoSerialization {
 
   public static KeyList protoToKeyList(byte[] bytes) {
     try {
-      AdapterTypes.KeyList proto = AdapterTypes.KeyList.parseFrom(bytes);
+      RequestReadStats.recordBytes(bytes.length);
+      AdapterTypes.KeyList proto =
+          AdapterTypes.KeyList.parseFrom(EntityCompression.decompress(bytes));
       return protoToKeyList(proto);
     } catch (InvalidProtocolBufferException e) {
       throw new RuntimeException(e);
@@ -242,7 +268,7 @@ public final class ProtoSerialization {
 
   public static KeyWithBytes protoToKeyWithBytes(AdapterTypes.KeyWithBytes proto) {
     return KeyWithBytes.of(
-        Key.of(proto.getKey().getElementList().toArray(new String[0])),
+        protoToKey(proto.getKey()),
         ContentId.of(proto.getContentId().getId()),
         (byte) proto.getPayload(),
         proto.getValue());
@@ -283,6 +309,7 @@ public final class ProtoSerialization {
       if (serialized == null) {
         return null;
       }
+      RequestReadStats.recordBytes(serialized.size());
       AdapterTypes.RefLogEntry proto = AdapterTypes.RefLogEntry.parseFrom(serialized);
       return protoToRefLog(proto);
     } catch (InvalidProtocolBufferException e) {
@@ -295,6 +322,7 @@ public final class ProtoSerialization {
       if (bytes == null) {
         return null;
       }
+      RequestReadStats.recordBytes(bytes.length);
       AdapterTypes.RefLogEntry proto = AdapterTypes.RefLogEntry.parseFrom(bytes);
       return protoToRefLog(proto);
     } catch (InvalidProtocolBufferException e) {
@@ -317,7 +345,7 @@ public final class ProtoSerialization {
   }
 
   public static Key protoToKey(AdapterTypes.Key key) {
-    return Key.of(key.getElementList().toArray(new String[0]));
+    return Key.ofInterned(key.getElementList());
   }
 
   public static AttachmentKey toProtoKey(ContentAttachmentKey contentAttachmentKey) {
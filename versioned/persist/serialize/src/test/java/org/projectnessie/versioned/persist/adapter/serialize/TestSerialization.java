@@ -52,6 +52,7 @@ import org.projectnessie.versioned.Key;
 import org.projectnessie.versioned.persist.adapter.CommitLogEntry;
 import org.projectnessie.versioned.persist.adapter.ContentId;
 import org.projectnessie.versioned.persist.adapter.ContentIdAndBytes;
+import org.projectnessie.versioned.persist.adapter.ImmutableCommitLogEntry;
 import org.projectnessie.versioned.persist.adapter.ImmutableRepoDescription;
 import org.projectnessie.versioned.persist.adapter.KeyList;
 import org.projectnessie.versioned.persist.adapter.KeyListEntry;
@@ -101,7 +102,7 @@ class TestSerialization {
                   TestSerialization::createEntry,
                   CommitLogEntry.class,
                   o -> toProto((CommitLogEntry) o).toByteArray(),
-                  ProtoSerialization::protoToCommitLogEntry),
+                  b -> ImmutableCommitLogEntry.copyOf(ProtoSerialization.protoToCommitLogEntry(b))),
               new SerializationParam(
                   TestSerialization::createGlobalEntry,
                   GlobalStateLogEntry.class,
@@ -182,6 +183,119 @@ class TestSerialization {
     }
   }
 
+  @RepeatedTest(10)
+  public void lazyCommitLogEntry() {
+    CommitLogEntry value = createEntry();
+    byte[] serialized = toProto(value).toByteArray();
+
+    CommitLogEntry entry = ProtoSerialization.protoToCommitLogEntry(serialized);
+    assertThat(entry).isInstanceOf(LazyCommitLogEntry.class);
+    LazyCommitLogEntry lazy = (LazyCommitLogEntry) entry;
+
+    assertThat(lazy)
+        .extracting(
+            CommitLogEntry::getCreatedTime,
+            CommitLogEntry::getHash,
+            CommitLogEntry::getCommitSeq,
+            CommitLogEntry::getParents,
+            CommitLogEntry::getMetadata,
+            CommitLogEntry::getKeyListDistance,
+            CommitLogEntry::getKeyListsIds,
+            CommitLogEntry::getKeyListEntityOffsets,
+            CommitLogEntry::getAdditionalParents,
+            CommitLogEntry::getKeyListVariant,
+            CommitLogEntry::hasKeySummary)
+        .containsExactly(
+            value.getCreatedTime(),
+            value.getHash(),
+            value.getCommitSeq(),
+            value.getParents(),
+            value.getMetadata(),
+            value.getKeyListDistance(),
+            value.getKeyListsIds(),
+            value.getKeyListEntityOffsets(),
+            value.getAdditionalParents(),
+            value.getKeyListVariant(),
+            value.hasKeySummary());
+    assertThat(lazy.isDecoded()).isFalse();
+
+    assertThat(lazy.getPuts()).isEqualTo(value.getPuts());
+    assertThat(lazy.isDecoded()).isTrue();
+    assertThat(lazy.getDeletes()).isEqualTo(value.getDeletes());
+    assertThat(lazy.getKeyList()).isEqualTo(value.getKeyList());
+    assertThat(ImmutableCommitLogEntry.copyOf(lazy)).isEqualTo(value);
+  }
+
+  @RepeatedTest(10)
+  public void lazyCommitLogEntryEquality() {
+    CommitLogEntry value = createEntry();
+    byte[] serialized = toProto(value).toByteArray();
+
+    LazyCommitLogEntry lazy =
+        (LazyCommitLogEntry) ProtoSerialization.protoToCommitLogEntry(serialized);
+    LazyCommitLogEntry other =
+        (LazyCommitLogEntry) ProtoSerialization.protoToCommitLogEntry(serialized);
+
+    // hashCode and toString must not decode the entry
+    assertThat(lazy.hashCode()).isEqualTo(other.hashCode());
+    assertThat(lazy.toString()).contains(value.getHash().asString());
+    assertThat(lazy.isDecoded()).isFalse();
+    assertThat(other.isDecoded()).isFalse();
+
+    // equality is symmetric, lazy entries never equal other implementations
+    assertThat(lazy).isEqualTo(other);
+    assertThat(other).isEqualTo(lazy);
+    assertThat(lazy).isNotEqualTo(value);
+    assertThat(value).isNotEqualTo(lazy);
+
+    LazyCommitLogEntry different =
+        (LazyCommitLogEntry)
+            ProtoSerialization.protoToCommitLogEntry(toProto(createEntry()).toByteArray());
+    assertThat(lazy).isNotEqualTo(different);
+    assertThat(different).isNotEqualTo(lazy);
+  }
+
+  @Test
+  public void entityCompression() {
+    byte[] compressible = new byte[4096];
+    for (int i = 0; i < compressible.length; i++) {
+      compressible[i] = (byte) ('a' + (i % 7));
+    }
+
+    assertThat(EntityCompression.compress(compressible, 0)).isSameAs(compressible);
+    assertThat(EntityCompression.compress(compressible, compressible.length + 1))
+        .isSameAs(compressible);
+
+    byte[] compressed = EntityCompression.compress(compressible, 1);
+    assertThat(compressed).hasSizeLessThan(compressible.length);
+    assertThat(EntityCompression.isCompressed(compressed)).isTrue();
+    assertThat(EntityCompression.isCompressed(compressible)).isFalse();
+    assertThat(EntityCompression.decompress(compressed).toByteArray()).isEqualTo(compressible);
+    assertThat(EntityCompression.decompress(compressible).toByteArray()).isEqualTo(compressible);
+
+    assertThatThrownBy(
+            () -> EntityCompression.decompress(Arrays.copyOf(compressed, compressed.length - 4)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @RepeatedTest(10)
+  public void compressedCommitLogEntryAndKeyList() {
+    CommitLogEntry value = createEntry();
+
+    byte[] serialized = ProtoSerialization.serializeCommitLogEntry(value, 1);
+    assertThat(ImmutableCommitLogEntry.copyOf(ProtoSerialization.protoToCommitLogEntry(serialized)))
+        .isEqualTo(value);
+    assertThat(
+            ImmutableCommitLogEntry.copyOf(
+                ProtoSerialization.protoToCommitLogEntry(
+                    ProtoSerialization.serializeCommitLogEntry(value, 0))))
+        .isEqualTo(value);
+
+    KeyList keyList = value.getKeyList();
+    assertThat(ProtoSerialization.protoToKeyList(ProtoSerialization.serializeKeyList(keyList, 1)))
+        .isEqualTo(keyList);
+  }
+
   static class TypeSerialization<A, P> {
     final Class<A> apiType;
     final Class<P> protoType;
@@ -41,6 +41,7 @@ import org.projectnessie.versioned.CommitMetaSerializer;
 import org.projectnessie.versioned.Delete;
 import org.projectnessie.versioned.Diff;
 import org.projectnessie.versioned.GetNamedRefsParams;
+import org.projectnessie.versioned.GetRefLogParams;
 import org.projectnessie.versioned.Hash;
 import org.projectnessie.versioned.ImmutableCommit;
 import org.projectnessie.versioned.ImmutableMergeResult;
@@ -223,6 +224,32 @@ public class PersistVersionStore implements VersionStore {
       boolean dryRun,
       boolean fetchAdditionalInfo)
       throws ReferenceNotFoundException, ReferenceConflictException {
+    return merge(
+        fromHash,
+        toBranch,
+        expectedHash,
+        updateCommitMetadata,
+        keepIndividualCommits,
+        mergeTypes,
+        defaultMergeType,
+        dryRun,
+        fetchAdditionalInfo,
+        Optional.empty());
+  }
+
+  @Override
+  public MergeResult<Commit> merge(
+      Hash fromHash,
+      BranchName toBranch,
+      Optional<Hash> expectedHash,
+      MetadataRewriter<CommitMeta> updateCommitMetadata,
+      boolean keepIndividualCommits,
+      Map<Key, MergeType> mergeTypes,
+      MergeType defaultMergeType,
+      boolean dryRun,
+      boolean fetchAdditionalInfo,
+      Optional<String> mergePlanToken)
+      throws ReferenceNotFoundException, ReferenceConflictException {
     try {
       MergeResult<CommitLogEntry> adapterMergeResult =
           databaseAdapter.merge(
@@ -234,6 +261,7 @@ public class PersistVersionStore implements VersionStore {
                   .keepIndividualCommits(keepIndividualCommits)
                   .mergeTypes(mergeTypes)
                   .defaultMergeType(defaultMergeType)
+                  .mergePlanToken(mergePlanToken)
                   .isDryRun(dryRun)
                   .build());
       return storeMergeResult(adapterMergeResult, fetchAdditionalInfo);
@@ -257,7 +285,8 @@ public class PersistVersionStore implements VersionStore {
             .expectedHash(adapterMergeResult.getExpectedHash())
             .wasApplied(adapterMergeResult.wasApplied())
             .wasSuccessful(adapterMergeResult.wasSuccessful())
-            .details(adapterMergeResult.getDetails());
+            .details(adapterMergeResult.getDetails())
+            .mergePlanToken(adapterMergeResult.getMergePlanToken());
 
     BiConsumer<ImmutableCommit.Builder, CommitLogEntry> enhancer =
         enhancerForCommitLog(fetchAdditionalInfo);
@@ -488,9 +517,10 @@ public class PersistVersionStore implements VersionStore {
 
   @Override
   @MustBeClosed
-  public Stream<RefLogDetails> getRefLog(Hash refLogId) throws RefLogNotFoundException {
+  public Stream<RefLogDetails> getRefLog(Hash refLogId, GetRefLogParams params)
+      throws RefLogNotFoundException {
     return databaseAdapter
-        .refLog(refLogId)
+        .refLog(refLogId, params)
         .map(
             e ->
                 ImmutableRefLogDetails.builder()
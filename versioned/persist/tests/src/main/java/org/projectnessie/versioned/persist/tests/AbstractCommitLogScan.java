@@ -21,8 +21,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.projectnessie.versioned.store.DefaultStoreWorker.payloadForContent;
 
 import com.google.protobuf.ByteString;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -30,9 +32,11 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.IntFunction;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.projectnessie.versioned.BranchName;
 import org.projectnessie.versioned.GetNamedRefsParams;
 import org.projectnessie.versioned.Hash;
@@ -84,6 +88,49 @@ public abstract class AbstractCommitLogScan {
     }
   }
 
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 5, 16})
+  void scanCommitsPartitioned(int partitions) throws Exception {
+    IntFunction<BranchName> branch = branchNum -> BranchName.of("scanPartitioned-" + branchNum);
+
+    Set<Hash> commits = new HashSet<>();
+
+    prepareReferences(5, 7, branch, (h, r) -> {}, h -> {}, (r, h) -> {}, commits::add);
+
+    List<Hash> scanned = new ArrayList<>();
+    for (int partition = 0; partition < partitions; partition++) {
+      try (Stream<CommitLogEntry> entries =
+          databaseAdapter.scanAllCommitLogEntries(partition, partitions)) {
+        entries.map(CommitLogEntry::getHash).forEach(scanned::add);
+      }
+    }
+    // Every commit must be returned by exactly one partition
+    assertThat(scanned).containsExactlyInAnyOrderElementsOf(commits);
+
+    assertThatThrownBy(() -> databaseAdapter.scanAllCommitLogEntries(partitions, partitions))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void identifyHeadsAndForkPointsParallel() throws Exception {
+    IntFunction<BranchName> branch = branchNum -> BranchName.of("parallelHeads-" + branchNum);
+
+    prepareReferences(5, 9, branch, (h, r) -> {}, h -> {}, (r, h) -> {}, h -> {});
+
+    ReferencesUtil referencesUtil = ReferencesUtil.forDatabaseAdapter(databaseAdapter);
+
+    Set<Hash> sequentialCommits = new HashSet<>();
+    HeadsAndForkPoints sequential =
+        referencesUtil.identifyAllHeadsAndForkPoints(100, e -> sequentialCommits.add(e.getHash()));
+    Set<Hash> parallelCommits = new HashSet<>();
+    HeadsAndForkPoints parallel =
+        referencesUtil.identifyAllHeadsAndForkPoints(100, e -> parallelCommits.add(e.getHash()), 4);
+
+    assertThat(parallelCommits).isEqualTo(sequentialCommits);
+    assertThat(parallel.getHeads()).isEqualTo(sequential.getHeads());
+    assertThat(parallel.getForkPoints()).isEqualTo(sequential.getForkPoints());
+  }
+
   @ParameterizedTest
   @MethodSource("commitsAndBranches")
   void identifyReferencedAndUnreferencedHeads(
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.persist.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.projectnessie.versioned.persist.tests.DatabaseAdapterTestUtils.ALWAYS_THROWING_ATTACHMENT_CONSUMER;
+import static org.projectnessie.versioned.store.DefaultStoreWorker.payloadForContent;
+import static org.projectnessie.versioned.testworker.OnRefOnly.onRef;
+
+import com.google.protobuf.ByteString;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.GetRefLogParams;
+import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.Key;
+import org.projectnessie.versioned.ReferenceConflictException;
+import org.projectnessie.versioned.persist.adapter.CommitLogEntry;
+import org.projectnessie.versioned.persist.adapter.CommitParams;
+import org.projectnessie.versioned.persist.adapter.ContentId;
+import org.projectnessie.versioned.persist.adapter.DatabaseAdapter;
+import org.projectnessie.versioned.persist.adapter.ImmutableCommitParams;
+import org.projectnessie.versioned.persist.adapter.KeyWithBytes;
+import org.projectnessie.versioned.persist.adapter.RefLog;
+import org.projectnessie.versioned.persist.tests.extension.NessieDbAdapter;
+import org.projectnessie.versioned.persist.tests.extension.NessieDbAdapterConfigItem;
+import org.projectnessie.versioned.store.DefaultStoreWorker;
+import org.projectnessie.versioned.testworker.OnRefOnly;
+
+/**
+ * Verifies that concurrent commits to the same branch are applied correctly by the database
+ * adapters' batch-commit implementations used by the commit sequencer.
+ */
+public abstract class AbstractCommitSequencer {
+
+  @Test
+  void concurrentCommitsToOneBranch(
+      @NessieDbAdapter
+          @NessieDbAdapterConfigItem(name = "commit.sequencer.max.batch.size", value = "10")
+          @NessieDbAdapterConfigItem(name = "commit.timeout", value = "30000")
+          DatabaseAdapter adapter)
+      throws Exception {
+    int threads = 8;
+    BranchName branch = BranchName.of("concurrentCommitsToOneBranch");
+    Hash initialHead = adapter.create(branch, adapter.noAncestorHash());
+
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Hash>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        CommitParams commit = commitParams(branch, Optional.empty(), "key-" + i, "c" + i, null);
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return adapter.commit(commit);
+                }));
+      }
+      start.countDown();
+
+      List<Hash> hashes = new ArrayList<>();
+      for (Future<Hash> future : futures) {
+        hashes.add(future.get(30, TimeUnit.SECONDS));
+      }
+      assertThat(hashes).doesNotHaveDuplicates();
+
+      Hash head = adapter.hashOnReference(branch, Optional.empty());
+      assertThat(commitsSince(adapter, head, initialHead))
+          .containsExactlyInAnyOrderElementsOf(hashes);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void conflictingCommitInBatch(
+      @NessieDbAdapter
+          @NessieDbAdapterConfigItem(name = "commit.sequencer.max.batch.size", value = "10")
+          @NessieDbAdapterConfigItem(name = "commit.timeout", value = "30000")
+          DatabaseAdapter adapter)
+      throws Exception {
+    BranchName branch = BranchName.of("conflictingCommitInBatch");
+    Hash initialHead = adapter.create(branch, adapter.noAncestorHash());
+    Optional<Hash> expectedHead = Optional.of(initialHead);
+
+    // The first commit blocks in its validator, so that the following commits get queued and are
+    // applied as a single batch afterwards.
+    CountDownLatch leaderInValidator = new CountDownLatch(1);
+    CountDownLatch releaseLeader = new CountDownLatch(1);
+    FutureTask<Hash> leader =
+        committer(
+            adapter,
+            commitParams(
+                branch,
+                expectedHead,
+                "key-0",
+                "c0",
+                () -> {
+                  leaderInValidator.countDown();
+                  assertThat(releaseLeader.await(30, TimeUnit.SECONDS)).isTrue();
+                  return null;
+                }));
+    assertThat(leaderInValidator.await(30, TimeUnit.SECONDS)).isTrue();
+
+    // The second batched commit changes the same key as the first batched commit, based on the
+    // same expected HEAD, and must fail. All other commits must succeed.
+    List<FutureTask<Hash>> batched = new ArrayList<>();
+    batched.add(committer(adapter, commitParams(branch, expectedHead, "key-1", "c1", null)));
+    batched.add(committer(adapter, commitParams(branch, expectedHead, "key-1", "c2", null)));
+    batched.add(committer(adapter, commitParams(branch, expectedHead, "key-3", "c3", null)));
+    batched.add(committer(adapter, commitParams(branch, expectedHead, "key-4", "c4", null)));
+
+    releaseLeader.countDown();
+
+    Hash leaderHash = leader.get(30, TimeUnit.SECONDS);
+    Hash hash1 = batched.get(0).get(30, TimeUnit.SECONDS);
+    assertThatThrownBy(() -> batched.get(1).get(30, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(ReferenceConflictException.class);
+    Hash hash3 = batched.get(2).get(30, TimeUnit.SECONDS);
+    Hash hash4 = batched.get(3).get(30, TimeUnit.SECONDS);
+
+    // The successful commits form a chain in the order in which they were queued.
+    assertThat(adapter.hashOnReference(branch, Optional.empty())).isEqualTo(hash4);
+    assertThat(commitsSince(adapter, hash4, initialHead))
+        .containsExactly(hash4, hash3, hash1, leaderHash);
+
+    // Commits do not write ref-log entries, the branch creation is still the only one.
+    try (Stream<RefLog> refLog =
+        adapter.refLog(null, GetRefLogParams.builder().refName(branch.getName()).build())) {
+      assertThat(refLog)
+          .extracting(RefLog::getOperation, RefLog::getCommitHash)
+          .containsExactly(tuple("CREATE_REFERENCE", initialHead));
+    }
+  }
+
+  /**
+   * Starts a thread that commits the given {@link CommitParams} and waits until that thread either
+   * waits for the commit sequencer or has finished.
+   */
+  private static FutureTask<Hash> committer(DatabaseAdapter adapter, CommitParams commitParams)
+      throws InterruptedException {
+    FutureTask<Hash> task = new FutureTask<>(() -> adapter.commit(commitParams));
+    Thread thread = new Thread(task, "committer-" + commitParams.getCommitMetaSerialized());
+    thread.setDaemon(true);
+    thread.start();
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (!task.isDone()) {
+      Thread.State state = thread.getState();
+      if (state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING) {
+        break;
+      }
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.yield();
+    }
+    return task;
+  }
+
+  /** Collects the hashes of the commits from {@code head}, exclusive the commit {@code since}. */
+  private static List<Hash> commitsSince(DatabaseAdapter adapter, Hash head, Hash since)
+      throws Exception {
+    List<Hash> hashes = new ArrayList<>();
+    try (Stream<CommitLogEntry> log = adapter.commitLog(head)) {
+      for (Iterator<CommitLogEntry> iter = log.iterator(); iter.hasNext(); ) {
+        Hash hash = iter.next().getHash();
+        if (hash.equals(since)) {
+          break;
+        }
+        hashes.add(hash);
+      }
+    }
+    return hashes;
+  }
+
+  private static CommitParams commitParams(
+      BranchName branch,
+      Optional<Hash> expectedHead,
+      String key,
+      String commit,
+      Callable<Void> validator) {
+    ContentId contentId = ContentId.of(branch.getName() + "-" + commit);
+    OnRefOnly value = onRef("value " + commit, contentId.getId());
+    ByteString onRef =
+        DefaultStoreWorker.instance()
+            .toStoreOnReferenceState(value, ALWAYS_THROWING_ATTACHMENT_CONSUMER);
+    return ImmutableCommitParams.builder()
+        .toBranch(branch)
+        .expectedHead(expectedHead)
+        .commitMetaSerialized(ByteString.copyFromUtf8(commit))
+        .addPuts(
+            KeyWithBytes.of(
+                Key.of("sequencer", key),
+                contentId,
+                payloadForContent(value),
+                onRef))
+        .validator(validator)
+        .build();
+  }
+}
@@ -101,6 +101,10 @@ public abstract class AbstractDatabaseAdapterTest {
     }
   }
 
+  @Nested
+  @SuppressWarnings("ClassCanBeStatic")
+  public class CommitSequencer extends AbstractCommitSequencer {}
+
   @Nested
   @SuppressWarnings("ClassCanBeStatic")
   public class RefLog extends AbstractRefLog {
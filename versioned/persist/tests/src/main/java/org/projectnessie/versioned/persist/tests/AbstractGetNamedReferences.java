@@ -244,6 +244,76 @@ public abstract class AbstractGetNamedReferences {
                     "Named reference '" + parameterValidationTag.getName() + "' not found"));
   }
 
+  @Test
+  public void namePrefixAndStartAt() throws Exception {
+    Hash hash = databaseAdapter.noAncestorHash();
+
+    List<String> names =
+        Arrays.asList(
+            "nameFilter-b",
+            "nameFilter-x_1",
+            "nameFilter-ab",
+            "nameFilter-xy1",
+            "nameFilter-a",
+            "nameFilter-c1");
+    for (int i = 0; i < names.size(); i++) {
+      String name = names.get(i);
+      databaseAdapter.create((i & 1) == 0 ? BranchName.of(name) : TagName.of(name), hash);
+    }
+    databaseAdapter.create(BranchName.of("nameFilterOther"), hash);
+
+    List<String> all = namedRefNames(GetNamedRefsParams.DEFAULT);
+    assertThat(all).contains(MAIN_BRANCH, "nameFilterOther").containsAll(names);
+
+    // ordered by name
+    assertThat(namedRefNames(GetNamedRefsParams.builder().namePrefix("nameFilter-").build()))
+        .containsExactly(
+            "nameFilter-a",
+            "nameFilter-ab",
+            "nameFilter-b",
+            "nameFilter-c1",
+            "nameFilter-x_1",
+            "nameFilter-xy1");
+    // '_' is a SQL LIKE wildcard, but must match literally
+    assertThat(namedRefNames(GetNamedRefsParams.builder().namePrefix("nameFilter-x_").build()))
+        .containsExactly("nameFilter-x_1");
+    assertThat(namedRefNames(GetNamedRefsParams.builder().namePrefix("nameFilter-z").build()))
+        .isEmpty();
+
+    assertThat(
+            namedRefNames(
+                GetNamedRefsParams.builder()
+                    .namePrefix("nameFilter-")
+                    .nameStartAt("nameFilter-b")
+                    .build()))
+        .containsExactly("nameFilter-b", "nameFilter-c1", "nameFilter-x_1", "nameFilter-xy1");
+    // start-at before the prefix
+    assertThat(
+            namedRefNames(
+                GetNamedRefsParams.builder().namePrefix("nameFilter-a").nameStartAt("a").build()))
+        .containsExactly("nameFilter-a", "nameFilter-ab");
+
+    // continue with the name of the next reference, like paging does
+    int idx = all.indexOf("nameFilter-c1");
+    assertThat(namedRefNames(GetNamedRefsParams.builder().nameStartAt("nameFilter-c1").build()))
+        .containsExactlyElementsOf(all.subList(idx, all.size()));
+
+    // type filter combined with name filter
+    assertThat(
+            namedRefNames(
+                GetNamedRefsParams.builder()
+                    .namePrefix("nameFilter-")
+                    .tagRetrieveOptions(RetrieveOptions.OMIT)
+                    .build()))
+        .containsExactly("nameFilter-a", "nameFilter-ab", "nameFilter-b");
+  }
+
+  private List<String> namedRefNames(GetNamedRefsParams params) throws Exception {
+    try (Stream<ReferenceInfo<ByteString>> refs = databaseAdapter.namedRefs(params)) {
+      return refs.map(r -> r.getNamedRef().getName()).collect(Collectors.toList());
+    }
+  }
+
   @Test
   public void fromNoAncestor() throws Exception {
     BranchName main = BranchName.of(MAIN_BRANCH);
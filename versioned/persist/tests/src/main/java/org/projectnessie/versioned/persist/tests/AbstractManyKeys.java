@@ -357,6 +357,28 @@ public abstract class AbstractManyKeys {
     }
   }
 
+  /** Verifies that compressed commit-log-entries and key-lists can be read back. */
+  @Test
+  void compressedEntities(
+      @NessieDbAdapterConfigItem(name = "max.key.list.size", value = "2048")
+          @NessieDbAdapterConfigItem(name = "max.key.list.entity.size", value = "2048")
+          @NessieDbAdapterConfigItem(name = "key.list.distance", value = "1")
+          @NessieDbAdapterConfigItem(name = "entity.compression.threshold", value = "256")
+          @NessieDbAdapter
+          DatabaseAdapter databaseAdapter)
+      throws Exception {
+    String keyElement = "1234567890123456789012345678901234567890123456789012345678901234";
+    IntFunction<Key> keyGen = i -> Key.of("k-" + i, keyElement, keyElement);
+    IntFunction<OnRefOnly> valueGen = i -> onRef("value-" + i, "cid-" + i);
+    int keyCount = 200;
+
+    BranchName branch = BranchName.of("main");
+    commitPutsOnGeneratedKeys(databaseAdapter, branch, keyGen, valueGen, keyCount);
+    Hash head = makeEmptyCommits(databaseAdapter, branch, 1);
+
+    checkKeysAndValuesIndividually(databaseAdapter, head, keyGen, valueGen, keyCount);
+  }
+
   /**
    * Exercise a key list with segments containing one entry each.
    *
@@ -33,6 +33,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.projectnessie.versioned.BranchName;
@@ -57,6 +58,8 @@ import org.projectnessie.versioned.persist.adapter.KeyWithBytes;
 import org.projectnessie.versioned.persist.adapter.MergeParams;
 import org.projectnessie.versioned.persist.adapter.MetadataRewriteParams;
 import org.projectnessie.versioned.persist.adapter.TransplantParams;
+import org.projectnessie.versioned.persist.tests.extension.NessieDbAdapter;
+import org.projectnessie.versioned.persist.tests.extension.NessieDbAdapterConfigItem;
 import org.projectnessie.versioned.store.DefaultStoreWorker;
 import org.projectnessie.versioned.testworker.OnRefOnly;
 
@@ -497,4 +500,206 @@ public abstract class AbstractMergeTransplant {
     }
     return expectedMergeResult;
   }
+
+  @Test
+  void mergeTransplantLimits(
+      @NessieDbAdapter
+          @NessieDbAdapterConfigItem(name = "merge.max.commits", value = "3")
+          @NessieDbAdapterConfigItem(name = "merge.max.keys", value = "4")
+          DatabaseAdapter limited)
+      throws Exception {
+    BranchName main = BranchName.of("main");
+    BranchName tooManyCommits = BranchName.of("too-many-commits");
+    BranchName tooManyKeys = BranchName.of("too-many-keys");
+
+    Hash mainHead = limited.hashOnReference(main, Optional.empty());
+    limited.create(tooManyCommits, mainHead);
+    limited.create(tooManyKeys, mainHead);
+
+    Hash[] commits = new Hash[4];
+    for (int i = 0; i < commits.length; i++) {
+      commits[i] = commitKeys(limited, tooManyCommits, i, 1);
+    }
+    Hash manyKeysHead = commitKeys(limited, tooManyKeys, 0, 5);
+
+    assertThatThrownBy(
+            () ->
+                limited.merge(
+                    MergeParams.builder()
+                        .toBranch(main)
+                        .mergeFromHash(commits[commits.length - 1])
+                        .updateCommitMetadata(createMetadataUpdater(new AtomicInteger(), "merged"))
+                        .build()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Merge/transplant requires more than 3 commits on the source side, which exceeds the "
+                + "configured limit");
+
+    assertThatThrownBy(
+            () ->
+                limited.transplant(
+                    TransplantParams.builder()
+                        .toBranch(main)
+                        .addSequenceToTransplant(commits)
+                        .updateCommitMetadata(
+                            createMetadataUpdater(new AtomicInteger(), "transplanted"))
+                        .build()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Merge/transplant requires more than 3 commits on the source side, which exceeds the "
+                + "configured limit");
+
+    assertThatThrownBy(
+            () ->
+                limited.merge(
+                    MergeParams.builder()
+                        .toBranch(main)
+                        .mergeFromHash(manyKeysHead)
+                        .updateCommitMetadata(createMetadataUpdater(new AtomicInteger(), "merged"))
+                        .build()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Merge/transplant modifies more than 4 keys on the source side, which exceeds the "
+                + "configured limit");
+
+    // Exactly 3 commits to merge is within the limit
+    assertThat(
+            limited.merge(
+                MergeParams.builder()
+                    .toBranch(main)
+                    .mergeFromHash(commits[2])
+                    .updateCommitMetadata(createMetadataUpdater(new AtomicInteger(), "merged"))
+                    .build()))
+        .extracting(MergeResult::wasSuccessful)
+        .isEqualTo(true);
+
+    // The target branch is too far ahead of the common ancestor, the search for the common
+    // ancestor must stop
+    BranchName behind = BranchName.of("behind");
+    limited.create(behind, limited.hashOnReference(main, Optional.empty()));
+    Hash behindHead = limitsCommit(limited, behind, 100, 1);
+    for (int i = 0; i < limited.getConfig().getParentsPerCommit() + 4; i++) {
+      limitsCommit(limited, main, 200 + i, 1);
+    }
+    assertThatThrownBy(
+            () ->
+                limited.merge(
+                    MergeParams.builder()
+                        .toBranch(main)
+                        .mergeFromHash(behindHead)
+                        .updateCommitMetadata(createMetadataUpdater(new AtomicInteger(), "merged"))
+                        .build()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Merge/transplant requires more than 3 commits on the source or target side, which "
+                + "exceeds the configured limit");
+  }
+
+  @Test
+  void mergePlan() throws Exception {
+    BranchName main = BranchName.of("main");
+    BranchName source = BranchName.of("plan-source");
+
+    databaseAdapter.create(source, databaseAdapter.hashOnReference(main, Optional.empty()));
+    Hash sourceHead = commitKeys(databaseAdapter, source, 0, 2);
+    // non-conflicting change on the target branch, so the merge has target commits
+    Hash mainHead = commitKeys(databaseAdapter, main, 5, 1);
+
+    // same merge without a plan, onto another branch with the same HEAD
+    BranchName unplanned = BranchName.of("plan-unplanned");
+    databaseAdapter.create(unplanned, mainHead);
+    MergeResult<CommitLogEntry> mergedWithoutPlan =
+        databaseAdapter.merge(
+            MergeParams.builder()
+                .toBranch(unplanned)
+                .mergeFromHash(sourceHead)
+                .updateCommitMetadata(createMetadataUpdater(new AtomicInteger(), "merged"))
+                .build());
+
+    MergeParams.Builder dryRun =
+        MergeParams.builder()
+            .toBranch(main)
+            .mergeFromHash(sourceHead)
+            .updateCommitMetadata(createMetadataUpdater(new AtomicInteger(), "merged"))
+            .isDryRun(true);
+
+    MergeResult<CommitLogEntry> planned = databaseAdapter.merge(dryRun.build());
+    assertThat(planned)
+        .extracting(MergeResult::wasSuccessful, MergeResult::wasApplied)
+        .containsExactly(true, false);
+    assertThat(planned.getMergePlanToken()).isNotNull();
+    assertThat(databaseAdapter.hashOnReference(main, Optional.empty())).isEqualTo(mainHead);
+
+    MergeResult<CommitLogEntry> merged =
+        databaseAdapter.merge(
+            dryRun
+                .isDryRun(false)
+                .mergePlanToken(Optional.of(planned.getMergePlanToken()))
+                .build());
+    assertThat(merged)
+        .extracting(
+            MergeResult::wasSuccessful,
+            MergeResult::wasApplied,
+            MergeResult::getCommonAncestor,
+            MergeResult::getDetails)
+        .containsExactly(true, true, planned.getCommonAncestor(), planned.getDetails());
+    assertThat(merged.getResultantTargetHash()).isNotEqualTo(mainHead);
+
+    // Reusing the plan must not change the reported source and target commits.
+    assertThat(merged.getTargetCommits()).hasSize(1).isEqualTo(planned.getTargetCommits());
+    assertThat(merged)
+        .extracting(
+            MergeResult::getCommonAncestor,
+            MergeResult::getEffectiveTargetHash,
+            MergeResult::getSourceCommits,
+            MergeResult::getTargetCommits,
+            MergeResult::getDetails)
+        .containsExactly(
+            mergedWithoutPlan.getCommonAncestor(),
+            mergedWithoutPlan.getEffectiveTargetHash(),
+            mergedWithoutPlan.getSourceCommits(),
+            mergedWithoutPlan.getTargetCommits(),
+            mergedWithoutPlan.getDetails());
+
+    // The plan is outdated, if the HEAD of the target branch changed, so the merge is analyzed
+    // again and detects the conflict.
+    BranchName source2 = BranchName.of("plan-source-2");
+    databaseAdapter.create(source2, merged.getResultantTargetHash());
+    Hash source2Head = commitKeys(databaseAdapter, source2, 1, 1);
+    MergeParams.Builder dryRun2 =
+        MergeParams.builder()
+            .toBranch(main)
+            .mergeFromHash(source2Head)
+            .updateCommitMetadata(createMetadataUpdater(new AtomicInteger(), "merged"))
+            .isDryRun(true);
+    String token2 = databaseAdapter.merge(dryRun2.build()).getMergePlanToken();
+    assertThat(token2).isNotNull();
+
+    commitKeys(databaseAdapter, main, 1, 1);
+
+    assertThatThrownBy(
+            () ->
+                databaseAdapter.merge(
+                    dryRun2.isDryRun(false).mergePlanToken(Optional.of(token2)).build()))
+        .isInstanceOf(MergeConflictException.class);
+  }
+
+  private static Hash commitKeys(
+      DatabaseAdapter adapter, BranchName branch, int commit, int numKeys) throws Exception {
+    ImmutableCommitParams.Builder params =
+        ImmutableCommitParams.builder()
+            .toBranch(branch)
+            .commitMetaSerialized(ByteString.copyFromUtf8("commit " + commit));
+    for (int k = 0; k < numKeys; k++) {
+      Key key = Key.of("limits", Integer.toString(commit), Integer.toString(k));
+      OnRefOnly value = OnRefOnly.newOnRef("value " + commit + " for " + k);
+      ByteString onRef =
+          DefaultStoreWorker.instance()
+              .toStoreOnReferenceState(value, ALWAYS_THROWING_ATTACHMENT_CONSUMER);
+      params.addPuts(
+          KeyWithBytes.of(
+              key, ContentId.of("L" + commit + "-" + k), payloadForContent(value), onRef));
+    }
+    return adapter.commit(params.build());
+  }
 }
@@ -23,6 +23,7 @@ import static org.projectnessie.versioned.store.DefaultStoreWorker.payloadForCon
 
 import com.google.protobuf.ByteString;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,7 @@ import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.Test;
 import org.projectnessie.versioned.BranchName;
 import org.projectnessie.versioned.GetNamedRefsParams;
+import org.projectnessie.versioned.GetRefLogParams;
 import org.projectnessie.versioned.Hash;
 import org.projectnessie.versioned.Key;
 import org.projectnessie.versioned.NamedRef;
@@ -130,6 +132,79 @@ public abstract class AbstractRefLog {
     }
   }
 
+  @Test
+  void filteredRefLog() throws Exception {
+    TagName tagA = TagName.of("filteredRefLog-a");
+    TagName tagB = TagName.of("filteredRefLog-b");
+    for (int i = 0; i < 10; i++) {
+      for (TagName tag : Arrays.asList(tagA, tagB)) {
+        databaseAdapter.create(tag, databaseAdapter.noAncestorHash());
+        databaseAdapter.delete(tag, Optional.empty());
+      }
+    }
+
+    List<RefLog> all;
+    try (Stream<RefLog> refLog = databaseAdapter.refLog(null)) {
+      all = refLog.collect(Collectors.toList());
+    }
+    assertThat(all).hasSize(41);
+
+    try (Stream<RefLog> refLog =
+        databaseAdapter.refLog(null, GetRefLogParams.builder().refName(tagA.getName()).build())) {
+      assertThat(refLog)
+          .hasSize(20)
+          .containsExactlyElementsOf(
+              all.stream()
+                  .filter(l -> l.getRefName().equals(tagA.getName()))
+                  .collect(Collectors.toList()));
+    }
+
+    long minTime = all.get(30).getOperationTime();
+    long maxTime = all.get(10).getOperationTime();
+    try (Stream<RefLog> refLog =
+        databaseAdapter.refLog(
+            null,
+            GetRefLogParams.builder()
+                .minOperationTime(minTime)
+                .maxOperationTime(maxTime)
+                .build())) {
+      assertThat(refLog)
+          .containsExactlyElementsOf(
+              all.stream()
+                  .filter(l -> l.getOperationTime() >= minTime && l.getOperationTime() <= maxTime)
+                  .collect(Collectors.toList()));
+    }
+
+    // Reference name and lower time bound combined.
+    try (Stream<RefLog> refLog =
+        databaseAdapter.refLog(
+            null,
+            GetRefLogParams.builder().refName(tagB.getName()).minOperationTime(minTime).build())) {
+      assertThat(refLog)
+          .containsExactlyElementsOf(
+              all.stream()
+                  .filter(l -> l.getRefName().equals(tagB.getName()))
+                  .filter(l -> l.getOperationTime() >= minTime)
+                  .collect(Collectors.toList()));
+    }
+
+    // Continue from an offset, like a paging client does.
+    RefLog offset = all.get(7);
+    try (Stream<RefLog> refLog =
+        databaseAdapter.refLog(
+            offset.getRefLogId(), GetRefLogParams.builder().refName(offset.getRefName()).build())) {
+      assertThat(refLog)
+          .containsExactlyElementsOf(
+              all.subList(7, all.size()).stream()
+                  .filter(l -> l.getRefName().equals(offset.getRefName()))
+                  .collect(Collectors.toList()));
+    }
+
+    assertThatThrownBy(
+            () -> GetRefLogParams.builder().minOperationTime(2L).maxOperationTime(1L).build())
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   void emptyRefLog() throws Exception {
     try (Stream<RefLog> refLog = databaseAdapter.refLog(null)) {
@@ -79,7 +79,9 @@ public abstract class AbstractWriteUpdateCommits {
 
     try (Stream<CommitLogEntry> retrieved =
         databaseAdapter.fetchCommitLogEntries(hashes.stream())) {
-      assertThat(retrieved).containsExactlyInAnyOrderElementsOf(commits);
+      assertThat(retrieved)
+          .<CommitLogEntry>map(ImmutableCommitLogEntry::copyOf)
+          .containsExactlyInAnyOrderElementsOf(commits);
     }
 
     List<CommitLogEntry> updatedCommits =
@@ -96,7 +98,9 @@ public abstract class AbstractWriteUpdateCommits {
 
     try (Stream<CommitLogEntry> retrieved =
         databaseAdapter.fetchCommitLogEntries(hashes.stream())) {
-      assertThat(retrieved).containsExactlyInAnyOrderElementsOf(updatedCommits);
+      assertThat(retrieved)
+          .<CommitLogEntry>map(ImmutableCommitLogEntry::copyOf)
+          .containsExactlyInAnyOrderElementsOf(updatedCommits);
     }
   }
 
@@ -57,6 +57,9 @@ public final class SqlStatements {
       String.format(
           "SELECT \"ref_type\", \"ref\", \"hash\" FROM %s WHERE \"repo_id\" = ?",
           TABLE_NAMED_REFERENCES);
+  public static final String SELECT_NAMED_REFERENCES_NAME_PREFIX = " AND \"ref\" LIKE ? ESCAPE '!'";
+  public static final String SELECT_NAMED_REFERENCES_NAME_START_AT = " AND \"ref\" >= ?";
+  public static final String SELECT_NAMED_REFERENCES_ORDER_BY_NAME = " ORDER BY \"ref\"";
   public static final String SELECT_NAMED_REFERENCE_NAME =
       String.format(
           "SELECT \"hash\" FROM %s WHERE \"repo_id\" = ? AND \"ref\" = ?", TABLE_NAMED_REFERENCES);
@@ -109,6 +112,13 @@ public final class SqlStatements {
           "UPDATE %s SET \"value\" = ? WHERE \"repo_id\" = ? AND \"hash\" = ?", TABLE_COMMIT_LOG);
   public static final String SELECT_COMMIT_LOG_FULL =
       String.format("SELECT \"value\" FROM %s WHERE \"repo_id\" = ?", TABLE_COMMIT_LOG);
+  public static final String SELECT_COMMIT_LOG_HASH_RANGE =
+      String.format(
+          "SELECT \"value\" FROM %s WHERE \"repo_id\" = ? AND \"hash\" >= ? AND \"hash\" < ?",
+          TABLE_COMMIT_LOG);
+  public static final String SELECT_COMMIT_LOG_HASH_FROM =
+      String.format(
+          "SELECT \"value\" FROM %s WHERE \"repo_id\" = ? AND \"hash\" >= ?", TABLE_COMMIT_LOG);
   public static final String SELECT_COMMIT_LOG_MANY =
       String.format(
           "SELECT \"value\" FROM %s WHERE \"repo_id\" = ? AND \"hash\" IN (%%s)", TABLE_COMMIT_LOG);
@@ -190,6 +200,37 @@ public final class SqlStatements {
               + ")",
           TABLE_REF_LOG_HEAD);
 
+  public static final String TABLE_REF_LOG_HEADS = "ref_log_heads";
+  public static final String UPDATE_REF_LOG_HEADS =
+      String.format(
+          "UPDATE %s SET \"id\" = ?, \"parents\" = ? WHERE \"repo_id\" = ? AND \"stripe\" = ? AND \"id\" = ?",
+          TABLE_REF_LOG_HEADS);
+  public static final String INSERT_REF_LOG_HEADS =
+      String.format(
+          "INSERT INTO %s (\"repo_id\", \"stripe\", \"id\", \"parents\") VALUES (?, ?, ?, ?)",
+          TABLE_REF_LOG_HEADS);
+  public static final String DELETE_REF_LOG_HEADS_ALL =
+      String.format("DELETE FROM %s WHERE \"repo_id\" = ?", TABLE_REF_LOG_HEADS);
+  public static final String SELECT_REF_LOG_HEADS =
+      String.format(
+          "SELECT \"id\", \"parents\" FROM %s WHERE \"repo_id\" = ? AND \"stripe\" = ?",
+          TABLE_REF_LOG_HEADS);
+  public static final String SELECT_REF_LOG_HEADS_ALL =
+      String.format(
+          "SELECT \"stripe\", \"id\", \"parents\" FROM %s WHERE \"repo_id\" = ?",
+          TABLE_REF_LOG_HEADS);
+  public static final String CREATE_TABLE_REF_LOG_HEADS =
+      // one ref-log head per stripe, see DatabaseAdapterConfig.getRefLogStripes()
+      String.format(
+          "CREATE TABLE %s (\n"
+              + "  \"repo_id\" {2},\n"
+              + "  \"stripe\" {7},\n"
+              + "  \"id\" {1},\n"
+              + "  \"parents\" {0},\n"
+              + "  PRIMARY KEY (\"repo_id\", \"stripe\")\n"
+              + ")",
+          TABLE_REF_LOG_HEADS);
+
   public static final String TABLE_ATTACHMENTS = "atts";
   public static final String INSERT_ATTACHMENT =
       String.format(
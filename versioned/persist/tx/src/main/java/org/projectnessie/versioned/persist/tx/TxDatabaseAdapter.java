@@ -24,6 +24,8 @@ import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSeriali
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.protoToKeyList;
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.protoToRefLog;
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.protoToRepoDescription;
+import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.serializeCommitLogEntry;
+import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.serializeKeyList;
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.toProto;
 import static org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization.toProtoValue;
 import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUtil.assignConflictMessage;
@@ -37,7 +39,6 @@ import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUti
 import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUtil.repoDescUpdateConflictMessage;
 import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUtil.transplantConflictMessage;
 import static org.projectnessie.versioned.persist.adapter.spi.DatabaseAdapterUtil.verifyExpectedHash;
-import static org.projectnessie.versioned.persist.adapter.spi.Traced.trace;
 import static org.projectnessie.versioned.persist.adapter.spi.TryLoopState.newTryLoopState;
 import static org.projectnessie.versioned.persist.tx.TxDatabaseAdapter.OpResult.opResult;
 
@@ -75,6 +76,7 @@ import org.projectnessie.versioned.BranchName;
 import org.projectnessie.versioned.ContentAttachment;
 import org.projectnessie.versioned.ContentAttachmentKey;
 import org.projectnessie.versioned.GetNamedRefsParams;
+import org.projectnessie.versioned.GetRefLogParams;
 import org.projectnessie.versioned.Hash;
 import org.projectnessie.versioned.ImmutableMergeResult;
 import org.projectnessie.versioned.Key;
@@ -114,6 +116,9 @@ import org.projectnessie.versioned.persist.adapter.events.RepositoryInitializedE
 import org.projectnessie.versioned.persist.adapter.events.TransplantEvent;
 import org.projectnessie.versioned.persist.adapter.serialize.ProtoSerialization;
 import org.projectnessie.versioned.persist.adapter.spi.AbstractDatabaseAdapter;
+import org.projectnessie.versioned.persist.adapter.spi.CommitSequencer;
+import org.projectnessie.versioned.persist.adapter.spi.RefLogSpliterator;
+import org.projectnessie.versioned.persist.adapter.spi.ScanPartition;
 import org.projectnessie.versioned.persist.adapter.spi.Traced;
 import org.projectnessie.versioned.persist.adapter.spi.TryLoopState;
 import org.projectnessie.versioned.persist.serialize.AdapterTypes.AttachmentKey;
@@ -138,6 +143,7 @@ public abstract class TxDatabaseAdapter
   protected static final String REF_TYPE_TAG = "t";
 
   private final TxConnectionProvider<?> db;
+  private final CommitSequencer commitSequencer;
 
   public TxDatabaseAdapter(
       TxDatabaseAdapterConfig config,
@@ -151,6 +157,14 @@ public abstract class TxDatabaseAdapter
         "TxDatabaseAdapter requires a non-null TxConnectionProvider via TxDatabaseAdapterConfig.getConnectionProvider()");
 
     this.db = db;
+    this.commitSequencer =
+        config.getCommitSequencerMaxBatchSize() > 1
+            ? new CommitSequencer(
+                config.getCommitSequencerMaxBatchSize(),
+                config.getCommitTimeout(),
+                this::commitBatch,
+                this::commitSingle)
+            : null;
 
     db.setupDatabase(this);
   }
@@ -209,7 +223,8 @@ public abstract class TxDatabaseAdapter
           Hash defaultBranchHead = namedRefsDefaultBranchHead(conn, params);
 
           @SuppressWarnings("MustBeClosedChecker")
-          Stream<ReferenceInfo<ByteString>> refs = fetchNamedRefs(conn);
+          Stream<ReferenceInfo<ByteString>> refs =
+              fetchNamedRefs(conn, params.getNamePrefix(), params.getNameStartAt());
 
           return namedRefsFilterAndEnhance(conn, params, defaultBranchHead, refs);
         });
@@ -359,6 +374,14 @@ public abstract class TxDatabaseAdapter
   @Override
   public Hash commit(CommitParams commitParams)
       throws ReferenceConflictException, ReferenceNotFoundException {
+    if (commitSequencer != null) {
+      return commitSequencer.commit(commitParams);
+    }
+    return commitSingle(commitParams);
+  }
+
+  private Hash commitSingle(CommitParams commitParams)
+      throws ReferenceConflictException, ReferenceNotFoundException {
     try {
       return opLoop(
           "commit",
@@ -396,6 +419,66 @@ public abstract class TxDatabaseAdapter
     }
   }
 
+  /**
+   * Applies the given commits, which all target the same branch, as a chain of commits within a
+   * single transaction and a single update of the branch's HEAD. Commits that fail their own
+   * conflict checks do not prevent the other commits from being applied.
+   */
+  private void commitBatch(List<CommitSequencer.Commit> commits) throws VersionStoreException {
+    BranchName branch = commits.get(0).getParams().getToBranch();
+    Object[] results = new Object[commits.size()];
+
+    opLoop(
+        "commitBatch",
+        branch,
+        false,
+        (conn, branchHead) -> {
+          Hash newHead = branchHead;
+          List<CommitLogEntry> newCommits = new ArrayList<>(commits.size());
+          for (int i = 0; i < results.length; i++) {
+            CommitParams commitParams = commits.get(i).getParams();
+            long timeInMicros = config.currentTimeInMicros();
+            try {
+              CommitLogEntry newBranchCommit =
+                  commitAttempt(conn, timeInMicros, newHead, commitParams, h -> {});
+              newHead = newBranchCommit.getHash();
+              newCommits.add(newBranchCommit);
+              results[i] = newHead;
+            } catch (ReferenceConflictException
+                | ReferenceNotFoundException
+                | IllegalArgumentException e) {
+              results[i] = e;
+            }
+          }
+
+          if (newCommits.isEmpty()) {
+            // All commits failed, nothing to update.
+            return opResult(branchHead, null);
+          }
+
+          Hash resultHash = tryMoveNamedReference(conn, branch, branchHead, newHead);
+
+          return opResult(
+              resultHash,
+              () ->
+                  CommitEvent.builder()
+                      .previousHash(branchHead)
+                      .hash(resultHash)
+                      .branch(branch)
+                      .commits(newCommits));
+        },
+        () -> commitConflictMessage("Conflict", branch, Optional.empty()),
+        () -> commitConflictMessage("Retry-Failure", branch, Optional.empty()));
+
+    for (int i = 0; i < results.length; i++) {
+      if (results[i] instanceof Hash) {
+        commits.get(i).succeeded((Hash) results[i]);
+      } else {
+        commits.get(i).failed((Exception) results[i]);
+      }
+    }
+  }
+
   @SuppressWarnings("RedundantThrows")
   @Override
   public Hash create(NamedRef ref, Hash target)
@@ -540,19 +623,13 @@ public abstract class TxDatabaseAdapter
 
         insertNewReference(conn, defaultBranch, NO_ANCESTOR);
 
-        RefLogEntry newRefLog =
-            writeRefLogEntry(
-                conn,
-                defaultBranch,
-                RefLogHead.builder()
-                    .refLogHead(NO_ANCESTOR)
-                    .addRefLogParentsInclHead(NO_ANCESTOR)
-                    .build(),
-                NO_ANCESTOR,
-                RefLogEntry.Operation.CREATE_REFERENCE,
-                config.currentTimeInMicros(),
-                emptyList());
-        insertRefLogHead(newRefLog, conn);
+        commitRefLog(
+            conn,
+            config.currentTimeInMicros(),
+            NO_ANCESTOR,
+            defaultBranch,
+            RefLogEntry.Operation.CREATE_REFERENCE,
+            emptyList());
 
         conn.commit();
 
@@ -597,6 +674,11 @@ public abstract class TxDatabaseAdapter
         ps.setString(1, config.getRepositoryId());
         ps.executeUpdate();
       }
+      try (PreparedStatement ps =
+          conn.conn().prepareStatement(SqlStatements.DELETE_REF_LOG_HEADS_ALL)) {
+        ps.setString(1, config.getRepositoryId());
+        ps.executeUpdate();
+      }
       try (PreparedStatement ps =
           conn.conn().prepareStatement(SqlStatements.DELETE_REPO_DESCRIPTIONE_ALL)) {
         ps.setString(1, config.getRepositoryId());
@@ -639,8 +721,8 @@ public abstract class TxDatabaseAdapter
 
   @Override
   @MustBeClosed
-  public Stream<RefLog> refLog(Hash offset) throws RefLogNotFoundException {
-    return withConnectionWrapper(conn -> readRefLogStream(conn, offset));
+  public Stream<RefLog> refLog(Hash offset, GetRefLogParams params) throws RefLogNotFoundException {
+    return withConnectionWrapper(conn -> readRefLogStream(conn, offset, params));
   }
 
   @Override
@@ -671,7 +753,9 @@ public abstract class TxDatabaseAdapter
   public void writeMultipleCommits(List<CommitLogEntry> commitLogEntries)
       throws ReferenceConflictException {
     try (ConnectionWrapper conn = borrowConnection()) {
-      doWriteMultipleCommits(conn, commitLogEntries);
+      try (Traced ignore = trace("writeMultipleCommits").tag(TAG_COUNT, commitLogEntries.size())) {
+        doWriteMultipleCommits(conn, commitLogEntries);
+      }
       conn.commit();
     } catch (ReferenceConflictException e) {
       throw e;
@@ -682,7 +766,9 @@ public abstract class TxDatabaseAdapter
   public void updateMultipleCommits(List<CommitLogEntry> commitLogEntries)
       throws ReferenceNotFoundException {
     try (ConnectionWrapper conn = borrowConnection()) {
-      doUpdateMultipleCommits(conn, commitLogEntries);
+      try (Traced ignore = trace("updateMultipleCommits").tag(TAG_COUNT, commitLogEntries.size())) {
+        doUpdateMultipleCommits(conn, commitLogEntries);
+      }
       conn.commit();
     } catch (ReferenceNotFoundException e) {
       throw e;
@@ -846,12 +932,35 @@ public abstract class TxDatabaseAdapter
     }
   }
 
+  /**
+   * Fetches the named references ordered by name, optionally restricted to the names starting
+   * with {@code namePrefix} and/or the names equal to or greater than {@code nameStartAt}.
+   */
   @MustBeClosed
-  protected Stream<ReferenceInfo<ByteString>> fetchNamedRefs(ConnectionWrapper conn) {
+  protected Stream<ReferenceInfo<ByteString>> fetchNamedRefs(
+      ConnectionWrapper conn, String namePrefix, String nameStartAt) {
+    StringBuilder sql = new StringBuilder(SqlStatements.SELECT_NAMED_REFERENCES);
+    if (namePrefix != null) {
+      sql.append(SqlStatements.SELECT_NAMED_REFERENCES_NAME_PREFIX);
+    }
+    if (nameStartAt != null) {
+      sql.append(SqlStatements.SELECT_NAMED_REFERENCES_NAME_START_AT);
+    }
+    sql.append(SqlStatements.SELECT_NAMED_REFERENCES_ORDER_BY_NAME);
+
     return JdbcSelectSpliterator.buildStream(
         conn.conn(),
-        SqlStatements.SELECT_NAMED_REFERENCES,
-        ps -> ps.setString(1, config.getRepositoryId()),
+        sql.toString(),
+        ps -> {
+          int i = 1;
+          ps.setString(i++, config.getRepositoryId());
+          if (namePrefix != null) {
+            ps.setString(i++, likePrefixPattern(namePrefix));
+          }
+          if (nameStartAt != null) {
+            ps.setString(i, nameStartAt);
+          }
+        },
         (rs) -> {
           String type = rs.getString(1);
           String ref = rs.getString(2);
@@ -865,6 +974,19 @@ public abstract class TxDatabaseAdapter
         });
   }
 
+  /** Escapes the SQL {@code LIKE} wildcards using the {@code '!'} escape character. */
+  private static String likePrefixPattern(String prefix) {
+    StringBuilder pattern = new StringBuilder(prefix.length() + 2);
+    for (int i = 0; i < prefix.length(); i++) {
+      char c = prefix.charAt(i);
+      if (c == '%' || c == '_' || c == '!') {
+        pattern.append('!');
+      }
+      pattern.append(c);
+    }
+    return pattern.append('%').toString();
+  }
+
   /**
    * Similar to {@link #fetchNamedRefHead(ConnectionWrapper, NamedRef)}, but just checks for
    * existence.
@@ -1032,11 +1154,30 @@ public abstract class TxDatabaseAdapter
   }
 
   @Override
-  protected Stream<CommitLogEntry> doScanAllCommitLogEntries(ConnectionWrapper c) {
+  protected Stream<CommitLogEntry> doScanAllCommitLogEntries(
+      ConnectionWrapper c, ScanPartition partition) {
+    if (partition.isFull()) {
+      return JdbcSelectSpliterator.buildStream(
+          c.conn(),
+          SqlStatements.SELECT_COMMIT_LOG_FULL,
+          ps -> ps.setString(1, config.getRepositoryId()),
+          (rs) -> protoToCommitLogEntry(rs.getBytes(1)));
+    }
+
+    // Commit IDs are stored as lower-case hex strings, which have the same order as the bytes.
+    boolean upperBound = partition.hasUpperBound();
     return JdbcSelectSpliterator.buildStream(
         c.conn(),
-        SqlStatements.SELECT_COMMIT_LOG_FULL,
-        ps -> ps.setString(1, config.getRepositoryId()),
+        upperBound
+            ? SqlStatements.SELECT_COMMIT_LOG_HASH_RANGE
+            : SqlStatements.SELECT_COMMIT_LOG_HASH_FROM,
+        ps -> {
+          ps.setString(1, config.getRepositoryId());
+          ps.setString(2, partition.lowerBoundHex());
+          if (upperBound) {
+            ps.setString(3, partition.upperBoundHex());
+          }
+        },
         (rs) -> protoToCommitLogEntry(rs.getBytes(1)));
   }
 
@@ -1087,7 +1228,7 @@ public abstract class TxDatabaseAdapter
     try (PreparedStatement ps = c.conn().prepareStatement(SqlStatements.INSERT_COMMIT_LOG)) {
       ps.setString(1, config.getRepositoryId());
       ps.setString(2, entry.getHash().asString());
-      ps.setBytes(3, toProto(entry).toByteArray());
+      ps.setBytes(3, serializeCommitLogEntry(entry, config.getEntityCompressionThreshold()));
       ps.executeUpdate();
     } catch (SQLException e) {
       if (isRetryTransaction(e)) {
@@ -1108,7 +1249,7 @@ public abstract class TxDatabaseAdapter
           SqlStatements.INSERT_COMMIT_LOG,
           entries,
           e -> e.getHash().asString(),
-          e -> toProto(e).toByteArray(),
+          e -> serializeCommitLogEntry(e, config.getEntityCompressionThreshold()),
           false);
     } catch (ReferenceNotFoundException e) {
       throw new RuntimeException(e);
@@ -1124,7 +1265,7 @@ public abstract class TxDatabaseAdapter
           SqlStatements.UPDATE_COMMIT_LOG,
           entries,
           e -> e.getHash().asString(),
-          e -> toProto(e).toByteArray(),
+          e -> serializeCommitLogEntry(e, config.getEntityCompressionThreshold()),
           true);
     } catch (ReferenceConflictException e) {
       throw new RuntimeException(e);
@@ -1140,7 +1281,7 @@ public abstract class TxDatabaseAdapter
           SqlStatements.INSERT_KEY_LIST,
           newKeyListEntities,
           e -> e.getId().asString(),
-          e -> toProto(e.getKeys()).toByteArray(),
+          e -> serializeKeyList(e.getKeys(), config.getEntityCompressionThreshold()),
           false);
     } catch (ReferenceNotFoundException | ReferenceConflictException e) {
       throw new RuntimeException(e);
@@ -1434,6 +1575,9 @@ public abstract class TxDatabaseAdapter
         .put(
             SqlStatements.TABLE_REF_LOG_HEAD,
             Collections.singletonList(SqlStatements.CREATE_TABLE_REF_LOG_HEAD))
+        .put(
+            SqlStatements.TABLE_REF_LOG_HEADS,
+            Collections.singletonList(SqlStatements.CREATE_TABLE_REF_LOG_HEADS))
         .put(
             SqlStatements.TABLE_ATTACHMENTS,
             Collections.singletonList(SqlStatements.CREATE_TABLE_ATTACHMENTS))
@@ -1497,15 +1641,16 @@ public abstract class TxDatabaseAdapter
     return false;
   }
 
-  protected void updateRefLogHead(RefLogEntry newRefLog, ConnectionWrapper conn)
+  protected void updateRefLogHead(RefLogEntry newRefLog, int stripe, ConnectionWrapper conn)
       throws SQLException {
     try (Traced ignore = trace("updateRefLogHead");
         PreparedStatement psUpdate =
-            conn.conn().prepareStatement(SqlStatements.UPDATE_REF_LOG_HEAD)) {
+            conn.conn().prepareStatement(SqlStatements.UPDATE_REF_LOG_HEADS)) {
       psUpdate.setString(1, Hash.of(newRefLog.getRefLogId()).asString());
       psUpdate.setBytes(2, refLogHeadParents(newRefLog).toByteArray());
       psUpdate.setString(3, config.getRepositoryId());
-      psUpdate.setString(4, Hash.of(newRefLog.getParents(0)).asString());
+      psUpdate.setInt(4, stripe);
+      psUpdate.setString(5, Hash.of(newRefLog.getParents(0)).asString());
       if (psUpdate.executeUpdate() != 1) {
         // retry the transaction with rebasing the parent id.
         throw new RetryTransactionException();
@@ -1513,28 +1658,26 @@ public abstract class TxDatabaseAdapter
     }
   }
 
-  protected void insertRefLogHead(RefLogEntry newRefLog, ConnectionWrapper conn)
+  protected void insertRefLogHead(RefLogEntry newRefLog, int stripe, ConnectionWrapper conn)
       throws SQLException {
     try (Traced ignore = trace("insertRefLogHead");
-        PreparedStatement selectStatement =
-            conn.conn().prepareStatement(SqlStatements.SELECT_REF_LOG_HEAD)) {
-      selectStatement.setString(1, config.getRepositoryId());
-      // insert if the table is empty
-      try (ResultSet result = selectStatement.executeQuery()) {
-        if (!result.next()) {
-          try (PreparedStatement psUpdate =
-              conn.conn().prepareStatement(SqlStatements.INSERT_REF_LOG_HEAD)) {
-            psUpdate.setString(1, config.getRepositoryId());
-            psUpdate.setString(2, Hash.of(newRefLog.getRefLogId()).asString());
-            psUpdate.setBytes(3, refLogHeadParents(newRefLog).toByteArray());
-            if (psUpdate.executeUpdate() != 1) {
-              // No need to continue, just throw a legit constraint-violation that will be
-              // converted to a "proper ReferenceConflictException" later up in the stack.
-              throw newIntegrityConstraintViolationException();
-            }
-          }
-        }
+        PreparedStatement psInsert =
+            conn.conn()
+                .prepareStatement(insertOnConflictDoNothing(SqlStatements.INSERT_REF_LOG_HEADS))) {
+      psInsert.setString(1, config.getRepositoryId());
+      psInsert.setInt(2, stripe);
+      psInsert.setString(3, Hash.of(newRefLog.getRefLogId()).asString());
+      psInsert.setBytes(4, refLogHeadParents(newRefLog).toByteArray());
+      if (psInsert.executeUpdate() != 1) {
+        // Another transaction created the head of this stripe concurrently, retry the
+        // transaction, which will then update the head.
+        throw new RetryTransactionException();
+      }
+    } catch (SQLException e) {
+      if (isRetryTransaction(e) || isIntegrityConstraintViolation(e)) {
+        throw new RetryTransactionException();
       }
+      throw e;
     }
   }
 
@@ -1547,6 +1690,10 @@ public abstract class TxDatabaseAdapter
     return refLogParents.build();
   }
 
+  protected final int refLogStripeForName(String refName) {
+    return Math.abs(refName.hashCode()) % config.getRefLogStripes();
+  }
+
   @Override
   protected Spliterator<RefLog> readRefLog(ConnectionWrapper ctx, Hash initialHash)
       throws RefLogNotFoundException {
@@ -1554,51 +1701,102 @@ public abstract class TxDatabaseAdapter
       return Spliterators.emptySpliterator();
     }
 
-    RefLog initial = fetchFromRefLog(ctx, initialHash);
-    if (initial == null) {
-      throw RefLogNotFoundException.forRefLogId(initialHash.asString());
+    List<RefLogHead> heads = new ArrayList<>();
+    try {
+      // Ref-log head from before the ref-log heads were striped (backwards compatibility), no
+      // longer updated.
+      RefLogHead legacyHead = getLegacyRefLogHead(ctx);
+      if (legacyHead != null) {
+        heads.add(legacyHead);
+      }
+      // Ref-log stripes, reads all persisted stripes, so reducing the number of stripes does not
+      // hide any ref-log entries.
+      heads.addAll(getRefLogHeads(ctx));
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+
+    Stream<Spliterator<RefLog>> stripeFetchers =
+        heads.stream()
+            .map(TxDatabaseAdapter::refLogHeadPage)
+            .map(
+                page ->
+                    logFetcherWithPage(ctx, page, this::fetchPageFromRefLog, RefLog::getParents));
+
+    return new RefLogSpliterator(initialHash, stripeFetchers);
+  }
+
+  /**
+   * Returns the first page of ref-log-IDs for the given head, which is the head plus its parents,
+   * or only the head for ref-log heads persisted before Nessie 0.21.0.
+   */
+  private static List<Hash> refLogHeadPage(RefLogHead head) {
+    List<Hash> parentsInclHead = head.getRefLogParentsInclHead();
+    if (parentsInclHead.isEmpty() || !parentsInclHead.get(0).equals(head.getRefLogHead())) {
+      return Collections.singletonList(head.getRefLogHead());
     }
-    return logFetcher(ctx, initial, this::fetchPageFromRefLog, RefLog::getParents);
+    return parentsInclHead;
   }
 
-  protected RefLogHead getRefLogHead(ConnectionWrapper conn) throws SQLException {
+  protected RefLogHead getRefLogHead(ConnectionWrapper conn, int stripe) throws SQLException {
     try (Traced ignore = trace("getRefLogHead");
         PreparedStatement psSelect =
-            conn.conn().prepareStatement(SqlStatements.SELECT_REF_LOG_HEAD)) {
+            conn.conn().prepareStatement(SqlStatements.SELECT_REF_LOG_HEADS)) {
       psSelect.setString(1, config.getRepositoryId());
+      psSelect.setInt(2, stripe);
       try (ResultSet resultSet = psSelect.executeQuery()) {
-        if (resultSet.next()) {
-          Hash head = Hash.of(resultSet.getString(1));
-          ImmutableRefLogHead.Builder refLogHead = RefLogHead.builder().refLogHead(head);
-          byte[] parentsBytes = resultSet.getBytes(2);
-          if (parentsBytes != null) {
-            try {
-              RefLogParents refLogParents = RefLogParents.parseFrom(parentsBytes);
-              refLogParents
-                  .getRefLogParentsInclHeadList()
-                  .forEach(b -> refLogHead.addRefLogParentsInclHead(Hash.of(b)));
-            } catch (InvalidProtocolBufferException e) {
-              throw new RuntimeException(e);
-            }
-          }
-          return refLogHead.build();
+        return resultSet.next() ? refLogHeadFromRow(resultSet, 1) : null;
+      }
+    }
+  }
+
+  protected List<RefLogHead> getRefLogHeads(ConnectionWrapper conn) throws SQLException {
+    try (Traced ignore = trace("getRefLogHeads");
+        PreparedStatement psSelect =
+            conn.conn().prepareStatement(SqlStatements.SELECT_REF_LOG_HEADS_ALL)) {
+      psSelect.setString(1, config.getRepositoryId());
+      try (ResultSet resultSet = psSelect.executeQuery()) {
+        List<RefLogHead> heads = new ArrayList<>();
+        while (resultSet.next()) {
+          heads.add(refLogHeadFromRow(resultSet, 2));
         }
-        return null;
+        return heads;
       }
     }
   }
 
-  @Override
-  protected RefLog doFetchFromRefLog(ConnectionWrapper connection, Hash refLogId) {
-    if (refLogId == null) {
-      // set the current head as refLogId
+  protected RefLogHead getLegacyRefLogHead(ConnectionWrapper conn) throws SQLException {
+    try (Traced ignore = trace("getLegacyRefLogHead");
+        PreparedStatement psSelect =
+            conn.conn().prepareStatement(SqlStatements.SELECT_REF_LOG_HEAD)) {
+      psSelect.setString(1, config.getRepositoryId());
+      try (ResultSet resultSet = psSelect.executeQuery()) {
+        return resultSet.next() ? refLogHeadFromRow(resultSet, 1) : null;
+      }
+    }
+  }
+
+  private static RefLogHead refLogHeadFromRow(ResultSet resultSet, int idColumn)
+      throws SQLException {
+    Hash head = Hash.of(resultSet.getString(idColumn));
+    ImmutableRefLogHead.Builder refLogHead = RefLogHead.builder().refLogHead(head);
+    byte[] parentsBytes = resultSet.getBytes(idColumn + 1);
+    if (parentsBytes != null) {
       try {
-        RefLogHead head = getRefLogHead(connection);
-        refLogId = head != null ? head.getRefLogHead() : null;
-      } catch (SQLException e) {
+        RefLogParents refLogParents = RefLogParents.parseFrom(parentsBytes);
+        refLogParents
+            .getRefLogParentsInclHeadList()
+            .forEach(b -> refLogHead.addRefLogParentsInclHead(Hash.of(b)));
+      } catch (InvalidProtocolBufferException e) {
         throw new RuntimeException(e);
       }
     }
+    return refLogHead.build();
+  }
+
+  @Override
+  protected RefLog doFetchFromRefLog(ConnectionWrapper connection, Hash refLogId) {
+    Objects.requireNonNull(refLogId, "refLogId must not be null");
     try (PreparedStatement ps = connection.conn().prepareStatement(SqlStatements.SELECT_REF_LOG)) {
       ps.setString(1, config.getRepositoryId());
       ps.setString(2, refLogId.asString());
@@ -1644,10 +1842,31 @@ public abstract class TxDatabaseAdapter
       RefLogEntry.Operation operation,
       List<Hash> sourceHashes)
       throws SQLException, ReferenceConflictException {
-    RefLogHead refLogHead = getRefLogHead(conn);
-    RefLogEntry newRefLog =
-        writeRefLogEntry(conn, ref, refLogHead, commitHash, operation, timeInMicros, sourceHashes);
-    updateRefLogHead(newRefLog, conn);
+    // Only the ref-log head of the reference's stripe is updated, so transactions against
+    // unrelated references do not contend on the same row.
+    int stripe = refLogStripeForName(ref.getName());
+    RefLogHead refLogHead = getRefLogHead(conn, stripe);
+    if (refLogHead == null) {
+      // First ref-log entry in this stripe.
+      RefLogEntry newRefLog =
+          writeRefLogEntry(
+              conn,
+              ref,
+              RefLogHead.builder()
+                  .refLogHead(NO_ANCESTOR)
+                  .addRefLogParentsInclHead(NO_ANCESTOR)
+                  .build(),
+              commitHash,
+              operation,
+              timeInMicros,
+              sourceHashes);
+      insertRefLogHead(newRefLog, stripe, conn);
+    } else {
+      RefLogEntry newRefLog =
+          writeRefLogEntry(
+              conn, ref, refLogHead, commitHash, operation, timeInMicros, sourceHashes);
+      updateRefLogHead(newRefLog, stripe, conn);
+    }
   }
 
   private RefLogEntry writeRefLogEntry(
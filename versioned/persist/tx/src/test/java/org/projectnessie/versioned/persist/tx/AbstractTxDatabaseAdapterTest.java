@@ -15,12 +15,16 @@
  */
 package org.projectnessie.versioned.persist.tx;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.persist.adapter.RefLog;
 import org.projectnessie.versioned.persist.tests.AbstractDatabaseAdapterTest;
 import org.projectnessie.versioned.persist.tx.TxDatabaseAdapter.NessieSqlDataType;
 
@@ -64,4 +68,24 @@ public abstract class AbstractTxDatabaseAdapterTest extends AbstractDatabaseAdap
       }
     }
   }
+
+  @Test
+  void stripedRefLogHeads() throws Exception {
+    TxDatabaseAdapter txDatabaseAdapter = (TxDatabaseAdapter) databaseAdapter;
+    for (int i = 0; i < 20; i++) {
+      databaseAdapter.create(BranchName.of("striped-" + i), databaseAdapter.noAncestorHash());
+    }
+
+    try (ConnectionWrapper conn = txDatabaseAdapter.borrowConnection()) {
+      assertThat(txDatabaseAdapter.getRefLogHeads(conn))
+          .hasSizeGreaterThan(1)
+          .hasSizeLessThanOrEqualTo(databaseAdapter.getConfig().getRefLogStripes());
+      assertThat(txDatabaseAdapter.getLegacyRefLogHead(conn)).isNull();
+    }
+
+    try (Stream<RefLog> refLog = databaseAdapter.refLog(null)) {
+      assertThat(refLog.map(RefLog::getRefName).filter(name -> name.startsWith("striped-")))
+          .hasSize(20);
+    }
+  }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Map of {@link Hash} to primitive {@code int} values that stores 256-bit hashes inline in a
+ * primitive array, without an object per entry. Not thread-safe.
+ */
+public final class CompactHashIntMap {
+
+  private final CompactHashes table;
+  private final int missingValue;
+
+  /**
+   * Creates a new map.
+   *
+   * @param expectedSize number of entries the map can hold without resizing
+   * @param missingValue value returned by {@link #getValue(Hash)} for absent keys
+   */
+  public CompactHashIntMap(int expectedSize, int missingValue) {
+    this.table = new CompactHashes(expectedSize, true);
+    this.missingValue = missingValue;
+  }
+
+  public int missingValue() {
+    return missingValue;
+  }
+
+  /** Returns the value for {@code hash} or {@link #missingValue()}. */
+  public int getValue(Hash hash) {
+    return table.getValue(hash, missingValue);
+  }
+
+  public boolean containsKey(Hash hash) {
+    return table.contains(hash);
+  }
+
+  /** Adds or replaces the value for {@code hash}, returns {@code true} if the key was added. */
+  public boolean put(Hash hash, int value) {
+    return table.put(Objects.requireNonNull(hash, "hash must not be null"), value);
+  }
+
+  public boolean remove(Hash hash) {
+    return table.remove(hash);
+  }
+
+  public int size() {
+    return table.size();
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public void clear() {
+    table.clear();
+  }
+
+  public Iterator<Hash> keyIterator() {
+    return table.keyIterator();
+  }
+
+  public void forEach(ObjIntConsumer<Hash> consumer) {
+    table.forEach(consumer);
+  }
+}
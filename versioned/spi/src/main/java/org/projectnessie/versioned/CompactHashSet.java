@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * {@link java.util.Set} of {@link Hash}es that stores 256-bit hashes inline in a primitive array,
+ * without an object per entry. Intended for large sets of commit IDs, for example when walking the
+ * whole commit log.
+ *
+ * <p>Iteration creates a new {@link Hash} instance per element and does not support {@link
+ * Iterator#remove()}. {@code null} elements are not supported. Not thread-safe.
+ */
+public final class CompactHashSet extends AbstractSet<Hash> {
+
+  private final CompactHashes table;
+
+  public CompactHashSet() {
+    this(0);
+  }
+
+  public CompactHashSet(int expectedSize) {
+    this.table = new CompactHashes(expectedSize, false);
+  }
+
+  public CompactHashSet(Collection<Hash> source) {
+    this(source.size());
+    addAll(source);
+  }
+
+  @Override
+  public boolean add(Hash hash) {
+    return table.put(Objects.requireNonNull(hash, "hash must not be null"), 0);
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return o instanceof Hash && table.contains((Hash) o);
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    return o instanceof Hash && table.remove((Hash) o);
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    boolean modified = false;
+    for (Object o : c) {
+      modified |= remove(o);
+    }
+    return modified;
+  }
+
+  @Override
+  public void clear() {
+    table.clear();
+  }
+
+  @Override
+  public int size() {
+    return table.size();
+  }
+
+  @Override
+  public Iterator<Hash> iterator() {
+    return table.keyIterator();
+  }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+import org.projectnessie.versioned.Hash.Hash256;
+
+/**
+ * Open-addressing hash table for {@link Hash} keys with optional {@code int} values, the storage
+ * behind {@link CompactHashSet} and {@link CompactHashIntMap}.
+ *
+ * <p>256-bit hashes, which are used for all commit IDs, are stored inline as four {@code long}s
+ * per slot without any per-entry object, collisions are resolved via linear probing. An all-zero
+ * quad marks an empty slot, so the all-zero hash is tracked separately. Hashes of other sizes are
+ * held in a {@link HashMap}.
+ */
+final class CompactHashes {
+
+  private static final int MIN_CAPACITY = 16;
+  private static final int MAX_CAPACITY = 1 << 28;
+  private static final float LOAD_FACTOR = 0.65f;
+
+  private final boolean withValues;
+
+  private long[] keys;
+  private int[] values;
+  private int mask;
+  private int resizeThreshold;
+  private int tableSize;
+
+  private boolean containsZero;
+  private int zeroValue;
+
+  private Map<Hash, Integer> others;
+
+  CompactHashes(int expectedSize, boolean withValues) {
+    Preconditions.checkArgument(expectedSize >= 0, "expectedSize must not be negative");
+    this.withValues = withValues;
+    allocate(capacityFor(expectedSize));
+  }
+
+  private static int capacityFor(int expectedSize) {
+    long needed = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1L;
+    int capacity = MIN_CAPACITY;
+    while (capacity < needed) {
+      Preconditions.checkState(capacity < MAX_CAPACITY, "Too many hashes");
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity << 2];
+    values = withValues ? new int[capacity] : null;
+    mask = capacity - 1;
+    resizeThreshold = (int) (capacity * LOAD_FACTOR);
+  }
+
+  private static int slotFor(long l0, long l1, long l2, long l3, int mask) {
+    long h = (l0 ^ l1 ^ l2 ^ l3) * 0x9e3779b97f4a7c15L;
+    return (int) (h >>> 32) & mask;
+  }
+
+  private static boolean isZero(Hash256 h) {
+    return (h.l0 | h.l1 | h.l2 | h.l3) == 0L;
+  }
+
+  private boolean isEmptySlot(int slot) {
+    int i = slot << 2;
+    return (keys[i] | keys[i + 1] | keys[i + 2] | keys[i + 3]) == 0L;
+  }
+
+  /** Returns the slot containing the given hash or {@code -1}. */
+  private int find(Hash256 h) {
+    long[] k = keys;
+    for (int slot = slotFor(h.l0, h.l1, h.l2, h.l3, mask); ; slot = (slot + 1) & mask) {
+      int i = slot << 2;
+      long k0 = k[i];
+      long k1 = k[i + 1];
+      long k2 = k[i + 2];
+      long k3 = k[i + 3];
+      if (k0 == h.l0 && k1 == h.l1 && k2 == h.l2 && k3 == h.l3) {
+        return slot;
+      }
+      if ((k0 | k1 | k2 | k3) == 0L) {
+        return -1;
+      }
+    }
+  }
+
+  int size() {
+    return tableSize + (containsZero ? 1 : 0) + (others != null ? others.size() : 0);
+  }
+
+  boolean contains(Hash hash) {
+    if (hash instanceof Hash256) {
+      Hash256 h = (Hash256) hash;
+      return isZero(h) ? containsZero : find(h) >= 0;
+    }
+    return others != null && others.containsKey(hash);
+  }
+
+  int getValue(Hash hash, int missingValue) {
+    if (hash instanceof Hash256) {
+      Hash256 h = (Hash256) hash;
+      if (isZero(h)) {
+        return containsZero ? zeroValue : missingValue;
+      }
+      int slot = find(h);
+      return slot >= 0 ? values[slot] : missingValue;
+    }
+    Integer value = others != null ? others.get(hash) : null;
+    return value != null ? value : missingValue;
+  }
+
+  /** Adds or updates the given hash, returns {@code true} if the hash was added. */
+  boolean put(Hash hash, int value) {
+    if (!(hash instanceof Hash256)) {
+      if (others == null) {
+        others = new HashMap<>();
+      }
+      return others.put(hash, value) == null;
+    }
+
+    Hash256 h = (Hash256) hash;
+    if (isZero(h)) {
+      boolean added = !containsZero;
+      containsZero = true;
+      zeroValue = value;
+      return added;
+    }
+
+    long[] k = keys;
+    for (int slot = slotFor(h.l0, h.l1, h.l2, h.l3, mask); ; slot = (slot + 1) & mask) {
+      int i = slot << 2;
+      if (k[i] == h.l0 && k[i + 1] == h.l1 && k[i + 2] == h.l2 && k[i + 3] == h.l3) {
+        if (withValues) {
+          values[slot] = value;
+        }
+        return false;
+      }
+      if (isEmptySlot(slot)) {
+        k[i] = h.l0;
+        k[i + 1] = h.l1;
+        k[i + 2] = h.l2;
+        k[i + 3] = h.l3;
+        if (withValues) {
+          values[slot] = value;
+        }
+        if (++tableSize > resizeThreshold) {
+          rehash((mask + 1) << 1);
+        }
+        return true;
+      }
+    }
+  }
+
+  /** Removes the given hash, returns {@code true} if the hash was present. */
+  boolean remove(Hash hash) {
+    if (!(hash instanceof Hash256)) {
+      return others != null && others.remove(hash) != null;
+    }
+
+    Hash256 h = (Hash256) hash;
+    if (isZero(h)) {
+      boolean removed = containsZero;
+      containsZero = false;
+      return removed;
+    }
+
+    int slot = find(h);
+    if (slot < 0) {
+      return false;
+    }
+    compactChain(slot);
+    tableSize--;
+    return true;
+  }
+
+  void clear() {
+    allocate(MIN_CAPACITY);
+    tableSize = 0;
+    containsZero = false;
+    others = null;
+  }
+
+  /**
+   * Removes the entry in {@code deleteSlot} by moving following entries of the same probe chain
+   * backwards, so that lookups do not need tombstones.
+   */
+  private void compactChain(int deleteSlot) {
+    long[] k = keys;
+    for (int slot = (deleteSlot + 1) & mask; !isEmptySlot(slot); slot = (slot + 1) & mask) {
+      int i = slot << 2;
+      int home = slotFor(k[i], k[i + 1], k[i + 2], k[i + 3], mask);
+      if ((slot < home && (home <= deleteSlot || deleteSlot <= slot))
+          || (home <= deleteSlot && deleteSlot <= slot)) {
+        System.arraycopy(k, i, k, deleteSlot << 2, 4);
+        if (withValues) {
+          values[deleteSlot] = values[slot];
+        }
+        deleteSlot = slot;
+      }
+    }
+    int d = deleteSlot << 2;
+    k[d] = 0L;
+    k[d + 1] = 0L;
+    k[d + 2] = 0L;
+    k[d + 3] = 0L;
+  }
+
+  private void rehash(int newCapacity) {
+    Preconditions.checkState(newCapacity <= MAX_CAPACITY, "Too many hashes");
+    long[] oldKeys = keys;
+    int[] oldValues = values;
+    int oldCapacity = mask + 1;
+    allocate(newCapacity);
+
+    long[] k = keys;
+    for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+      int o = oldSlot << 2;
+      long l0 = oldKeys[o];
+      long l1 = oldKeys[o + 1];
+      long l2 = oldKeys[o + 2];
+      long l3 = oldKeys[o + 3];
+      if ((l0 | l1 | l2 | l3) == 0L) {
+        continue;
+      }
+      int slot = slotFor(l0, l1, l2, l3, mask);
+      while (!isEmptySlot(slot)) {
+        slot = (slot + 1) & mask;
+      }
+      System.arraycopy(oldKeys, o, k, slot << 2, 4);
+      if (withValues) {
+        values[slot] = oldValues[oldSlot];
+      }
+    }
+  }
+
+  Iterator<Hash> keyIterator() {
+    return new AbstractIterator<Hash>() {
+      private boolean zeroPending = containsZero;
+      private int slot;
+      private Iterator<Hash> othersIter;
+
+      @Override
+      protected Hash computeNext() {
+        if (zeroPending) {
+          zeroPending = false;
+          return new Hash256(0L, 0L, 0L, 0L);
+        }
+        long[] k = keys;
+        int capacity = mask + 1;
+        while (slot < capacity) {
+          int i = slot++ << 2;
+          if ((k[i] | k[i + 1] | k[i + 2] | k[i + 3]) != 0L) {
+            return new Hash256(k[i], k[i + 1], k[i + 2], k[i + 3]);
+          }
+        }
+        if (others != null) {
+          if (othersIter == null) {
+            othersIter = others.keySet().iterator();
+          }
+          if (othersIter.hasNext()) {
+            return othersIter.next();
+          }
+        }
+        return endOfData();
+      }
+    };
+  }
+
+  void forEach(ObjIntConsumer<Hash> consumer) {
+    if (containsZero) {
+      consumer.accept(new Hash256(0L, 0L, 0L, 0L), zeroValue);
+    }
+    long[] k = keys;
+    int capacity = mask + 1;
+    for (int slot = 0; slot < capacity; slot++) {
+      int i = slot << 2;
+      if ((k[i] | k[i + 1] | k[i + 2] | k[i + 3]) != 0L) {
+        consumer.accept(
+            new Hash256(k[i], k[i + 1], k[i + 2], k[i + 3]), withValues ? values[slot] : 0);
+      }
+    }
+    if (others != null) {
+      others.forEach(consumer::accept);
+    }
+  }
+}
@@ -41,6 +41,26 @@ public interface GetNamedRefsParams {
   @Nullable
   NamedRef getBaseReference();
 
+  /**
+   * Only return references whose name starts with this prefix.
+   *
+   * @return name prefix or {@code null} to return references with any name.
+   */
+  @Nullable
+  String getNamePrefix();
+
+  /**
+   * Only return references whose name is equal to or greater than this value, used to continue
+   * the retrieval of references in pages. Functionality to retrieve multiple named references
+   * returns the references ordered by name, so the name of the first reference of the next page
+   * can be used as the value.
+   *
+   * @return inclusive lower bound of the returned reference names or {@code null} to start with
+   *     the first reference.
+   */
+  @Nullable
+  String getNameStartAt();
+
   /** Whether to retrieve branches, defaults to {@code true}. */
   @Value.Default
   default RetrieveOptions getBranchRetrieveOptions() {
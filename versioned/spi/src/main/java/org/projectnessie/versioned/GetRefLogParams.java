@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned;
+
+import com.google.common.base.Preconditions;
+import javax.annotation.Nullable;
+import org.immutables.value.Value;
+
+/**
+ * Parameters to restrict the ref-log entries returned by the functionality to retrieve the
+ * ref-log.
+ *
+ * <p>Ref-log entries are returned with the most recent entry first, so a lower bound for the
+ * operation time lets the retrieval stop as soon as the first older entry has been seen, instead of
+ * walking the whole ref-log.
+ */
+@Value.Immutable
+public interface GetRefLogParams {
+
+  GetRefLogParams DEFAULT = builder().build();
+
+  static ImmutableGetRefLogParams.Builder builder() {
+    return ImmutableGetRefLogParams.builder();
+  }
+
+  /**
+   * Only return ref-log entries for the reference with this name.
+   *
+   * @return reference name or {@code null} to return entries for all references.
+   */
+  @Nullable
+  String getRefName();
+
+  /**
+   * Only return ref-log entries with an {@link RefLogDetails#getOperationTime() operation time}
+   * equal to or greater than this value, in microseconds since epoch. Defaults to {@link
+   * Long#MIN_VALUE}, which means no lower bound.
+   */
+  @Value.Default
+  default long getMinOperationTime() {
+    return Long.MIN_VALUE;
+  }
+
+  /**
+   * Only return ref-log entries with an {@link RefLogDetails#getOperationTime() operation time}
+   * equal to or less than this value, in microseconds since epoch. Defaults to {@link
+   * Long#MAX_VALUE}, which means no upper bound.
+   */
+  @Value.Default
+  default long getMaxOperationTime() {
+    return Long.MAX_VALUE;
+  }
+
+  @Value.Check
+  default void check() {
+    Preconditions.checkArgument(
+        getMinOperationTime() <= getMaxOperationTime(),
+        "Min operation time %s must not be greater than max operation time %s",
+        getMinOperationTime(),
+        getMaxOperationTime());
+  }
+}
@@ -165,10 +165,18 @@ public abstract class Hash implements Ref {
 
   @VisibleForTesting
   static final class Hash256 extends Hash {
-    private final long l0;
-    private final long l1;
-    private final long l2;
-    private final long l3;
+    // package-private for CompactHashes
+    final long l0;
+    final long l1;
+    final long l2;
+    final long l3;
+
+    Hash256(long l0, long l1, long l2, long l3) {
+      this.l0 = l0;
+      this.l1 = l1;
+      this.l2 = l2;
+      this.l3 = l3;
+    }
 
     private Hash256(String hash) {
       l0 = stringToLong(hash, 0);
@@ -16,11 +16,21 @@
 package org.projectnessie.versioned;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import org.immutables.value.Value;
+import java.util.Objects;
 
-@Value.Immutable
-public abstract class Key implements Comparable<Key> {
+/**
+ * Key of a content object, consisting of up to {@link #MAX_ELEMENTS} elements.
+ *
+ * <p>Keys are hashed and compared very often, for example when building and searching key-lists.
+ * Elements are therefore held in a plain array, the hash code is computed once, and {@link
+ * #equals(Object)} and {@link #compareTo(Key)} do not allocate.
+ */
+public final class Key implements Comparable<Key> {
 
   /** Maximum number of characters in a key. Note: characters can take up to 3 bytes via UTF-8. */
   public static final int MAX_LENGTH = 500;
@@ -28,71 +38,115 @@ public abstract class Key implements Comparable<Key> {
   /** Maximum number of elements. */
   public static final int MAX_ELEMENTS = 20;
 
-  public abstract List<String> getElements();
+  private static final String[] NO_ELEMENTS = new String[0];
+
+  /** Interner for namespace elements, which are shared by many keys. */
+  private static final Interner<String> NAMESPACE_ELEMENTS = Interners.newWeakInterner();
+
+  private final String[] elements;
+  private final int hash;
+  private List<String> elementsList;
 
-  static ImmutableKey.Builder builder() {
+  private Key(String[] elements) {
+    int length = 0;
+    int h = 1;
+    for (String element : elements) {
+      Objects.requireNonNull(element, "element");
+      length += element.length();
+      h = 31 * h + element.hashCode();
+    }
+    Preconditions.checkState(
+        length <= MAX_LENGTH, "Key too long, max allowed length: %s", MAX_LENGTH);
+    Preconditions.checkState(
+        elements.length <= MAX_ELEMENTS,
+        "Key too long, max allowed number of elements: %s",
+        MAX_ELEMENTS);
+    this.elements = elements;
+    this.hash = h;
+  }
 
-    return ImmutableKey.builder();
+  public List<String> getElements() {
+    List<String> list = elementsList;
+    if (list == null) {
+      list = Collections.unmodifiableList(Arrays.asList(elements));
+      elementsList = list;
+    }
+    return list;
+  }
+
+  /** Number of elements of this key. */
+  public int getElementCount() {
+    return elements.length;
+  }
+
+  /** The element at the given index. */
+  public String getElement(int index) {
+    return elements[index];
   }
 
   @Override
-  public final int compareTo(Key that) {
-    List<String> a = this.getElements();
-    List<String> b = that.getElements();
-    int max = Math.min(a.size(), b.size());
+  public int compareTo(Key that) {
+    String[] a = this.elements;
+    String[] b = that.elements;
+    int max = Math.min(a.length, b.length);
     for (int i = 0; i < max; i++) {
-      int cmp = a.get(i).compareTo(b.get(i));
+      int cmp = a[i].compareTo(b[i]);
       if (cmp != 0) {
         return cmp;
       }
     }
 
-    return a.size() - b.size();
+    return a.length - b.length;
   }
 
+  /**
+   * Returns the hash code of this key, which is equal to the hash code of {@link #getElements()}.
+   * Persisted open-addressing key-lists depend on this hash code, it must not be changed.
+   */
   @Override
   public int hashCode() {
-    int h = 1;
-    for (String element : getElements()) {
-      h = 31 * h + element.hashCode();
-    }
-    return h;
+    return hash;
   }
 
   @Override
   public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
     if (!(obj instanceof Key)) {
       return false;
     }
 
     Key that = (Key) obj;
-    List<String> thisElements = this.getElements();
-    List<String> thatElements = that.getElements();
-    return thisElements.equals(thatElements);
+    return this.hash == that.hash && Arrays.equals(this.elements, that.elements);
   }
 
   public static Key of(String... elements) {
-    return ImmutableKey.builder().addElements(elements).build();
+    return new Key(elements.length == 0 ? NO_ELEMENTS : elements.clone());
   }
 
   public static Key of(List<String> elements) {
-    return ImmutableKey.builder().addAllElements(elements).build();
+    return new Key(elements.isEmpty() ? NO_ELEMENTS : elements.toArray(NO_ELEMENTS));
   }
 
-  @Value.Check
-  protected void check() {
-    Preconditions.checkState(
-        getElements().stream().mapToInt(String::length).sum() <= MAX_LENGTH,
-        "Key too long, max allowed length: %s",
-        MAX_LENGTH);
-    Preconditions.checkState(
-        getElements().size() <= MAX_ELEMENTS,
-        "Key too long, max allowed number of elements: %s",
-        MAX_ELEMENTS);
+  /**
+   * Creates a key, sharing equal namespace elements, which are all elements except the last one,
+   * with other keys created via this function. Intended for code paths that materialize many keys,
+   * for example when deserializing key-lists.
+   */
+  public static Key ofInterned(List<String> elements) {
+    if (elements.isEmpty()) {
+      return new Key(NO_ELEMENTS);
+    }
+    String[] array = elements.toArray(NO_ELEMENTS);
+    for (int i = 0; i < array.length - 1; i++) {
+      array[i] = NAMESPACE_ELEMENTS.intern(array[i]);
+    }
+    return new Key(array);
   }
 
   @Override
   public String toString() {
-    return String.join(".", getElements());
+    return String.join(".", elements);
   }
 }
@@ -68,6 +68,14 @@ public interface MergeResult<COMMIT> {
   /** Details of all keys encountered during the merge or transplant operation. */
   Map<Key, KeyDetails> getDetails();
 
+  /**
+   * Opaque token for a successful dry-run merge. A later merge with the same source hash, target
+   * branch and merge types can pass this token to skip the common-ancestor search and the conflict
+   * checks, if the HEAD of the target branch has not changed in the meantime.
+   */
+  @Nullable
+  String getMergePlanToken();
+
   @Value.Immutable
   interface KeyDetails {
     MergeType getMergeType();
@@ -139,6 +139,36 @@ public final class MetricsVersionStore implements VersionStore {
                     fetchAdditionalInfo));
   }
 
+  @Override
+  public MergeResult<Commit> merge(
+      Hash fromHash,
+      BranchName toBranch,
+      Optional<Hash> expectedHash,
+      MetadataRewriter<CommitMeta> updateCommitMetadata,
+      boolean keepIndividualCommits,
+      Map<Key, MergeType> mergeTypes,
+      MergeType defaultMergeType,
+      boolean dryRun,
+      boolean fetchAdditionalInfo,
+      Optional<String> mergePlanToken)
+      throws ReferenceNotFoundException, ReferenceConflictException {
+    return this
+        .<MergeResult<Commit>, ReferenceNotFoundException, ReferenceConflictException>delegate2ExR(
+            "merge",
+            () ->
+                delegate.merge(
+                    fromHash,
+                    toBranch,
+                    expectedHash,
+                    updateCommitMetadata,
+                    keepIndividualCommits,
+                    mergeTypes,
+                    defaultMergeType,
+                    dryRun,
+                    fetchAdditionalInfo,
+                    mergePlanToken));
+  }
+
   @Override
   public void assign(NamedRef ref, Optional<Hash> expectedHash, Hash targetHash)
       throws ReferenceNotFoundException, ReferenceConflictException {
@@ -200,8 +230,9 @@ public final class MetricsVersionStore implements VersionStore {
   }
 
   @Override
-  public Stream<RefLogDetails> getRefLog(Hash refLogId) throws RefLogNotFoundException {
-    return delegateStream1Ex("getreflog", () -> delegate.getRefLog(refLogId));
+  public Stream<RefLogDetails> getRefLog(Hash refLogId, GetRefLogParams params)
+      throws RefLogNotFoundException {
+    return delegateStream1Ex("getreflog", () -> delegate.getRefLog(refLogId, params));
   }
 
   private void measure(String requestName, Sample sample, Exception failure) {
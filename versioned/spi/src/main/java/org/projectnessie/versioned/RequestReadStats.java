@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned;
+
+/**
+ * Accounts the reads that a single API request issues against the backend database, to make read
+ * amplification, for example caused by a large distance to the last key list, visible.
+ *
+ * <p>Accounting is bound to the current thread via {@link #start()} and ends with {@link
+ * #close()}. Database adapters report their reads via the static {@code record*} methods, which
+ * are no-ops when no accounting is active for the current thread. Reads issued from other threads
+ * are not accounted. Entities are counted when they have been returned by the backend, requested
+ * entities that do not exist are not counted.
+ */
+public final class RequestReadStats implements AutoCloseable {
+
+  private static final ThreadLocal<RequestReadStats> CURRENT = new ThreadLocal<>();
+
+  private long commits;
+  private long keyListEntities;
+  private long globalLogEntries;
+  private long bytes;
+
+  private RequestReadStats() {}
+
+  /** Starts accounting for the current thread, replacing any previously active accounting. */
+  public static RequestReadStats start() {
+    RequestReadStats stats = new RequestReadStats();
+    CURRENT.set(stats);
+    return stats;
+  }
+
+  /** Returns the accounting active for the current thread or {@code null}. */
+  public static RequestReadStats current() {
+    return CURRENT.get();
+  }
+
+  public static void recordCommits(int count) {
+    RequestReadStats stats = CURRENT.get();
+    if (stats != null) {
+      stats.commits += count;
+    }
+  }
+
+  public static void recordKeyListEntities(int count) {
+    RequestReadStats stats = CURRENT.get();
+    if (stats != null) {
+      stats.keyListEntities += count;
+    }
+  }
+
+  public static void recordGlobalLogEntries(int count) {
+    RequestReadStats stats = CURRENT.get();
+    if (stats != null) {
+      stats.globalLogEntries += count;
+    }
+  }
+
+  public static void recordBytes(int count) {
+    RequestReadStats stats = CURRENT.get();
+    if (stats != null) {
+      stats.bytes += count;
+    }
+  }
+
+  /** Number of commit-log entries fetched from the backend. */
+  public long getCommits() {
+    return commits;
+  }
+
+  /** Number of key-list entities fetched from the backend. */
+  public long getKeyListEntities() {
+    return keyListEntities;
+  }
+
+  /** Number of global-log entries fetched from the backend. */
+  public long getGlobalLogEntries() {
+    return globalLogEntries;
+  }
+
+  /** Number of serialized bytes of the fetched commit-log, key-list and ref-log entities. */
+  public long getBytes() {
+    return bytes;
+  }
+
+  /** Ends the accounting, if this instance is the one active for the current thread. */
+  @Override
+  public void close() {
+    if (CURRENT.get() == this) {
+      CURRENT.remove();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "commits="
+        + commits
+        + ", key-lists="
+        + keyListEntities
+        + ", global-log="
+        + globalLogEntries
+        + ", bytes="
+        + bytes;
+  }
+}
@@ -171,6 +171,41 @@ public class TracingVersionStore implements VersionStore {
                         fetchAdditionalInfo));
   }
 
+  @Override
+  public MergeResult<Commit> merge(
+      Hash fromHash,
+      BranchName toBranch,
+      Optional<Hash> expectedHash,
+      MetadataRewriter<CommitMeta> updateCommitMetadata,
+      boolean keepIndividualCommits,
+      Map<Key, MergeType> mergeTypes,
+      MergeType defaultMergeType,
+      boolean dryRun,
+      boolean fetchAdditionalInfo,
+      Optional<String> mergePlanToken)
+      throws ReferenceNotFoundException, ReferenceConflictException {
+    return TracingVersionStore
+        .<MergeResult<Commit>, ReferenceNotFoundException, ReferenceConflictException>
+            callWithTwoExceptions(
+                "Merge",
+                b ->
+                    b.withTag(TAG_FROM_HASH, safeToString(fromHash))
+                        .withTag(TAG_TO_BRANCH, safeRefName(toBranch))
+                        .withTag(TAG_EXPECTED_HASH, safeToString(expectedHash)),
+                () ->
+                    delegate.merge(
+                        fromHash,
+                        toBranch,
+                        expectedHash,
+                        updateCommitMetadata,
+                        keepIndividualCommits,
+                        mergeTypes,
+                        defaultMergeType,
+                        dryRun,
+                        fetchAdditionalInfo,
+                        mergePlanToken));
+  }
+
   @Override
   public void assign(NamedRef ref, Optional<Hash> expectedHash, Hash targetHash)
       throws ReferenceNotFoundException, ReferenceConflictException {
@@ -260,8 +295,9 @@ public class TracingVersionStore implements VersionStore {
   }
 
   @Override
-  public Stream<RefLogDetails> getRefLog(Hash refLogId) throws RefLogNotFoundException {
-    return delegate.getRefLog(refLogId);
+  public Stream<RefLogDetails> getRefLog(Hash refLogId, GetRefLogParams params)
+      throws RefLogNotFoundException {
+    return delegate.getRefLog(refLogId, params);
   }
 
   private static SpanHolder createSpan(String name, Consumer<SpanBuilder> spanBuilder) {
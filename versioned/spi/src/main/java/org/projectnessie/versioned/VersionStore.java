@@ -180,6 +180,39 @@ public interface VersionStore {
       boolean fetchAdditionalInfo)
       throws ReferenceNotFoundException, ReferenceConflictException;
 
+  /**
+   * Variant of {@link #merge(Hash, BranchName, Optional, MetadataRewriter, boolean, Map, MergeType,
+   * boolean, boolean)} that can reuse the analysis of a previous dry-run merge.
+   *
+   * @param mergePlanToken the {@link MergeResult#getMergePlanToken() merge plan token} returned by
+   *     a previous dry-run merge. Implementations skip the common-ancestor search and conflict
+   *     checks, if the plan matches the merge parameters and the current HEAD of {@code toBranch}.
+   *     Unknown or outdated tokens are ignored.
+   */
+  default MergeResult<Commit> merge(
+      Hash fromHash,
+      BranchName toBranch,
+      Optional<Hash> expectedHash,
+      MetadataRewriter<CommitMeta> updateCommitMetadata,
+      boolean keepIndividualCommits,
+      Map<Key, MergeType> mergeTypes,
+      MergeType defaultMergeType,
+      boolean dryRun,
+      boolean fetchAdditionalInfo,
+      Optional<String> mergePlanToken)
+      throws ReferenceNotFoundException, ReferenceConflictException {
+    return merge(
+        fromHash,
+        toBranch,
+        expectedHash,
+        updateCommitMetadata,
+        keepIndividualCommits,
+        mergeTypes,
+        defaultMergeType,
+        dryRun,
+        fetchAdditionalInfo);
+  }
+
   /**
    * Assign the NamedRef to point to a particular hash.
    *
@@ -246,12 +279,13 @@ public interface VersionStore {
       throws ReferenceNotFoundException;
 
   /**
-   * List named refs.
+   * List named refs, ordered by name.
    *
    * <p><em>IMPORTANT NOTE:</em> The returned {@link Stream} <em>must be closed</em>!
    *
    * @param params options that control which information shall be returned in each {@link
-   *     ReferenceInfo}, see {@link ReferenceInfo} for details.
+   *     ReferenceInfo}, see {@link ReferenceInfo} for details, and which references shall be
+   *     returned.
    * @return All refs and their associated hashes.
    */
   @MustBeClosed
@@ -317,5 +351,20 @@ public interface VersionStore {
    */
   @MustBeClosed
   @Deprecated
-  Stream<RefLogDetails> getRefLog(Hash refLogId) throws RefLogNotFoundException;
+  default Stream<RefLogDetails> getRefLog(Hash refLogId) throws RefLogNotFoundException {
+    return getRefLog(refLogId, GetRefLogParams.DEFAULT);
+  }
+
+  /**
+   * Get a stream of the reflog entries from the initial refLogId that match the given parameters.
+   * The stream stops at the first entry older than {@link GetRefLogParams#getMinOperationTime()}.
+   *
+   * @param refLogId initial reflog id to be used
+   * @param params filters for the returned reflog entries
+   * @return A stream of reflog entries, most recent entry first.
+   */
+  @MustBeClosed
+  @Deprecated
+  Stream<RefLogDetails> getRefLog(Hash refLogId, GetRefLogParams params)
+      throws RefLogNotFoundException;
 }
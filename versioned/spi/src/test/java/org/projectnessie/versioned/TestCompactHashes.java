@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class TestCompactHashes {
+
+  private static Hash randomHash() {
+    return Hash.of(randomBytes(32));
+  }
+
+  private static String randomBytes(int numBytes) {
+    StringBuilder sb = new StringBuilder(numBytes * 2);
+    ThreadLocalRandom rand = ThreadLocalRandom.current();
+    for (int i = 0; i < numBytes; i++) {
+      sb.append(String.format("%02x", rand.nextInt(256)));
+    }
+    return sb.toString();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 10, 100, 10_000})
+  void setAgainstHashSet(int count) {
+    Set<Hash> expected = new HashSet<>();
+    CompactHashSet set = new CompactHashSet(count / 4);
+
+    for (int i = 0; i < count; i++) {
+      Hash h = randomHash();
+      assertThat(set.add(h)).isEqualTo(expected.add(h));
+      assertThat(set.add(h)).isFalse();
+    }
+    assertThat(set).hasSize(expected.size()).containsExactlyInAnyOrderElementsOf(expected);
+    assertThat(expected).allMatch(set::contains);
+    assertThat(set.contains(randomHash())).isFalse();
+
+    // remove every other element, exercises the backward-shift compaction
+    int i = 0;
+    for (Hash h : new HashSet<>(expected)) {
+      if ((i++ & 1) == 0) {
+        assertThat(set.remove(h)).isTrue();
+        assertThat(set.remove(h)).isFalse();
+        expected.remove(h);
+      }
+    }
+    assertThat(set).hasSize(expected.size()).containsExactlyInAnyOrderElementsOf(expected);
+    assertThat(expected).allMatch(set::contains);
+
+    assertThat(new CompactHashSet(expected)).isEqualTo(expected);
+    assertThat(expected).isEqualTo(set);
+
+    set.clear();
+    assertThat(set).isEmpty();
+    assertThat(expected).noneMatch(set::contains);
+  }
+
+  @Test
+  void collidingSlots() {
+    // Hashes that only differ in a way that cancels out in the XOR-folded slot computation
+    // land in the same probe chain.
+    Set<Hash> expected = new HashSet<>();
+    CompactHashSet set = new CompactHashSet();
+    for (int i = 1; i <= 50; i++) {
+      String l = String.format("%016x", i);
+      Hash h = Hash.of(l + l + "0000000000000000" + "0000000000000000");
+      expected.add(h);
+      set.add(h);
+    }
+    assertThat(set).containsExactlyInAnyOrderElementsOf(expected);
+    for (Hash h : new HashSet<>(expected)) {
+      set.remove(h);
+      expected.remove(h);
+      assertThat(expected).allMatch(set::contains);
+    }
+    assertThat(set).isEmpty();
+  }
+
+  @Test
+  void zeroAndGenericHashes() {
+    Hash zero = Hash.of("0000000000000000000000000000000000000000000000000000000000000000");
+    Hash generic = Hash.of("12345678");
+    Hash h = randomHash();
+
+    CompactHashSet set = new CompactHashSet();
+    assertThat(set.contains(zero)).isFalse();
+    assertThat(set.add(zero)).isTrue();
+    assertThat(set.add(generic)).isTrue();
+    assertThat(set.add(h)).isTrue();
+    assertThat(set.add(Hash.of(generic.asString()))).isFalse();
+    assertThat(set).hasSize(3).containsExactlyInAnyOrder(zero, generic, h);
+
+    assertThat(set.remove(zero)).isTrue();
+    assertThat(set.remove(generic)).isTrue();
+    assertThat(set).containsExactly(h);
+  }
+
+  @Test
+  void intMap() {
+    Map<Hash, Integer> expected = new HashMap<>();
+    CompactHashIntMap map = new CompactHashIntMap(0, -1);
+
+    Hash zero = Hash.of("0000000000000000000000000000000000000000000000000000000000000000");
+    Hash generic = Hash.of("cafebabe");
+    assertThat(map.getValue(zero)).isEqualTo(-1);
+    assertThat(map.getValue(generic)).isEqualTo(-1);
+    map.put(zero, 42);
+    map.put(generic, 43);
+    expected.put(zero, 42);
+    expected.put(generic, 43);
+
+    for (int i = 0; i < 5_000; i++) {
+      Hash h = randomHash();
+      assertThat(map.getValue(h)).isEqualTo(-1);
+      assertThat(map.put(h, i)).isTrue();
+      expected.put(h, i);
+    }
+    for (Map.Entry<Hash, Integer> e : expected.entrySet()) {
+      assertThat(map.getValue(e.getKey())).isEqualTo(e.getValue());
+      assertThat(map.put(e.getKey(), e.getValue() | 0x10000)).isFalse();
+      e.setValue(e.getValue() | 0x10000);
+    }
+    assertThat(map.size()).isEqualTo(expected.size());
+
+    Map<Hash, Integer> collected = new HashMap<>();
+    map.forEach(collected::put);
+    assertThat(collected).isEqualTo(expected);
+
+    assertThat(map.remove(zero)).isTrue();
+    assertThat(map.getValue(zero)).isEqualTo(-1);
+    assertThat(map.containsKey(generic)).isTrue();
+  }
+}
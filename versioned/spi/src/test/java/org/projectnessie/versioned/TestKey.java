@@ -119,4 +119,41 @@ public class TestKey {
         arguments(Key.of("key", "1"), Key.of("key", "0"), 1),
         arguments(Key.of("key", "42"), Key.of("key", "42"), 0));
   }
+
+  @ParameterizedTest
+  @MethodSource("keyLengthGood")
+  void hashCodeAndEquals(List<String> elements) {
+    Key key = Key.of(elements);
+    // Persisted open-addressing key-lists depend on this hash code
+    assertThat(key.hashCode()).isEqualTo(elements.hashCode());
+    assertThat(key.getElements()).isEqualTo(elements);
+    assertThat(key.getElementCount()).isEqualTo(elements.size());
+
+    Key other = Key.of(elements.toArray(new String[0]));
+    assertThat(other).isEqualTo(key).hasSameHashCodeAs(key).isEqualByComparingTo(key);
+    assertThat(Key.ofInterned(elements)).isEqualTo(key).hasSameHashCodeAs(key);
+  }
+
+  @ParameterizedTest
+  @MethodSource("compare")
+  void notEqual(Key a, Key b, int expectedCompare) {
+    if (expectedCompare != 0) {
+      assertThat(a).isNotEqualTo(b);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 5})
+  void internedNamespaceElements(int elements) {
+    List<String> first =
+        IntStream.range(0, elements).mapToObj(i -> "ns" + i).collect(Collectors.toList());
+    List<String> second =
+        IntStream.range(0, elements).mapToObj(i -> "ns" + i).collect(Collectors.toList());
+    Key a = Key.ofInterned(first);
+    Key b = Key.ofInterned(second);
+    for (int i = 0; i < elements - 1; i++) {
+      assertThat(a.getElement(i)).isSameAs(b.getElement(i));
+    }
+    assertThat(a.getElement(elements - 1)).isNotSameAs(b.getElement(elements - 1));
+  }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2022 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class TestRequestReadStats {
+
+  @Test
+  void noActiveAccounting() {
+    assertThat(RequestReadStats.current()).isNull();
+    RequestReadStats.recordCommits(1);
+    RequestReadStats.recordBytes(42);
+    assertThat(RequestReadStats.current()).isNull();
+  }
+
+  @Test
+  void accumulates() {
+    try (RequestReadStats stats = RequestReadStats.start()) {
+      assertThat(RequestReadStats.current()).isSameAs(stats);
+
+      RequestReadStats.recordCommits(1);
+      RequestReadStats.recordCommits(20);
+      RequestReadStats.recordKeyListEntities(3);
+      RequestReadStats.recordGlobalLogEntries(4);
+      RequestReadStats.recordBytes(100);
+      RequestReadStats.recordBytes(23);
+
+      assertThat(stats.getCommits()).isEqualTo(21);
+      assertThat(stats.getKeyListEntities()).isEqualTo(3);
+      assertThat(stats.getGlobalLogEntries()).isEqualTo(4);
+      assertThat(stats.getBytes()).isEqualTo(123);
+      assertThat(stats).hasToString("commits=21, key-lists=3, global-log=4, bytes=123");
+    }
+    assertThat(RequestReadStats.current()).isNull();
+  }
+
+  @Test
+  void otherThreadsNotAccounted() throws Exception {
+    try (RequestReadStats stats = RequestReadStats.start()) {
+      CompletableFuture.runAsync(() -> RequestReadStats.recordCommits(5)).get();
+      assertThat(stats.getCommits()).isZero();
+    }
+  }
+
+  @Test
+  void closeOfReplacedAccounting() {
+    RequestReadStats first = RequestReadStats.start();
+    try (RequestReadStats second = RequestReadStats.start()) {
+      first.close();
+      assertThat(RequestReadStats.current()).isSameAs(second);
+    }
+    assertThat(RequestReadStats.current()).isNull();
+  }
+}